@@ -15,6 +15,10 @@ import seedu.tutorpal.commons.util.ConfigUtil;
 import seedu.tutorpal.commons.util.StringUtil;
 import seedu.tutorpal.logic.Logic;
 import seedu.tutorpal.logic.LogicManager;
+import seedu.tutorpal.logic.commands.CommandResult;
+import seedu.tutorpal.logic.commands.RunCommand;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.AddressBook;
 import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.ModelManager;
@@ -63,6 +67,7 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        runStartupScript(appParameters.getScriptPath());
 
         ui = new UiManager(logic);
     }
@@ -93,6 +98,24 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Runs the script at {@code scriptPath} before the UI starts, if a script was given.
+     * A failing script is logged and does not stop the app from starting.
+     */
+    private void runStartupScript(Path scriptPath) {
+        if (scriptPath == null) {
+            return;
+        }
+
+        logger.info("Running startup script " + scriptPath);
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Startup script " + scriptPath + " could not be run: " + e.getMessage());
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
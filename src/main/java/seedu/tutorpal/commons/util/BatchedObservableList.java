@@ -0,0 +1,206 @@
+package seedu.tutorpal.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList}, whose listeners can be notified of many updates at once.
+ * <p>
+ * The updates made by a {@link #batch(Runnable)} reach the listeners as a single {@code ListChangeListener.Change},
+ * worked out by comparing the list before and after the batch. Its sub-changes cover only the positions whose
+ * elements differ, so a {@code FilteredList} over this list tests only those elements, and a {@code ListView} over
+ * it lays its cells out once, instead of once per update.
+ * Elements are told apart by identity. Comparing takes time linear in the size of the list, as does copying the
+ * list when a batch starts, so a batch pays off once it makes more than a few updates.
+ * Does not allow nulls. Not thread-safe.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class BatchedObservableList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+    // The elements when the outermost batch started, or null outside of batches
+    private List<E> elementsBeforeBatch;
+    private int batchDepth;
+
+    /**
+     * Runs {@code updates}, which may update this list any number of times, and notifies the listeners of all of
+     * them in one change once it returns. Batches may be nested, in which case the listeners are notified when the
+     * outermost one returns.
+     * If {@code updates} throws, the listeners are notified of the updates made before it threw, and the exception
+     * is rethrown.
+     */
+    public void batch(Runnable updates) {
+        requireNonNull(updates);
+        if (batchDepth == 0) {
+            elementsBeforeBatch = new ArrayList<>(elements);
+        }
+        batchDepth++;
+        try {
+            updates.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0) {
+                List<E> before = elementsBeforeBatch;
+                elementsBeforeBatch = null;
+                reportChangesSince(before);
+            }
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        requireNonNull(element);
+        elements.add(index, element);
+        modCount++;
+        report(() -> nextAdd(index, index + 1));
+    }
+
+    @Override
+    public E set(int index, E element) {
+        requireNonNull(element);
+        E replaced = elements.set(index, element);
+        report(() -> nextSet(index, replaced));
+        return replaced;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        report(() -> nextRemove(index, removed));
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        CollectionUtil.requireAllNonNull(toAdd);
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        elements.addAll(index, toAdd);
+        modCount++;
+        report(() -> nextAdd(index, index + toAdd.size()));
+        return true;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        CollectionUtil.requireAllNonNull(replacement);
+        List<E> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(replacement);
+        modCount++;
+        if (!removed.isEmpty() || !elements.isEmpty()) {
+            report(() -> nextReplace(0, elements.size(), removed));
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+        modCount++;
+        report(() -> nextRemove(fromIndex, removed));
+    }
+
+    /**
+     * Notifies the listeners of the update that {@code change} describes, unless a batch is running.
+     */
+    private void report(Runnable change) {
+        if (batchDepth > 0) {
+            return;
+        }
+        beginChange();
+        change.run();
+        endChange();
+    }
+
+    /**
+     * Notifies the listeners of the differences between {@code before} and the current elements, if there are any.
+     * Walks both lists from the first difference to the last one, removing the elements that are no longer in the
+     * list and adding the new ones, and replaces the rest at once if it meets elements that are in both lists but in
+     * another order.
+     */
+    private void reportChangesSince(List<E> before) {
+        int start = 0;
+        int end = before.size();
+        int currentEnd = elements.size();
+        while (start < end && start < currentEnd && before.get(start) == elements.get(start)) {
+            start++;
+        }
+        while (end > start && currentEnd > start && before.get(end - 1) == elements.get(currentEnd - 1)) {
+            end--;
+            currentEnd--;
+        }
+        if (start == end && start == currentEnd) {
+            return;
+        }
+
+        List<E> removedRange = before.subList(start, end);
+        List<E> addedRange = elements.subList(start, currentEnd);
+        Set<E> inRemovedRange = Collections.newSetFromMap(new IdentityHashMap<>());
+        inRemovedRange.addAll(removedRange);
+        Set<E> inAddedRange = Collections.newSetFromMap(new IdentityHashMap<>());
+        inAddedRange.addAll(addedRange);
+
+        // The elements before position are final, and the unvisited elements of before follow them
+        beginChange();
+        int i = start;
+        int position = start;
+        while (i < end || position < currentEnd) {
+            E old = i < end ? before.get(i) : null;
+            E current = position < currentEnd ? elements.get(position) : null;
+            boolean isRemoved = old != null && !inAddedRange.contains(old);
+            boolean isAdded = current != null && !inRemovedRange.contains(current);
+            if (old != null && old == current) {
+                i++;
+                position++;
+            } else if (isRemoved && isAdded) {
+                nextSet(position++, old);
+                i++;
+            } else if (isRemoved) {
+                nextRemove(position, old);
+                i++;
+            } else if (isAdded) {
+                nextAdd(position, position + 1);
+                position++;
+            } else {
+                nextReplace(position, currentEnd, before.subList(i, end));
+                break;
+            }
+        }
+        endChange();
+    }
+}
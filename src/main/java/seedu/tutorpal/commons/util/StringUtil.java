@@ -38,6 +38,62 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit (Levenshtein) distance between {@code first} and {@code second} if it is at most
+     * {@code maxDistance}, or {@code maxDistance + 1} otherwise. Case-sensitive.
+     * <p>
+     * Only the diagonal band of width {@code 2 * maxDistance + 1} of the distance table is filled, and the
+     * computation stops as soon as every cell of a row exceeds {@code maxDistance}, so this runs in
+     * O(maxDistance * min(length)) rather than O(length * length).
+     *   <br>examples:<pre>
+     *       editDistanceAtMost("Cristopher", "Christopher", 2) == 1
+     *       editDistanceAtMost("abc", "abc", 0) == 0
+     *       editDistanceAtMost("abc", "xyz", 1) == 2 // more than 1
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistanceAtMost(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int tooFar = maxDistance + 1;
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        // previous[j] and current[j] hold the distance between a prefix of first and the first j chars of second
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j <= maxDistance ? j : tooFar;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(second.length(), i + maxDistance);
+            // Cells just outside the band are read as neighbours, and must not hold values from older rows
+            current[0] = i <= maxDistance ? i : tooFar;
+            current[from - 1] = from == 1 ? current[0] : tooFar;
+            if (to < second.length()) {
+                current[to + 1] = tooFar;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, tooFar);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return tooFar;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
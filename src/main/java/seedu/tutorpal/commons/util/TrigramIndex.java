@@ -0,0 +1,225 @@
+package seedu.tutorpal.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the character trigrams of words to the words, which finds the words that are spelt
+ * similarly to a query, ignoring case.
+ * <p>
+ * Each word is padded with two spaces in front and one behind, so that {@code "amy"} has the trigrams
+ * {@code "  a"}, {@code " am"}, {@code "amy"} and {@code "my "}. One edit changes at most three trigrams, so a word
+ * within edit distance {@code d} of the query shares at least {@code t - 3d} of the query's {@code t} trigrams.
+ * A search counts the shared trigrams of only the words on the query's posting lists whose length is within
+ * {@code d} of the query's, ranks those that can be close enough by that count, and verifies the best of them with
+ * a bounded edit distance.
+ * A word may be added several times, and stays in the index until it is removed as many times.
+ * Not thread-safe.
+ */
+public class TrigramIndex {
+
+    /** The most candidates verified with an edit distance in one search. */
+    public static final int MAX_VERIFIED_CANDIDATES = 64;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Keyed by trigram and word length, so that a search only reads the words of lengths that can be close enough
+    private final Map<String, Set<Entry>> postings = new HashMap<>();
+    private int searchCount;
+
+    /**
+     * Returns the number of distinct words in this index.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = word.toLowerCase(Locale.ROOT);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.occurrences++;
+            return;
+        }
+        entry = new Entry(key);
+        entries.put(key, entry);
+        for (String trigram : trigramsOf(key)) {
+            postings.computeIfAbsent(postingKey(trigram, key.length()), unused -> new HashSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code word}. Does nothing if {@code word} is not in this index.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = word.toLowerCase(Locale.ROOT);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (--entry.occurrences > 0) {
+            return;
+        }
+        entries.remove(key);
+        for (String trigram : trigramsOf(key)) {
+            String postingKey = postingKey(trigram, key.length());
+            Set<Entry> posting = postings.get(postingKey);
+            posting.remove(entry);
+            if (posting.isEmpty()) {
+                postings.remove(postingKey);
+            }
+        }
+    }
+
+    /**
+     * Returns the words of this index, in lower case, that are within edit distance {@code maxDistance} of
+     * {@code query}, ignoring case. The closest words come first, and words at the same distance are in
+     * alphabetical order. Of the words that could be close enough, only the {@link #MAX_VERIFIED_CANDIDATES}
+     * that share the most trigrams with {@code query} are considered.
+     *
+     * @param maxDistance cannot be negative
+     */
+    public List<String> findSimilar(String query, int maxDistance) {
+        return findSimilar(query, maxDistance, Map.of());
+    }
+
+    /**
+     * Returns the words that {@link #findSimilar(String, int)} would return if the number of occurrences of each word
+     * in {@code occurrenceChanges} were changed by the amount it maps to, without changing this index.
+     * A word is left out if its occurrences drop to zero or below, and a word not in this index is considered if its
+     * occurrences rise above zero. The changed words are compared with {@code query} directly, so the search takes
+     * time in proportion to the number of changes rather than to the size of this index.
+     *
+     * @param maxDistance cannot be negative
+     */
+    public List<String> findSimilar(String query, int maxDistance, Map<String, Integer> occurrenceChanges) {
+        requireNonNull(query);
+        requireNonNull(occurrenceChanges);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+        String key = query.toLowerCase(Locale.ROOT);
+        Set<String> queryTrigrams = trigramsOf(key);
+        Map<String, Integer> changes = new HashMap<>();
+        occurrenceChanges.forEach((word, change) ->
+                changes.merge(word.toLowerCase(Locale.ROOT), change, Integer::sum));
+
+        // Counts the shared trigrams on the entries themselves, which is much cheaper than a map from word to count
+        int search = ++searchCount;
+        List<Entry> touched = new ArrayList<>();
+        int minLength = Math.max(1, key.length() - maxDistance);
+        int maxLength = key.length() + maxDistance;
+        for (String trigram : queryTrigrams) {
+            for (int length = minLength; length <= maxLength; length++) {
+                Set<Entry> posting = postings.get(postingKey(trigram, length));
+                if (posting == null) {
+                    continue;
+                }
+                for (Entry entry : posting) {
+                    if (entry.searchId != search) {
+                        entry.searchId = search;
+                        entry.sharedCount = 0;
+                        touched.add(entry);
+                    }
+                    entry.sharedCount++;
+                }
+            }
+        }
+
+        int minimumShared = Math.max(1, queryTrigrams.size() - 3 * maxDistance);
+        List<Entry> candidates = new ArrayList<>();
+        for (Entry entry : touched) {
+            if (entry.sharedCount >= minimumShared && entry.occurrences + changes.getOrDefault(entry.word, 0) > 0) {
+                candidates.add(entry);
+            }
+        }
+        // Words that are only in the changes are counted on entries of their own, which are not indexed
+        for (Map.Entry<String, Integer> change : changes.entrySet()) {
+            String word = change.getKey();
+            if (entries.containsKey(word) || change.getValue() <= 0
+                    || word.length() < minLength || word.length() > maxLength) {
+                continue;
+            }
+            Entry entry = new Entry(word);
+            for (String trigram : trigramsOf(word)) {
+                if (queryTrigrams.contains(trigram)) {
+                    entry.sharedCount++;
+                }
+            }
+            if (entry.sharedCount >= minimumShared) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Comparator.comparingInt((Entry entry) -> entry.sharedCount).reversed()
+                .thenComparing(entry -> entry.word));
+
+        List<ScoredWord> matches = new ArrayList<>();
+        for (Entry candidate : candidates.subList(0, Math.min(candidates.size(), MAX_VERIFIED_CANDIDATES))) {
+            int distance = StringUtil.editDistanceAtMost(key, candidate.word, maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new ScoredWord(candidate.word, distance));
+            }
+        }
+        matches.sort(Comparator.comparingInt((ScoredWord match) -> match.distance)
+                .thenComparing(match -> match.word));
+
+        List<String> words = new ArrayList<>(matches.size());
+        matches.forEach(match -> words.add(match.word));
+        return words;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded with two spaces in front and one behind.
+     */
+    static Set<String> trigramsOf(String word) {
+        String padded = "  " + word + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String postingKey(String trigram, int wordLength) {
+        return trigram + wordLength;
+    }
+
+    /**
+     * A distinct word of the index, with the scratch fields used to count its shared trigrams during a search.
+     */
+    private static class Entry {
+        private final String word;
+        private int occurrences = 1;
+        private int searchId;
+        private int sharedCount;
+
+        Entry(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * A word with its edit distance from the query.
+     */
+    private static class ScoredWord {
+        private final String word;
+        private final int distance;
+
+        ScoredWord(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package seedu.tutorpal.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import seedu.tutorpal.commons.core.GuiSettings;
+import seedu.tutorpal.logic.autocomplete.Completion;
 import seedu.tutorpal.logic.commands.CommandResult;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.parser.Validation;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.PersonStatistics;
 import seedu.tutorpal.model.ReadOnlyAddressBook;
 import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
 
 /**
  * API of the Logic component
@@ -23,6 +30,37 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the candidates for completing {@code commandText} at {@code caretPosition}, found in the background.
+     *
+     * @see seedu.tutorpal.logic.autocomplete.Autocompleter#complete(String, int)
+     */
+    CompletableFuture<Completion> complete(String commandText, int caretPosition);
+
+    /**
+     * Narrows the displayed list to the persons matching the partly typed {@code find} or {@code list} command in
+     * {@code commandText}, or restores the list if {@code commandText} cannot be previewed.
+     *
+     * @param modelExecutor runs tasks on the thread that owns the model.
+     * @see seedu.tutorpal.logic.livefilter.LiveFilter#preview(String, Executor)
+     */
+    CompletableFuture<Void> previewFilter(String commandText, Executor modelExecutor);
+
+    /**
+     * Returns the problems found so far in the partly typed {@code commandText}.
+     * Fast enough to be called after every keystroke.
+     *
+     * @see seedu.tutorpal.logic.parser.CommandValidator#validate(String)
+     */
+    Validation validate(String commandText);
+
+    /**
+     * Parses {@code commandText} ahead of its execution, so that executing it does not parse it again.
+     *
+     * @see seedu.tutorpal.logic.parser.CommandValidator#parseAhead(String)
+     */
+    void parseAhead(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +71,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a function that looks up the sort key of a person in the address book without recomputing it.
+     *
+     * @see seedu.tutorpal.model.Model#getPersonSortKeys()
+     */
+    Function<Person, PersonSortKey> getPersonSortKeys();
+
+    /**
+     * Returns the counts of the persons in the address book, which are kept up to date as it changes.
+     *
+     * @see seedu.tutorpal.model.Model#getPersonStatistics()
+     */
+    PersonStatistics getPersonStatistics();
+
     /**
      * Returns the user prefs' address book file path.
      */
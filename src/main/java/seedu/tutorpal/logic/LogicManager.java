@@ -3,19 +3,29 @@ package seedu.tutorpal.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.tutorpal.commons.core.GuiSettings;
 import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.logic.autocomplete.Autocompleter;
+import seedu.tutorpal.logic.autocomplete.Completion;
 import seedu.tutorpal.logic.commands.Command;
 import seedu.tutorpal.logic.commands.CommandResult;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.livefilter.LiveFilter;
 import seedu.tutorpal.logic.parser.AddressBookParser;
+import seedu.tutorpal.logic.parser.CommandValidator;
+import seedu.tutorpal.logic.parser.Validation;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.PersonStatistics;
 import seedu.tutorpal.model.ReadOnlyAddressBook;
 import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
 import seedu.tutorpal.storage.Storage;
 
 /**
@@ -32,6 +42,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Autocompleter autocompleter;
+    private final LiveFilter liveFilter;
+    private final CommandValidator commandValidator;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,6 +53,9 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        autocompleter = new Autocompleter(model.getAddressBook().getPersonList());
+        liveFilter = new LiveFilter(model);
+        commandValidator = new CommandValidator(addressBookParser);
     }
 
     @Override
@@ -47,8 +63,14 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
+        liveFilter.cancelPending();
+        Command command = commandValidator.takeParsed(commandText).orElse(null);
+        if (command == null) {
+            command = addressBookParser.parseCommand(commandText);
+        }
         commandResult = command.execute(model);
+        liveFilter.forget();
+        model.commitAddressBook();
 
         try {
             storage.saveAddressBook(model.getAddressBook());
@@ -61,6 +83,26 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<Completion> complete(String commandText, int caretPosition) {
+        return autocompleter.complete(commandText, caretPosition);
+    }
+
+    @Override
+    public CompletableFuture<Void> previewFilter(String commandText, Executor modelExecutor) {
+        return liveFilter.preview(commandText, modelExecutor);
+    }
+
+    @Override
+    public Validation validate(String commandText) {
+        return commandValidator.validate(commandText);
+    }
+
+    @Override
+    public void parseAhead(String commandText) {
+        commandValidator.parseAhead(commandText);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +113,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Function<Person, PersonSortKey> getPersonSortKeys() {
+        return model.getPersonSortKeys();
+    }
+
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return model.getPersonStatistics();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,195 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_TO;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOIN_DATE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_MONTHS_OVERDUE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_RANK_BY;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TUTOR;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+import seedu.tutorpal.logic.commands.FindCommand;
+import seedu.tutorpal.logic.parser.Prefix;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Finds the candidates for completing a partly typed command, from tries of command words, prefixes,
+ * class codes and person names.
+ * <p>
+ * What is completed depends on the word being typed:
+ * <ul>
+ *     <li>the first word is completed to a command word,</li>
+ *     <li>a word starting with {@code c/} is completed to a class code,</li>
+ *     <li>the value after {@code n/} or {@code t/}, which may span several words, is completed to a person name,</li>
+ *     <li>any other word of a {@code find} command is completed to a word of a person name,</li>
+ *     <li>and any other word is completed to a prefix.</li>
+ * </ul>
+ * The person tries are kept up to date with {@link #addPerson(Person)} and {@link #removePerson(Person)}.
+ * Not thread-safe.
+ */
+public class AutocompleteIndex {
+
+    /** The most candidates returned for one completion. */
+    public static final int MAX_CANDIDATES = 20;
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_ROLE, PREFIX_CLASS, PREFIX_TUTOR, PREFIX_PAYMENT_STATUS, PREFIX_JOIN_DATE, PREFIX_ATTENDANCE_WEEK,
+            PREFIX_PAYMENT_MONTH, PREFIX_JOINED_FROM, PREFIX_JOINED_TO, PREFIX_MONTHS_OVERDUE, PREFIX_TOP,
+            PREFIX_RANK_BY);
+    private static final List<Prefix> NAME_PREFIXES = List.of(PREFIX_NAME, PREFIX_TUTOR);
+
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final CompletionTrie prefixes = new CompletionTrie();
+    private final CompletionTrie classCodes = new CompletionTrie();
+    private final CompletionTrie names = new CompletionTrie();
+    private final CompletionTrie nameWords = new CompletionTrie();
+
+    /**
+     * Creates an index without persons that completes the first word to one of {@code commandWords}.
+     */
+    public AutocompleteIndex(Collection<String> commandWords) {
+        requireNonNull(commandWords);
+        commandWords.forEach(this.commandWords::add);
+        PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+    }
+
+    /**
+     * Adds the name and class codes of {@code person}.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        String name = person.getName().fullName;
+        names.add(name);
+        for (String word : name.split("\\s+")) {
+            nameWords.add(word);
+        }
+        for (Class studentClass : person.getClasses()) {
+            classCodes.add(studentClass.value);
+        }
+    }
+
+    /**
+     * Removes the name and class codes of {@code person}, which must have been added before.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        String name = person.getName().fullName;
+        names.remove(name);
+        for (String word : name.split("\\s+")) {
+            nameWords.remove(word);
+        }
+        for (Class studentClass : person.getClasses()) {
+            classCodes.remove(studentClass.value);
+        }
+    }
+
+    /**
+     * Returns the candidates for completing {@code commandText} at {@code caretPosition}.
+     * Only the text before the caret is considered.
+     *
+     * @param isCancelled checked while searching, so that a completion that is no longer needed stops early.
+     * @throws CancellationException if {@code isCancelled} returns true before the completion is found.
+     */
+    public Completion complete(String commandText, int caretPosition, BooleanSupplier isCancelled) {
+        requireNonNull(commandText);
+        requireNonNull(isCancelled);
+        if (isCancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+        String head = commandText.substring(0, caretPosition);
+        int wordStart = head.length();
+        while (wordStart > 0 && !Character.isWhitespace(head.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = head.substring(wordStart);
+
+        if (head.substring(0, wordStart).isBlank()) {
+            return completeWith(commandWords, word, wordStart, caretPosition, isCancelled);
+        }
+
+        for (Prefix prefix : PREFIXES) {
+            if (word.startsWith(prefix.getPrefix())) {
+                CompletionTrie values = getValueTrie(prefix);
+                return values == null
+                        ? Completion.none(caretPosition)
+                        : completeWith(values, word.substring(prefix.getPrefix().length()),
+                                wordStart + prefix.getPrefix().length(), caretPosition, isCancelled);
+            }
+        }
+
+        // A name can have spaces in it, so the value of the last name prefix may start before this word
+        int nameStart = findLastNameValueStart(head);
+        if (nameStart != -1) {
+            Completion completion = completeWith(names, head.substring(nameStart), nameStart, caretPosition,
+                    isCancelled);
+            if (completion.hasCandidates()) {
+                return completion;
+            }
+        }
+
+        String commandWord = head.strip().split("\\s+", 2)[0];
+        if (commandWord.equals(FindCommand.COMMAND_WORD)) {
+            return completeWith(nameWords, word, wordStart, caretPosition, isCancelled);
+        }
+        return completeWith(prefixes, word, wordStart, caretPosition, isCancelled);
+    }
+
+    private CompletionTrie getValueTrie(Prefix prefix) {
+        if (prefix.equals(PREFIX_CLASS)) {
+            return classCodes;
+        } else if (NAME_PREFIXES.contains(prefix)) {
+            return names;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the start of the value of the last prefix in {@code head}, if that prefix is a name prefix,
+     * or -1 otherwise.
+     */
+    private static int findLastNameValueStart(String head) {
+        int lastStart = -1;
+        Prefix lastPrefix = null;
+        for (Prefix prefix : PREFIXES) {
+            int start = lastIndexOfPrefix(head, prefix.getPrefix());
+            if (start > lastStart) {
+                lastStart = start;
+                lastPrefix = prefix;
+            }
+        }
+        if (lastPrefix == null || !NAME_PREFIXES.contains(lastPrefix)) {
+            return -1;
+        }
+        return lastStart + lastPrefix.getPrefix().length();
+    }
+
+    private static int lastIndexOfPrefix(String head, String prefix) {
+        int index = head.lastIndexOf(prefix);
+        while (index > 0 && !Character.isWhitespace(head.charAt(index - 1))) {
+            index = head.lastIndexOf(prefix, index - 1);
+        }
+        return index > 0 ? index : -1;
+    }
+
+    private static Completion completeWith(CompletionTrie trie, String typed, int start, int end,
+            BooleanSupplier isCancelled) {
+        return new Completion(start, end, trie.complete(typed, MAX_CANDIDATES, isCancelled));
+    }
+}
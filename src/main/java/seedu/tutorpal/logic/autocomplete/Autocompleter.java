@@ -0,0 +1,103 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.logic.parser.CommandRegistry;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Completes partly typed commands in the background, against an {@link AutocompleteIndex} that follows the changes
+ * to a list of persons.
+ * <p>
+ * All work on the index, both applying list changes and finding completions, runs in order on one background thread,
+ * so the index needs no locking and the thread that changes the list or asks for completions is never held up.
+ * Asking for a completion makes all earlier ones stale: those that have not started are skipped, and one that is
+ * running stops early.
+ */
+public class Autocompleter {
+
+    private static final ExecutorService AUTOCOMPLETE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger logger = LogsCenter.getLogger(Autocompleter.class);
+
+    private final AutocompleteIndex index;
+    private final Executor executor;
+    private final AtomicLong latestRequest = new AtomicLong();
+
+    /**
+     * Creates an autocompleter for the registered command words and the persons in {@code persons}.
+     */
+    public Autocompleter(ObservableList<Person> persons) {
+        this(persons, AUTOCOMPLETE_EXECUTOR);
+    }
+
+    /**
+     * Creates an autocompleter that does its work on {@code executor}, which must run tasks one at a time in the
+     * order they are submitted.
+     */
+    Autocompleter(ObservableList<Person> persons, Executor executor) {
+        requireNonNull(persons);
+        requireNonNull(executor);
+        List<String> commandWords = new ArrayList<>();
+        CommandRegistry.getInstance().getEntries().forEach(entry -> commandWords.add(entry.getCommandWord()));
+        this.index = new AutocompleteIndex(commandWords);
+        this.executor = executor;
+
+        List<Person> initialPersons = List.copyOf(persons);
+        executor.execute(() -> initialPersons.forEach(index::addPerson));
+        persons.addListener(this::handlePersonsChanged);
+    }
+
+    /**
+     * Returns the candidates for completing {@code commandText} at {@code caretPosition}.
+     * The returned future fails with a {@code CancellationException} if another completion is asked for before
+     * this one is found.
+     */
+    public CompletableFuture<Completion> complete(String commandText, int caretPosition) {
+        requireNonNull(commandText);
+        long request = latestRequest.incrementAndGet();
+        BooleanSupplier isStale = () -> latestRequest.get() != request;
+        return CompletableFuture.supplyAsync(() -> index.complete(commandText, caretPosition, isStale), executor);
+    }
+
+    /**
+     * Copies the persons removed and added by {@code change}, as the change can only be read while it is being
+     * delivered, and queues them to be applied to the index.
+     */
+    private void handlePersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        List<Person> removed = new ArrayList<>();
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            removed.forEach(index::removePerson);
+            added.forEach(index::addPerson);
+            logger.fine("Autocomplete index updated: " + removed.size() + " removed, " + added.size() + " added");
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * The candidates for completing the part of a command text between {@code start} and {@code end}.
+ */
+public class Completion {
+
+    private final int start;
+    private final int end;
+    private final List<String> candidates;
+
+    /**
+     * Creates a completion that replaces the characters from {@code start} (inclusive) to {@code end} (exclusive)
+     * of a command text with one of {@code candidates}.
+     */
+    public Completion(int start, int end, List<String> candidates) {
+        requireNonNull(candidates);
+        assert 0 <= start && start <= end;
+        this.start = start;
+        this.end = end;
+        this.candidates = List.copyOf(candidates);
+    }
+
+    /**
+     * Returns a completion without candidates at {@code position}.
+     */
+    public static Completion none(int position) {
+        return new Completion(position, position, List.of());
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public List<String> getCandidates() {
+        return candidates;
+    }
+
+    public boolean hasCandidates() {
+        return !candidates.isEmpty();
+    }
+
+    /**
+     * Returns the longest prefix shared by all candidates, ignoring case, in the case of the first candidate.
+     */
+    public String getCommonPrefix() {
+        if (candidates.isEmpty()) {
+            return "";
+        }
+        String first = candidates.get(0);
+        int length = first.length();
+        for (String candidate : candidates) {
+            int i = 0;
+            while (i < length && i < candidate.length()
+                    && Character.toLowerCase(first.charAt(i)) == Character.toLowerCase(candidate.charAt(i))) {
+                i++;
+            }
+            length = i;
+        }
+        return first.substring(0, length);
+    }
+
+    /**
+     * Returns {@code commandText} with the replaced part replaced by {@code replacement}.
+     */
+    public String applyTo(String commandText, String replacement) {
+        return commandText.substring(0, start) + replacement + commandText.substring(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Completion)) {
+            return false;
+        }
+
+        Completion otherCompletion = (Completion) other;
+        return start == otherCompletion.start
+                && end == otherCompletion.end
+                && candidates.equals(otherCompletion.candidates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, candidates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .add("candidates", candidates)
+                .toString();
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A radix trie of strings that finds the strings starting with a given prefix, ignoring case.
+ * <p>
+ * Each edge holds the longest run of characters shared by all strings below it, so the trie has at most about twice
+ * as many nodes as strings. Adding or removing a string touches only the nodes on its path, and
+ * {@link #complete(String, int, BooleanSupplier)} visits only the nodes on the path of the prefix and the nodes of the
+ * results it returns. A string may be added several times, and stays in the trie until it is removed as many times.
+ * Not thread-safe.
+ */
+public class CompletionTrie {
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Returns the number of distinct strings in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds one occurrence of {@code value}.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.getChild(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.putChild(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                child = child.splitAt(common);
+                node.putChild(child);
+            }
+            node = child;
+            position += common;
+        }
+        if (node.addValue(value)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code value}. Does nothing if {@code value} is not in this trie.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            path.add(node);
+            node = node.getChild(key.charAt(position));
+            if (node == null || !key.startsWith(node.label, position)) {
+                return;
+            }
+            position += node.label.length();
+        }
+        if (!node.removeValue(value)) {
+            return;
+        }
+        size--;
+
+        // Keeps the trie compressed: drops leaves without values, and merges nodes that only pass through
+        for (int i = path.size() - 1; i >= 0 && node != root && node.values == null; i--) {
+            Node parent = path.get(i);
+            if (node.children == null) {
+                parent.removeChild(node);
+            } else if (node.children.size() == 1) {
+                node.mergeWithOnlyChild();
+                break;
+            } else {
+                break;
+            }
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} strings that start with {@code prefix}, ignoring case, ordered by their lower case
+     * form.
+     *
+     * @param isCancelled checked while searching, so that a search that is no longer needed stops early.
+     * @throws CancellationException if {@code isCancelled} returns true before the search finishes.
+     */
+    public List<String> complete(String prefix, int limit, BooleanSupplier isCancelled) {
+        requireNonNull(prefix);
+        requireNonNull(isCancelled);
+        String key = toKey(prefix);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node = node.getChild(key.charAt(position));
+            if (node == null) {
+                return List.of();
+            }
+            int remaining = key.length() - position;
+            if (remaining <= node.label.length()) {
+                if (!node.label.startsWith(key.substring(position))) {
+                    return List.of();
+                }
+                break;
+            }
+            if (!key.startsWith(node.label, position)) {
+                return List.of();
+            }
+            position += node.label.length();
+        }
+
+        List<String> results = new ArrayList<>(Math.min(limit, size));
+        collect(node, limit, isCancelled, results);
+        return results;
+    }
+
+    private static void collect(Node node, int limit, BooleanSupplier isCancelled, List<String> results) {
+        if (isCancelled.getAsBoolean()) {
+            throw new CancellationException();
+        }
+        if (node.values != null) {
+            for (String value : node.values.keySet()) {
+                if (results.size() >= limit) {
+                    return;
+                }
+                results.add(value);
+            }
+        }
+        if (node.children == null) {
+            return;
+        }
+        for (Node child : node.children.values()) {
+            if (results.size() >= limit) {
+                return;
+            }
+            collect(child, limit, isCancelled, results);
+        }
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static int commonPrefixLength(String label, String key, int keyStart) {
+        int max = Math.min(label.length(), key.length() - keyStart);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(keyStart + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * A node of the trie. Its label is the part of the key on the edge from its parent.
+     */
+    private static final class Node {
+        private String label;
+        private TreeMap<Character, Node> children;
+        // The strings whose key ends at this node, in their original case, with the number of times each was added
+        private TreeMap<String, Integer> values;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node getChild(char firstChar) {
+            return children == null ? null : children.get(firstChar);
+        }
+
+        void putChild(Node child) {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        void removeChild(Node child) {
+            children.remove(child.label.charAt(0));
+            if (children.isEmpty()) {
+                children = null;
+            }
+        }
+
+        /**
+         * Returns true if {@code value} was not at this node before.
+         */
+        boolean addValue(String value) {
+            if (values == null) {
+                values = new TreeMap<>();
+            }
+            return values.merge(value, 1, Integer::sum) == 1;
+        }
+
+        /**
+         * Returns true if the last occurrence of {@code value} was removed from this node.
+         */
+        boolean removeValue(String value) {
+            if (values == null || !values.containsKey(value)) {
+                return false;
+            }
+            if (values.computeIfPresent(value, (unused, count) -> count == 1 ? null : count - 1) != null) {
+                return false;
+            }
+            if (values.isEmpty()) {
+                values = null;
+            }
+            return true;
+        }
+
+        /**
+         * Splits this node after the first {@code length} characters of its label, and returns the new upper node.
+         */
+        Node splitAt(int length) {
+            Node upper = new Node(label.substring(0, length));
+            label = label.substring(length);
+            upper.putChild(this);
+            return upper;
+        }
+
+        /**
+         * Absorbs the only child of this node, which must have no values of its own.
+         */
+        void mergeWithOnlyChild() {
+            Map.Entry<Character, Node> onlyChild = children.firstEntry();
+            Node child = onlyChild.getValue();
+            label = label + child.label;
+            children = child.children;
+            values = child.values;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.tutorpal.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import seedu.tutorpal.commons.util.ToStringBuilder;
 
@@ -11,6 +13,13 @@ import seedu.tutorpal.commons.util.ToStringBuilder;
  */
 public class CommandResult {
 
+    /**
+     * The ways the person list can be shown in.
+     */
+    public enum PersonView {
+        CARDS, TABLE
+    }
+
     private final String feedbackToUser;
 
     /** Help information should be shown to the user. */
@@ -24,6 +33,12 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback of work the command left running in the background, shown to the user when it finishes. */
+    private final CompletionStage<String> followUp;
+
+    /** The way the person list should be shown in from now on, if it should change. */
+    private final PersonView personView;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields and set showDisplay to false.
      */
@@ -32,6 +47,8 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.showDisplay = false;
+        this.followUp = null;
+        this.personView = null;
     }
 
     /**
@@ -43,6 +60,8 @@ public class CommandResult {
         this.exit = exit;
         this.showDisplay = true;
         this.personInfo = personInfo;
+        this.followUp = null;
+        this.personView = null;
     }
 
     /**
@@ -53,6 +72,32 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be followed by the feedback
+     * that {@code followUp} completes with. Other fields are set to their default value.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> followUp) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showDisplay = false;
+        this.followUp = requireNonNull(followUp);
+        this.personView = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, that switches the person list to
+     * {@code personView}. Other fields are set to their default value.
+     */
+    public CommandResult(String feedbackToUser, PersonView personView) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showDisplay = false;
+        this.followUp = null;
+        this.personView = requireNonNull(personView);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -76,6 +121,21 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the feedback of the background work started by the command, if any.
+     * It is not compared by {@link #equals(Object)}.
+     */
+    public Optional<CompletionStage<String>> getFollowUp() {
+        return Optional.ofNullable(followUp);
+    }
+
+    /**
+     * Returns the way the person list should be shown in from now on, if the command changes it.
+     */
+    public Optional<PersonView> getPersonView() {
+        return Optional.ofNullable(personView);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -91,12 +151,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && showDisplay == otherCommandResult.showDisplay
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && personView == otherCommandResult.personView;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, showDisplay, exit);
+        return Objects.hash(feedbackToUser, showHelp, showDisplay, exit, personView);
     }
 
     @Override
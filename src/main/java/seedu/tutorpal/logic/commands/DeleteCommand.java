@@ -1,12 +1,9 @@
 package seedu.tutorpal.logic.commands;
 
-import static java.util.Objects.requireNonNull;
-
 import java.util.List;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.person.Person;
@@ -14,14 +11,14 @@ import seedu.tutorpal.model.person.Person;
 /**
  * Deletes a person identified using it's displayed index from the address book.
  */
-public class DeleteCommand extends Command {
+public class DeleteCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by the index number used in the displayed person list. "
             + "List is one-indexed.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     // SHORTENED is used for help command
@@ -30,25 +27,18 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
 
-    private final Index targetIndex;
-
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
     }
 
-    @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        // Check that index does not exceed size of list
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
+    public DeleteCommand(List<Index> targetIndexes) {
+        super(targetIndexes);
+    }
 
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
+    @Override
+    protected String executeOn(Model model, Person personToDelete) throws CommandException {
         model.deletePerson(personToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete.getName()));
+        return String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete.getName());
     }
 
     @Override
@@ -63,13 +53,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return getIndexes().equals(otherDeleteCommand.getIndexes());
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndexes", getIndexes())
                 .toString();
     }
 }
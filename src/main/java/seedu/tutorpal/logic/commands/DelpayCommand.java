@@ -8,9 +8,9 @@ import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.PaymentHistory;
 import seedu.tutorpal.model.person.Person;
 import seedu.tutorpal.model.person.Role;
@@ -22,13 +22,13 @@ import seedu.tutorpal.model.person.Tutor;
  * Applies to both students and tutors. The month must be on or after the person's join date
  * and cannot be in the future.
  */
-public class DelpayCommand extends Command {
+public class DelpayCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "delpay";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the payment record for a specific month for the person identified by the index number.\n"
-            + "Parameters: INDEX (must be a positive integer) m/MM-yyyy\n"
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35) m/MM-yyyy\n"
             + "Example: " + COMMAND_WORD + " 1 m/01-2024";
 
     // SHORTENED is used for help command
@@ -44,7 +44,6 @@ public class DelpayCommand extends Command {
 
     private static final Logger logger = Logger.getLogger(DelpayCommand.class.getName());
 
-    private final Index index;
     private final YearMonth month;
 
     /**
@@ -55,18 +54,25 @@ public class DelpayCommand extends Command {
      * @param month the month to delete from history (format: MM-yyyy)
      */
     public DelpayCommand(Index index, YearMonth month) {
-        assert index != null : "Index cannot be null";
+        this(List.of(index), month);
+    }
+
+    /**
+     * Creates a DelpayCommand to delete the specified month's payment
+     * for the persons at the given indexes.
+     *
+     * @param indexes the indexes of the persons in the filtered list
+     * @param month the month to delete from history (format: MM-yyyy)
+     */
+    public DelpayCommand(List<Index> indexes, YearMonth month) {
+        super(indexes);
         assert month != null : "Month cannot be null";
-        this.index = index;
         this.month = month;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        assert model != null : "Model cannot be null";
-        logger.info("Executing DelpayCommand for person at index: " + index + ", month: " + month);
-
-        Person personToEdit = getPersonFromModel(model);
+    protected String executeOn(Model model, Person personToEdit) throws CommandException {
+        logger.info("Executing DelpayCommand for " + personToEdit.getName() + ", month: " + month);
         validateMonthConstraints(personToEdit, month);
 
         PaymentHistory updatedPaymentHistory = personToEdit.getPaymentHistory().deleteMonth(month);
@@ -75,17 +81,7 @@ public class DelpayCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         String resultMessage = String.format(MESSAGE_SUCCESS, editedPerson.getName(), month);
         logger.info("Payment record deleted: " + resultMessage);
-        return new CommandResult(resultMessage);
-    }
-
-    private Person getPersonFromModel(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        return lastShownList.get(index.getZeroBased());
+        return resultMessage;
     }
 
     private void validateMonthConstraints(Person person, YearMonth month) throws CommandException {
@@ -95,11 +91,11 @@ public class DelpayCommand extends Command {
             throw new CommandException(String.format(MESSAGE_MONTH_BEFORE_JOIN, joinMonth));
         }
 
-        if (month.isAfter(YearMonth.now())) {
+        if (month.isAfter(CurrentPeriod.getMonth())) {
             throw new CommandException(MESSAGE_FUTURE_MONTH);
         }
         assert month.compareTo(joinMonth) >= 0 : "Month must be >= join month after validation";
-        assert month.compareTo(YearMonth.now()) <= 0 : "Month must be <= current month after validation";
+        assert month.compareTo(CurrentPeriod.getMonth()) <= 0 : "Month must be <= current month after validation";
     }
 
     private Person createEditedPerson(Person person, PaymentHistory updatedPaymentHistory)
@@ -153,14 +149,14 @@ public class DelpayCommand extends Command {
             return false;
         }
         DelpayCommand otherCommand = (DelpayCommand) other;
-        return index.equals(otherCommand.index)
+        return getIndexes().equals(otherCommand.getIndexes())
                 && month.equals(otherCommand.month);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", getIndexes())
                 .add("month", month)
                 .toString();
     }
@@ -0,0 +1,202 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOIN_DATE;
+import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Edits every person in the displayed person list in the same way.
+ * <p>
+ * Either sets the given fields on every displayed person, or moves every displayed person in one class to
+ * another class. Name, phone and email identify or contact a single person, so they cannot be edited here, which
+ * also means no edit can make two persons the same. The edited persons are computed in parallel and published
+ * together in a single change; persons whose edit is invalid (e.g. a join date after their recorded attendance)
+ * are skipped and reported.
+ */
+public class EditAllCommand extends Command {
+
+    public static final String COMMAND_WORD = EditCommand.COMMAND_WORD;
+
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits every person in the displayed person list. "
+            + "Existing values will be overwritten by the input values.\n"
+            + "Parameters: " + ALL_KEYWORD + " "
+            + "[" + PREFIX_ADDRESS + "ADDRESS] "
+            + "[" + PREFIX_JOIN_DATE + "JOINDATE] "
+            + "[" + PREFIX_CLASS + "CLASS] "
+            + "[" + PREFIX_CLASS + "FROM_CLASS " + PREFIX_CLASS + "TO_CLASS]\n"
+            + "Note: With two classes, only persons in FROM_CLASS are edited, and are moved to TO_CLASS.\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " "
+            + PREFIX_CLASS + "s3mon1600 "
+            + PREFIX_CLASS + "s4mon1600";
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d of %2$d displayed persons: %3$s";
+    public static final String MESSAGE_NOTHING_TO_EDIT = "No displayed person needs to be edited.";
+    public static final String MESSAGE_NOTHING_EDITED = "Nothing was changed, as no person could be edited.";
+    public static final String MESSAGE_ITEM_SKIPPED = "%1$s: %2$s";
+    public static final String MESSAGE_CLASS_MOVED = "class: %1$s moved to %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(EditAllCommand.class);
+
+    private final EditPersonDescriptor editPersonDescriptor;
+    private final Class fromClass;
+    private final Class toClass;
+
+    /**
+     * Creates an EditAllCommand that sets the fields of {@code editPersonDescriptor} on every displayed person.
+     * The descriptor must not edit a name, phone or email.
+     */
+    public EditAllCommand(EditPersonDescriptor editPersonDescriptor) {
+        this(editPersonDescriptor, null, null);
+    }
+
+    /**
+     * Creates an EditAllCommand that moves every displayed person in {@code fromClass} to {@code toClass}, and sets
+     * the other fields of {@code editPersonDescriptor} on them.
+     * The descriptor must not edit a name, phone, email or class.
+     */
+    public EditAllCommand(EditPersonDescriptor editPersonDescriptor, Class fromClass, Class toClass) {
+        requireNonNull(editPersonDescriptor);
+        assert (fromClass == null) == (toClass == null) : "A class move needs both classes";
+        assert editPersonDescriptor.getName().isEmpty() && editPersonDescriptor.getPhone().isEmpty()
+                && editPersonDescriptor.getEmail().isEmpty() : "Personal fields cannot be bulk edited";
+        assert fromClass == null || editPersonDescriptor.getClasses().isEmpty();
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+        this.fromClass = fromClass;
+        this.toClass = toClass;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> targets = List.copyOf(model.getFilteredPersonList());
+
+        // Persons are immutable, so the edited persons can be computed independently of each other.
+        List<Outcome> outcomes = targets.parallelStream().map(this::edit).toList();
+
+        Map<Person, Person> editedPersons = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.skipReason != null) {
+                skipped.add(String.format(MESSAGE_ITEM_SKIPPED, outcome.person.getName(), outcome.skipReason));
+            } else if (!outcome.editedPerson.equals(outcome.person)) {
+                editedPersons.put(outcome.person, outcome.editedPerson);
+            }
+        }
+
+        if (editedPersons.isEmpty() && skipped.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_EDIT);
+        }
+        if (editedPersons.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_EDITED + "\n" + MultiIndexCommand.joinItems(skipped));
+        }
+
+        // Identities are never edited, so no edited person can clash with another person.
+        model.replacePersons(editedPersons);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        logger.fine("Edited " + editedPersons.size() + " persons, skipped " + skipped.size());
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, editedPersons.size(), targets.size(), summarizeEdit()));
+        if (!skipped.isEmpty()) {
+            feedback.append("\n").append(MultiIndexCommand.MESSAGE_BATCH_SKIPPED)
+                    .append("\n").append(MultiIndexCommand.joinItems(skipped));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns the outcome of editing {@code person}. A person outside the class being moved is left unchanged.
+     */
+    private Outcome edit(Person person) {
+        EditPersonDescriptor descriptor = editPersonDescriptor;
+        if (fromClass != null) {
+            if (!person.getClasses().contains(fromClass)) {
+                return new Outcome(person, person, null);
+            }
+            Set<Class> movedClasses = new HashSet<>(person.getClasses());
+            movedClasses.remove(fromClass);
+            movedClasses.add(toClass);
+            descriptor = new EditPersonDescriptor(editPersonDescriptor);
+            descriptor.setClasses(movedClasses);
+        }
+
+        try {
+            return new Outcome(person, EditCommand.createEditedPerson(person, descriptor), null);
+        } catch (CommandException e) {
+            return new Outcome(person, null, e.getMessage());
+        }
+    }
+
+    private String summarizeEdit() {
+        if (fromClass == null) {
+            return EditCommand.summarizeEditedFields(editPersonDescriptor);
+        }
+        String classMove = String.format(MESSAGE_CLASS_MOVED, fromClass, toClass);
+        return editPersonDescriptor.isAnyFieldEdited()
+                ? classMove + "; " + EditCommand.summarizeEditedFields(editPersonDescriptor)
+                : classMove;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditAllCommand)) {
+            return false;
+        }
+
+        EditAllCommand otherCommand = (EditAllCommand) other;
+        return editPersonDescriptor.equals(otherCommand.editPersonDescriptor)
+                && Objects.equals(fromClass, otherCommand.fromClass)
+                && Objects.equals(toClass, otherCommand.toClass);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("editPersonDescriptor", editPersonDescriptor)
+                .add("fromClass", Optional.ofNullable(fromClass))
+                .add("toClass", Optional.ofNullable(toClass))
+                .toString();
+    }
+
+    /**
+     * The result of editing one person: either the edited person, or the reason the person was skipped.
+     */
+    private static class Outcome {
+        private final Person person;
+        private final Person editedPerson;
+        private final String skipReason;
+
+        Outcome(Person person, Person editedPerson, String skipReason) {
+            this.person = person;
+            this.editedPerson = editedPerson;
+            this.skipReason = skipReason;
+        }
+    }
+}
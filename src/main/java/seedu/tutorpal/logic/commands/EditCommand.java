@@ -58,7 +58,10 @@ public class EditCommand extends Command {
             + "students must specify exactly one class.\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_PHONE + "91234567 "
-            + PREFIX_EMAIL + "johndoe@example.com";
+            + PREFIX_EMAIL + "johndoe@example.com\n"
+            + "To edit everyone in the displayed list: " + COMMAND_WORD + " all "
+            + "[" + PREFIX_ADDRESS + "ADDRESS] [" + PREFIX_JOIN_DATE + "JOINDATE] "
+            + "[" + PREFIX_CLASS + "CLASS] [" + PREFIX_CLASS + "FROM_CLASS " + PREFIX_CLASS + "TO_CLASS]";
 
     public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " "
             + "[" + PREFIX_NAME + "NAME] "
@@ -66,6 +69,8 @@ public class EditCommand extends Command {
             + "[" + PREFIX_EMAIL + "EMAIL] "
             + "[" + PREFIX_CLASS + "CLASS]... "
             + "[" + PREFIX_ADDRESS + "ADDRESS]\n"
+            + "\t\t" + COMMAND_WORD + " all [" + PREFIX_ADDRESS + "ADDRESS] [" + PREFIX_JOIN_DATE + "JOINDATE] "
+            + "[" + PREFIX_CLASS + "CLASS] [" + PREFIX_CLASS + "FROM_CLASS " + PREFIX_CLASS + "TO_CLASS]\n"
             + "\t\tNote: Tutors may specify multiple classes by repeating " + PREFIX_CLASS + "; "
             + "students must specify exactly one class.\n"
             + "\t\tExample: " + COMMAND_WORD + " 1 "
@@ -133,7 +138,7 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedSummary));
     }
 
-    private static String summarizeEditedFields(EditPersonDescriptor d) {
+    static String summarizeEditedFields(EditPersonDescriptor d) {
         StringBuilder sb = new StringBuilder();
         d.getName().ifPresent(v -> sb.append("name: ").append(v).append("; "));
         d.getPhone().ifPresent(v -> sb.append("phone: ").append(v).append("; "));
@@ -156,7 +161,7 @@ public class EditCommand extends Command {
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
      */
-    private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor)
+    static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor)
             throws CommandException {
         assert personToEdit != null;
 
@@ -167,17 +172,13 @@ public class EditCommand extends Command {
         Set<Class> updatedClasses = editPersonDescriptor.getClasses().orElse(personToEdit.getClasses());
         JoinDate updatedJoinDate = editPersonDescriptor.getJoinDate().orElse(personToEdit.getJoinDate());
 
-        // Validate that new joinDate is not after existing payment history
-        try {
-            personToEdit.getPaymentHistory().validateJoinDate(updatedJoinDate);
-        } catch (InvalidRangeException e) {
-            throw new CommandException(e.getMessage());
-        }
-
-        // Rebuild payment history only if join date actually changes
+        // Validate and rebuild payment history only if join date actually changes,
+        // as the existing history is already valid for the existing join date
         PaymentHistory updatedPaymentHistory = personToEdit.getPaymentHistory();
         if (!updatedJoinDate.equals(personToEdit.getJoinDate())) {
             try {
+                // Validate that new joinDate is not after existing payment history
+                personToEdit.getPaymentHistory().validateJoinDate(updatedJoinDate);
                 updatedPaymentHistory = personToEdit.getPaymentHistory().withJoinDate(updatedJoinDate);
             } catch (InvalidRangeException e) {
                 throw new CommandException(e.getMessage());
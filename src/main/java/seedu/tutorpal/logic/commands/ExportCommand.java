@@ -0,0 +1,268 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.CsvUtil;
+import seedu.tutorpal.commons.util.FileUtil;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.model.AddressBookSnapshot;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.MonthlyPayment;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+
+/**
+ * Writes the displayed persons, or every person, to a CSV file.
+ * <p>
+ * The persons are taken from an immutable snapshot of the address book, captured in O(1) when the command runs,
+ * so commands entered while the file is being written do not affect it. The file is written on a background thread,
+ * one row at a time through a buffered writer, without building the whole file in memory. Each row has the person's
+ * details followed by one payment column per month and one attendance column per week of the chosen months.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the displayed persons, or every person with 'all', to a CSV file, "
+            + "with their payments and attendance for the given months (default: the current month).\n"
+            + "Parameters: [" + ALL_KEYWORD + "] FILE [m/MM-yyyy[:MM-yyyy]]\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " data/persons.csv m/01-2025:03-2025";
+
+    // SHORTENED is used for help command
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " ["
+            + ALL_KEYWORD + "] FILE [m/MM-yyyy[:MM-yyyy]]"
+            + "\n\t\tExample: " + COMMAND_WORD + " data/persons.csv m/01-2025:03-2025";
+
+    public static final String MESSAGE_EXPORTING_DISPLAYED = "Exporting the displayed persons to %1$s...";
+    public static final String MESSAGE_EXPORTING_ALL = "Exporting all persons to %1$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s.";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    public static final String PAYMENT_COLUMN_PREFIX = "payment ";
+    public static final String ATTENDANCE_COLUMN_PREFIX = "attendance ";
+    public static final String PAID = "paid";
+    public static final String UNPAID = "unpaid";
+    public static final String PRESENT = "present";
+    public static final String ABSENT = "absent";
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM-yyyy");
+    private static final List<String> PERSON_COLUMNS = List.of("role", "name", "phone", "email", "class",
+            "address", "joindate");
+
+    /** Writes one file at a time, so two exports to the same file cannot interleave. */
+    private static final ExecutorService EXPORT_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "csv-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path csvPath;
+    private final boolean isAll;
+    private final YearMonth fromMonth;
+    private final YearMonth toMonth;
+
+    /**
+     * Creates an ExportCommand to write the displayed persons, or every person if {@code isAll} is true,
+     * to {@code csvPath}, with their payments and attendance from {@code fromMonth} to {@code toMonth} inclusive.
+     */
+    public ExportCommand(Path csvPath, boolean isAll, YearMonth fromMonth, YearMonth toMonth) {
+        requireNonNull(csvPath);
+        requireNonNull(fromMonth);
+        requireNonNull(toMonth);
+        assert !fromMonth.isAfter(toMonth) : "Month range must be ordered (guaranteed by parser)";
+        this.csvPath = csvPath;
+        this.isAll = isAll;
+        this.fromMonth = fromMonth;
+        this.toMonth = toMonth;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        Predicate<Person> predicate = isAll ? Model.PREDICATE_SHOW_ALL_PERSONS
+                : model.getFilteredPersonListPredicate();
+
+        CompletableFuture<String> followUp = CompletableFuture.supplyAsync(() -> export(snapshot, predicate),
+                EXPORT_EXECUTOR);
+        return new CommandResult(String.format(isAll ? MESSAGE_EXPORTING_ALL : MESSAGE_EXPORTING_DISPLAYED, csvPath),
+                followUp);
+    }
+
+    /**
+     * Writes the persons of {@code snapshot} that match {@code predicate} and returns the feedback for the user.
+     * The file is written to a temporary file first, so a failed export leaves any existing file untouched.
+     */
+    private String export(AddressBookSnapshot snapshot, Predicate<Person> predicate) {
+        List<YearMonth> months = getMonths();
+        List<WeeklyAttendance> weeks = getWeeks();
+        LocalDate today = CurrentPeriod.getDate();
+        Path tempFile = null;
+        try {
+            FileUtil.createParentDirsOfFile(csvPath.toAbsolutePath());
+            tempFile = Files.createTempFile(csvPath.toAbsolutePath().getParent(), "export", ".tmp");
+            int count = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writeLine(writer, getHeader(months, weeks));
+                for (Person person : snapshot.getPersons()) {
+                    if (predicate.test(person)) {
+                        writeLine(writer, toRow(person, months, weeks, today));
+                        count++;
+                    }
+                }
+            }
+            Files.move(tempFile, csvPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Exported " + count + " persons to " + csvPath);
+            return String.format(MESSAGE_SUCCESS, count, csvPath);
+        } catch (IOException e) {
+            logger.warning("Export to " + csvPath + " failed: " + e);
+            deleteQuietly(tempFile);
+            return String.format(MESSAGE_FAILURE, csvPath, e.getMessage());
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, List<String> fields) throws IOException {
+        writer.write(CsvUtil.toLine(fields));
+        writer.newLine();
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + file + ": " + e);
+        }
+    }
+
+    private List<YearMonth> getMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Returns the ISO weeks that overlap the chosen months, in order.
+     */
+    private List<WeeklyAttendance> getWeeks() {
+        LocalDate lastDay = toMonth.atEndOfMonth();
+        Set<WeeklyAttendance> weeks = new LinkedHashSet<>();
+        for (LocalDate day = fromMonth.atDay(1); !day.isAfter(lastDay); day = day.plusWeeks(1)) {
+            weeks.add(WeeklyAttendance.at(day));
+        }
+        weeks.add(WeeklyAttendance.at(lastDay));
+        return new ArrayList<>(weeks);
+    }
+
+    private static List<String> getHeader(List<YearMonth> months, List<WeeklyAttendance> weeks) {
+        List<String> header = new ArrayList<>(PERSON_COLUMNS);
+        months.forEach(month -> header.add(PAYMENT_COLUMN_PREFIX + month.format(MONTH_FORMAT)));
+        weeks.forEach(week -> header.add(ATTENDANCE_COLUMN_PREFIX + week));
+        return header;
+    }
+
+    /**
+     * Returns the fields of {@code person}'s row. A payment or attendance field is left empty for a month or week
+     * before the person joined or after {@code today}, and attendance is left empty for tutors.
+     */
+    private static List<String> toRow(Person person, List<YearMonth> months, List<WeeklyAttendance> weeks,
+            LocalDate today) {
+        List<String> row = new ArrayList<>(PERSON_COLUMNS.size() + months.size() + weeks.size());
+        row.add(person.getRole().toString());
+        row.add(person.getName().toString());
+        row.add(person.getPhone().value);
+        row.add(person.getEmail().value);
+        row.add(String.join(" ", person.getClasses().stream().map(Class::toString).sorted().toList()));
+        row.add(person.getAddress().toString());
+        row.add(person.getJoinDate().toString());
+
+        LocalDate joinDate = person.getJoinDate().toLocalDate();
+        YearMonth joinMonth = YearMonth.from(joinDate);
+        YearMonth currentMonth = YearMonth.from(today);
+        Set<YearMonth> paidMonths = new HashSet<>();
+        for (MonthlyPayment payment : person.getPaymentHistory().getMonthlyPayments()) {
+            if (payment.isPaid()) {
+                paidMonths.add(payment.getMonth());
+            }
+        }
+        for (YearMonth month : months) {
+            if (month.isBefore(joinMonth) || month.isAfter(currentMonth)) {
+                row.add("");
+            } else {
+                row.add(paidMonths.contains(month) ? PAID : UNPAID);
+            }
+        }
+
+        WeeklyAttendance joinWeek = WeeklyAttendance.at(joinDate);
+        WeeklyAttendance currentWeek = WeeklyAttendance.at(today);
+        Set<WeeklyAttendance> attended = person.hasAttendanceHistory()
+                ? person.getAttendanceHistory().getWeeklyAttendances()
+                : null;
+        for (WeeklyAttendance week : weeks) {
+            if (attended == null || week.isBefore(joinWeek) || week.isAfter(currentWeek)) {
+                row.add("");
+            } else {
+                row.add(attended.contains(week) ? PRESENT : ABSENT);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherCommand = (ExportCommand) other;
+        return csvPath.equals(otherCommand.csvPath)
+                && isAll == otherCommand.isAll
+                && fromMonth.equals(otherCommand.fromMonth)
+                && toMonth.equals(otherCommand.toMonth);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("csvPath", csvPath)
+                .add("isAll", isAll)
+                .add("fromMonth", fromMonth)
+                .add("toMonth", toMonth)
+                .toString();
+    }
+}
@@ -17,7 +17,8 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: [" + FuzzyFindCommand.FUZZY_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
+            + "With " + FuzzyFindCommand.FUZZY_FLAG + ", names with words spelt similarly to a keyword also match.\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " KEYWORD"
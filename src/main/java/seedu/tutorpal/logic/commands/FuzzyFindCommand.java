@@ -0,0 +1,105 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.Messages;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all persons whose name contains any of the keywords, or a word spelt similarly to one of them.
+ * <p>
+ * Similar words are looked up in the trigram index of name words kept by the model, so the cost depends on the
+ * words sharing trigrams with a keyword rather than on the number of persons. Longer keywords allow more edits:
+ * see {@link #getMaxEditDistance(String)}.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String COMMAND_WORD = FindCommand.COMMAND_WORD;
+
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
+            + "the specified keywords, or words spelt similarly (case-insensitive), and displays them as a list "
+            + "with index numbers.\n"
+            + "Parameters: " + FUZZY_FLAG + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " cristopher";
+
+    public static final String MESSAGE_SIMILAR_WORDS = "Including similar names: %1$s";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a command that finds the persons matching any of {@code keywords}, which must not be empty.
+     */
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        assert !keywords.isEmpty() : "At least one keyword is required (guaranteed by parser)";
+        this.keywords = List.copyOf(keywords);
+    }
+
+    /**
+     * Returns the largest number of edits by which a name word may differ from {@code keyword} to match it.
+     * Short keywords must match exactly, as a single edit already turns most of them into unrelated words.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        } else if (keyword.length() <= 5) {
+            return 1;
+        } else {
+            return 2;
+        }
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<String> matchingWords = new LinkedHashSet<>();
+        List<String> similarWords = new ArrayList<>();
+        for (String keyword : keywords) {
+            matchingWords.add(keyword.toLowerCase());
+            for (String word : model.findSimilarNameWords(keyword, getMaxEditDistance(keyword))) {
+                if (matchingWords.add(word)) {
+                    similarWords.add(word);
+                }
+            }
+        }
+
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.copyOf(matchingWords)));
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getFilteredPersonList().size());
+        if (!similarWords.isEmpty()) {
+            feedback += "\n" + String.format(MESSAGE_SIMILAR_WORDS, String.join(", ", similarWords));
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyFindCommand)) {
+            return false;
+        }
+
+        FuzzyFindCommand otherFuzzyFindCommand = (FuzzyFindCommand) other;
+        return keywords.equals(otherFuzzyFindCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Adds the persons in a CSV file to the address book.
+ * <p>
+ * The rows are validated when the command is parsed. Rows describing a person who already exists, in the address
+ * book or on an earlier row, are rejected using a hash lookup of their identities. The remaining persons are added
+ * together in a single change. In a dry run, nothing is added and only the rows that would be rejected are reported.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String DRY_RUN_FLAG = "--dry-run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons in a CSV file. The first row must name the columns: "
+            + "role, name, phone, email and class, and optionally address and joindate. "
+            + "A tutor's classes are separated by spaces.\n"
+            + "Parameters: FILE [" + DRY_RUN_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " data/new-branch.csv " + DRY_RUN_FLAG;
+
+    // SHORTENED is used for help command
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " FILE ["
+            + DRY_RUN_FLAG + "]"
+            + "\n\t\tExample: " + COMMAND_WORD + " data/new-branch.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d rows from %3$s.";
+    public static final String MESSAGE_DRY_RUN = "Dry run: %1$d of %2$d rows from %3$s can be imported. "
+            + "Nothing was changed.";
+    public static final String MESSAGE_NO_ROWS = "There are no rows to import in %1$s.";
+    public static final String MESSAGE_NOTHING_IMPORTED = "Nothing was imported, as every row was rejected.";
+    public static final String MESSAGE_REJECTED = "Rejected:";
+    public static final String MESSAGE_ROW_REJECTED = "Line %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "This person already exists in the address book or on an earlier line.";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path csvPath;
+    private final List<CsvRow> rows;
+    private final boolean isDryRun;
+
+    /**
+     * Creates an ImportCommand to add the persons of the parsed {@code rows} of the CSV file at {@code csvPath}.
+     * If {@code isDryRun} is true, only reports which rows would be rejected.
+     */
+    public ImportCommand(Path csvPath, List<CsvRow> rows, boolean isDryRun) {
+        requireNonNull(csvPath);
+        requireNonNull(rows);
+        this.csvPath = csvPath;
+        this.rows = List.copyOf(rows);
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (rows.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_ROWS, csvPath));
+        }
+
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            identities.add(person.getIdentityKey());
+        }
+
+        List<Person> toAdd = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        for (CsvRow row : rows) {
+            if (row.getError() != null) {
+                rejected.add(String.format(MESSAGE_ROW_REJECTED, row.getLineNumber(), row.getError()));
+            } else if (!identities.add(row.getPerson().getIdentityKey())) {
+                rejected.add(String.format(MESSAGE_ROW_REJECTED, row.getLineNumber(), MESSAGE_DUPLICATE_PERSON));
+            } else {
+                toAdd.add(row.getPerson());
+            }
+        }
+
+        logger.info("Import from " + csvPath + ": " + toAdd.size() + " accepted, " + rejected.size() + " rejected"
+                + (isDryRun ? " (dry run)" : ""));
+        if (isDryRun) {
+            return new CommandResult(withRejectedRows(
+                    String.format(MESSAGE_DRY_RUN, toAdd.size(), rows.size(), csvPath), rejected));
+        }
+        if (toAdd.isEmpty()) {
+            throw new CommandException(withRejectedRows(MESSAGE_NOTHING_IMPORTED, rejected));
+        }
+
+        model.addPersons(toAdd);
+        return new CommandResult(withRejectedRows(
+                String.format(MESSAGE_SUCCESS, toAdd.size(), rows.size(), csvPath), rejected));
+    }
+
+    private static String withRejectedRows(String message, List<String> rejected) {
+        if (rejected.isEmpty()) {
+            return message;
+        }
+        return message + "\n" + MESSAGE_REJECTED + "\n" + String.join("\n", rejected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherCommand = (ImportCommand) other;
+        return csvPath.equals(otherCommand.csvPath)
+                && rows.equals(otherCommand.rows)
+                && isDryRun == otherCommand.isDryRun;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("csvPath", csvPath)
+                .add("rows", rows)
+                .add("isDryRun", isDryRun)
+                .toString();
+    }
+
+    /**
+     * A row of a CSV file, with either the person it describes or the reason it is invalid.
+     */
+    public static class CsvRow {
+        private final int lineNumber;
+        private final Person person;
+        private final String error;
+
+        private CsvRow(int lineNumber, Person person, String error) {
+            this.lineNumber = lineNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        /**
+         * Returns a row at {@code lineNumber} that describes {@code person}.
+         */
+        public static CsvRow parsed(int lineNumber, Person person) {
+            requireNonNull(person);
+            return new CsvRow(lineNumber, person, null);
+        }
+
+        /**
+         * Returns a row at {@code lineNumber} that is invalid because of {@code error}.
+         */
+        public static CsvRow failed(int lineNumber, String error) {
+            requireNonNull(error);
+            return new CsvRow(lineNumber, null, error);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the person described by the row, or null if the row is invalid.
+         */
+        public Person getPerson() {
+            return person;
+        }
+
+        /**
+         * Returns the reason the row is invalid, or null if it is valid.
+         */
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof CsvRow)) {
+                return false;
+            }
+
+            CsvRow otherRow = (CsvRow) other;
+            return lineNumber == otherRow.lineNumber
+                    && Objects.equals(person, otherRow.person)
+                    && Objects.equals(error, otherRow.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, person, error);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("person", person)
+                    .add("error", error)
+                    .toString();
+        }
+    }
+}
@@ -2,47 +2,75 @@ package seedu.tutorpal.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_TO;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_MONTHS_OVERDUE;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_RANK_BY;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TOP;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TUTOR;
 import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.tutorpal.commons.util.ToStringBuilder;
 import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.JoinDateInRangePredicate;
+import seedu.tutorpal.model.person.MonthsOverduePredicate;
 import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonQuery;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
 import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
 
 /**
  * Lists all persons in the address book to the user.
- * Can optionally filter by class or tutor.
+ * Can optionally filter by class, tutor, payment status, join date or months overdue, and show only the persons
+ * that rank highest by consecutive absences or months overdue.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons in the address book. "
-            + "Optionally filter by one or more of class, tutor, or payment status. "
+            + "Optionally filter by one or more of class, tutor, payment status, join date range, "
+            + "or months overdue, and optionally show only the given number of persons who have been absent "
+            + "the most weeks in a row, or overdue for the most months. "
             + "Within the same filter type (e.g. multiple c/, t/, or ps/), values are OR-ed; "
             + "across different filter types, filters are AND-ed.\n"
             + "Parameters: [" + PREFIX_CLASS + "CLASS]... [" + PREFIX_TUTOR + "TUTOR_NAME]... ["
-            + PREFIX_PAYMENT_STATUS + "STATUS]...\n"
+            + PREFIX_PAYMENT_STATUS + "STATUS]... [" + PREFIX_JOINED_FROM + "DATE] [" + PREFIX_JOINED_TO + "DATE] ["
+            + PREFIX_MONTHS_OVERDUE + "MONTHS] [" + PREFIX_TOP + "COUNT " + PREFIX_RANK_BY + "absences|overdue]\n"
             + "Example: " + COMMAND_WORD + " (lists all persons)\n"
             + "Example: " + COMMAND_WORD + " c/s4mon1600 (lists persons in class s4mon1600)\n"
             + "Example: " + COMMAND_WORD + " t/John Doe (lists students taught by John Doe)\n"
             + "Example: " + COMMAND_WORD + " ps/paid (lists persons with paid payment status)\n"
             + "Example: " + COMMAND_WORD + " c/s2 c/s3 (lists persons in s2 or s3)\n"
-            + "Example: " + COMMAND_WORD + " c/s4 c/s2 ps/unpaid (lists persons in (s4 OR s2) AND unpaid)";
+            + "Example: " + COMMAND_WORD + " c/s4 c/s2 ps/unpaid (lists persons in (s4 OR s2) AND unpaid)\n"
+            + "Example: " + COMMAND_WORD + " jf/01-01-2025 jt/31-03-2025 (lists persons who joined in Q1 2025)\n"
+            + "Example: " + COMMAND_WORD + " mo/2 (lists persons overdue for at least 2 months)\n"
+            + "Example: " + COMMAND_WORD + " c/s4 top/10 by/absences (lists the 10 persons in s4 absent the most "
+            + "weeks in a row)";
 
     public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " "
         + "[" + PREFIX_CLASS + "CLASS]... "
         + "[" + PREFIX_TUTOR + "TUTOR]... "
-        + "[" + PREFIX_PAYMENT_STATUS + "STATUS]...\n"
+        + "[" + PREFIX_PAYMENT_STATUS + "STATUS]... "
+        + "[" + PREFIX_JOINED_FROM + "DATE] "
+        + "[" + PREFIX_JOINED_TO + "DATE] "
+        + "[" + PREFIX_MONTHS_OVERDUE + "MONTHS] "
+        + "[" + PREFIX_TOP + "COUNT " + PREFIX_RANK_BY + "absences|overdue]\n"
         + "\t\tExample: " + COMMAND_WORD + " "
         + PREFIX_CLASS + "s4mon1600";
 
@@ -57,20 +85,31 @@ public class ListCommand extends Command {
         + PREFIX_TUTOR + "TUTOR_NAME must have a value.";
     public static final String MESSAGE_EMPTY_PAYMENT_STATUS_FILTER = "Payment status filter cannot be empty. "
                + PREFIX_PAYMENT_STATUS + "STATUS must have a value.";
+    public static final String MESSAGE_INVALID_JOIN_DATE_RANGE = "The date of "
+        + PREFIX_JOINED_FROM + "DATE cannot be after the date of " + PREFIX_JOINED_TO + "DATE.";
+    public static final String MESSAGE_SUCCESS_RANKED = "Listed the top %1$d persons by %2$s:";
+    public static final String MESSAGE_NO_RANKED_PERSONS = "No persons have any %1$s.";
+    public static final String MESSAGE_RANKED_PERSON = "%1$d. %2$s: %3$d";
+    public static final String MESSAGE_INCOMPLETE_RANKING = "To rank persons, give both "
+        + PREFIX_TOP + "COUNT and " + PREFIX_RANK_BY + "absences or " + PREFIX_RANK_BY + "overdue.";
+    public static final String MESSAGE_INVALID_MONTHS_OVERDUE = "Months overdue should be a positive number. "
+        + PREFIX_MONTHS_OVERDUE + "MONTHS must be at least 1.";
 
     private static final Logger LOGGER = Logger.getLogger(ListCommand.class.getName());
 
     private final ClassContainsKeywordsPredicate classPredicate;
     private final StudentBelongsToTutorPredicate tutorPredicate;
     private final PaymentStatusMatchesPredicate paymentStatusPredicate;
+    private final JoinDateInRangePredicate joinDatePredicate;
+    private final MonthsOverduePredicate monthsOverduePredicate;
+    private final Ranking ranking;
+    private final int rankedCount;
 
     /**
      * Creates a ListCommand to list all persons.
      */
     public ListCommand() {
-        this.classPredicate = null;
-        this.tutorPredicate = null;
-        this.paymentStatusPredicate = null;
+        this(null, null, null);
     }
 
     /**
@@ -79,9 +118,39 @@ public class ListCommand extends Command {
     public ListCommand(ClassContainsKeywordsPredicate classPredicate,
                        StudentBelongsToTutorPredicate tutorPredicate,
                        PaymentStatusMatchesPredicate paymentStatusPredicate) {
+        this(classPredicate, tutorPredicate, paymentStatusPredicate, null, null);
+    }
+
+    /**
+     * Creates a ListCommand that may also filter by join date range and months overdue.
+     */
+    public ListCommand(ClassContainsKeywordsPredicate classPredicate,
+                       StudentBelongsToTutorPredicate tutorPredicate,
+                       PaymentStatusMatchesPredicate paymentStatusPredicate,
+                       JoinDateInRangePredicate joinDatePredicate,
+                       MonthsOverduePredicate monthsOverduePredicate) {
+        this(classPredicate, tutorPredicate, paymentStatusPredicate, joinDatePredicate, monthsOverduePredicate,
+                null, 0);
+    }
+
+    /**
+     * Creates a ListCommand that lists only the {@code rankedCount} persons matching the filters who rank highest by
+     * {@code ranking}, or all of them if {@code ranking} is null.
+     */
+    public ListCommand(ClassContainsKeywordsPredicate classPredicate,
+                       StudentBelongsToTutorPredicate tutorPredicate,
+                       PaymentStatusMatchesPredicate paymentStatusPredicate,
+                       JoinDateInRangePredicate joinDatePredicate,
+                       MonthsOverduePredicate monthsOverduePredicate,
+                       Ranking ranking, int rankedCount) {
+        assert ranking == null || rankedCount > 0 : "At least one person must be ranked";
         this.classPredicate = classPredicate;
         this.tutorPredicate = tutorPredicate;
         this.paymentStatusPredicate = paymentStatusPredicate;
+        this.joinDatePredicate = joinDatePredicate;
+        this.monthsOverduePredicate = monthsOverduePredicate;
+        this.ranking = ranking;
+        this.rankedCount = ranking == null ? 0 : rankedCount;
     }
 
     @Override
@@ -89,14 +158,17 @@ public class ListCommand extends Command {
         requireNonNull(model);
         LOGGER.fine("Executing ListCommand with filters: " + toString());
 
-        if (classPredicate == null && tutorPredicate == null && paymentStatusPredicate == null) {
+        if (ranking != null) {
+            return executeRanked(model);
+        }
+        if (!hasFilters()) {
             return executeListAll(model);
         }
 
         prepareTutorPredicateIfNeeded(model);
 
         // Build combined predicate and details for the success message
-        Predicate<seedu.tutorpal.model.person.Person> combined = buildCombinedPredicate();
+        Predicate<Person> combined = buildCombinedPredicate();
         assert combined != null : "Combined predicate must not be null";
 
         final String details = buildFilterDetails();
@@ -120,6 +192,45 @@ public class ListCommand extends Command {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    /**
+     * Executes the command to list the persons matching the filters who rank highest by {@code ranking}.
+     * The filtered person list shows only those persons, and the result lists them in order of rank.
+     * The persons are kept in the list by identity, so that they stay listed when paid, marked or edited.
+     */
+    private CommandResult executeRanked(Model model) {
+        if (hasFilters()) {
+            prepareTutorPredicateIfNeeded(model);
+            model.updateFilteredPersonList(buildCombinedPredicate());
+        } else {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        List<Person> topPersons = model.getTopPersons(ranking, rankedCount);
+        Set<List<Object>> topIdentityKeys = topPersons.stream().map(Person::getIdentityKey)
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> topIdentityKeys.contains(person.getIdentityKey()));
+
+        if (topPersons.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_RANKED_PERSONS, ranking.getDescription()));
+        }
+        StringBuilder result = new StringBuilder();
+        if (hasFilters()) {
+            result.append(buildSuccessHeader(buildFilterDetails())).append("\n");
+        }
+        result.append(String.format(MESSAGE_SUCCESS_RANKED, topPersons.size(), ranking.getDescription()));
+        Function<Person, PersonSortKey> sortKeys = model.getPersonSortKeys();
+        for (int i = 0; i < topPersons.size(); i++) {
+            Person person = topPersons.get(i);
+            result.append("\n").append(String.format(MESSAGE_RANKED_PERSON, i + 1, person.getName(),
+                    ranking.getValue(sortKeys.apply(person))));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    private boolean hasFilters() {
+        return classPredicate != null || tutorPredicate != null || paymentStatusPredicate != null
+                || joinDatePredicate != null || monthsOverduePredicate != null;
+    }
+
     private void prepareTutorPredicateIfNeeded(Model model) {
         if (tutorPredicate == null) {
             return;
@@ -129,18 +240,13 @@ public class ListCommand extends Command {
         LOGGER.fine("Resolved tutor classes: " + tutorClasses);
     }
 
-    private Predicate<seedu.tutorpal.model.person.Person> buildCombinedPredicate() {
-        Predicate<seedu.tutorpal.model.person.Person> combined = person -> true;
-        if (classPredicate != null) {
-            combined = combined.and(classPredicate);
-        }
-        if (tutorPredicate != null) {
-            combined = combined.and(tutorPredicate);
-        }
-        if (paymentStatusPredicate != null) {
-            combined = combined.and(paymentStatusPredicate);
-        }
-        return combined;
+    /**
+     * Returns a query of the given filters, which the model answers through its indexes where it can, and whose
+     * results it remembers for listing with the same filters again.
+     */
+    private Predicate<Person> buildCombinedPredicate() {
+        return new PersonQuery(classPredicate, tutorPredicate, paymentStatusPredicate, joinDatePredicate,
+                monthsOverduePredicate);
     }
 
     /**
@@ -171,10 +277,40 @@ public class ListCommand extends Command {
             }
             String statuses = String.join(" or ", paymentStatusPredicate.getKeywords());
             details.append("Payment Status: ").append(statuses);
+            hasAnyDetail = true;
+        }
+        if (joinDatePredicate != null) {
+            if (hasAnyDetail) {
+                details.append(" AND ");
+            }
+            details.append(describeJoinDateRange());
+            hasAnyDetail = true;
+        }
+        if (monthsOverduePredicate != null) {
+            if (hasAnyDetail) {
+                details.append(" AND ");
+            }
+            details.append("Overdue for at least ").append(monthsOverduePredicate.getMonths()).append(" months");
         }
         return details.toString();
     }
 
+    private String describeJoinDateRange() {
+        String from = joinDatePredicate.getFrom().map(ListCommand::formatDate).orElse(null);
+        String to = joinDatePredicate.getTo().map(ListCommand::formatDate).orElse(null);
+        if (from == null) {
+            return "Joined on or before " + to;
+        }
+        if (to == null) {
+            return "Joined on or after " + from;
+        }
+        return "Joined between " + from + " and " + to;
+    }
+
+    private static String formatDate(LocalDate date) {
+        return date.format(JoinDate.DATE_FORMATTER);
+    }
+
     /**
      * Builds the success message header based on which filters are active.
      * For single filters, uses simple format. For combined filters, uses structured format.
@@ -182,6 +318,9 @@ public class ListCommand extends Command {
      * @return The appropriate success message header.
      */
     private String buildSuccessHeader(String details) {
+        if (joinDatePredicate != null || monthsOverduePredicate != null) {
+            return String.format(MESSAGE_SUCCESS_FILTERED_ANY, details);
+        }
         // Single filter: class only
         if (classPredicate != null && tutorPredicate == null && paymentStatusPredicate == null) {
             String classes = String.join(" or ", classPredicate.getKeywords());
@@ -216,7 +355,11 @@ public class ListCommand extends Command {
         // Compare predicates
         return Objects.equals(classPredicate, otherListCommand.classPredicate)
                 && Objects.equals(tutorPredicate, otherListCommand.tutorPredicate)
-                && Objects.equals(paymentStatusPredicate, otherListCommand.paymentStatusPredicate);
+                && Objects.equals(paymentStatusPredicate, otherListCommand.paymentStatusPredicate)
+                && Objects.equals(joinDatePredicate, otherListCommand.joinDatePredicate)
+                && Objects.equals(monthsOverduePredicate, otherListCommand.monthsOverduePredicate)
+                && ranking == otherListCommand.ranking
+                && rankedCount == otherListCommand.rankedCount;
     }
 
     @Override
@@ -225,6 +368,10 @@ public class ListCommand extends Command {
                 .add("classPredicate", classPredicate)
                 .add("tutorPredicate", tutorPredicate)
                 .add("paymentStatusPredicate", paymentStatusPredicate)
+                .add("joinDatePredicate", joinDatePredicate)
+                .add("monthsOverduePredicate", monthsOverduePredicate)
+                .add("ranking", ranking)
+                .add("rankedCount", rankedCount)
                 .toString();
     }
 }
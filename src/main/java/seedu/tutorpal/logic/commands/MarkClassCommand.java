@@ -0,0 +1,141 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.core.index.Index;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.Messages;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.Role;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+
+/**
+ * Marks the attendance of every student in a class for a week, except the students at the given displayed indexes.
+ * The class roster is looked up from the model's class index, and all students are updated in a single change.
+ */
+public class MarkClassCommand extends Command {
+
+    public static final String COMMAND_WORD = MarkCommand.COMMAND_WORD;
+
+    public static final String EXCEPT_KEYWORD = "except";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks the attendance of every student in the class as having attended class for the specified week,"
+            + " except the students at the given indexes.\n"
+            + "Parameters: " + PREFIX_CLASS + "CLASS " + PREFIX_ATTENDANCE_WEEK + "WEEK ["
+            + EXCEPT_KEYWORD + " INDEX...]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "s4mon1600 " + PREFIX_ATTENDANCE_WEEK + "W10-2025 "
+            + EXCEPT_KEYWORD + " 3 5";
+
+    public static final String MESSAGE_SUCCESS = "Marked attendance for %1$d of %2$d students in %3$s on %4$s.";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to mark in %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(MarkClassCommand.class);
+
+    private final Class targetClass;
+    private final List<Index> exceptIndexes;
+    private final WeeklyAttendance week;
+
+    /**
+     * Creates a MarkClassCommand to mark the attendance of the students in {@code targetClass} for {@code week},
+     * except the students at {@code exceptIndexes} of the displayed list.
+     */
+    public MarkClassCommand(Class targetClass, List<Index> exceptIndexes, WeeklyAttendance week) {
+        requireNonNull(targetClass);
+        requireNonNull(exceptIndexes);
+        requireNonNull(week);
+        this.targetClass = targetClass;
+        this.exceptIndexes = List.copyOf(exceptIndexes);
+        this.week = week;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Person> excluded = getExcludedPersons(model.getFilteredPersonList());
+
+        Map<Person, Person> markedPersons = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+        int studentCount = 0;
+        for (Person student : model.getPersonsInClass(targetClass)) {
+            if (student.getRole() != Role.STUDENT || excluded.contains(student)) {
+                continue;
+            }
+            studentCount++;
+            try {
+                markedPersons.put(student, MarkCommand.createMarkedPerson(student, week));
+            } catch (CommandException e) {
+                skipped.add(e.getMessage());
+            }
+        }
+
+        if (studentCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, targetClass));
+        }
+        if (markedPersons.isEmpty()) {
+            throw new CommandException(MultiIndexCommand.MESSAGE_BATCH_FAILURE + "\n"
+                    + MultiIndexCommand.joinItems(skipped));
+        }
+
+        model.replacePersons(markedPersons);
+        logger.fine("Marked " + markedPersons.size() + " students in " + targetClass + " on " + week);
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, markedPersons.size(), studentCount, targetClass, week));
+        if (!skipped.isEmpty()) {
+            feedback.append("\n").append(MultiIndexCommand.MESSAGE_BATCH_SKIPPED)
+                    .append("\n").append(MultiIndexCommand.joinItems(skipped));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    private Set<Person> getExcludedPersons(List<Person> lastShownList) throws CommandException {
+        Set<Person> excluded = new HashSet<>();
+        for (Index index : exceptIndexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            excluded.add(lastShownList.get(index.getZeroBased()));
+        }
+        return excluded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof MarkClassCommand)) {
+            return false;
+        }
+
+        MarkClassCommand otherCommand = (MarkClassCommand) other;
+        return targetClass.equals(otherCommand.targetClass)
+                && exceptIndexes.equals(otherCommand.exceptIndexes)
+                && week.equals(otherCommand.week);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetClass", targetClass)
+                .add("exceptIndexes", exceptIndexes)
+                .add("week", week)
+                .toString();
+    }
+}
@@ -1,7 +1,7 @@
 package seedu.tutorpal.logic.commands;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
 
 import java.util.List;
 import java.util.logging.Level;
@@ -9,7 +9,6 @@ import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.person.AttendanceHistory;
@@ -22,20 +21,23 @@ import seedu.tutorpal.model.person.exceptions.InvalidRangeException;
 /**
  * Marks the attendance of a student in the address book.
  */
-public class MarkCommand extends Command {
+public class MarkCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "mark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Marks the attendance of the student as having attended class for the specified week.\n"
-            + "Parameters: INDEX "
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35) "
             + PREFIX_ATTENDANCE_WEEK + "WEEK"
             + "\n"
-            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_ATTENDANCE_WEEK + "W26-2025";
+            + "Example: " + COMMAND_WORD + " 3 " + PREFIX_ATTENDANCE_WEEK + "W26-2025\n"
+            + "To mark every student in a class: " + COMMAND_WORD + " " + PREFIX_CLASS + "CLASS "
+            + PREFIX_ATTENDANCE_WEEK + "WEEK [except INDEX...]";
 
     // SHORTENED is used for help command
     public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " INDEX "
         + PREFIX_ATTENDANCE_WEEK + "WEEK"
+        + "\n\t\t" + COMMAND_WORD + " " + PREFIX_CLASS + "CLASS " + PREFIX_ATTENDANCE_WEEK + "WEEK [except INDEX...]"
         + "\n\t\tExample: " + COMMAND_WORD + " 1 " + PREFIX_ATTENDANCE_WEEK + "W26-2025";
 
     public static final String MESSAGE_SUCCESS = "Marked attendance for: %1$s on %2$s.";
@@ -43,7 +45,6 @@ public class MarkCommand extends Command {
 
     private static final Logger LOGGER = Logger.getLogger(MarkCommand.class.getName());
 
-    private final Index index;
     private final WeeklyAttendance week;
 
     /**
@@ -51,25 +52,35 @@ public class MarkCommand extends Command {
      * week.
      */
     public MarkCommand(Index index, WeeklyAttendance week) {
+        this(List.of(index), week);
+    }
+
+    /**
+     * Creates a MarkCommand to mark attendance of the specified persons on specified
+     * week.
+     */
+    public MarkCommand(List<Index> indexes, WeeklyAttendance week) {
+        super(indexes);
         //Based on AddressBookParser and ParserUtil implementation, impossible for null to be passed to commands
         //constructor. No input validation here, only checking invariant.
-        assert index != null : "Index should not be null (guaranteed by parser)";
         assert week != null : "Week should not be null (guaranteed by parser)";
-        this.index = index;
         this.week = week;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToMark = lastShownList.get(index.getZeroBased());
+    protected String executeOn(Model model, Person personToMark) throws CommandException {
+        Person markedPerson = createMarkedPerson(personToMark, week);
+        model.setPerson(personToMark, markedPerson);
+        LOGGER.log(Level.FINE, "Mark success! Marked " + markedPerson.getName() + " on " + week);
+        return String.format(MESSAGE_SUCCESS, markedPerson.getName(), this.week);
+    }
 
+    /**
+     * Returns a copy of {@code personToMark} with attendance marked for {@code week}.
+     *
+     * @throws CommandException if {@code personToMark} is not a student, or cannot be marked for {@code week}.
+     */
+    static Person createMarkedPerson(Person personToMark, WeeklyAttendance week) throws CommandException {
         //Block tutor roles as it does not have attendance history.
         if (personToMark.getRole() == Role.TUTOR) {
             throw new CommandException(String.format(MESSAGE_CANNOT_MARK_FOR_ROLE, Role.TUTOR));
@@ -93,7 +104,7 @@ public class MarkCommand extends Command {
         }
 
         // Create a new Student with updated attendance history
-        Person markedPerson = new Student(
+        return new Student(
                 personToMark.getName(),
                 personToMark.getPhone(),
                 personToMark.getEmail(),
@@ -102,10 +113,6 @@ public class MarkCommand extends Command {
                 personToMark.getJoinDate(),
                 newAttendanceHistory,
                 personToMark.getPaymentHistory());
-
-        model.setPerson(personToMark, markedPerson);
-        LOGGER.log(Level.FINE, "Mark success! Marked " + markedPerson.getName() + " on " + week);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, markedPerson.getName(), this.week));
     }
 
     @Override
@@ -119,14 +126,14 @@ public class MarkCommand extends Command {
         }
 
         MarkCommand otherCommand = (MarkCommand) other;
-        return index.equals(otherCommand.index)
+        return getIndexes().equals(otherCommand.getIndexes())
                 && week.equals(otherCommand.week);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", getIndexes())
                 .add("week", week)
                 .toString();
     }
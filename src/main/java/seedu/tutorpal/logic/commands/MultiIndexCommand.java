@@ -0,0 +1,166 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.core.index.Index;
+import seedu.tutorpal.logic.Messages;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * A command that applies the same change to each person at one or more indexes of the displayed person list.
+ * <p>
+ * All indexes are resolved against the displayed list as it is before any change is made, so earlier changes
+ * (e.g. a deletion, or an update that makes a person stop matching the filter) do not shift later indexes.
+ * With a single index, a failure fails the command as usual. With several indexes, the changes are made in one
+ * model transaction: indexes past the end of the list and persons that cannot be changed are skipped and reported,
+ * and the rest are published together. Indexes past the end of the list are reported together, and at most
+ * {@link #MAX_LISTED_ITEMS} persons are listed as done or skipped, so a large range gives a short result.
+ */
+public abstract class MultiIndexCommand extends Command {
+
+    public static final String MESSAGE_BATCH_SUCCESS = "Done for %1$d of %2$d persons:";
+    public static final String MESSAGE_BATCH_FAILURE = "Nothing was changed, as no person could be updated.";
+    public static final String MESSAGE_BATCH_SKIPPED = "Skipped:";
+    public static final String MESSAGE_BATCH_ITEM_FAILED = "Index %1$d: %2$s";
+    public static final String MESSAGE_BATCH_PAST_END = "%1$d indexes above %2$d: %3$s";
+    public static final String MESSAGE_MORE_ITEMS = "...and %1$d more";
+
+    /** Largest number of persons listed as done, or as skipped, in the result of a command on many persons. */
+    public static final int MAX_LISTED_ITEMS = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(MultiIndexCommand.class);
+
+    private final List<Index> indexes;
+
+    /**
+     * Creates a command that applies to the persons at {@code indexes}, which must not be empty.
+     */
+    protected MultiIndexCommand(List<Index> indexes) {
+        requireNonNull(indexes);
+        assert !indexes.isEmpty() : "At least one index is required (guaranteed by parser)";
+        this.indexes = List.copyOf(indexes);
+    }
+
+    public List<Index> getIndexes() {
+        return indexes;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (indexes.size() == 1) {
+            return new CommandResult(executeOn(model, getTarget(lastShownList, indexes.get(0))));
+        }
+
+        List<Index> inRangeIndexes = new ArrayList<>(indexes.size());
+        List<Index> pastEndIndexes = new ArrayList<>();
+        for (Index index : indexes) {
+            if (index.getZeroBased() < lastShownList.size()) {
+                inRangeIndexes.add(index);
+            } else {
+                pastEndIndexes.add(index);
+            }
+        }
+        List<Person> targets = new ArrayList<>(inRangeIndexes.size());
+        for (Index index : inRangeIndexes) {
+            targets.add(lastShownList.get(index.getZeroBased()));
+        }
+        return executeBatch(model, inRangeIndexes, targets, describePastEnd(pastEndIndexes, lastShownList.size()));
+    }
+
+    /**
+     * Returns the lines of {@code items}, listing at most {@link #MAX_LISTED_ITEMS} of them.
+     */
+    static String joinItems(List<String> items) {
+        if (items.size() <= MAX_LISTED_ITEMS) {
+            return String.join("\n", items);
+        }
+        return String.join("\n", items.subList(0, MAX_LISTED_ITEMS))
+                + "\n" + String.format(MESSAGE_MORE_ITEMS, items.size() - MAX_LISTED_ITEMS);
+    }
+
+    /**
+     * Applies this command to {@code target} and returns the message to show for it.
+     *
+     * @throws CommandException if this command cannot be applied to {@code target}.
+     */
+    protected abstract String executeOn(Model model, Person target) throws CommandException;
+
+    private static Person getTarget(List<Person> lastShownList, Index index) throws CommandException {
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    /**
+     * Returns the line reporting {@code pastEndIndexes}, or null if there are none.
+     * Several of them are reported in one line, as a range like 1-100000 may be given for a short list.
+     */
+    private static String describePastEnd(List<Index> pastEndIndexes, int listSize) {
+        if (pastEndIndexes.isEmpty()) {
+            return null;
+        }
+        if (pastEndIndexes.size() == 1) {
+            return String.format(MESSAGE_BATCH_ITEM_FAILED, pastEndIndexes.get(0).getOneBased(),
+                    Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return String.format(MESSAGE_BATCH_PAST_END, pastEndIndexes.size(), listSize,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    /**
+     * Applies this command to each of {@code targets}, at {@code targetIndexes}, in one transaction.
+     * {@code pastEndFailure} reports the indexes that have no target, or is null if there are none.
+     */
+    private CommandResult executeBatch(Model model, List<Index> targetIndexes, List<Person> targets,
+            String pastEndFailure) throws CommandException {
+        List<String> successes = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+
+        model.beginTransaction();
+        try {
+            for (int i = 0; i < targets.size(); i++) {
+                try {
+                    successes.add(executeOn(model, targets.get(i)));
+                } catch (CommandException e) {
+                    failures.add(String.format(MESSAGE_BATCH_ITEM_FAILED, targetIndexes.get(i).getOneBased(),
+                            e.getMessage()));
+                }
+            }
+        } catch (RuntimeException e) {
+            model.rollback();
+            throw e;
+        }
+
+        logger.fine(getClass().getSimpleName() + " batch: " + successes.size() + " done, "
+                + failures.size() + " skipped, " + (indexes.size() - targets.size()) + " past the end");
+        // Listed last, so that it is not cut off with the persons that are skipped
+        String skipped = joinItems(failures);
+        if (pastEndFailure != null) {
+            skipped = failures.isEmpty() ? pastEndFailure : skipped + "\n" + pastEndFailure;
+        }
+        if (successes.isEmpty()) {
+            model.rollback();
+            throw new CommandException(MESSAGE_BATCH_FAILURE + "\n" + skipped);
+        }
+        model.commit();
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_BATCH_SUCCESS, successes.size(), indexes.size()));
+        feedback.append("\n").append(joinItems(successes));
+        if (!skipped.isEmpty()) {
+            feedback.append("\n").append(MESSAGE_BATCH_SKIPPED).append("\n").append(skipped);
+        }
+        return new CommandResult(feedback.toString());
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.PaymentHistory;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Marks a month, or a range of months, as paid for every person in the displayed person list.
+ * <p>
+ * The updated persons are computed in parallel from the displayed list as it is when the command runs, and then
+ * published together in a single change. A person is skipped, with the reason reported, if none of the months
+ * can be marked as paid for them.
+ */
+public class PayAllCommand extends Command {
+
+    public static final String COMMAND_WORD = PaymentCommand.COMMAND_WORD;
+
+    public static final String ALL_KEYWORD = "all";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks a month, or a range of months, as paid for every person in the displayed list.\n"
+            + "Parameters: " + ALL_KEYWORD + " " + PREFIX_PAYMENT_MONTH + "MM-yyyy[:MM-yyyy]\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_KEYWORD + " " + PREFIX_PAYMENT_MONTH + "01-2025:03-2025";
+
+    public static final String MESSAGE_SUCCESS = "Payment for %1$s has been marked as paid for %2$d of %3$d persons.";
+    public static final String MESSAGE_NO_PERSONS = "There are no persons in the displayed list.";
+    public static final String MESSAGE_NOTHING_TO_PAY = "Nothing was changed, as no person could be marked as paid.";
+    public static final String MESSAGE_ITEM_SKIPPED = "%1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(PayAllCommand.class);
+
+    private final YearMonth fromMonth;
+    private final YearMonth toMonth;
+
+    /**
+     * Creates a PayAllCommand to mark the months from {@code fromMonth} to {@code toMonth} inclusive as paid
+     * for every displayed person.
+     */
+    public PayAllCommand(YearMonth fromMonth, YearMonth toMonth) {
+        requireNonNull(fromMonth);
+        requireNonNull(toMonth);
+        assert !fromMonth.isAfter(toMonth) : "Range must not be empty (guaranteed by parser)";
+        this.fromMonth = fromMonth;
+        this.toMonth = toMonth;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (toMonth.isAfter(CurrentPeriod.getMonth())) {
+            throw new CommandException(PaymentCommand.MESSAGE_FUTURE_MONTH);
+        }
+
+        List<Person> targets = List.copyOf(model.getFilteredPersonList());
+        if (targets.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PERSONS);
+        }
+
+        // Persons are immutable, so the updated persons can be computed independently of each other.
+        List<Outcome> outcomes = targets.parallelStream().map(this::pay).toList();
+
+        Map<Person, Person> paidPersons = new LinkedHashMap<>();
+        List<String> skipped = new ArrayList<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.paidPerson != null) {
+                paidPersons.put(outcome.person, outcome.paidPerson);
+            } else {
+                skipped.add(String.format(MESSAGE_ITEM_SKIPPED, outcome.person.getName(), outcome.skipReason));
+            }
+        }
+
+        if (paidPersons.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_PAY + "\n" + MultiIndexCommand.joinItems(skipped));
+        }
+
+        model.replacePersons(paidPersons);
+        logger.fine("Marked " + getMonthRange() + " as paid for " + paidPersons.size() + " persons, skipped "
+                + skipped.size());
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, getMonthRange(), paidPersons.size(), targets.size()));
+        if (!skipped.isEmpty()) {
+            feedback.append("\n").append(MultiIndexCommand.MESSAGE_BATCH_SKIPPED)
+                    .append("\n").append(MultiIndexCommand.joinItems(skipped));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns the outcome of marking the unpaid months of the range, from the person's join month onwards,
+     * as paid for {@code person}.
+     */
+    private Outcome pay(Person person) {
+        YearMonth joinMonth = person.getJoinDate().toYearMonth();
+        if (toMonth.isBefore(joinMonth)) {
+            return new Outcome(person, null, String.format(PaymentCommand.MESSAGE_MONTH_BEFORE_JOIN, joinMonth));
+        }
+
+        PaymentHistory paymentHistory = person.getPaymentHistory();
+        List<YearMonth> unpaidMonths = new ArrayList<>();
+        YearMonth firstMonth = fromMonth.isBefore(joinMonth) ? joinMonth : fromMonth;
+        for (YearMonth month = firstMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            if (!paymentHistory.isMonthPaid(month)) {
+                unpaidMonths.add(month);
+            }
+        }
+        if (unpaidMonths.isEmpty()) {
+            return new Outcome(person, null, String.format(PaymentCommand.MESSAGE_ALREADY_PAID,
+                    person.getName(), getMonthRange()));
+        }
+
+        try {
+            Person paidPerson = PaymentCommand.createEditedPerson(person,
+                    paymentHistory.markMonthsAsPaid(unpaidMonths));
+            return new Outcome(person, paidPerson, null);
+        } catch (CommandException | IllegalArgumentException e) {
+            return new Outcome(person, null, e.getMessage());
+        }
+    }
+
+    private String getMonthRange() {
+        return fromMonth.equals(toMonth) ? fromMonth.toString() : fromMonth + " to " + toMonth;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PayAllCommand)) {
+            return false;
+        }
+
+        PayAllCommand otherCommand = (PayAllCommand) other;
+        return fromMonth.equals(otherCommand.fromMonth)
+                && toMonth.equals(otherCommand.toMonth);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fromMonth", fromMonth)
+                .add("toMonth", toMonth)
+                .toString();
+    }
+
+    /**
+     * The result of paying for one person: either the updated person, or the reason the person was skipped.
+     */
+    private static class Outcome {
+        private final Person person;
+        private final Person paidPerson;
+        private final String skipReason;
+
+        Outcome(Person person, Person paidPerson, String skipReason) {
+            this.person = person;
+            this.paidPerson = paidPerson;
+            this.skipReason = skipReason;
+        }
+    }
+}
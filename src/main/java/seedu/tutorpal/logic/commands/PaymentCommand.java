@@ -8,9 +8,9 @@ import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.PaymentHistory;
 import seedu.tutorpal.model.person.Person;
 import seedu.tutorpal.model.person.Role;
@@ -22,18 +22,20 @@ import seedu.tutorpal.model.person.Tutor;
  * Applies to both students and tutors. The month must be on or after the person's join date
  * and cannot be in the future.
  */
-public class PaymentCommand extends Command {
+public class PaymentCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "pay";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Marks a specific month's payment as paid for the person identified by the index number.\n"
-            + "Parameters: INDEX (must be a positive integer) m/MM-yyyy\n"
-            + "Example: " + COMMAND_WORD + " 1 m/01-2024";
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35) m/MM-yyyy\n"
+            + "Example: " + COMMAND_WORD + " 1 m/01-2024\n"
+            + "To pay for everyone in the displayed list: " + COMMAND_WORD + " all m/MM-yyyy[:MM-yyyy]";
 
     // SHORTENED is used for help command
     public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD
         + " INDEX " + PREFIX_JOIN_DATE + "MM-yyyy\n"
+        + "\t\t" + COMMAND_WORD + " all m/MM-yyyy[:MM-yyyy]\n"
         + "\t\tExample: " + COMMAND_WORD + " 1 m/01-2024";
 
     public static final String MESSAGE_SUCCESS = "Payment for %1$s for %2$s has been marked as paid.";
@@ -45,7 +47,6 @@ public class PaymentCommand extends Command {
 
     private static final Logger logger = Logger.getLogger(PaymentCommand.class.getName());
 
-    private final Index index;
     private final YearMonth month;
 
     /**
@@ -56,18 +57,25 @@ public class PaymentCommand extends Command {
      * @param month the month to mark as paid (format: MM-yyyy)
      */
     public PaymentCommand(Index index, YearMonth month) {
-        assert index != null : "Index cannot be null";
+        this(List.of(index), month);
+    }
+
+    /**
+     * Creates a PaymentCommand to mark the specified month's payment as paid
+     * for the persons at the given indexes.
+     *
+     * @param indexes the indexes of the persons in the filtered list
+     * @param month the month to mark as paid (format: MM-yyyy)
+     */
+    public PaymentCommand(List<Index> indexes, YearMonth month) {
+        super(indexes);
         assert month != null : "Month cannot be null";
-        this.index = index;
         this.month = month;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        assert model != null : "Model cannot be null";
-        logger.info("Executing PaymentCommand for person at index: " + index + ", month: " + month);
-
-        Person personToEdit = getPersonFromModel(model);
+    protected String executeOn(Model model, Person personToEdit) throws CommandException {
+        logger.info("Executing PaymentCommand for " + personToEdit.getName() + ", month: " + month);
         logger.info("Person to edit: " + personToEdit.getName() + " (Role: " + personToEdit.getRole() + ")");
         validateMonthConstraints(personToEdit, month);
         ensureNotAlreadyPaid(personToEdit, month);
@@ -78,24 +86,7 @@ public class PaymentCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         String resultMessage = String.format(MESSAGE_SUCCESS, editedPerson.getName(), month);
         logger.info("Payment marked as paid: " + resultMessage);
-        return new CommandResult(resultMessage);
-    }
-
-    /**
-     * Retrieves the person from the model based on the index.
-     *
-     * @param model the model containing the person list
-     * @return the person at the specified index
-     * @throws CommandException if the index is invalid
-     */
-    private Person getPersonFromModel(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        return lastShownList.get(index.getZeroBased());
+        return resultMessage;
     }
 
     /**
@@ -114,12 +105,12 @@ public class PaymentCommand extends Command {
             throw new CommandException(String.format(MESSAGE_MONTH_BEFORE_JOIN, joinMonth));
         }
 
-        if (month.isAfter(YearMonth.now())) {
+        if (month.isAfter(CurrentPeriod.getMonth())) {
             logger.warning("Invalid payment month: " + month + " is in the future");
             throw new CommandException(MESSAGE_FUTURE_MONTH);
         }
         assert month.compareTo(joinMonth) >= 0 : "Month must be >= join month after validation";
-        assert month.compareTo(YearMonth.now()) <= 0 : "Month must be <= current month after validation";
+        assert month.compareTo(CurrentPeriod.getMonth()) <= 0 : "Month must be <= current month after validation";
     }
 
     /**
@@ -145,7 +136,7 @@ public class PaymentCommand extends Command {
      * @return the edited person
      * @throws CommandException if person creation fails
      */
-    private Person createEditedPerson(Person person, PaymentHistory updatedPaymentHistory)
+    static Person createEditedPerson(Person person, PaymentHistory updatedPaymentHistory)
             throws CommandException {
         try {
             if (person.getRole() == Role.STUDENT) {
@@ -165,7 +156,7 @@ public class PaymentCommand extends Command {
      * @param updatedPaymentHistory the updated payment history
      * @return the edited student with all attributes preserved
      */
-    private Student createEditedStudent(Student student, PaymentHistory updatedPaymentHistory) {
+    private static Student createEditedStudent(Student student, PaymentHistory updatedPaymentHistory) {
         Student editedStudent = new Student(
                 student.getName(),
                 student.getPhone(),
@@ -187,7 +178,7 @@ public class PaymentCommand extends Command {
      * @param updatedPaymentHistory the updated payment history
      * @return the edited tutor with all attributes preserved
      */
-    private Person createEditedTutor(Person tutor, PaymentHistory updatedPaymentHistory) {
+    private static Person createEditedTutor(Person tutor, PaymentHistory updatedPaymentHistory) {
         Tutor editedTutor = new Tutor(
                 tutor.getName(),
                 tutor.getPhone(),
@@ -212,14 +203,14 @@ public class PaymentCommand extends Command {
         }
 
         PaymentCommand otherCommand = (PaymentCommand) other;
-        return index.equals(otherCommand.index)
+        return getIndexes().equals(otherCommand.getIndexes())
                 && month.equals(otherCommand.month);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", getIndexes())
                 .add("month", month)
                 .toString();
     }
@@ -0,0 +1,36 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+
+/**
+ * Reapplies the change most recently undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reapplies the change most recently undone\n"
+        + "Parameters: -\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redid the previously undone change.";
+
+    public static final String MESSAGE_FAILURE = "There is no change to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+
+/**
+ * Runs the commands of a script file, one command per line, as a single change to the address book.
+ * <p>
+ * The script is read when the command is executed, so it runs as the file is at that time, and its lines are parsed
+ * before any of them runs. They then run in order inside one model transaction, so later lines
+ * see the changes (and the displayed list) left by earlier ones. Lines that cannot be parsed or run are skipped and
+ * reported by line number, and the changes of the other lines are published, saved and undone together.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one command per line. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are ignored.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/term-start.txt";
+
+    // SHORTENED is used for help command
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " FILE"
+            + "\n\t\tExample: " + COMMAND_WORD + " data/term-start.txt";
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d of %2$d commands from %3$s.";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands in %1$s.";
+    public static final String MESSAGE_NOTHING_RUN = "Nothing was changed, as no command in the script succeeded.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final LineParser lineParser;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}, parsing its command lines with {@code lineParser}.
+     */
+    public RunCommand(Path scriptPath, LineParser lineParser) {
+        requireNonNull(scriptPath);
+        requireNonNull(lineParser);
+        this.scriptPath = scriptPath;
+        this.lineParser = lineParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ScriptLine> lines = readScript();
+        if (lines.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_COMMANDS, scriptPath));
+        }
+
+        int successCount = 0;
+        List<String> failures = new ArrayList<>();
+
+        model.beginTransaction();
+        try {
+            for (ScriptLine line : lines) {
+                if (line.getError() != null) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, line.getLineNumber(), line.getError()));
+                    continue;
+                }
+                try {
+                    line.getCommand().execute(model);
+                    successCount++;
+                } catch (CommandException e) {
+                    failures.add(String.format(MESSAGE_LINE_FAILED, line.getLineNumber(), e.getMessage()));
+                }
+            }
+        } catch (RuntimeException e) {
+            model.rollback();
+            throw e;
+        }
+
+        logger.info("Ran script " + scriptPath + ": " + successCount + " done, " + failures.size() + " failed");
+        if (successCount == 0) {
+            model.rollback();
+            throw new CommandException(MESSAGE_NOTHING_RUN + "\n" + MultiIndexCommand.joinItems(failures));
+        }
+        model.commit();
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, successCount, lines.size(), scriptPath));
+        if (!failures.isEmpty()) {
+            feedback.append("\n").append(MultiIndexCommand.MESSAGE_BATCH_SKIPPED)
+                    .append("\n").append(MultiIndexCommand.joinItems(failures));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Reads the script and parses its command lines.
+     * Parsing does not depend on the model, so the lines are parsed in parallel.
+     */
+    private List<ScriptLine> readScript() throws CommandException {
+        List<String> rawLines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rawLines.add(line);
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptPath, e.getMessage()), e);
+        }
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < rawLines.size(); i++) {
+            String line = rawLines.get(i).trim();
+            if (!line.isEmpty() && !line.startsWith(COMMENT_MARKER)) {
+                lineNumbers.add(i + 1);
+            }
+        }
+        List<ScriptLine> scriptLines = lineNumbers.parallelStream()
+                .map(lineNumber -> lineParser.parse(lineNumber, rawLines.get(lineNumber - 1)))
+                .toList();
+
+        logger.info("Parsed " + scriptLines.size() + " command lines from " + scriptPath);
+        return scriptLines;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherCommand = (RunCommand) other;
+        return scriptPath.equals(otherCommand.scriptPath)
+                && lineParser.equals(otherCommand.lineParser);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .toString();
+    }
+
+    /**
+     * Parses a command line of a script. It may be called for several lines at once.
+     */
+    @FunctionalInterface
+    public interface LineParser {
+        /**
+         * Returns the script line at {@code lineNumber}, parsed from {@code line}.
+         */
+        ScriptLine parse(int lineNumber, String line);
+    }
+
+    /**
+     * A command line of a script, with either its parsed command or the reason it could not be parsed.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+        private final String error;
+
+        private ScriptLine(int lineNumber, Command command, String error) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+            this.error = error;
+        }
+
+        /**
+         * Returns a script line at {@code lineNumber} that runs {@code command}.
+         */
+        public static ScriptLine parsed(int lineNumber, Command command) {
+            requireNonNull(command);
+            return new ScriptLine(lineNumber, command, null);
+        }
+
+        /**
+         * Returns a script line at {@code lineNumber} that could not be parsed because of {@code error}.
+         */
+        public static ScriptLine failed(int lineNumber, String error) {
+            requireNonNull(error);
+            return new ScriptLine(lineNumber, null, error);
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the parsed command, or null if the line could not be parsed.
+         */
+        public Command getCommand() {
+            return command;
+        }
+
+        /**
+         * Returns the reason the line could not be parsed, or null if it was parsed.
+         */
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherLine = (ScriptLine) other;
+            return lineNumber == otherLine.lineNumber
+                    && Objects.equals(command, otherLine.command)
+                    && Objects.equals(error, otherLine.error);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, command, error);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("command", command)
+                    .add("error", error)
+                    .toString();
+        }
+    }
+}
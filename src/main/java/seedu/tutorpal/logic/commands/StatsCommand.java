@@ -0,0 +1,71 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.PersonStatistics;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Role;
+
+/**
+ * Shows the number of persons by role, payment status, level and class, and the attendance of the latest weeks.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of students and tutors by "
+        + "payment status, level and class, and the attendance of the latest weeks\n"
+        + "Parameters: -\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD;
+
+    public static final String MESSAGE_PERSONS = "%1$d persons (%2$d students, %3$d tutors)";
+    public static final String MESSAGE_PAYMENT_STATUSES = "Payment status: %1$s";
+    public static final String MESSAGE_ATTENDANCE = "Attendance (students present / joined):";
+    public static final String MESSAGE_ATTENDANCE_WEEK = "  %1$s: %2$d/%3$d";
+    public static final String MESSAGE_LEVELS = "By level:";
+    public static final String MESSAGE_CLASSES = "By class:";
+    public static final String MESSAGE_ROLE_COUNTS = "  %1$s: %2$d students, %3$d tutors";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PersonStatistics statistics = model.getPersonStatistics();
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_PERSONS, statistics.getPersonCount(), statistics.getCount(Role.STUDENT),
+                statistics.getCount(Role.TUTOR)));
+
+        List<String> paymentCounts = new ArrayList<>();
+        for (String paymentStatus : PersonStatistics.getPaymentStatuses()) {
+            paymentCounts.add(statistics.getPaymentStatusCount(paymentStatus) + " " + paymentStatus);
+        }
+        lines.add(String.format(MESSAGE_PAYMENT_STATUSES, String.join(", ", paymentCounts)));
+
+        lines.add(MESSAGE_ATTENDANCE);
+        for (int weeksAgo = 0; weeksAgo < PersonStatistics.ATTENDANCE_WEEKS; weeksAgo++) {
+            lines.add(String.format(MESSAGE_ATTENDANCE_WEEK, statistics.getAttendanceWeek(weeksAgo),
+                    statistics.getAttendedCount(weeksAgo), statistics.getEnrolledCount(weeksAgo)));
+        }
+
+        if (!statistics.getLevels().isEmpty()) {
+            lines.add(MESSAGE_LEVELS);
+            for (String level : statistics.getLevels()) {
+                lines.add(String.format(MESSAGE_ROLE_COUNTS, level, statistics.getLevelCount(level, Role.STUDENT),
+                        statistics.getLevelCount(level, Role.TUTOR)));
+            }
+            lines.add(MESSAGE_CLASSES);
+            for (Class personClass : statistics.getClasses()) {
+                lines.add(String.format(MESSAGE_ROLE_COUNTS, personClass,
+                        statistics.getClassCount(personClass, Role.STUDENT),
+                        statistics.getClassCount(personClass, Role.TUTOR)));
+            }
+        }
+        return new CommandResult(String.join("\n", lines));
+    }
+}
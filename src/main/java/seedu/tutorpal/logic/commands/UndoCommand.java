@@ -0,0 +1,36 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+
+/**
+ * Reverts the previous change to TutorPal.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reverts the previous change to TutorPal\n"
+        + "Parameters: -\n"
+        + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undid the previous change.";
+
+    public static final String MESSAGE_FAILURE = "There is no change to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.tutorpal.logic.commands;
 
-import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
 
 import java.util.List;
@@ -9,7 +8,6 @@ import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.person.AttendanceHistory;
@@ -22,13 +20,13 @@ import seedu.tutorpal.model.person.exceptions.InvalidRangeException;
 /**
  * Unmarks the attendance of a student for a specified week.
  */
-public class UnmarkCommand extends Command {
+public class UnmarkCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "unmark";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Unmarks the attendance of the student for the specified week.\n"
-            + "Parameters: INDEX "
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35) "
             + PREFIX_ATTENDANCE_WEEK + "WEEK\n"
             + "Example: " + COMMAND_WORD + " 2 " + PREFIX_ATTENDANCE_WEEK + "W26-2025";
 
@@ -42,31 +40,28 @@ public class UnmarkCommand extends Command {
 
     private static final Logger LOGGER = Logger.getLogger(MarkCommand.class.getName());
 
-    private final Index index;
     private final WeeklyAttendance week;
 
     /**
      * Creates an Unmark Command to be executed later.
      */
     public UnmarkCommand(Index index, WeeklyAttendance week) {
+        this(List.of(index), week);
+    }
+
+    /**
+     * Creates an Unmark Command for several persons to be executed later.
+     */
+    public UnmarkCommand(List<Index> indexes, WeeklyAttendance week) {
+        super(indexes);
         //Based on AddressBookParser and ParserUtil implementation, impossible for null to be passed to commands
         //constructor. No input validation here, only checking invariant.
-        assert index != null : "Index should not be null (guaranteed by parser)";
         assert week != null : "Week should not be null (guaranteed by parser)";
-        this.index = index;
         this.week = week;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToUnmark = lastShownList.get(index.getZeroBased());
+    protected String executeOn(Model model, Person personToUnmark) throws CommandException {
 
         if (personToUnmark.getRole() == Role.TUTOR) {
             throw new CommandException(String.format(MESSAGE_CANNOT_UNMARK_FOR_ROLE, Role.TUTOR));
@@ -102,7 +97,7 @@ public class UnmarkCommand extends Command {
 
         model.setPerson(personToUnmark, unmarkedPerson);
         LOGGER.log(Level.FINE, "Unmark success! Unmarked " + unmarkedPerson.getName() + " on " + week);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, unmarkedPerson.getName(), week));
+        return String.format(MESSAGE_SUCCESS, unmarkedPerson.getName(), week);
     }
 
     @Override
@@ -114,13 +109,13 @@ public class UnmarkCommand extends Command {
             return false;
         }
         UnmarkCommand o = (UnmarkCommand) other;
-        return index.equals(o.index) && week.equals(o.week);
+        return getIndexes().equals(o.getIndexes()) && week.equals(o.week);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", getIndexes())
                 .add("week", week)
                 .toString();
     }
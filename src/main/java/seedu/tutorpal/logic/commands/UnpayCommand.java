@@ -8,9 +8,9 @@ import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.commons.util.ToStringBuilder;
-import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.PaymentHistory;
 import seedu.tutorpal.model.person.Person;
 import seedu.tutorpal.model.person.Role;
@@ -22,13 +22,13 @@ import seedu.tutorpal.model.person.Tutor;
  * Applies to both students and tutors. The month must be on or after the person's join date
  * and cannot be in the future.
  */
-public class UnpayCommand extends Command {
+public class UnpayCommand extends MultiIndexCommand {
 
     public static final String COMMAND_WORD = "unpay";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Marks a specific month's payment as unpaid for the person identified by the index number.\n"
-            + "Parameters: INDEX (must be a positive integer) m/MM-yyyy\n"
+            + "Parameters: INDEX (one or more indexes or index ranges, e.g. 1-30,35) m/MM-yyyy\n"
             + "Example: " + COMMAND_WORD + " 1 m/01-2024";
 
     // SHORTENED is used for help command
@@ -45,7 +45,6 @@ public class UnpayCommand extends Command {
 
     private static final Logger logger = Logger.getLogger(UnpayCommand.class.getName());
 
-    private final Index index;
     private final YearMonth month;
 
     /**
@@ -56,18 +55,25 @@ public class UnpayCommand extends Command {
      * @param month the month to mark as unpaid (format: MM-yyyy)
      */
     public UnpayCommand(Index index, YearMonth month) {
-        assert index != null : "Index cannot be null";
+        this(List.of(index), month);
+    }
+
+    /**
+     * Creates an UnpayCommand to mark the specified month's payment as unpaid
+     * for the persons at the given indexes.
+     *
+     * @param indexes the indexes of the persons in the filtered list
+     * @param month the month to mark as unpaid (format: MM-yyyy)
+     */
+    public UnpayCommand(List<Index> indexes, YearMonth month) {
+        super(indexes);
         assert month != null : "Month cannot be null";
-        this.index = index;
         this.month = month;
     }
 
     @Override
-    public CommandResult execute(Model model) throws CommandException {
-        assert model != null : "Model cannot be null";
-        logger.info("Executing UnpayCommand for person at index: " + index + ", month: " + month);
-
-        Person personToEdit = getPersonFromModel(model);
+    protected String executeOn(Model model, Person personToEdit) throws CommandException {
+        logger.info("Executing UnpayCommand for " + personToEdit.getName() + ", month: " + month);
         logger.info("Person to edit: " + personToEdit.getName() + " (Role: " + personToEdit.getRole() + ")");
 
         validateMonthConstraints(personToEdit, month);
@@ -79,24 +85,7 @@ public class UnpayCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         String resultMessage = String.format(MESSAGE_SUCCESS, editedPerson.getName(), month);
         logger.info("Payment marked as unpaid: " + resultMessage);
-        return new CommandResult(resultMessage);
-    }
-
-    /**
-     * Retrieves the person from the model based on the index.
-     *
-     * @param model the model containing the person list
-     * @return the person at the specified index
-     * @throws CommandException if the index is invalid
-     */
-    private Person getPersonFromModel(Model model) throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        return lastShownList.get(index.getZeroBased());
+        return resultMessage;
     }
 
     /**
@@ -115,12 +104,12 @@ public class UnpayCommand extends Command {
             throw new CommandException(String.format(MESSAGE_MONTH_BEFORE_JOIN, joinMonth));
         }
 
-        if (month.isAfter(YearMonth.now())) {
+        if (month.isAfter(CurrentPeriod.getMonth())) {
             logger.warning("Invalid payment month: " + month + " is in the future");
             throw new CommandException(MESSAGE_FUTURE_MONTH);
         }
         assert month.compareTo(joinMonth) >= 0 : "Month must be >= join month after validation";
-        assert month.compareTo(YearMonth.now()) <= 0 : "Month must be <= current month after validation";
+        assert month.compareTo(CurrentPeriod.getMonth()) <= 0 : "Month must be <= current month after validation";
     }
 
     /**
@@ -214,14 +203,14 @@ public class UnpayCommand extends Command {
         }
 
         UnpayCommand otherUnpayCommand = (UnpayCommand) other;
-        return index.equals(otherUnpayCommand.index)
+        return getIndexes().equals(otherUnpayCommand.getIndexes())
                 && month.equals(otherUnpayCommand.month);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indexes", getIndexes())
                 .add("month", month)
                 .toString();
     }
@@ -0,0 +1,58 @@
+package seedu.tutorpal.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.CommandResult.PersonView;
+import seedu.tutorpal.model.Model;
+
+/**
+ * Switches the person list between cards and a sortable table.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the person list as cards, or as a table "
+            + "that can be sorted by clicking its column headers.\n"
+            + "Parameters: cards|table\n"
+            + "Example: " + COMMAND_WORD + " table";
+
+    public static final String MESSAGE_USAGE_SHORTENED = COMMAND_WORD + ":\t\t" + COMMAND_WORD + " cards|table"
+            + "\n\t\tExample: " + COMMAND_WORD + " table";
+
+    public static final String MESSAGE_SUCCESS = "Showing the person list as %1$s.";
+
+    private final PersonView personView;
+
+    public ViewCommand(PersonView personView) {
+        this.personView = requireNonNull(personView);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(String.format(MESSAGE_SUCCESS, personView.toString().toLowerCase()), personView);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ViewCommand)) {
+            return false;
+        }
+
+        ViewCommand otherViewCommand = (ViewCommand) other;
+        return personView == otherViewCommand.personView;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personView", personView)
+                .toString();
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.tutorpal.logic.livefilter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.PersistentList;
+import seedu.tutorpal.model.AddressBookSnapshot;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Narrows the displayed person list to the persons matching a partly typed {@code find} or {@code list} command,
+ * while it is being typed.
+ * <p>
+ * The matching persons are found in the background, from an immutable snapshot of the address book, and only then
+ * shown. When the new query {@link LiveQuery#refines(LiveQuery) refines} the one shown and the address book has not
+ * changed since, only the persons shown are tested. A newer preview makes all earlier ones stale: a stale preview
+ * stops testing persons, and is never shown. Ending the preview restores the filter that was in place before it.
+ * <p>
+ * Apart from the background search, all methods must be called from the thread that owns the model.
+ */
+public class LiveFilter {
+
+    private static final int PERSONS_PER_CANCELLATION_CHECK = 1024;
+
+    private static final ExecutorService FILTER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Logger logger = LogsCenter.getLogger(LiveFilter.class);
+
+    private final Model model;
+    private final Executor searchExecutor;
+    private final AtomicLong latestRequest = new AtomicLong();
+
+    // The filter in place before the preview started, or null if no preview is shown
+    private Predicate<Person> originalPredicate;
+    // The query shown, the persons it matched, and the persons they were found among
+    private LiveQuery shownQuery;
+    private List<Person> shownMatches;
+    private PersistentList<Person> shownSource;
+
+    /**
+     * Creates a live filter of the displayed list of {@code model}.
+     */
+    public LiveFilter(Model model) {
+        this(model, FILTER_EXECUTOR);
+    }
+
+    /**
+     * Creates a live filter that searches for matching persons on {@code searchExecutor}.
+     */
+    LiveFilter(Model model, Executor searchExecutor) {
+        requireNonNull(model);
+        requireNonNull(searchExecutor);
+        this.model = model;
+        this.searchExecutor = searchExecutor;
+    }
+
+    /**
+     * Shows the persons matching {@code commandText} in the displayed list, once they have been found, or ends the
+     * preview if {@code commandText} is not a {@code find} or {@code list} command that can be previewed.
+     *
+     * @param modelExecutor runs tasks on the thread that owns the model, where the matches are shown.
+     * @return a future that completes once the matches are shown, or fails with a {@code CancellationException}
+     *     if a newer preview was asked for first.
+     */
+    public CompletableFuture<Void> preview(String commandText, Executor modelExecutor) {
+        requireNonNull(commandText);
+        requireNonNull(modelExecutor);
+        long request = latestRequest.incrementAndGet();
+        Optional<LiveQuery> parsedQuery = LiveQuery.parse(commandText);
+        if (parsedQuery.isEmpty()) {
+            endPreview();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        LiveQuery query = parsedQuery.get();
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        boolean isRefinement = shownQuery != null && shownSource == snapshot.getPersons() && query.refines(shownQuery);
+        List<Person> candidates = isRefinement ? shownMatches : snapshot.getPersons().asList();
+        BooleanSupplier isStale = () -> latestRequest.get() != request;
+
+        return CompletableFuture.supplyAsync(() -> findMatches(query, candidates, snapshot, isStale), searchExecutor)
+                .thenAcceptAsync(matches -> {
+                    if (isStale.getAsBoolean()) {
+                        throw new CancellationException();
+                    }
+                    show(query, matches, snapshot.getPersons());
+                    logger.fine("Live filter showing " + matches.size() + " of " + candidates.size()
+                            + (isRefinement ? " previously shown" : "") + " persons for " + query);
+                }, modelExecutor);
+    }
+
+    /**
+     * Ends the preview, if any, and restores the filter that was in place before it.
+     * A preview that is still being found is cancelled.
+     */
+    public void endPreview() {
+        latestRequest.incrementAndGet();
+        if (originalPredicate != null) {
+            model.updateFilteredPersonList(originalPredicate);
+        }
+        forget();
+    }
+
+    /**
+     * Cancels a preview that is still being found, but keeps the one shown.
+     * Called before a command is executed, so that a late preview cannot replace what the command shows.
+     */
+    public void cancelPending() {
+        latestRequest.incrementAndGet();
+    }
+
+    /**
+     * Keeps what is displayed as it is, without restoring the filter from before the preview.
+     * Called after a command has been executed, as the command has set the filter it wants.
+     */
+    public void forget() {
+        originalPredicate = null;
+        shownQuery = null;
+        shownMatches = null;
+        shownSource = null;
+    }
+
+    public boolean isPreviewing() {
+        return originalPredicate != null;
+    }
+
+    private static List<Person> findMatches(LiveQuery query, List<Person> candidates, AddressBookSnapshot snapshot,
+            BooleanSupplier isStale) {
+        Predicate<Person> predicate = query.toPredicate(snapshot.getPersonList());
+        List<Person> matches = new ArrayList<>();
+        int tested = 0;
+        for (Person person : candidates) {
+            if (++tested % PERSONS_PER_CANCELLATION_CHECK == 0 && isStale.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    private void show(LiveQuery query, List<Person> matches, PersistentList<Person> source) {
+        if (originalPredicate == null) {
+            originalPredicate = model.getFilteredPersonListPredicate();
+        }
+        // Matched by identity key, so that persons a command replaces while the preview is shown stay listed
+        Set<List<Object>> matchKeys = matches.stream().map(Person::getIdentityKey).collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> matchKeys.contains(person.getIdentityKey()));
+        shownQuery = query;
+        shownMatches = matches;
+        shownSource = source;
+    }
+}
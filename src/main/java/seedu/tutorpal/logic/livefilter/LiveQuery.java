@@ -0,0 +1,208 @@
+package seedu.tutorpal.logic.livefilter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_TO;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_MONTHS_OVERDUE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_RANK_BY;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TUTOR;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.FindCommand;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.parser.ArgumentMultimap;
+import seedu.tutorpal.logic.parser.ArgumentTokenizer;
+import seedu.tutorpal.logic.parser.FuzzyFindCommandParser;
+import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.Payment;
+import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
+
+/**
+ * The filter of a partly typed {@code find} or {@code list} command, as a set of clauses that are AND-ed together.
+ * Each clause matches a person if any of its terms does.
+ * <p>
+ * Clauses match as the finished command would, except that {@code find} keywords match the start of a name word,
+ * so the list narrows with every letter typed. Values that are not complete yet (an empty value, or a payment
+ * status that is not valid) are left out, and so are the join date and months overdue filters of {@code list}, which
+ * are applied when the command is executed.
+ */
+public class LiveQuery {
+
+    /**
+     * The kinds of clause, each of which matches persons by one field.
+     */
+    enum Kind {
+        /** A word of the name starts with the term. */
+        NAME_PREFIX,
+        /** A class contains the term. */
+        CLASS,
+        /** The person is a student of a tutor whose name contains the term. */
+        TUTOR,
+        /** The payment status is the term. */
+        PAYMENT_STATUS
+    }
+
+    private final Map<Kind, List<String>> clauses;
+
+    private LiveQuery(Map<Kind, List<String>> clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Returns the filter of {@code commandText}, or an empty {@code Optional} if {@code commandText} is not a
+     * {@code find} command with at least one keyword, or a {@code list} command that can be parsed so far.
+     * A fuzzy {@code find} is not previewed, as its keywords also match names spelt differently.
+     */
+    public static Optional<LiveQuery> parse(String commandText) {
+        requireNonNull(commandText);
+        String[] parts = commandText.strip().split("\\s+", 2);
+        String args = parts.length > 1 ? " " + parts[1] : "";
+        Map<Kind, List<String>> clauses = new EnumMap<>(Kind.class);
+
+        if (parts[0].equals(FindCommand.COMMAND_WORD)) {
+            if (args.isBlank() || FuzzyFindCommandParser.isFuzzy(args)) {
+                return Optional.empty();
+            }
+            clauses.put(Kind.NAME_PREFIX, List.of(args.strip().toLowerCase().split("\\s+")));
+            return Optional.of(new LiveQuery(clauses));
+        }
+
+        if (!parts[0].equals(ListCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        // The other filters are tokenized too, so that their values are not taken as part of the previous value
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_TUTOR,
+                PREFIX_PAYMENT_STATUS, PREFIX_JOINED_FROM, PREFIX_JOINED_TO, PREFIX_MONTHS_OVERDUE, PREFIX_TOP,
+                PREFIX_RANK_BY);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            return Optional.empty();
+        }
+        putClause(clauses, Kind.CLASS, argMultimap.getAllValues(PREFIX_CLASS));
+        putClause(clauses, Kind.TUTOR, argMultimap.getAllValues(PREFIX_TUTOR));
+        List<String> statuses = new ArrayList<>(argMultimap.getAllValues(PREFIX_PAYMENT_STATUS));
+        statuses.removeIf(status -> !Payment.isValidPayment(status.trim()));
+        putClause(clauses, Kind.PAYMENT_STATUS, statuses);
+        return Optional.of(new LiveQuery(clauses));
+    }
+
+    private static void putClause(Map<Kind, List<String>> clauses, Kind kind, List<String> values) {
+        List<String> terms = new ArrayList<>();
+        for (String value : values) {
+            if (!value.isBlank()) {
+                terms.add(value.trim().toLowerCase());
+            }
+        }
+        if (!terms.isEmpty()) {
+            clauses.put(kind, List.copyOf(terms));
+        }
+    }
+
+    /**
+     * Returns true if every person matching this query also matches {@code other}, judging by the terms alone,
+     * so that this query can be applied to the results of {@code other} instead of to every person.
+     * <p>
+     * That holds if, for every clause of {@code other}, this query has a clause of the same kind whose every term
+     * matches only persons that some term of the clause of {@code other} matches: for example, {@code find alex}
+     * refines {@code find al}, and {@code list c/s4 ps/paid} refines {@code list c/s4}.
+     */
+    public boolean refines(LiveQuery other) {
+        requireNonNull(other);
+        for (Map.Entry<Kind, List<String>> otherClause : other.clauses.entrySet()) {
+            List<String> terms = clauses.get(otherClause.getKey());
+            if (terms == null) {
+                return false;
+            }
+            for (String term : terms) {
+                if (otherClause.getValue().stream().noneMatch(otherTerm ->
+                        isNarrowerTerm(otherClause.getKey(), term, otherTerm))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code term} matches only persons that {@code otherTerm} also matches.
+     */
+    private static boolean isNarrowerTerm(Kind kind, String term, String otherTerm) {
+        switch (kind) {
+        case NAME_PREFIX:
+            return term.startsWith(otherTerm);
+        case CLASS:
+        case TUTOR:
+            // A longer tutor name matches fewer tutors, and so fewer classes and students
+            return term.contains(otherTerm);
+        default:
+            return term.equals(otherTerm);
+        }
+    }
+
+    /**
+     * Returns the predicate for this query. Tutor terms are resolved to classes using the tutors in
+     * {@code allPersons}, as {@code list t/} does.
+     */
+    public Predicate<Person> toPredicate(List<Person> allPersons) {
+        requireNonNull(allPersons);
+        Predicate<Person> predicate = person -> true;
+        for (Map.Entry<Kind, List<String>> clause : clauses.entrySet()) {
+            predicate = predicate.and(toPredicate(clause.getKey(), clause.getValue(), allPersons));
+        }
+        return predicate;
+    }
+
+    private static Predicate<Person> toPredicate(Kind kind, List<String> terms, List<Person> allPersons) {
+        switch (kind) {
+        case NAME_PREFIX:
+            return person -> person.getName().getWords().stream()
+                    .anyMatch(word -> terms.stream().anyMatch(word.toLowerCase()::startsWith));
+        case CLASS:
+            return new ClassContainsKeywordsPredicate(terms);
+        case TUTOR:
+            StudentBelongsToTutorPredicate tutorPredicate = new StudentBelongsToTutorPredicate(terms);
+            tutorPredicate.setTutorClassKeywords(tutorPredicate.findTutorClasses(allPersons));
+            return tutorPredicate;
+        default:
+            return new PaymentStatusMatchesPredicate(terms);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LiveQuery)) {
+            return false;
+        }
+
+        LiveQuery otherLiveQuery = (LiveQuery) other;
+        return clauses.equals(otherLiveQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("clauses", clauses)
+                .toString();
+    }
+}
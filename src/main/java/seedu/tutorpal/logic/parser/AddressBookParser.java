@@ -8,25 +8,12 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.tutorpal.commons.core.LogsCenter;
-import seedu.tutorpal.logic.commands.AddCommand;
-import seedu.tutorpal.logic.commands.ClearCommand;
 import seedu.tutorpal.logic.commands.Command;
-import seedu.tutorpal.logic.commands.DeleteCommand;
-import seedu.tutorpal.logic.commands.DelpayCommand;
-import seedu.tutorpal.logic.commands.DisplayCommand;
-import seedu.tutorpal.logic.commands.EditCommand;
-import seedu.tutorpal.logic.commands.ExitCommand;
-import seedu.tutorpal.logic.commands.FindCommand;
 import seedu.tutorpal.logic.commands.HelpCommand;
-import seedu.tutorpal.logic.commands.ListCommand;
-import seedu.tutorpal.logic.commands.MarkCommand;
-import seedu.tutorpal.logic.commands.PaymentCommand;
-import seedu.tutorpal.logic.commands.UnmarkCommand;
-import seedu.tutorpal.logic.commands.UnpayCommand;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 
 /**
- * Parses user input.
+ * Parses user input, using the parser that the {@link CommandRegistry} holds for the command word.
  */
 public class AddressBookParser {
 
@@ -57,54 +44,12 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DisplayCommand.COMMAND_WORD:
-            return new DisplayCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommandParser().parse(arguments);
-
-        case PaymentCommand.COMMAND_WORD:
-            return new PaymentCommandParser().parse(arguments);
-
-        case DelpayCommand.COMMAND_WORD:
-            return new DelpayCommandParser().parse(arguments);
-
-        case UnpayCommand.COMMAND_WORD:
-            return new UnpayCommandParser().parse(arguments);
-
-        case MarkCommand.COMMAND_WORD:
-            return new MarkCommandParser().parse(arguments);
-
-        case UnmarkCommand.COMMAND_WORD:
-            return new UnmarkCommandParser().parse(arguments);
-
-        default:
+        CommandRegistry.Entry entry = CommandRegistry.getInstance().get(commandWord).orElse(null);
+        if (entry == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return entry.getParser().parse(arguments);
     }
 
 }
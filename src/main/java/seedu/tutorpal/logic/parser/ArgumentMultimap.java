@@ -16,11 +16,15 @@ import seedu.tutorpal.logic.parser.exceptions.ParseException;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values added by {@link ArgumentTokenizer} are kept as spans of the arguments string until they are first read.
  */
 public class ArgumentMultimap {
 
+    /** Key of the preamble, the text before the first prefix. */
+    static final Prefix PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +34,24 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(new ArgumentValue(argValue));
+    }
+
+    /**
+     * Associates the trimmed text of {@code source} from {@code start} (inclusive) to {@code end} (exclusive)
+     * with {@code prefix}, without copying it until it is read.
+     */
+    void putSpan(Prefix prefix, String source, int start, int end) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1))
+                .add(new ArgumentValue(source, start, end));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).get());
     }
 
     /**
@@ -49,17 +60,19 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        List<String> strings = new ArrayList<>(values == null ? 0 : values.size());
+        if (values != null) {
+            values.forEach(value -> strings.add(value.get()));
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return strings;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 
     /**
@@ -75,4 +88,44 @@ public class ArgumentMultimap {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    /**
+     * An argument value, either given as a string or as a span of the arguments string that is trimmed and
+     * copied into a string when first read.
+     */
+    private static class ArgumentValue {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        ArgumentValue(String value) {
+            this.source = null;
+            this.start = 0;
+            this.end = 0;
+            this.value = value;
+        }
+
+        ArgumentValue(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        String get() {
+            if (value == null) {
+                int trimmedStart = start;
+                int trimmedEnd = end;
+                // Same whitespace rule as String#trim
+                while (trimmedStart < trimmedEnd && source.charAt(trimmedStart) <= ' ') {
+                    trimmedStart++;
+                }
+                while (trimmedEnd > trimmedStart && source.charAt(trimmedEnd - 1) <= ' ') {
+                    trimmedEnd--;
+                }
+                value = source.substring(trimmedStart, trimmedEnd);
+            }
+            return value;
+        }
+    }
 }
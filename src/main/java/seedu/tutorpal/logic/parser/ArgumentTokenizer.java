@@ -1,9 +1,9 @@
 package seedu.tutorpal.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +12,16 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * The arguments string is scanned once from left to right. After each space, a trie of the given prefixes is
+ * used to recognise any of them at once. Values are recorded as offsets into the arguments string, and
+ * {@link ArgumentMultimap} only creates their strings when they are asked for.
  */
 public class ArgumentTokenizer {
 
+    /** Tries of the sets of prefixes tokenized so far. Each parser uses a fixed set, so this stays small. */
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,124 +31,119 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        scan(argsString, 0, ArgumentMultimap.PREAMBLE, List.of(prefixes), (prefix, start, end) ->
+                argMultimap.putSpan(prefix, argsString, start, end));
+        return argMultimap;
     }
 
     /**
-     * {@see findAllPrefixPositions}
+     * Scans {@code text} from {@code from}, which is where the value of {@code currentPrefix} starts, and passes the
+     * untrimmed span of every value to {@code consumer}, in order.
+     * Scanning from the start of a value gives the same spans from there on as scanning the whole text, so a caller
+     * can scan again from the value that an edit falls in.
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+    static void scan(String text, int from, Prefix currentPrefix, List<Prefix> prefixes, SpanConsumer consumer) {
+        PrefixTrie trie = TRIES.computeIfAbsent(prefixes, PrefixTrie::new);
+
+        int valueStart = from;
+        int i = from;
+        // A prefix is only recognised after a space, so the last character can never start one
+        while (i < text.length() - 1) {
+            if (text.charAt(i) != ' ') {
+                i++;
+                continue;
+            }
+            Prefix prefix = trie.match(text, i + 1);
+            if (prefix == null) {
+                i++;
+                continue;
+            }
+            consumer.accept(currentPrefix, valueStart, i + 1);
+            currentPrefix = prefix;
+            valueStart = i + 1 + prefix.getPrefix().length();
+            // Continue from the last character of the prefix, which may be the space before the next prefix
+            i = valueStart - 1;
         }
-
-        return positions;
+        consumer.accept(currentPrefix, valueStart, text.length());
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Receives the span of each value found by {@link #scan}.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    @FunctionalInterface
+    interface SpanConsumer {
+        /**
+         * Receives the value of {@code prefix} from {@code start} (inclusive) to {@code end} (exclusive).
+         */
+        void accept(Prefix prefix, int start, int end);
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * A trie over the characters of a set of prefixes, matching the longest of them at a given position.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String text = prefix.getPrefix();
+                if (text.isEmpty()) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = 0; i < text.length(); i++) {
+                    node = node.getOrAddChild(text.charAt(i));
+                }
+                node.prefix = prefix;
+            }
         }
 
-        return argMultimap;
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+        /**
+         * Returns the longest prefix that starts at {@code position} of {@code argsString}, or null if there is none.
+         */
+        Prefix match(String argsString, int position) {
+            Node node = root;
+            Prefix longestMatch = null;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A node of a {@link PrefixTrie}. Prefixes are a few characters long and share few characters,
+     * so children are kept in small parallel lists rather than maps.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class Node {
+        private final List<Character> keys = new ArrayList<>(2);
+        private final List<Node> children = new ArrayList<>(2);
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.size(); i++) {
+                if (keys.get(i) == key) {
+                    return children.get(i);
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys.add(key);
+                children.add(child);
+            }
+            return child;
         }
     }
 
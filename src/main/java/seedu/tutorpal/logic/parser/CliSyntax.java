@@ -17,4 +17,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOIN_DATE = new Prefix("d/");
     public static final Prefix PREFIX_ATTENDANCE_WEEK = new Prefix("w/");
     public static final Prefix PREFIX_PAYMENT_MONTH = new Prefix("m/");
+    public static final Prefix PREFIX_JOINED_FROM = new Prefix("jf/");
+    public static final Prefix PREFIX_JOINED_TO = new Prefix("jt/");
+    public static final Prefix PREFIX_MONTHS_OVERDUE = new Prefix("mo/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
+    public static final Prefix PREFIX_RANK_BY = new Prefix("by/");
 }
@@ -0,0 +1,18 @@
+package seedu.tutorpal.logic.parser;
+
+import java.util.List;
+
+/**
+ * Provides commands in addition to the built-in ones.
+ * <p>
+ * Implementations are found with {@link java.util.ServiceLoader}, by listing their fully qualified names in
+ * {@code META-INF/services/seedu.tutorpal.logic.parser.CommandProvider} on the class path. They must have a public
+ * no-argument constructor. Commands whose word is already registered are ignored.
+ */
+public interface CommandProvider {
+
+    /**
+     * Returns the commands to add to the {@link CommandRegistry}.
+     */
+    List<CommandRegistry.Entry> getCommands();
+}
@@ -0,0 +1,242 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.logic.commands.AddCommand;
+import seedu.tutorpal.logic.commands.ClearCommand;
+import seedu.tutorpal.logic.commands.Command;
+import seedu.tutorpal.logic.commands.DeleteCommand;
+import seedu.tutorpal.logic.commands.DelpayCommand;
+import seedu.tutorpal.logic.commands.DisplayCommand;
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.ExitCommand;
+import seedu.tutorpal.logic.commands.ExportCommand;
+import seedu.tutorpal.logic.commands.FindCommand;
+import seedu.tutorpal.logic.commands.HelpCommand;
+import seedu.tutorpal.logic.commands.ImportCommand;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.MarkCommand;
+import seedu.tutorpal.logic.commands.PaymentCommand;
+import seedu.tutorpal.logic.commands.RedoCommand;
+import seedu.tutorpal.logic.commands.RunCommand;
+import seedu.tutorpal.logic.commands.StatsCommand;
+import seedu.tutorpal.logic.commands.UndoCommand;
+import seedu.tutorpal.logic.commands.UnmarkCommand;
+import seedu.tutorpal.logic.commands.UnpayCommand;
+import seedu.tutorpal.logic.commands.ViewCommand;
+
+/**
+ * Maps each command word to the parser, usage and shortened usage of its command.
+ * <p>
+ * The registry is built once, from the built-in commands followed by those of every {@link CommandProvider} found
+ * by {@link ServiceLoader}, and never changes afterwards. Parsers hold no state, so one instance of each is shared
+ * and the registry can be read from any thread.
+ */
+public final class CommandRegistry {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRegistry.class);
+
+    private final List<Entry> entries;
+    private final Map<String, Entry> entriesByWord;
+
+    /**
+     * Creates a registry of {@code builtIns} followed by the commands of {@code providers}.
+     * A provided command whose word is already registered is ignored.
+     */
+    CommandRegistry(List<Entry> builtIns, Iterable<CommandProvider> providers) {
+        requireNonNull(builtIns);
+        requireNonNull(providers);
+        List<Entry> allEntries = new ArrayList<>(builtIns);
+        for (CommandProvider provider : providers) {
+            allEntries.addAll(provider.getCommands());
+        }
+
+        List<Entry> registered = new ArrayList<>();
+        Map<String, Entry> byWord = new HashMap<>();
+        for (Entry entry : allEntries) {
+            if (byWord.putIfAbsent(entry.getCommandWord(), entry) != null) {
+                logger.warning("Ignoring a second command registered for the word: " + entry.getCommandWord());
+                continue;
+            }
+            registered.add(entry);
+        }
+        this.entries = Collections.unmodifiableList(registered);
+        this.entriesByWord = Collections.unmodifiableMap(byWord);
+    }
+
+    /**
+     * Returns the registry of the built-in commands and the commands of the installed {@link CommandProvider}s.
+     */
+    public static CommandRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the command registered for {@code commandWord}, if any.
+     */
+    public Optional<Entry> get(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(entriesByWord.get(commandWord));
+    }
+
+    /**
+     * Returns true if a command is registered for {@code commandWord}.
+     */
+    public boolean contains(String commandWord) {
+        return get(commandWord).isPresent();
+    }
+
+    /**
+     * Returns every registered command, built-in commands first, in the order they are listed in the help window.
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the built-in commands. Commands that share a word with a variant (e.g. {@code pay all}) dispatch
+     * to the variant's parser based on the arguments.
+     */
+    static List<Entry> getBuiltInEntries() {
+        AddCommandParser addParser = new AddCommandParser();
+        DeleteCommandParser deleteParser = new DeleteCommandParser();
+        DelpayCommandParser delpayParser = new DelpayCommandParser();
+        DisplayCommandParser displayParser = new DisplayCommandParser();
+        EditCommandParser editParser = new EditCommandParser();
+        EditAllCommandParser editAllParser = new EditAllCommandParser();
+        FindCommandParser findParser = new FindCommandParser();
+        FuzzyFindCommandParser fuzzyFindParser = new FuzzyFindCommandParser();
+        ListCommandParser listParser = new ListCommandParser();
+        MarkCommandParser markParser = new MarkCommandParser();
+        MarkClassCommandParser markClassParser = new MarkClassCommandParser();
+        UnmarkCommandParser unmarkParser = new UnmarkCommandParser();
+        PaymentCommandParser paymentParser = new PaymentCommandParser();
+        PayAllCommandParser payAllParser = new PayAllCommandParser();
+        UnpayCommandParser unpayParser = new UnpayCommandParser();
+        RunCommandParser runParser = new RunCommandParser();
+        ImportCommandParser importParser = new ImportCommandParser();
+        ExportCommandParser exportParser = new ExportCommandParser();
+        HelpCommandParser helpParser = new HelpCommandParser();
+        ViewCommandParser viewParser = new ViewCommandParser();
+
+        return List.of(
+            new Entry(AddCommand.COMMAND_WORD, addParser,
+                    AddCommand.MESSAGE_USAGE, AddCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ClearCommand.COMMAND_WORD, args -> new ClearCommand(),
+                    ClearCommand.MESSAGE_USAGE, ClearCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(DeleteCommand.COMMAND_WORD, deleteParser,
+                    DeleteCommand.MESSAGE_USAGE, DeleteCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(DelpayCommand.COMMAND_WORD, delpayParser,
+                    DelpayCommand.MESSAGE_USAGE, DelpayCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(DisplayCommand.COMMAND_WORD, displayParser,
+                    DisplayCommand.MESSAGE_USAGE, DisplayCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(EditCommand.COMMAND_WORD, args -> EditAllCommandParser.isEditAll(args)
+                    ? editAllParser.parse(args) : editParser.parse(args),
+                    EditCommand.MESSAGE_USAGE, EditCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ExitCommand.COMMAND_WORD, args -> new ExitCommand(),
+                    ExitCommand.MESSAGE_USAGE, ExitCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(FindCommand.COMMAND_WORD, args -> FuzzyFindCommandParser.isFuzzy(args)
+                    ? fuzzyFindParser.parse(args) : findParser.parse(args),
+                    FindCommand.MESSAGE_USAGE, FindCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ListCommand.COMMAND_WORD, listParser,
+                    ListCommand.MESSAGE_USAGE, ListCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(MarkCommand.COMMAND_WORD, args -> MarkClassCommandParser.isClassWide(args)
+                    ? markClassParser.parse(args) : markParser.parse(args),
+                    MarkCommand.MESSAGE_USAGE, MarkCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(UnmarkCommand.COMMAND_WORD, unmarkParser,
+                    UnmarkCommand.MESSAGE_USAGE, UnmarkCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(PaymentCommand.COMMAND_WORD, args -> PayAllCommandParser.isPayAll(args)
+                    ? payAllParser.parse(args) : paymentParser.parse(args),
+                    PaymentCommand.MESSAGE_USAGE, PaymentCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(UnpayCommand.COMMAND_WORD, unpayParser,
+                    UnpayCommand.MESSAGE_USAGE, UnpayCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(UndoCommand.COMMAND_WORD, args -> new UndoCommand(),
+                    UndoCommand.MESSAGE_USAGE, UndoCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(RedoCommand.COMMAND_WORD, args -> new RedoCommand(),
+                    RedoCommand.MESSAGE_USAGE, RedoCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(RunCommand.COMMAND_WORD, runParser,
+                    RunCommand.MESSAGE_USAGE, RunCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ImportCommand.COMMAND_WORD, importParser,
+                    ImportCommand.MESSAGE_USAGE, ImportCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ExportCommand.COMMAND_WORD, exportParser,
+                    ExportCommand.MESSAGE_USAGE, ExportCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(ViewCommand.COMMAND_WORD, viewParser,
+                    ViewCommand.MESSAGE_USAGE, ViewCommand.MESSAGE_USAGE_SHORTENED),
+            new Entry(StatsCommand.COMMAND_WORD, args -> new StatsCommand(),
+                    StatsCommand.MESSAGE_USAGE, StatsCommand.MESSAGE_USAGE_SHORTENED),
+            // Not listed in the help window, which is what it opens
+            new Entry(HelpCommand.COMMAND_WORD, helpParser, HelpCommand.MESSAGE_USAGE, null)
+        );
+    }
+
+    /**
+     * Builds the shared registry when it is first used. Class initialisation makes the build happen once,
+     * and safely publishes the result to every thread.
+     */
+    private static class Holder {
+        private static final CommandRegistry INSTANCE = new CommandRegistry(getBuiltInEntries(),
+                ServiceLoader.load(CommandProvider.class));
+    }
+
+    /**
+     * A registered command.
+     */
+    public static class Entry {
+        private final String commandWord;
+        private final Parser<? extends Command> parser;
+        private final String messageUsage;
+        private final String messageUsageShortened;
+
+        /**
+         * Creates an entry for the command with the given word, parser and usage.
+         * {@code messageUsageShortened} may be null to leave the command out of the help window.
+         */
+        public Entry(String commandWord, Parser<? extends Command> parser, String messageUsage,
+                String messageUsageShortened) {
+            requireNonNull(commandWord);
+            requireNonNull(parser);
+            requireNonNull(messageUsage);
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.messageUsage = messageUsage;
+            this.messageUsageShortened = messageUsageShortened;
+        }
+
+        public String getCommandWord() {
+            return commandWord;
+        }
+
+        public Parser<? extends Command> getParser() {
+            return parser;
+        }
+
+        public String getMessageUsage() {
+            return messageUsage;
+        }
+
+        /**
+         * Returns the usage shown in the help window, if the command is listed there.
+         */
+        public Optional<String> getMessageUsageShortened() {
+            return Optional.ofNullable(messageUsageShortened);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("commandWord", commandWord)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_TO;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOIN_DATE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_MONTHS_OVERDUE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_RANK_BY;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TOP;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TUTOR;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.tutorpal.commons.util.StringUtil;
+import seedu.tutorpal.logic.commands.AddCommand;
+import seedu.tutorpal.logic.commands.Command;
+import seedu.tutorpal.logic.commands.DelpayCommand;
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.ExportCommand;
+import seedu.tutorpal.logic.commands.ImportCommand;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.MarkCommand;
+import seedu.tutorpal.logic.commands.PaymentCommand;
+import seedu.tutorpal.logic.commands.UnmarkCommand;
+import seedu.tutorpal.logic.commands.UnpayCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.Payment;
+
+/**
+ * Checks a command text while it is being typed, and parses it ahead of its execution.
+ * <p>
+ * {@link #validate(String)} is called after every keystroke, so it only does the checks of {@link ParserUtil} on
+ * the argument values, and remembers the values of the previous text. The text is scanned again only from the
+ * value that the edit falls in, and a value that was checked recently is not checked again. Empty values are not
+ * checked, and a value at the end of the text is not reported, as it may still be being typed. A value that is not
+ * reported here can still make the command fail when it is executed, but a value that is reported always does.
+ * <p>
+ * {@link #parseAhead(String)} parses the whole command, which is kept so that executing the same text does not
+ * parse it again. Commands that read files while they are parsed are not parsed ahead, as their files may change
+ * before they are executed.
+ */
+public class CommandValidator {
+
+    private static final int CHECKED_VALUES_CACHE_SIZE = 64;
+
+    /** The argument values that are checked for each command, in the order the command's parser tokenizes them. */
+    private static final Map<String, Map<Prefix, ArgumentCheck>> CHECKS_BY_COMMAND = createChecks();
+    private static final Map<String, List<Prefix>> PREFIXES_BY_COMMAND = createPrefixes();
+    private static final Set<String> FILE_READING_COMMANDS = Set.of(ImportCommand.COMMAND_WORD);
+
+    private final AddressBookParser addressBookParser;
+
+    // The values of the text validated last, and the problems they have
+    private String lastText = "";
+    private final List<Segment> lastSegments = new ArrayList<>();
+    private final Map<String, Optional<String>> checkedValues =
+            new LinkedHashMap<>(CHECKED_VALUES_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<String>> eldest) {
+                    return size() > CHECKED_VALUES_CACHE_SIZE;
+                }
+            };
+
+    // The command parsed ahead, the text it was parsed from, and the date it was parsed on
+    private Command parsedCommand;
+    private String parsedText;
+    private LocalDate parsedDate;
+
+    /**
+     * Creates a validator that parses commands with {@code addressBookParser}.
+     */
+    public CommandValidator(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    private static Map<String, Map<Prefix, ArgumentCheck>> createChecks() {
+        Map<Prefix, ArgumentCheck> personChecks = new LinkedHashMap<>();
+        personChecks.put(PREFIX_NAME, ParserUtil::parseName);
+        personChecks.put(PREFIX_PHONE, ParserUtil::parsePhone);
+        personChecks.put(PREFIX_EMAIL, ParserUtil::parseEmail);
+        personChecks.put(PREFIX_ADDRESS, ParserUtil::parseAddress);
+        personChecks.put(PREFIX_CLASS, ParserUtil::parseClass);
+        personChecks.put(PREFIX_JOIN_DATE, ParserUtil::parseJoinDate);
+
+        Map<Prefix, ArgumentCheck> addChecks = new LinkedHashMap<>(personChecks);
+        addChecks.put(PREFIX_ROLE, ParserUtil::parseRole);
+        Map<Prefix, ArgumentCheck> editChecks = new LinkedHashMap<>(personChecks);
+        editChecks.put(PREFIX_ROLE, role -> {
+            throw new ParseException(String.format(EditCommand.MESSAGE_INVALID_EDIT, PREFIX_ROLE));
+        });
+        Map<Prefix, ArgumentCheck> listChecks = new LinkedHashMap<>();
+        // Classes and tutors are matched by keyword, so any value is valid
+        listChecks.put(PREFIX_CLASS, ArgumentCheck.NONE);
+        listChecks.put(PREFIX_TUTOR, ArgumentCheck.NONE);
+        listChecks.put(PREFIX_PAYMENT_STATUS, CommandValidator::checkPaymentStatus);
+        listChecks.put(PREFIX_JOINED_FROM, ParserUtil::parseJoinDate);
+        listChecks.put(PREFIX_JOINED_TO, ParserUtil::parseJoinDate);
+        listChecks.put(PREFIX_MONTHS_OVERDUE, CommandValidator::checkMonthsOverdue);
+        listChecks.put(PREFIX_TOP, ParserUtil::parseTopCount);
+        listChecks.put(PREFIX_RANK_BY, ParserUtil::parseRanking);
+        Map<Prefix, ArgumentCheck> markChecks = new LinkedHashMap<>();
+        markChecks.put(PREFIX_CLASS, ParserUtil::parseClass);
+        // The week of a class-wide mark may be followed by an except clause, which the value then includes
+        markChecks.put(PREFIX_ATTENDANCE_WEEK, ArgumentCheck.NONE);
+        Map<Prefix, ArgumentCheck> unmarkChecks = Map.of(PREFIX_ATTENDANCE_WEEK, ParserUtil::parseWeeklyAttendance);
+        // Only pay (for pay all) and export take a range of months
+        Map<Prefix, ArgumentCheck> monthChecks = Map.of(PREFIX_PAYMENT_MONTH, ParserUtil::parseMonth);
+        Map<Prefix, ArgumentCheck> payChecks = Map.of(PREFIX_PAYMENT_MONTH,
+                months -> ParserUtil.parseMonthRange(months, PaymentCommand.MESSAGE_USAGE));
+        Map<Prefix, ArgumentCheck> exportChecks = Map.of(PREFIX_PAYMENT_MONTH,
+                months -> ParserUtil.parseMonthRange(months, ExportCommand.MESSAGE_USAGE));
+
+        Map<String, Map<Prefix, ArgumentCheck>> checks = new HashMap<>();
+        checks.put(AddCommand.COMMAND_WORD, addChecks);
+        checks.put(EditCommand.COMMAND_WORD, editChecks);
+        checks.put(ListCommand.COMMAND_WORD, listChecks);
+        checks.put(MarkCommand.COMMAND_WORD, markChecks);
+        checks.put(UnmarkCommand.COMMAND_WORD, unmarkChecks);
+        checks.put(PaymentCommand.COMMAND_WORD, payChecks);
+        checks.put(UnpayCommand.COMMAND_WORD, monthChecks);
+        checks.put(DelpayCommand.COMMAND_WORD, monthChecks);
+        checks.put(ExportCommand.COMMAND_WORD, exportChecks);
+        return Map.copyOf(checks);
+    }
+
+    private static Map<String, List<Prefix>> createPrefixes() {
+        Map<String, List<Prefix>> prefixes = new HashMap<>();
+        CHECKS_BY_COMMAND.forEach((commandWord, checks) -> prefixes.put(commandWord, List.copyOf(checks.keySet())));
+        return Map.copyOf(prefixes);
+    }
+
+    /**
+     * Returns the problems in {@code commandText} found so far.
+     */
+    public Validation validate(String commandText) {
+        requireNonNull(commandText);
+        int wordStart = skipSpaces(commandText, 0);
+        int wordEnd = wordStart;
+        while (wordEnd < commandText.length() && !Character.isWhitespace(commandText.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        String commandWord = commandText.substring(wordStart, wordEnd);
+        boolean isWordTyped = wordEnd < commandText.length();
+
+        if (isWordTyped && !CommandRegistry.getInstance().contains(commandWord)) {
+            forgetSegments(commandText);
+            return new Validation(List.of(new Validation.Problem(wordStart, wordEnd, MESSAGE_UNKNOWN_COMMAND)));
+        }
+        if (!isWordTyped || !CHECKS_BY_COMMAND.containsKey(commandWord)) {
+            forgetSegments(commandText);
+            return Validation.valid();
+        }
+
+        updateSegments(commandText, commandWord, wordEnd);
+        List<Validation.Problem> problems = new ArrayList<>();
+        for (Segment segment : lastSegments) {
+            // A value that ends the text may still be being typed
+            if (segment.problem != null && segment.end < commandText.length()) {
+                problems.add(new Validation.Problem(segment.start, segment.end, segment.problem));
+            }
+        }
+        return new Validation(problems);
+    }
+
+    /**
+     * Brings the values of the last text up to date with {@code commandText}, whose arguments start at
+     * {@code argsStart}. Values before the one that the edit falls in are kept, and the rest are scanned again.
+     */
+    private void updateSegments(String commandText, String commandWord, int argsStart) {
+        int firstChange = 0;
+        int commonLength = Math.min(lastText.length(), commandText.length());
+        while (firstChange < commonLength && lastText.charAt(firstChange) == commandText.charAt(firstChange)) {
+            firstChange++;
+        }
+
+        // The segments of a different command word, or that start after its arguments, cannot be reused
+        int kept = 0;
+        boolean isSameStart = !lastSegments.isEmpty() && lastSegments.get(0).valueStart == argsStart
+                && firstChange >= argsStart;
+        if (isSameStart) {
+            while (kept < lastSegments.size() && lastSegments.get(kept).valueStart <= firstChange) {
+                kept++;
+            }
+            // Scan again from the start of the value that the edit falls in
+            kept--;
+        }
+
+        Prefix scanPrefix = kept > 0 ? lastSegments.get(kept).prefix : ArgumentMultimap.PREAMBLE;
+        int scanStart = kept > 0 ? lastSegments.get(kept).valueStart : argsStart;
+        kept = Math.max(kept, 0);
+        lastSegments.subList(kept, lastSegments.size()).clear();
+        lastText = commandText;
+
+        ArgumentTokenizer.SpanConsumer addSegment = (prefix, start, end) ->
+                lastSegments.add(checkSegment(commandText, commandWord, prefix, start, end));
+        ArgumentTokenizer.scan(commandText, scanStart, scanPrefix, PREFIXES_BY_COMMAND.get(commandWord), addSegment);
+    }
+
+    private Segment checkSegment(String commandText, String commandWord, Prefix prefix, int valueStart,
+            int valueEnd) {
+        ArgumentCheck check = CHECKS_BY_COMMAND.get(commandWord).get(prefix);
+        int start = skipSpaces(commandText, valueStart);
+        int end = valueEnd;
+        while (end > start && Character.isWhitespace(commandText.charAt(end - 1))) {
+            end--;
+        }
+        if (check == null || start == end) {
+            return new Segment(prefix, valueStart, start, end, null);
+        }
+
+        String value = commandText.substring(start, end);
+        // Commands may check the same prefix differently
+        String key = commandWord + " " + prefix.getPrefix() + value;
+        Optional<String> problem = checkedValues.computeIfAbsent(key, unused -> {
+            try {
+                check.check(value);
+                return Optional.empty();
+            } catch (ParseException e) {
+                return Optional.of(e.getMessage());
+            }
+        });
+        return new Segment(prefix, valueStart, start, end, problem.orElse(null));
+    }
+
+    private void forgetSegments(String commandText) {
+        lastText = commandText;
+        lastSegments.clear();
+    }
+
+    private static int skipSpaces(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void checkPaymentStatus(String status) throws ParseException {
+        if (!Payment.isValidPayment(status)) {
+            throw new ParseException(Payment.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static void checkMonthsOverdue(String months) throws ParseException {
+        if (!StringUtil.isNonZeroUnsignedInteger(months)) {
+            throw new ParseException(ListCommand.MESSAGE_INVALID_MONTHS_OVERDUE);
+        }
+    }
+
+    /**
+     * Parses {@code commandText} ahead of its execution, if it can be parsed and is not parsed already.
+     * Called once typing pauses, as parsing a command may log it.
+     */
+    public void parseAhead(String commandText) {
+        requireNonNull(commandText);
+        if (commandText.equals(parsedText) || !validate(commandText).isValid()) {
+            return;
+        }
+        String commandWord = commandText.strip().split("\\s+", 2)[0];
+        if (FILE_READING_COMMANDS.contains(commandWord)) {
+            return;
+        }
+
+        forgetParsed();
+        try {
+            parsedCommand = addressBookParser.parseCommand(commandText);
+            parsedText = commandText;
+            parsedDate = CurrentPeriod.getDate();
+        } catch (ParseException e) {
+            // Executing the command reports the problem
+        }
+    }
+
+    /**
+     * Returns the command parsed ahead from {@code commandText}, if there is one, and forgets it.
+     * A command parsed on an earlier day is not returned, as parsing may depend on the current date.
+     */
+    public Optional<Command> takeParsed(String commandText) {
+        requireNonNull(commandText);
+        boolean isParsed = commandText.equals(parsedText) && CurrentPeriod.getDate().equals(parsedDate);
+        Command command = parsedCommand;
+        forgetParsed();
+        return isParsed ? Optional.of(command) : Optional.empty();
+    }
+
+    private void forgetParsed() {
+        parsedCommand = null;
+        parsedText = null;
+        parsedDate = null;
+    }
+
+    /**
+     * A check of an argument value, which throws a {@code ParseException} with the problem if the value is invalid.
+     */
+    @FunctionalInterface
+    private interface ArgumentCheck {
+        ArgumentCheck NONE = value -> {};
+
+        void check(String value) throws ParseException;
+    }
+
+    /**
+     * A value of the last text, from where it starts (just after its prefix) to where the next prefix starts.
+     * {@code start} and {@code end} bound its trimmed text, which has {@code problem}, or null if it is valid.
+     */
+    private static class Segment {
+        private final Prefix prefix;
+        private final int valueStart;
+        private final int start;
+        private final int end;
+        private final String problem;
+
+        Segment(Prefix prefix, int valueStart, int start, int end, String problem) {
+            this.prefix = prefix;
+            this.valueStart = valueStart;
+            this.start = start;
+            this.end = end;
+            this.problem = problem;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.tutorpal.logic.parser;
 
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.List;
+
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.logic.commands.DeleteCommand;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
@@ -18,8 +20,9 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args); // parses args, throws exception if it is not non-zero uint
-            return new DeleteCommand(index);
+            // parses args, throws exception if any index or range is not made of non-zero uints
+            List<Index> indexes = ParserUtil.parseIndexes(args);
+            return new DeleteCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
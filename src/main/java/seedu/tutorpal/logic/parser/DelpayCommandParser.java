@@ -4,8 +4,7 @@ import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
 
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
@@ -19,7 +18,6 @@ import seedu.tutorpal.logic.parser.exceptions.ParseException;
  */
 public class DelpayCommandParser implements Parser<DelpayCommand> {
     private static final Logger logger = Logger.getLogger(DelpayCommandParser.class.getName());
-    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM-yyyy");
 
     @Override
     public DelpayCommand parse(String args) throws ParseException {
@@ -27,16 +25,16 @@ public class DelpayCommandParser implements Parser<DelpayCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAYMENT_MONTH);
 
-        Index index = parseIndex(argMultimap);
+        List<Index> indexes = parseIndexes(argMultimap);
         YearMonth month = parsePaymentMonth(argMultimap);
 
-        logger.info("Parsed DelpayCommand: index=" + index + ", month=" + month);
-        return new DelpayCommand(index, month);
+        logger.info("Parsed DelpayCommand: indexes=" + indexes + ", month=" + month);
+        return new DelpayCommand(indexes, month);
     }
 
-    private Index parseIndex(ArgumentMultimap argMultimap) throws ParseException {
+    private List<Index> parseIndexes(ArgumentMultimap argMultimap) throws ParseException {
         try {
-            return ParserUtil.parseIndex(argMultimap.getPreamble());
+            return ParserUtil.parseIndexes(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DelpayCommand.MESSAGE_USAGE), pe);
         }
@@ -46,11 +44,7 @@ public class DelpayCommandParser implements Parser<DelpayCommand> {
         String monthValue = argMultimap.getValue(PREFIX_PAYMENT_MONTH)
                 .orElseThrow(() -> new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DelpayCommand.MESSAGE_USAGE)));
-        try {
-            return YearMonth.parse(monthValue, MONTH_FORMAT);
-        } catch (DateTimeParseException e) {
-            throw new ParseException("Invalid month format. Use MM-yyyy, e.g., 01-2024");
-        }
+        return ParserUtil.parseMonth(monthValue);
     }
 }
 
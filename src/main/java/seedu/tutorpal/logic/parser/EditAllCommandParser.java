@@ -0,0 +1,90 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.commands.EditCommand.MESSAGE_INVALID_EDIT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOIN_DATE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ROLE;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.tutorpal.logic.commands.EditAllCommand;
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.Class;
+
+/**
+ * Parses input arguments and creates a new EditAllCommand object
+ */
+public class EditAllCommandParser implements Parser<EditAllCommand> {
+
+    public static final String MESSAGE_PERSONAL_FIELD = "Name, phone and email cannot be edited for all persons.";
+
+    /**
+     * Returns true if {@code args} of an {@code edit} command apply to every displayed person rather than an index.
+     */
+    public static boolean isEditAll(String args) {
+        requireNonNull(args);
+        String preamble = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_CLASS, PREFIX_JOIN_DATE, PREFIX_ROLE).getPreamble();
+        return preamble.equalsIgnoreCase(EditAllCommand.ALL_KEYWORD);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditAllCommand
+     * and returns an EditAllCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public EditAllCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_CLASS, PREFIX_JOIN_DATE, PREFIX_ROLE);
+
+        if (!argMultimap.getPreamble().equalsIgnoreCase(EditAllCommand.ALL_KEYWORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE));
+        }
+        if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_EDIT, PREFIX_ROLE));
+        }
+        if (argMultimap.getValue(PREFIX_NAME).isPresent() || argMultimap.getValue(PREFIX_PHONE).isPresent()
+                || argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+            throw new ParseException(MESSAGE_PERSONAL_FIELD);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ADDRESS, PREFIX_JOIN_DATE);
+
+        EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            editPersonDescriptor.setAddress(ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get()));
+        }
+        if (argMultimap.getValue(PREFIX_JOIN_DATE).isPresent()) {
+            editPersonDescriptor.setJoinDate(ParserUtil.parseJoinDate(argMultimap.getValue(PREFIX_JOIN_DATE).get()));
+        }
+
+        List<String> classes = argMultimap.getAllValues(PREFIX_CLASS);
+        if (classes.size() > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE));
+        }
+        if (classes.size() == 2) {
+            Class fromClass = ParserUtil.parseClass(classes.get(0));
+            Class toClass = ParserUtil.parseClass(classes.get(1));
+            return new EditAllCommand(editPersonDescriptor, fromClass, toClass);
+        }
+        if (classes.size() == 1) {
+            editPersonDescriptor.setClasses(Set.of(ParserUtil.parseClass(classes.get(0))));
+        }
+
+        if (!editPersonDescriptor.isAnyFieldEdited()) {
+            throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
+        }
+        return new EditAllCommand(editPersonDescriptor);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
+
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.List;
+
+import seedu.tutorpal.commons.util.FileUtil;
+import seedu.tutorpal.logic.commands.ExportCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.CurrentPeriod;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ * Expected format: [all] FILE [m/MM-yyyy[:MM-yyyy]]
+ * Example: export all data/persons.csv m/01-2025:03-2025
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PAYMENT_MONTH);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAYMENT_MONTH);
+
+        String file = argMultimap.getPreamble();
+        String[] words = file.split("\\s+", 2);
+        boolean isAll = words.length == 2 && words[0].equalsIgnoreCase(ExportCommand.ALL_KEYWORD);
+        if (isAll) {
+            file = words[1];
+        }
+        // A lone 'all' is the keyword without a file, not a file named 'all'
+        if (file.isEmpty() || file.equalsIgnoreCase(ExportCommand.ALL_KEYWORD) || !FileUtil.isValidPath(file)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        YearMonth fromMonth = CurrentPeriod.getMonth();
+        YearMonth toMonth = fromMonth;
+        if (argMultimap.getValue(PREFIX_PAYMENT_MONTH).isPresent()) {
+            List<YearMonth> range = ParserUtil.parseMonthRange(
+                    argMultimap.getValue(PREFIX_PAYMENT_MONTH).get(), ExportCommand.MESSAGE_USAGE);
+            fromMonth = range.get(0);
+            toMonth = range.get(1);
+        }
+        return new ExportCommand(Paths.get(file), isAll, fromMonth, toMonth);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.tutorpal.logic.commands.FuzzyFindCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FuzzyFindCommand.
+ * Expected format: --fuzzy KEYWORD [MORE_KEYWORDS]...
+ * Example: find --fuzzy cristopher
+ */
+public class FuzzyFindCommandParser implements Parser<FuzzyFindCommand> {
+
+    /**
+     * Returns true if {@code args} of a {@code find} command ask for a fuzzy search.
+     */
+    public static boolean isFuzzy(String args) {
+        requireNonNull(args);
+        return args.trim().split("\\s+", 2)[0].equalsIgnoreCase(FuzzyFindCommand.FUZZY_FLAG);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FuzzyFindCommand
+     * and returns a FuzzyFindCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public FuzzyFindCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] parts = args.trim().split("\\s+", 2);
+        if (!parts[0].equalsIgnoreCase(FuzzyFindCommand.FUZZY_FLAG) || parts.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameKeywords = parts[1].split("\\s+");
+        return new FuzzyFindCommand(Arrays.asList(nameKeywords));
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.commons.util.CsvUtil;
+import seedu.tutorpal.commons.util.FileUtil;
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.ImportCommand;
+import seedu.tutorpal.logic.commands.ImportCommand.CsvRow;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.Address;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Email;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.Name;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.Phone;
+import seedu.tutorpal.model.person.Role;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.Tutor;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object, validating every row of the CSV file.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_CLASS = "class";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_JOIN_DATE = "joindate";
+
+    public static final String MESSAGE_CANNOT_READ_CSV = "Could not read CSV file %1$s: %2$s";
+    public static final String MESSAGE_MISSING_HEADER = "The CSV file %1$s is empty. Its first line must name "
+            + "the columns.";
+    public static final String MESSAGE_INVALID_HEADER = "The first line of %1$s does not name valid columns: %2$s";
+    public static final String MESSAGE_MISSING_COLUMN = "The column %1$s is missing.";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The column %1$s is not recognised.";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The column %1$s appears more than once.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_NO_CLASS = "At least one class must be given.";
+
+    // Written at the start of UTF-8 files by some spreadsheet programs, and not part of the first column's name
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(COLUMN_ROLE, COLUMN_NAME, COLUMN_PHONE,
+            COLUMN_EMAIL, COLUMN_CLASS);
+    private static final Set<String> OPTIONAL_COLUMNS = Set.of(COLUMN_ADDRESS, COLUMN_JOIN_DATE);
+
+    /** Separates the classes of a tutor within the class column. */
+    private static final String CLASS_SEPARATOR_REGEX = "[;\\s]+";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the arguments are not a readable CSV file with a valid header
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        // The flag is a word of its own, so a file whose name ends in the flag is still imported for real
+        int flagStart = trimmedArgs.length() - ImportCommand.DRY_RUN_FLAG.length();
+        boolean isDryRun = trimmedArgs.endsWith(ImportCommand.DRY_RUN_FLAG)
+                && (flagStart == 0 || Character.isWhitespace(trimmedArgs.charAt(flagStart - 1)));
+        if (isDryRun) {
+            trimmedArgs = trimmedArgs.substring(0, flagStart).trim();
+        }
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        Path csvPath = Paths.get(trimmedArgs);
+        return new ImportCommand(csvPath, parseCsv(csvPath), isDryRun);
+    }
+
+    /**
+     * Reads the CSV file at {@code csvPath} and validates its rows.
+     * Validating a row does not depend on the model, so the rows are validated in parallel. The lines of the file
+     * are kept in memory until they are validated, which costs no more than the persons they are parsed into.
+     */
+    private static List<CsvRow> parseCsv(Path csvPath) throws ParseException {
+        String header;
+        List<String> rawLines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rawLines.add(line);
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_CSV, csvPath, e.getMessage()), e);
+        }
+        if (header == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_HEADER, csvPath));
+        }
+        if (header.startsWith(BYTE_ORDER_MARK)) {
+            header = header.substring(BYTE_ORDER_MARK.length());
+        }
+
+        Map<String, Integer> columns;
+        try {
+            columns = parseHeader(header);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_HEADER, csvPath, e.getMessage()), e);
+        }
+
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < rawLines.size(); i++) {
+            if (!rawLines.get(i).isBlank()) {
+                // The header is line 1
+                lineNumbers.add(i + 2);
+            }
+        }
+        List<CsvRow> rows = lineNumbers.parallelStream()
+                .map(lineNumber -> parseRow(columns, lineNumber, rawLines.get(lineNumber - 2)))
+                .toList();
+
+        logger.info("Parsed " + rows.size() + " rows from " + csvPath);
+        return rows;
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}, keyed by its lower case name.
+     *
+     * @throws IllegalArgumentException if a column is unknown, repeated or missing.
+     */
+    private static Map<String, Integer> parseHeader(String header) {
+        List<String> names = CsvUtil.parseLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!REQUIRED_COLUMNS.contains(name) && !OPTIONAL_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_COLUMN, names.get(i).trim()));
+            }
+            if (columns.put(name, i) != null) {
+                throw new IllegalArgumentException(String.format(MESSAGE_DUPLICATE_COLUMN, name));
+            }
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_MISSING_COLUMN, required));
+            }
+        }
+        return columns;
+    }
+
+    private static CsvRow parseRow(Map<String, Integer> columns, int lineNumber, String line) {
+        try {
+            List<String> fields = CsvUtil.parseLine(line);
+            if (fields.size() != columns.size()) {
+                return CsvRow.failed(lineNumber,
+                        String.format(MESSAGE_WRONG_FIELD_COUNT, columns.size(), fields.size()));
+            }
+            return CsvRow.parsed(lineNumber, parsePerson(columns, fields));
+        } catch (ParseException | IllegalArgumentException e) {
+            return CsvRow.failed(lineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the person described by {@code fields}, validating each field as the add command does.
+     */
+    private static Person parsePerson(Map<String, Integer> columns, List<String> fields) throws ParseException {
+        Role role = ParserUtil.parseRole(fields.get(columns.get(COLUMN_ROLE)));
+        Name name = ParserUtil.parseName(fields.get(columns.get(COLUMN_NAME)));
+        Phone phone = ParserUtil.parsePhone(fields.get(columns.get(COLUMN_PHONE)));
+        Email email = ParserUtil.parseEmail(fields.get(columns.get(COLUMN_EMAIL)));
+
+        String classField = fields.get(columns.get(COLUMN_CLASS)).trim();
+        if (classField.isEmpty()) {
+            throw new ParseException(MESSAGE_NO_CLASS);
+        }
+        List<String> classNames = Arrays.asList(classField.split(CLASS_SEPARATOR_REGEX));
+        if (role == Role.STUDENT && classNames.size() > 1) {
+            throw new ParseException(EditCommand.MESSAGE_STUDENT_MULTIPLE_CLASSES);
+        }
+        Set<Class> classes = ParserUtil.parseClasses(classNames);
+
+        String addressField = getOptionalField(columns, fields, COLUMN_ADDRESS);
+        Address address = addressField.isEmpty() ? new Address("-") : ParserUtil.parseAddress(addressField);
+        String joinDateField = getOptionalField(columns, fields, COLUMN_JOIN_DATE);
+        JoinDate joinDate = joinDateField.isEmpty() ? JoinDate.now() : ParserUtil.parseJoinDate(joinDateField);
+
+        return (role == Role.STUDENT)
+                ? new Student(name, phone, email, address, classes, joinDate)
+                : new Tutor(name, phone, email, address, classes, joinDate);
+    }
+
+    private static String getOptionalField(Map<String, Integer> columns, List<String> fields, String column) {
+        Integer position = columns.get(column);
+        return position == null ? "" : fields.get(position).trim();
+    }
+}
@@ -2,19 +2,29 @@ package seedu.tutorpal.logic.parser;
 
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_TO;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_MONTHS_OVERDUE;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_STATUS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_RANK_BY;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TOP;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_TUTOR;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import seedu.tutorpal.commons.util.StringUtil;
 import seedu.tutorpal.logic.commands.ListCommand;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.JoinDateInRangePredicate;
+import seedu.tutorpal.model.person.MonthsOverduePredicate;
 import seedu.tutorpal.model.person.Payment;
 import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Ranking;
 import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
 
 /**
@@ -31,7 +41,8 @@ public class ListCommandParser implements Parser<ListCommand> {
     public ListCommand parse(String args) throws ParseException {
         logger.log(Level.INFO, "Parsing ListCommand with args: \"" + args + "\"");
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-            PREFIX_CLASS, PREFIX_TUTOR, PREFIX_PAYMENT_STATUS);
+            PREFIX_CLASS, PREFIX_TUTOR, PREFIX_PAYMENT_STATUS, PREFIX_JOINED_FROM, PREFIX_JOINED_TO,
+            PREFIX_MONTHS_OVERDUE, PREFIX_TOP, PREFIX_RANK_BY);
 
         // If no arguments provided, return command to list all persons
         if (args.trim().isEmpty()) {
@@ -44,6 +55,9 @@ public class ListCommandParser implements Parser<ListCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
 
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_JOINED_FROM, PREFIX_JOINED_TO, PREFIX_MONTHS_OVERDUE,
+                PREFIX_TOP, PREFIX_RANK_BY);
+
         boolean hasClassFilter = argMultimap.getValue(PREFIX_CLASS).isPresent();
         boolean hasTutorFilter = argMultimap.getValue(PREFIX_TUTOR).isPresent();
         boolean hasPaymentStatusFilter = argMultimap.getValue(PREFIX_PAYMENT_STATUS).isPresent();
@@ -51,6 +65,8 @@ public class ListCommandParser implements Parser<ListCommand> {
         ClassContainsKeywordsPredicate classPredicate = null;
         StudentBelongsToTutorPredicate tutorPredicate = null;
         PaymentStatusMatchesPredicate paymentPredicate = null;
+        JoinDateInRangePredicate joinDatePredicate = null;
+        MonthsOverduePredicate monthsOverduePredicate = null;
 
         // Class filter (support multiple occurrences of c/)
         if (hasClassFilter) {
@@ -106,8 +122,53 @@ public class ListCommandParser implements Parser<ListCommand> {
             paymentPredicate = new PaymentStatusMatchesPredicate(keywords);
         }
 
-        if (classPredicate != null || tutorPredicate != null || paymentPredicate != null) {
-            return new ListCommand(classPredicate, tutorPredicate, paymentPredicate);
+        // Join date range filter (either end may be left open)
+        LocalDate joinedFrom = null;
+        LocalDate joinedTo = null;
+        if (argMultimap.getValue(PREFIX_JOINED_FROM).isPresent()) {
+            joinedFrom = ParserUtil.parseJoinDate(argMultimap.getValue(PREFIX_JOINED_FROM).get()).toLocalDate();
+        }
+        if (argMultimap.getValue(PREFIX_JOINED_TO).isPresent()) {
+            joinedTo = ParserUtil.parseJoinDate(argMultimap.getValue(PREFIX_JOINED_TO).get()).toLocalDate();
+        }
+        if (joinedFrom != null && joinedTo != null && joinedFrom.isAfter(joinedTo)) {
+            logger.log(Level.WARNING, "Join date range is empty: " + joinedFrom + " to " + joinedTo);
+            throw new ParseException(ListCommand.MESSAGE_INVALID_JOIN_DATE_RANGE);
+        }
+        if (joinedFrom != null || joinedTo != null) {
+            logger.log(Level.FINE, "List filter selected: joinDate=" + joinedFrom + " to " + joinedTo);
+            joinDatePredicate = new JoinDateInRangePredicate(joinedFrom, joinedTo);
+        }
+
+        // Months overdue filter
+        if (argMultimap.getValue(PREFIX_MONTHS_OVERDUE).isPresent()) {
+            String months = argMultimap.getValue(PREFIX_MONTHS_OVERDUE).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(months)) {
+                logger.log(Level.WARNING, "Invalid months overdue: " + months);
+                throw new ParseException(ListCommand.MESSAGE_INVALID_MONTHS_OVERDUE);
+            }
+            logger.log(Level.FINE, "List filter selected: monthsOverdue=" + months);
+            monthsOverduePredicate = new MonthsOverduePredicate(Integer.parseInt(months));
+        }
+
+        // Ranking, which needs both the number of persons and what to rank them by
+        Ranking ranking = null;
+        int rankedCount = 0;
+        boolean hasTop = argMultimap.getValue(PREFIX_TOP).isPresent();
+        if (hasTop != argMultimap.getValue(PREFIX_RANK_BY).isPresent()) {
+            logger.log(Level.WARNING, "Ranking given without both " + PREFIX_TOP + " and " + PREFIX_RANK_BY);
+            throw new ParseException(ListCommand.MESSAGE_INCOMPLETE_RANKING);
+        }
+        if (hasTop) {
+            rankedCount = ParserUtil.parseTopCount(argMultimap.getValue(PREFIX_TOP).get());
+            ranking = ParserUtil.parseRanking(argMultimap.getValue(PREFIX_RANK_BY).get());
+            logger.log(Level.FINE, "List ranking selected: top " + rankedCount + " by " + ranking);
+        }
+
+        if (classPredicate != null || tutorPredicate != null || paymentPredicate != null
+                || joinDatePredicate != null || monthsOverduePredicate != null || ranking != null) {
+            return new ListCommand(classPredicate, tutorPredicate, paymentPredicate, joinDatePredicate,
+                    monthsOverduePredicate, ranking, rankedCount);
         }
 
         // If arguments are provided but no valid prefix, throw exception
@@ -0,0 +1,83 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.tutorpal.commons.core.index.Index;
+import seedu.tutorpal.logic.commands.MarkClassCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+
+/**
+ * Parses input arguments and creates a new MarkClassCommand object.
+ * Expected format: c/CLASS w/WEEK [except INDEX...]
+ */
+public class MarkClassCommandParser implements Parser<MarkClassCommand> {
+    private static final Logger logger = Logger.getLogger(MarkClassCommandParser.class.getName());
+
+    private static final Pattern EXCEPT_CLAUSE =
+            Pattern.compile("\\s+" + MarkClassCommand.EXCEPT_KEYWORD + "(?<indexes>(\\s.*)?)$");
+
+    /**
+     * Returns true if {@code args} of a {@code mark} command select a whole class rather than indexes.
+     */
+    public static boolean isClassWide(String args) {
+        requireNonNull(args);
+        return ArgumentTokenizer.tokenize(args, PREFIX_CLASS).getValue(PREFIX_CLASS).isPresent();
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkClassCommand
+     * and returns a MarkClassCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public MarkClassCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        logger.log(Level.INFO, "Parsing MarkClassCommand with args: \"" + args + "\"");
+
+        String prefixedArgs = args;
+        List<Index> exceptIndexes = List.of();
+        Matcher exceptMatcher = EXCEPT_CLAUSE.matcher(args);
+        if (exceptMatcher.find()) {
+            prefixedArgs = args.substring(0, exceptMatcher.start());
+            exceptIndexes = parseExceptIndexes(exceptMatcher.group("indexes"));
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(prefixedArgs, PREFIX_CLASS, PREFIX_ATTENDANCE_WEEK);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_ATTENDANCE_WEEK);
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_CLASS).isEmpty()
+                || argMultimap.getValue(PREFIX_ATTENDANCE_WEEK).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkClassCommand.MESSAGE_USAGE));
+        }
+
+        Class targetClass = ParserUtil.parseClass(argMultimap.getValue(PREFIX_CLASS).get());
+        WeeklyAttendance week = ParserUtil.parseWeeklyAttendance(argMultimap.getValue(PREFIX_ATTENDANCE_WEEK).get());
+
+        logger.log(Level.FINE, "MarkClassCommand parsed with class=" + targetClass + ", week=" + week
+                + " and except=" + exceptIndexes);
+        return new MarkClassCommand(targetClass, exceptIndexes, week);
+    }
+
+    /**
+     * Parses the indexes after the except keyword, which may be separated by spaces or commas.
+     */
+    private static List<Index> parseExceptIndexes(String indexes) throws ParseException {
+        String trimmedIndexes = indexes.trim();
+        if (trimmedIndexes.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkClassCommand.MESSAGE_USAGE));
+        }
+        return ParserUtil.parseIndexes(trimmedIndexes.replaceAll("[\\s,]+", ","));
+    }
+}
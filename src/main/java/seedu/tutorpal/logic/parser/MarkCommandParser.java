@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,8 +40,8 @@ public class MarkCommandParser implements Parser<MarkCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE_WEEK);
 
-        // Get index. Throws parse exception.
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        // Get indexes. Throws parse exception.
+        List<Index> indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
 
         String weekStr = argMultimap.getValue(PREFIX_ATTENDANCE_WEEK).get();
         WeeklyAttendance week;
@@ -51,7 +52,7 @@ public class MarkCommandParser implements Parser<MarkCommand> {
             logger.log(Level.WARNING, "WeeklyAttendance format is wrong! Given : " + weekStr);
             throw new ParseException(WeeklyAttendance.MESSAGE_CONSTRAINTS);
         }
-        logger.log(Level.FINE, "Mark Command parsed with index =" + index + " and week=" + week);
-        return new MarkCommand(index, week);
+        logger.log(Level.FINE, "Mark Command parsed with indexes =" + indexes + " and week=" + week);
+        return new MarkCommand(indexes, week);
     }
 }
@@ -1,14 +1,18 @@
 package seedu.tutorpal.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.tutorpal.commons.core.commandword.CommandWord.COMMANDS;
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import seedu.tutorpal.commons.core.commandword.CommandWord;
 import seedu.tutorpal.commons.core.index.Index;
@@ -21,6 +25,7 @@ import seedu.tutorpal.model.person.Email;
 import seedu.tutorpal.model.person.JoinDate;
 import seedu.tutorpal.model.person.Name;
 import seedu.tutorpal.model.person.Phone;
+import seedu.tutorpal.model.person.Ranking;
 import seedu.tutorpal.model.person.Role;
 import seedu.tutorpal.model.person.WeeklyAttendance;
 
@@ -44,6 +49,41 @@ public class ParserUtil {
      */
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    /**
+     * Error message used when an index range has its start after its end.
+     */
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range %1$s is invalid: the start must not be greater than the end.";
+
+    /**
+     * Error message used when more than {@link #MAX_INDEXES} indexes are given.
+     */
+    public static final String MESSAGE_TOO_MANY_INDEXES = "At most %1$d indexes can be given at once.";
+
+    /**
+     * Error message used when the number of persons to rank is not a positive number.
+     */
+    public static final String MESSAGE_INVALID_TOP_COUNT = "The number of persons to rank should be a positive number.";
+
+    /**
+     * Error message used when a month is not in the MM-yyyy format.
+     */
+    public static final String MESSAGE_INVALID_MONTH =
+            "Invalid month format. Please use MM-yyyy format (e.g., 01-2024)";
+
+    /**
+     * Error message used when a month range has its first month after its last.
+     */
+    public static final String MESSAGE_INVALID_MONTH_RANGE = "The first month of a range must not be after the last.";
+
+    /** Largest number of indexes accepted by {@link #parseIndexes(String)}. */
+    public static final int MAX_INDEXES = 100_000;
+
+    private static final String INDEX_LIST_SEPARATOR = ",";
+    private static final String INDEX_RANGE_SEPARATOR = "-";
+    private static final String MONTH_RANGE_SEPARATOR = ":";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM-yyyy");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
      * and trailing whitespaces will be
@@ -62,13 +102,52 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses a list of one-based indexes and index ranges, such as {@code "1-30,35"}, into {@code Index}es.
+     * Each comma-separated part is either a single index or an inclusive range {@code START-END}.
+     * The result is in ascending order without duplicates. A single index is parsed exactly as
+     * {@link #parseIndex(String)} would.
+     *
+     * @param oneBasedIndexes string of 1-based indexes and index ranges
+     * @return the distinct {@link Index}es given, in ascending order
+     * @throws ParseException if any part is not a valid index or range, or too many indexes are given.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        SortedSet<Integer> oneBasedValues = new TreeSet<>();
+        for (String part : oneBasedIndexes.trim().split(INDEX_LIST_SEPARATOR, -1)) {
+            String[] bounds = part.split(INDEX_RANGE_SEPARATOR, -1);
+            if (bounds.length > 2) {
+                throw new ParseException(MESSAGE_INVALID_INDEX);
+            }
+            int start = parseIndex(bounds[0]).getOneBased();
+            int end = bounds.length == 2 ? parseIndex(bounds[1]).getOneBased() : start;
+            if (start > end) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, part.trim()));
+            }
+            if (end - start >= MAX_INDEXES) {
+                throw new ParseException(String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES));
+            }
+            for (long i = start; i <= end; i++) {
+                oneBasedValues.add((int) i);
+            }
+            if (oneBasedValues.size() > MAX_INDEXES) {
+                throw new ParseException(String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES));
+            }
+        }
+
+        List<Index> indexes = new ArrayList<>(oneBasedValues.size());
+        for (int oneBasedValue : oneBasedValues) {
+            indexes.add(Index.fromOneBased(oneBasedValue));
+        }
+        return indexes;
+    }
+
     /**
      * Parses a raw command word string into a cached {@link CommandWord}.
      * <p>
-     * This method checks the given {@code commandWord} against the set of known
-     * command classes referenced by
-     * {@link seedu.tutorpal.commons.core.commandword.CommandWord#COMMANDS}. If the
-     * word is not recognised,
+     * This method checks the given {@code commandWord} against the commands registered in the
+     * {@link CommandRegistry}. If the word is not recognised,
      * a {@link ParseException} is thrown with a hint to use {@link HelpCommand}.
      *
      * @param commandWord the raw command word provided by the user (e.g.
@@ -78,17 +157,7 @@ public class ParserUtil {
      *                        command
      */
     public static CommandWord parseCommandWord(String commandWord) throws ParseException {
-        List<String> commands = COMMANDS.stream()
-                .map(f -> {
-                    try {
-                        return (String) f.getField("COMMAND_WORD").get(null);
-                    } catch (IllegalArgumentException | NoSuchFieldException | IllegalAccessException e) {
-                        return null;
-                    }
-                })
-                .collect(Collectors.toUnmodifiableList());
-
-        if (!commands.contains(commandWord)) {
+        if (!CommandRegistry.getInstance().contains(commandWord)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
@@ -244,4 +313,65 @@ public class ParserUtil {
         }
         return new WeeklyAttendance(trimmedAttendance);
     }
+
+    /**
+     * Parses a {@code String month} in the MM-yyyy format into a {@code YearMonth}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code month} is not in the MM-yyyy format.
+     */
+    public static YearMonth parseMonth(String month) throws ParseException {
+        requireNonNull(month);
+        try {
+            return YearMonth.parse(month.trim(), MONTH_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH, e);
+        }
+    }
+
+    /**
+     * Parses a month range of the form MM-yyyy[:MM-yyyy] into its first and last month.
+     * A single month is a range of one month.
+     *
+     * @throws ParseException if the range is malformed, using {@code messageUsage} as the expected format.
+     */
+    public static List<YearMonth> parseMonthRange(String range, String messageUsage) throws ParseException {
+        requireNonNull(range);
+        String[] bounds = range.split(MONTH_RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        YearMonth fromMonth = parseMonth(bounds[0]);
+        YearMonth toMonth = bounds.length == 2 ? parseMonth(bounds[1]) : fromMonth;
+        if (fromMonth.isAfter(toMonth)) {
+            throw new ParseException(MESSAGE_INVALID_MONTH_RANGE);
+        }
+        return List.of(fromMonth, toMonth);
+    }
+
+    /**
+     * Parses {@code count}, the number of persons a ranked {@code list} shows, into an int.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code count} is not a positive number.
+     */
+    public static int parseTopCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_TOP_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a {@code String ranking} into a {@code Ranking}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code ranking} is invalid.
+     */
+    public static Ranking parseRanking(String ranking) throws ParseException {
+        requireNonNull(ranking);
+        return Ranking.fromKeyword(ranking).orElseThrow(() -> new ParseException(Ranking.MESSAGE_CONSTRAINTS));
+    }
 }
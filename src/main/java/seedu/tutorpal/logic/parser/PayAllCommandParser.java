@@ -0,0 +1,56 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.tutorpal.logic.commands.PayAllCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PayAllCommand.
+ * Expected format: all m/MM-yyyy[:MM-yyyy]
+ * Example: pay all m/01-2025:03-2025
+ */
+public class PayAllCommandParser implements Parser<PayAllCommand> {
+    private static final Logger logger = Logger.getLogger(PayAllCommandParser.class.getName());
+
+    /**
+     * Returns true if {@code args} of a {@code pay} command apply to every displayed person rather than indexes.
+     */
+    public static boolean isPayAll(String args) {
+        requireNonNull(args);
+        String preamble = ArgumentTokenizer.tokenize(args, PREFIX_PAYMENT_MONTH).getPreamble();
+        return preamble.equalsIgnoreCase(PayAllCommand.ALL_KEYWORD);
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PayAllCommand
+     * and returns a PayAllCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public PayAllCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PAYMENT_MONTH);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAYMENT_MONTH);
+
+        if (!argMultimap.getPreamble().equalsIgnoreCase(PayAllCommand.ALL_KEYWORD)
+                || argMultimap.getValue(PREFIX_PAYMENT_MONTH).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayAllCommand.MESSAGE_USAGE));
+        }
+
+        List<YearMonth> range = ParserUtil.parseMonthRange(argMultimap.getValue(PREFIX_PAYMENT_MONTH).get(),
+                PayAllCommand.MESSAGE_USAGE);
+        YearMonth fromMonth = range.get(0);
+        YearMonth toMonth = range.get(1);
+
+        logger.info("Parsed PayAllCommand: from=" + fromMonth + ", to=" + toMonth);
+        return new PayAllCommand(fromMonth, toMonth);
+    }
+}
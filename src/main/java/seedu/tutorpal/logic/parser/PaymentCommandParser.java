@@ -4,8 +4,7 @@ import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
 
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
@@ -20,7 +19,6 @@ import seedu.tutorpal.logic.parser.exceptions.ParseException;
  */
 public class PaymentCommandParser implements Parser<PaymentCommand> {
     private static final Logger logger = Logger.getLogger(PaymentCommandParser.class.getName());
-    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM-yyyy");
 
     /**
      * Parses the given {@code String} of arguments in the context of the PaymentCommand
@@ -36,21 +34,21 @@ public class PaymentCommandParser implements Parser<PaymentCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAYMENT_MONTH);
 
-        Index index = parseIndex(argMultimap);
+        List<Index> indexes = parseIndexes(argMultimap);
         YearMonth month = parsePaymentMonth(argMultimap);
 
-        logger.info("Parsed PaymentCommand: index=" + index + ", month=" + month);
-        return new PaymentCommand(index, month);
+        logger.info("Parsed PaymentCommand: indexes=" + indexes + ", month=" + month);
+        return new PaymentCommand(indexes, month);
     }
 
     /**
-     * Parses the index from the preamble of the argument multimap.
+     * Parses the indexes and index ranges from the preamble of the argument multimap.
      *
-     * @param argMultimap the argument multimap containing the index
-     * @return the parsed index
-     * @throws ParseException if the index is invalid or missing
+     * @param argMultimap the argument multimap containing the indexes
+     * @return the parsed indexes
+     * @throws ParseException if the indexes are invalid or missing
      */
-    private Index parseIndex(ArgumentMultimap argMultimap) throws ParseException {
+    private List<Index> parseIndexes(ArgumentMultimap argMultimap) throws ParseException {
         String preamble = argMultimap.getPreamble().trim();
 
         // If the preamble is numeric and <= 0, align message with out-of-range case
@@ -65,7 +63,7 @@ public class PaymentCommandParser implements Parser<PaymentCommand> {
         }
 
         try {
-            return ParserUtil.parseIndex(preamble);
+            return ParserUtil.parseIndexes(preamble);
         } catch (ParseException pe) {
             logger.warning("Invalid index in payment command: " + preamble);
             throw new ParseException(
@@ -87,14 +85,8 @@ public class PaymentCommandParser implements Parser<PaymentCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, PaymentCommand.MESSAGE_USAGE));
         }
 
-        String monthString = argMultimap.getValue(PREFIX_PAYMENT_MONTH).get().trim();
-        try {
-            YearMonth month = YearMonth.parse(monthString, MONTH_FORMAT);
-            logger.fine("Parsed payment month: " + month);
-            return month;
-        } catch (DateTimeParseException e) {
-            logger.warning("Invalid month format: " + monthString);
-            throw new ParseException("Invalid month format. Please use MM-yyyy format (e.g., 01-2024)");
-        }
+        YearMonth month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_PAYMENT_MONTH).get());
+        logger.fine("Parsed payment month: " + month);
+        return month;
     }
 }
@@ -0,0 +1,66 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+import java.util.Set;
+
+import seedu.tutorpal.commons.util.FileUtil;
+import seedu.tutorpal.logic.commands.ExitCommand;
+import seedu.tutorpal.logic.commands.ExportCommand;
+import seedu.tutorpal.logic.commands.HelpCommand;
+import seedu.tutorpal.logic.commands.RedoCommand;
+import seedu.tutorpal.logic.commands.RunCommand;
+import seedu.tutorpal.logic.commands.RunCommand.ScriptLine;
+import seedu.tutorpal.logic.commands.UndoCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ * The script is not read here but when the command is executed, which parses its lines with {@link #LINE_PARSER}.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_UNSUPPORTED_IN_SCRIPT = "The %1$s command cannot be used in a script.";
+
+    /** Parses the command lines of scripts. */
+    public static final RunCommand.LineParser LINE_PARSER = RunCommandParser::parseLine;
+
+    /**
+     * Commands that only make sense when typed by the user, or cannot run inside a script's transaction.
+     * An export would write the uncommitted changes of the script, and report how it went after the script is done.
+     */
+    private static final Set<String> UNSUPPORTED_COMMAND_WORDS = Set.of(RunCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD,
+            ExportCommand.COMMAND_WORD);
+
+    private static final AddressBookParser ADDRESS_BOOK_PARSER = new AddressBookParser();
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the arguments are not a valid file path
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || !FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        return new RunCommand(Paths.get(trimmedArgs), LINE_PARSER);
+    }
+
+    private static ScriptLine parseLine(int lineNumber, String line) {
+        String commandWord = line.trim().split("\\s+", 2)[0];
+        if (UNSUPPORTED_COMMAND_WORDS.contains(commandWord)) {
+            return ScriptLine.failed(lineNumber, String.format(MESSAGE_UNSUPPORTED_IN_SCRIPT, commandWord));
+        }
+        try {
+            return ScriptLine.parsed(lineNumber, ADDRESS_BOOK_PARSER.parseCommand(line));
+        } catch (ParseException e) {
+            return ScriptLine.failed(lineNumber, e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,7 +41,7 @@ public class UnmarkCommandParser implements Parser<UnmarkCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ATTENDANCE_WEEK);
 
-        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        List<Index> indexes = ParserUtil.parseIndexes(argMultimap.getPreamble());
 
         String weekStr = argMultimap.getValue(PREFIX_ATTENDANCE_WEEK).get();
         WeeklyAttendance week;
@@ -51,7 +52,7 @@ public class UnmarkCommandParser implements Parser<UnmarkCommand> {
             logger.log(Level.WARNING, "WeeklyAttendance format is wrong! Given : " + weekStr);
             throw new ParseException(WeeklyAttendance.MESSAGE_CONSTRAINTS);
         }
-        logger.log(Level.FINE, "Unmark Command parsed with index =" + index + " and week=" + week);
-        return new UnmarkCommand(index, week);
+        logger.log(Level.FINE, "Unmark Command parsed with indexes =" + indexes + " and week=" + week);
+        return new UnmarkCommand(indexes, week);
     }
 }
@@ -4,8 +4,7 @@ import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PAYMENT_MONTH;
 
 import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.tutorpal.commons.core.index.Index;
@@ -19,7 +18,6 @@ import seedu.tutorpal.logic.parser.exceptions.ParseException;
  */
 public class UnpayCommandParser implements Parser<UnpayCommand> {
     private static final Logger logger = Logger.getLogger(UnpayCommandParser.class.getName());
-    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM-yyyy");
 
     /**
      * Parses the given {@code String} of arguments in the context of the UnpayCommand
@@ -35,23 +33,23 @@ public class UnpayCommandParser implements Parser<UnpayCommand> {
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PAYMENT_MONTH);
 
-        Index index = parseIndex(argMultimap);
+        List<Index> indexes = parseIndexes(argMultimap);
         YearMonth month = parsePaymentMonth(argMultimap);
 
-        logger.info("Parsed UnpayCommand: index=" + index + ", month=" + month);
-        return new UnpayCommand(index, month);
+        logger.info("Parsed UnpayCommand: indexes=" + indexes + ", month=" + month);
+        return new UnpayCommand(indexes, month);
     }
 
     /**
-     * Parses the index from the preamble of the argument multimap.
+     * Parses the indexes and index ranges from the preamble of the argument multimap.
      *
-     * @param argMultimap the argument multimap containing the index
-     * @return the parsed index
-     * @throws ParseException if the index is invalid or missing
+     * @param argMultimap the argument multimap containing the indexes
+     * @return the parsed indexes
+     * @throws ParseException if the indexes are invalid or missing
      */
-    private Index parseIndex(ArgumentMultimap argMultimap) throws ParseException {
+    private List<Index> parseIndexes(ArgumentMultimap argMultimap) throws ParseException {
         try {
-            return ParserUtil.parseIndex(argMultimap.getPreamble());
+            return ParserUtil.parseIndexes(argMultimap.getPreamble());
         } catch (ParseException pe) {
             logger.warning("Invalid index in unpay command: " + argMultimap.getPreamble());
             throw new ParseException(
@@ -73,14 +71,8 @@ public class UnpayCommandParser implements Parser<UnpayCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnpayCommand.MESSAGE_USAGE));
         }
 
-        String monthString = argMultimap.getValue(PREFIX_PAYMENT_MONTH).get().trim();
-        try {
-            YearMonth month = YearMonth.parse(monthString, MONTH_FORMAT);
-            logger.info("Parsed payment month: " + month);
-            return month;
-        } catch (DateTimeParseException e) {
-            logger.warning("Invalid month format: " + monthString);
-            throw new ParseException("Invalid month format. Please use MM-yyyy format (e.g., 01-2024)");
-        }
+        YearMonth month = ParserUtil.parseMonth(argMultimap.getValue(PREFIX_PAYMENT_MONTH).get());
+        logger.info("Parsed payment month: " + month);
+        return month;
     }
 }
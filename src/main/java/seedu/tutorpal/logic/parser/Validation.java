@@ -0,0 +1,132 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * The problems found in a command text while it is being typed, each of which covers the part of the text that
+ * would make the command fail.
+ */
+public class Validation {
+
+    private static final Validation VALID = new Validation(List.of());
+
+    private final List<Problem> problems;
+
+    /**
+     * Creates a validation with the given {@code problems}, in the order they appear in the command text.
+     */
+    public Validation(List<Problem> problems) {
+        requireNonNull(problems);
+        this.problems = List.copyOf(problems);
+    }
+
+    /**
+     * Returns a validation without problems.
+     */
+    public static Validation valid() {
+        return VALID;
+    }
+
+    public List<Problem> getProblems() {
+        return problems;
+    }
+
+    public boolean isValid() {
+        return problems.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Validation)) {
+            return false;
+        }
+
+        Validation otherValidation = (Validation) other;
+        return problems.equals(otherValidation.problems);
+    }
+
+    @Override
+    public int hashCode() {
+        return problems.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("problems", problems)
+                .toString();
+    }
+
+    /**
+     * A part of a command text, from {@code start} (inclusive) to {@code end} (exclusive), that is not valid.
+     */
+    public static class Problem {
+        private final int start;
+        private final int end;
+        private final String message;
+
+        /**
+         * Creates a problem with the characters from {@code start} to {@code end}, explained by {@code message}.
+         */
+        public Problem(int start, int end, String message) {
+            requireNonNull(message);
+            assert 0 <= start && start <= end;
+            this.start = start;
+            this.end = end;
+            this.message = message;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Problem)) {
+                return false;
+            }
+
+            Problem otherProblem = (Problem) other;
+            return start == otherProblem.start
+                    && end == otherProblem.end
+                    && message.equals(otherProblem.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end, message);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("start", start)
+                    .add("end", end)
+                    .add("message", message)
+                    .toString();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.tutorpal.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.tutorpal.logic.commands.CommandResult.PersonView;
+import seedu.tutorpal.logic.commands.ViewCommand;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String view = args.trim();
+        for (PersonView personView : PersonView.values()) {
+            if (personView.name().equalsIgnoreCase(view)) {
+                return new ViewCommand(personView);
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -2,11 +2,18 @@ package seedu.tutorpal.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.model.person.Class;
 import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
 import seedu.tutorpal.model.person.UniquePersonList;
 
 /**
@@ -16,6 +23,8 @@ import seedu.tutorpal.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    // The snapshot last taken or restored, reused while the contents are unchanged, so that its index is kept
+    private AddressBookSnapshot lastSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -57,6 +66,28 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of the current contents. Runs in O(1).
+     */
+    public AddressBookSnapshot snapshot() {
+        if (lastSnapshot == null || lastSnapshot.getPersons() != persons.asPersistentList()) {
+            lastSnapshot = new AddressBookSnapshot(persons.asPersistentList());
+        }
+        return lastSnapshot;
+    }
+
+    /**
+     * Replaces the contents of this {@code AddressBook} with {@code snapshot} in a single list change.
+     * Does nothing if the contents already are {@code snapshot}.
+     */
+    public void restore(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        if (persons.asPersistentList() != snapshot.getPersons()) {
+            persons.setPersons(snapshot.getPersons());
+        }
+        lastSnapshot = snapshot;
+    }
+
     //// person-level operations
 
     /**
@@ -75,6 +106,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the address book, in a single change to the person list.
+     * None of the persons may already exist in the address book, or appear twice in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addPersons(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -86,6 +125,98 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each key of {@code replacements} with its value, in a single change to the person list.
+     * Every key must exist in the address book.
+     * The person identity of each value must not be the same as another existing person in the address book.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        persons.replacePersons(replacements);
+    }
+
+    /**
+     * Runs {@code updates}, which may add, replace and remove any number of persons of this address book, and reports
+     * them to the listeners of the person list as a single change once it returns.
+     *
+     * @see UniquePersonList#batch(Runnable)
+     */
+    public void batch(Runnable updates) {
+        persons.batch(updates);
+    }
+
+    /**
+     * Returns the persons taking {@code classToFind}, as an unmodifiable view.
+     */
+    public Set<Person> getPersonsInClass(Class classToFind) {
+        return persons.getPersonsInClass(classToFind);
+    }
+
+    /**
+     * Returns the classes taken by the persons, as an unmodifiable view.
+     */
+    public Set<Class> getClasses() {
+        return persons.getClasses();
+    }
+
+    /**
+     * Returns the payment statuses the persons have this month, as an unmodifiable view.
+     */
+    public Set<String> getPaymentStatuses() {
+        return persons.getPaymentStatuses();
+    }
+
+    /**
+     * Returns the persons whose payment status is {@code paymentStatus} this month, as an unmodifiable view.
+     *
+     * @see UniquePersonList#getPersonsWithPaymentStatus(String)
+     */
+    public Set<Person> getPersonsWithPaymentStatus(String paymentStatus) {
+        return persons.getPersonsWithPaymentStatus(paymentStatus);
+    }
+
+    /**
+     * Returns the persons who joined from {@code from} to {@code to}, both inclusive, grouped by join date.
+     *
+     * @see UniquePersonList#getPersonsJoinedBetween(LocalDate, LocalDate)
+     */
+    public List<Set<Person>> getPersonsJoinedBetween(LocalDate from, LocalDate to) {
+        return persons.getPersonsJoinedBetween(from, to);
+    }
+
+    /**
+     * Returns the persons who have been overdue since {@code month} or earlier, grouped by their oldest unpaid month.
+     *
+     * @see UniquePersonList#getPersonsOverdueSince(YearMonth)
+     */
+    public List<Set<Person>> getPersonsOverdueSince(YearMonth month) {
+        return persons.getPersonsOverdueSince(month);
+    }
+
+    /**
+     * Returns the words of the persons' names, in lower case, that are within edit distance {@code maxDistance} of
+     * {@code word}, ignoring case. The closest words come first.
+     */
+    public List<String> findSimilarNameWords(String word, int maxDistance) {
+        return persons.findSimilarNameWords(word, maxDistance);
+    }
+
+    /**
+     * Returns the words that {@link #findSimilarNameWords(String, int)} would return if the number of names with each
+     * word in {@code nameWordChanges} were changed by the amount it maps to.
+     */
+    public List<String> findSimilarNameWords(String word, int maxDistance, Map<String, Integer> nameWordChanges) {
+        return persons.findSimilarNameWords(word, maxDistance, nameWordChanges);
+    }
+
+    /**
+     * Returns a function that looks up the sort key of a person in this address book in O(1).
+     *
+     * @see UniquePersonList#getSortKeys()
+     */
+    public Function<Person, PersonSortKey> getPersonSortKeys() {
+        return persons.getSortKeys();
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -0,0 +1,83 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded undo/redo history of address book versions.
+ * Versions are {@link AddressBookSnapshot}s, which share unchanged persons with each other,
+ * so each recorded version only costs the persons that changed in it.
+ */
+class AddressBookHistory {
+
+    private final int capacity;
+    private final List<AddressBookSnapshot> versions = new ArrayList<>();
+    private int currentIndex;
+
+    /**
+     * Creates a history that starts at {@code initial} and keeps up to {@code capacity} undoable versions.
+     */
+    AddressBookHistory(AddressBookSnapshot initial, int capacity) {
+        requireNonNull(initial);
+        assert capacity > 0;
+        this.capacity = capacity;
+        versions.add(initial);
+        currentIndex = 0;
+    }
+
+    /**
+     * Records {@code current} as the newest version, discarding any redoable versions.
+     * Does nothing if {@code current} is the current version.
+     *
+     * @return true if a new version was recorded.
+     */
+    boolean record(AddressBookSnapshot current) {
+        requireNonNull(current);
+        if (current.getPersons() == getCurrent().getPersons()) {
+            return false;
+        }
+        versions.subList(currentIndex + 1, versions.size()).clear();
+        versions.add(current);
+        if (versions.size() > capacity + 1) {
+            versions.remove(0);
+        }
+        currentIndex = versions.size() - 1;
+        return true;
+    }
+
+    AddressBookSnapshot getCurrent() {
+        return versions.get(currentIndex);
+    }
+
+    boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    boolean canRedo() {
+        return currentIndex < versions.size() - 1;
+    }
+
+    /**
+     * Moves to the previous version and returns it.
+     */
+    AddressBookSnapshot undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No version to undo.");
+        }
+        currentIndex--;
+        return getCurrent();
+    }
+
+    /**
+     * Moves to the next version and returns it.
+     */
+    AddressBookSnapshot redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No version to redo.");
+        }
+        currentIndex++;
+        return getCurrent();
+    }
+}
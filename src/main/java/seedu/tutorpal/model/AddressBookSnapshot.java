@@ -0,0 +1,487 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.tutorpal.commons.util.PersistentList;
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.exceptions.DuplicatePersonException;
+import seedu.tutorpal.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * An immutable version of the address book.
+ * Updates return a new snapshot that shares every unchanged person (and most of the list structure) with this one,
+ * so taking and keeping snapshots is cheap.
+ * Enforces the same uniqueness rules as {@link seedu.tutorpal.model.person.UniquePersonList}.
+ * <p>
+ * Persons are looked up by identity through an index that is kept next to the list and updated with it, so looking
+ * up, replacing and removing a person run in O(log n) rather than scanning the list. The persons taking each class
+ * are kept the same way. The index of a snapshot that was not derived from another is built on the first lookup, and
+ * the class rosters on the first lookup of a class.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(PersistentList.empty());
+
+    private final PersistentList<Person> persons;
+    private volatile IdentityIndex index;
+    // Null until a class is first looked up in this snapshot or one it was derived from
+    private volatile ClassRosters rosters;
+    private ObservableList<Person> personListView;
+
+    /**
+     * Creates a snapshot over {@code persons}, which must not contain duplicate persons.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons) {
+        this(persons, null, null);
+    }
+
+    private AddressBookSnapshot(PersistentList<Person> persons, IdentityIndex index, ClassRosters rosters) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.index = index;
+        this.rosters = rosters;
+    }
+
+    /**
+     * Returns an empty snapshot.
+     */
+    public static AddressBookSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the persons of this snapshot.
+     */
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in this snapshot.
+     */
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return getIndex().getSequence(person.getIdentityKey()) != null;
+    }
+
+    /**
+     * Returns a snapshot with {@code toAdd} appended.
+     * @throws DuplicatePersonException if a person with the same identity already exists.
+     */
+    public AddressBookSnapshot withPerson(Person toAdd) {
+        requireNonNull(toAdd);
+        return withPersons(List.of(toAdd));
+    }
+
+    /**
+     * Returns a snapshot with all of {@code toAdd} appended.
+     * @throws DuplicatePersonException if a person in {@code toAdd} has the same identity as an existing person,
+     *     or as another person in {@code toAdd}.
+     */
+    public AddressBookSnapshot withPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        PersistentList<Person> updated = persons;
+        IdentityIndex updatedIndex = getIndex();
+        ClassRosters updatedRosters = rosters;
+        for (Person person : toAdd) {
+            if (updatedIndex.getSequence(person.getIdentityKey()) != null) {
+                throw new DuplicatePersonException();
+            }
+            if (updatedRosters != null) {
+                updatedRosters = updatedRosters.withPerson(updatedIndex.nextSequence, person);
+            }
+            updated = updated.add(person);
+            updatedIndex = updatedIndex.withAppended(person.getIdentityKey());
+        }
+        return new AddressBookSnapshot(updated, updatedIndex, updatedRosters);
+    }
+
+    /**
+     * Returns a snapshot with {@code target} replaced by {@code editedPerson}.
+     * @throws PersonNotFoundException if {@code target} is not in this snapshot.
+     * @throws DuplicatePersonException if {@code editedPerson} has the identity of another existing person.
+     */
+    public AddressBookSnapshot withPersonReplaced(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return withPersonsReplaced(Map.of(target, editedPerson));
+    }
+
+    /**
+     * Returns a snapshot with each key of {@code replacements} replaced by its value.
+     * @throws PersonNotFoundException if a key is not in this snapshot.
+     * @throws DuplicatePersonException if a value has the identity of another person in the resulting snapshot.
+     */
+    public AddressBookSnapshot withPersonsReplaced(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        IdentityIndex currentIndex = getIndex();
+        PersistentList<Person> updated = persons;
+        IdentityIndex updatedIndex = currentIndex;
+        ClassRosters updatedRosters = rosters;
+        // The identities of all replaced persons are taken out first, so that persons may swap identities
+        List<Long> sequences = new ArrayList<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            int position = getPosition(replacement.getKey());
+            long sequence = currentIndex.getSequenceAt(position);
+            updated = updated.set(position, replacement.getValue());
+            updatedIndex = updatedIndex.withoutIdentity(replacement.getKey().getIdentityKey(), sequence);
+            if (updatedRosters != null) {
+                updatedRosters = updatedRosters.withoutPerson(sequence, replacement.getKey())
+                        .withPerson(sequence, replacement.getValue());
+            }
+            sequences.add(sequence);
+        }
+        int i = 0;
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            List<Object> identityKey = replacement.getValue().getIdentityKey();
+            if (updatedIndex.getSequence(identityKey) != null) {
+                throw new DuplicatePersonException();
+            }
+            updatedIndex = updatedIndex.withIdentity(identityKey, sequences.get(i++));
+        }
+        return new AddressBookSnapshot(updated, updatedIndex, updatedRosters);
+    }
+
+    /**
+     * Returns a snapshot without {@code toRemove}.
+     * @throws PersonNotFoundException if {@code toRemove} is not in this snapshot.
+     */
+    public AddressBookSnapshot withoutPerson(Person toRemove) {
+        requireNonNull(toRemove);
+        int position = getPosition(toRemove);
+        IdentityIndex currentIndex = getIndex();
+        ClassRosters currentRosters = rosters;
+        return new AddressBookSnapshot(persons.remove(position),
+                currentIndex.withoutPosition(position, toRemove.getIdentityKey()),
+                currentRosters == null ? null
+                        : currentRosters.withoutPerson(currentIndex.getSequenceAt(position), toRemove));
+    }
+
+    /**
+     * Returns the persons in this snapshot taking {@code classToFind}, in the order of the snapshot.
+     */
+    public List<Person> getPersonsInClass(Class classToFind) {
+        requireNonNull(classToFind);
+        return getRosters().get(classToFind).asList();
+    }
+
+    /**
+     * Returns the sequence number of {@code person} in this snapshot, which stays the same when they are replaced.
+     * @throws PersonNotFoundException if {@code person} is not in this snapshot.
+     */
+    long getSequence(Person person) {
+        requireNonNull(person);
+        return getIndex().getSequenceAt(getPosition(person));
+    }
+
+    /**
+     * Returns the persons of this snapshot that match {@code predicate}, with their sequence numbers.
+     * Every person matches {@code PREDICATE_SHOW_ALL_PERSONS}, so it returns the whole snapshot without testing them.
+     */
+    PersonSubset getPersonsMatching(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        IdentityIndex currentIndex = getIndex();
+        if (predicate == Model.PREDICATE_SHOW_ALL_PERSONS) {
+            return PersonSubset.of(persons, currentIndex.sequences);
+        }
+        List<Person> matches = new ArrayList<>();
+        List<Long> sequences = new ArrayList<>();
+        int position = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches.add(person);
+                sequences.add(currentIndex.getSequenceAt(position));
+            }
+            position++;
+        }
+        return PersonSubset.of(PersistentList.of(matches), PersistentList.of(sequences));
+    }
+
+    /**
+     * Returns the position of {@code person} in this snapshot.
+     * @throws PersonNotFoundException if {@code person} is not in this snapshot.
+     */
+    private int getPosition(Person person) {
+        IdentityIndex currentIndex = getIndex();
+        Long sequence = currentIndex.getSequence(person.getIdentityKey());
+        if (sequence != null) {
+            int position = currentIndex.getPosition(sequence);
+            if (persons.get(position).equals(person)) {
+                return position;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
+    private IdentityIndex getIndex() {
+        IdentityIndex currentIndex = index;
+        if (currentIndex == null) {
+            currentIndex = IdentityIndex.of(persons);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private ClassRosters getRosters() {
+        ClassRosters currentRosters = rosters;
+        if (currentRosters == null) {
+            currentRosters = ClassRosters.of(persons, getIndex());
+            rosters = currentRosters;
+        }
+        return currentRosters;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personListView == null) {
+            personListView = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        }
+        return personListView;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+
+    /**
+     * Finds the positions of persons by identity, and is updated alongside the persons in O(log n).
+     * <p>
+     * Each person is given a sequence number, in increasing order of position, which stays the same when the
+     * person is replaced or persons before them are removed. The sequence numbers are kept in order of position, so
+     * that the position of a sequence number is found by binary search, and the identities are kept in order of hash
+     * code, so that the sequence number of an identity is found by binary search too.
+     */
+    private static final class IdentityIndex {
+        private static final Comparator<IdentityEntry> ENTRY_ORDER = Comparator
+                .comparingInt((IdentityEntry entry) -> entry.hash)
+                .thenComparingLong(entry -> entry.sequence);
+
+        private final PersistentList<Long> sequences;
+        private final PersistentList<IdentityEntry> entries;
+        private final long nextSequence;
+
+        private IdentityIndex(PersistentList<Long> sequences, PersistentList<IdentityEntry> entries,
+                long nextSequence) {
+            this.sequences = sequences;
+            this.entries = entries;
+            this.nextSequence = nextSequence;
+        }
+
+        /**
+         * Returns the index of {@code persons}. Runs in O(n log n).
+         */
+        static IdentityIndex of(PersistentList<Person> persons) {
+            List<Long> sequences = new ArrayList<>(persons.size());
+            List<IdentityEntry> entries = new ArrayList<>(persons.size());
+            for (Person person : persons) {
+                long sequence = sequences.size();
+                sequences.add(sequence);
+                entries.add(new IdentityEntry(person.getIdentityKey(), sequence));
+            }
+            entries.sort(ENTRY_ORDER);
+            return new IdentityIndex(PersistentList.of(sequences), PersistentList.of(entries), sequences.size());
+        }
+
+        /**
+         * Returns the sequence number of the person with {@code identityKey}, or null if there is none.
+         */
+        Long getSequence(List<Object> identityKey) {
+            int hash = identityKey.hashCode();
+            for (int i = entries.lowerBound(new IdentityEntry(hash, Long.MIN_VALUE), ENTRY_ORDER);
+                    i < entries.size() && entries.get(i).hash == hash; i++) {
+                if (entries.get(i).identityKey.equals(identityKey)) {
+                    return entries.get(i).sequence;
+                }
+            }
+            return null;
+        }
+
+        long getSequenceAt(int position) {
+            return sequences.get(position);
+        }
+
+        int getPosition(long sequence) {
+            int position = sequences.lowerBound(sequence, Long::compare);
+            assert sequences.get(position) == sequence : "Sequence number should be indexed";
+            return position;
+        }
+
+        IdentityIndex withAppended(List<Object> identityKey) {
+            return new IdentityIndex(sequences.add(nextSequence), entries, nextSequence + 1)
+                    .withIdentity(identityKey, nextSequence);
+        }
+
+        IdentityIndex withIdentity(List<Object> identityKey, long sequence) {
+            IdentityEntry entry = new IdentityEntry(identityKey, sequence);
+            return new IdentityIndex(sequences, entries.add(entries.lowerBound(entry, ENTRY_ORDER), entry),
+                    nextSequence);
+        }
+
+        IdentityIndex withoutIdentity(List<Object> identityKey, long sequence) {
+            int entryPosition = entries.lowerBound(new IdentityEntry(identityKey.hashCode(), sequence), ENTRY_ORDER);
+            assert entries.get(entryPosition).sequence == sequence : "Identity should be indexed";
+            return new IdentityIndex(sequences, entries.remove(entryPosition), nextSequence);
+        }
+
+        IdentityIndex withoutPosition(int position, List<Object> identityKey) {
+            long sequence = sequences.get(position);
+            return new IdentityIndex(sequences.remove(position), entries, nextSequence)
+                    .withoutIdentity(identityKey, sequence);
+        }
+    }
+
+    /**
+     * The persons taking each class, which are updated alongside the persons in O(log n) for each class of a person.
+     * The rosters are kept in order of class, so that the roster of a class is found by binary search.
+     */
+    private static final class ClassRosters {
+        private static final Comparator<ClassRoster> ROSTER_ORDER =
+                Comparator.comparing((ClassRoster roster) -> roster.personClass.value);
+
+        private final PersistentList<ClassRoster> rosters;
+
+        private ClassRosters(PersistentList<ClassRoster> rosters) {
+            this.rosters = rosters;
+        }
+
+        /**
+         * Returns the rosters of {@code persons}, whose sequence numbers are in {@code index}. Runs in O(n log n).
+         */
+        static ClassRosters of(PersistentList<Person> persons, IdentityIndex index) {
+            Map<Class, List<Person>> personsByClass = new LinkedHashMap<>();
+            Map<Class, List<Long>> sequencesByClass = new LinkedHashMap<>();
+            int position = 0;
+            for (Person person : persons) {
+                for (Class personClass : person.getClasses()) {
+                    personsByClass.computeIfAbsent(personClass, unused -> new ArrayList<>()).add(person);
+                    sequencesByClass.computeIfAbsent(personClass, unused -> new ArrayList<>())
+                            .add(index.getSequenceAt(position));
+                }
+                position++;
+            }
+            List<ClassRoster> rosters = new ArrayList<>();
+            for (Map.Entry<Class, List<Person>> entry : personsByClass.entrySet()) {
+                rosters.add(new ClassRoster(entry.getKey(), PersonSubset.of(PersistentList.of(entry.getValue()),
+                        PersistentList.of(sequencesByClass.get(entry.getKey())))));
+            }
+            rosters.sort(ROSTER_ORDER);
+            return new ClassRosters(PersistentList.of(rosters));
+        }
+
+        /**
+         * Returns the persons taking {@code personClass}.
+         */
+        PersonSubset get(Class personClass) {
+            int position = rosters.lowerBound(new ClassRoster(personClass, null), ROSTER_ORDER);
+            return position < rosters.size() && rosters.get(position).personClass.equals(personClass)
+                    ? rosters.get(position).persons
+                    : PersonSubset.empty();
+        }
+
+        /**
+         * Returns rosters with {@code person}, who has the sequence number {@code sequence}, in each of their classes.
+         */
+        ClassRosters withPerson(long sequence, Person person) {
+            PersistentList<ClassRoster> updated = rosters;
+            for (Class personClass : person.getClasses()) {
+                ClassRoster key = new ClassRoster(personClass, null);
+                int position = updated.lowerBound(key, ROSTER_ORDER);
+                if (position < updated.size() && updated.get(position).personClass.equals(personClass)) {
+                    updated = updated.set(position, new ClassRoster(personClass,
+                            updated.get(position).persons.with(sequence, person)));
+                } else {
+                    updated = updated.add(position, new ClassRoster(personClass,
+                            PersonSubset.empty().with(sequence, person)));
+                }
+            }
+            return new ClassRosters(updated);
+        }
+
+        /**
+         * Returns rosters without {@code person}, who has the sequence number {@code sequence}, in their classes.
+         */
+        ClassRosters withoutPerson(long sequence, Person person) {
+            PersistentList<ClassRoster> updated = rosters;
+            for (Class personClass : person.getClasses()) {
+                int position = updated.lowerBound(new ClassRoster(personClass, null), ROSTER_ORDER);
+                assert updated.get(position).personClass.equals(personClass) : "Class of a person should have a roster";
+                PersonSubset remaining = updated.get(position).persons.without(sequence);
+                updated = remaining.isEmpty()
+                        ? updated.remove(position)
+                        : updated.set(position, new ClassRoster(personClass, remaining));
+            }
+            return new ClassRosters(updated);
+        }
+    }
+
+    /**
+     * The persons taking a class.
+     */
+    private static final class ClassRoster {
+        private final Class personClass;
+        private final PersonSubset persons;
+
+        ClassRoster(Class personClass, PersonSubset persons) {
+            this.personClass = personClass;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * The identity of a person, with the sequence number of the person.
+     */
+    private static final class IdentityEntry {
+        private final int hash;
+        private final List<Object> identityKey;
+        private final long sequence;
+
+        IdentityEntry(List<Object> identityKey, long sequence) {
+            this.hash = identityKey.hashCode();
+            this.identityKey = identityKey;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Creates an entry to search for entries by hash code and sequence number.
+         */
+        IdentityEntry(int hash, long sequence) {
+            this.hash = hash;
+            this.identityKey = null;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.tutorpal.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.tutorpal.commons.core.GuiSettings;
+import seedu.tutorpal.model.person.Class;
 import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
 
 /**
  * The API of the Model component.
@@ -52,6 +58,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the current address book data. Runs in O(1).
+     * The snapshot can be read from any thread, as later changes do not affect it.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +81,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, as a single change.
+     * None of {@code persons} may already exist in the address book, or appear twice in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,6 +94,35 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each key of {@code replacements} with its value, as a single change.
+     * Every key must exist in the address book.
+     * The person identity of each value must not be the same as another existing person in the address book.
+     */
+    void replacePersons(Map<Person, Person> replacements);
+
+    /**
+     * Returns the persons in the address book taking {@code classToFind}.
+     */
+    List<Person> getPersonsInClass(Class classToFind);
+
+    /**
+     * Returns the words of the names in the address book, in lower case, that are within edit distance
+     * {@code maxDistance} of {@code word}, ignoring case. The closest words come first.
+     */
+    List<String> findSimilarNameWords(String word, int maxDistance);
+
+    /**
+     * Returns a function that looks up the sort key of a person in the address book without recomputing it.
+     */
+    Function<Person, PersonSortKey> getPersonSortKeys();
+
+    /**
+     * Returns the counts of the persons in the address book, which are kept up to date as it changes.
+     * Inside a transaction, returns the counts of the working state instead, which are not kept up to date.
+     */
+    PersonStatistics getPersonStatistics();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -84,4 +131,69 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list is currently filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns at most {@code limit} persons of the filtered person list with the highest positive value of
+     * {@code ranking}, highest first, with persons of equal value in order of name.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    List<Person> getTopPersons(Ranking ranking, int limit);
+
+    /**
+     * Starts a transaction, or a savepoint within the current transaction if one is already open.
+     * Changes made inside a transaction are only published to the address book and the filtered person list
+     * when the outermost transaction is committed.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the innermost transaction or savepoint, keeping its changes.
+     * Committing the outermost transaction publishes all its changes at once.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commit();
+
+    /**
+     * Ends the innermost transaction or savepoint, discarding every change made since it began.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void rollback();
+
+    /**
+     * Returns true if a transaction is open.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Records the current address book as a new version in the undo history.
+     * Does nothing if it has not changed since the last recorded version.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier address book version to return to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book version to return to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the previous address book version.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the most recently undone address book version.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoAddressBook();
 }
@@ -4,24 +4,70 @@ import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.tutorpal.commons.core.GuiSettings;
 import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.model.person.CacheablePredicate;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonQuery;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** Number of undoable address book versions kept in the history. */
+    public static final int UNDO_HISTORY_LIMIT = 100;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final AddressBookHistory history;
+    private final PredicateResultCache predicateResults = new PredicateResultCache();
+    private final PersonStatistics personStatistics;
+    // Kept here as the current period holds its listeners weakly
+    private final Runnable periodListener = this::onPeriodChanged;
+    // The filter of filteredPersons, which is set there wrapped by predicateResults
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // The period in which filteredPersons was last filtered in full
+    private int filteredPeriod = CurrentPeriod.getPeriodNumber();
+    // Number of filters set whose results were, and were not, remembered
+    private int filterHitCount;
+    private int filterMissCount;
+
+    // Savepoints of the open transaction, innermost first. Empty when no transaction is open.
+    private final Deque<Savepoint> savepoints = new ArrayDeque<>();
+    // Working state of the open transaction, published to addressBook and filteredPersons on the outermost commit.
+    private AddressBookSnapshot staged;
+    private Predicate<Person> stagedPredicate;
+    // The staged persons matching stagedPredicate, updated with each change. Null until first needed after the filter
+    // or the whole address book is replaced.
+    private PersonSubset stagedMatches;
+    private ObservableList<Person> stagedFilteredPersons;
+    private PersonSubset stagedFilteredPersonsSource;
+    // Change in the number of staged names with each word, against addressBook, and the changes made in order, so
+    // that a savepoint can undo the changes made after it
+    private final Map<String, Integer> stagedNameWordChanges = new HashMap<>();
+    private final List<Map.Entry<String, Integer>> stagedNameWordLog = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -34,6 +80,16 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    predicateResults.forget(change.getRemoved());
+                }
+            }
+        });
+        personStatistics = new PersonStatistics(this.addressBook.getPersonList());
+        history = new AddressBookHistory(this.addressBook.snapshot(), UNDO_HISTORY_LIMIT);
+        CurrentPeriod.addListener(periodListener);
     }
 
     public ModelManager() {
@@ -79,28 +135,70 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        if (isInTransaction()) {
+            AddressBookSnapshot updated = new AddressBook(addressBook).snapshot();
+            staged.getPersons().forEach(person -> stageNameWords(person, -1));
+            updated.getPersons().forEach(person -> stageNameWords(person, 1));
+            staged = updated;
+            stagedMatches = null;
+            return;
+        }
         this.addressBook.resetData(addressBook);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return isInTransaction() ? staged : addressBook;
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return isInTransaction() ? staged : addressBook.snapshot();
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return isInTransaction() ? staged.hasPerson(person) : addressBook.hasPerson(person);
     }
 
     @Override
     public void deletePerson(Person target) {
+        if (isInTransaction()) {
+            AddressBookSnapshot updated = staged.withoutPerson(target);
+            if (stagedMatches != null) {
+                stagedMatches = stagedMatches.without(staged.getSequence(target));
+            }
+            staged = updated;
+            stageNameWords(target, -1);
+            return;
+        }
         addressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        if (isInTransaction()) {
+            staged = staged.withPerson(person);
+            stagedMatches = null;
+            stageNameWords(person, 1);
+        } else {
+            addressBook.addPerson(person);
+        }
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        if (isInTransaction()) {
+            staged = staged.withPersons(persons);
+            stagedMatches = null;
+            persons.forEach(person -> stageNameWords(person, 1));
+        } else {
+            addressBook.addPersons(persons);
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -108,9 +206,333 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if (isInTransaction()) {
+            staged = staged.withPersonReplaced(target, editedPerson);
+            updateStagedMatch(editedPerson);
+            stageNameWords(target, -1);
+            stageNameWords(editedPerson, 1);
+            return;
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        if (isInTransaction()) {
+            staged = staged.withPersonsReplaced(replacements);
+            replacements.values().forEach(this::updateStagedMatch);
+            replacements.forEach((target, editedPerson) -> {
+                stageNameWords(target, -1);
+                stageNameWords(editedPerson, 1);
+            });
+            return;
+        }
+        addressBook.replacePersons(replacements);
+    }
+
+    @Override
+    public List<Person> getPersonsInClass(Class classToFind) {
+        requireNonNull(classToFind);
+
+        if (isInTransaction()) {
+            return staged.getPersonsInClass(classToFind);
+        }
+        return List.copyOf(addressBook.getPersonsInClass(classToFind));
+    }
+
+    @Override
+    public List<String> findSimilarNameWords(String word, int maxDistance) {
+        requireNonNull(word);
+
+        if (isInTransaction()) {
+            return addressBook.findSimilarNameWords(word, maxDistance, stagedNameWordChanges);
+        }
+        return addressBook.findSimilarNameWords(word, maxDistance);
+    }
+
+    @Override
+    public Function<Person, PersonSortKey> getPersonSortKeys() {
+        return addressBook.getPersonSortKeys();
+    }
+
+    @Override
+    public PersonStatistics getPersonStatistics() {
+        return isInTransaction() ? PersonStatistics.of(staged.getPersons().asList()) : personStatistics;
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        requireNoTransaction();
+        history.record(addressBook.snapshot());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        requireNoTransaction();
+        addressBook.restore(history.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        requireNoTransaction();
+        addressBook.restore(history.redo());
+    }
+
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (!isInTransaction()) {
+            staged = addressBook.snapshot();
+            stagedPredicate = currentPredicate();
+        }
+        savepoints.push(new Savepoint(staged, stagedPredicate, stagedMatches, stagedNameWordLog.size()));
+    }
+
+    @Override
+    public void commit() {
+        requireTransaction();
+        savepoints.pop();
+        if (!isInTransaction()) {
+            publishStaged();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        requireTransaction();
+        Savepoint savepoint = savepoints.pop();
+        staged = savepoint.addressBook;
+        stagedPredicate = savepoint.predicate;
+        stagedMatches = savepoint.matches;
+        while (stagedNameWordLog.size() > savepoint.nameWordChangeCount) {
+            Map.Entry<String, Integer> change = stagedNameWordLog.remove(stagedNameWordLog.size() - 1);
+            changeNameWordCount(change.getKey(), -change.getValue());
+        }
+        if (!isInTransaction()) {
+            clearStaged();
+        }
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return !savepoints.isEmpty();
+    }
+
+    private void requireNoTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException("A transaction is still open.");
+        }
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction is open.");
+        }
+    }
+
+    /**
+     * Publishes the changes of the finished transaction as one change to the address book,
+     * followed by the transaction's filter if it differs from the current one.
+     */
+    private void publishStaged() {
+        addressBook.restore(staged);
+        if (stagedPredicate != currentPredicate()) {
+            setFilter(stagedPredicate);
+        }
+        clearStaged();
+    }
+
+    private void clearStaged() {
+        staged = null;
+        stagedPredicate = null;
+        stagedMatches = null;
+        stagedFilteredPersons = null;
+        stagedFilteredPersonsSource = null;
+        stagedNameWordChanges.clear();
+        stagedNameWordLog.clear();
+    }
+
+    private Predicate<Person> currentPredicate() {
+        return filterPredicate;
+    }
+
+    /**
+     * Filters {@code filteredPersons} by {@code predicate}, reusing the results remembered for it.
+     * <p>
+     * {@code filteredPersons} tests only the persons added or edited since it was filtered, so it holds the results
+     * of its filter for the current address book. If {@code predicate} has the same cache key as that filter and the
+     * month and week are unchanged, those results are kept as they are, without going through every person again.
+     * The results of a {@code PersonQuery} that has none remembered are found through the indexes of the address book
+     * first, so that filtering looks them up instead of testing each person.
+     */
+    private void setFilter(Predicate<Person> predicate) {
+        if (!(predicate instanceof CacheablePredicate)) {
+            refilter(predicate);
+            return;
+        }
+        CacheablePredicate cacheable = (CacheablePredicate) predicate;
+        if (filterPredicate instanceof CacheablePredicate
+                && ((CacheablePredicate) filterPredicate).getCacheKey().equals(cacheable.getCacheKey())
+                && filteredPeriod == CurrentPeriod.getPeriodNumber()) {
+            filterHitCount++;
+            filterPredicate = predicate;
+            return;
+        }
+        if (predicateResults.hasResults(cacheable)) {
+            filterHitCount++;
+        } else {
+            filterMissCount++;
+            if (predicate instanceof PersonQuery) {
+                QueryPlanner.Plan plan = new QueryPlanner(addressBook).plan((PersonQuery) predicate);
+                logger.fine("Finding persons with plan: " + plan);
+                predicateResults.putResults(cacheable, addressBook.getPersonList(), plan.execute());
+            }
+        }
+        logger.fine("Filters reusing remembered results: " + filterHitCount + ", not: " + filterMissCount);
+        refilter(predicate);
+    }
+
+    /**
+     * Filters every person in {@code filteredPersons} by {@code predicate}.
+     */
+    private void refilter(Predicate<Person> predicate) {
+        filterPredicate = predicate;
+        filteredPeriod = CurrentPeriod.getPeriodNumber();
+        filteredPersons.setPredicate(predicateResults.cache(predicate));
+    }
+
+    /**
+     * Filters the person list again when the month or week changes, as the persons' payment statuses, which the
+     * filter may test, change with the month. An open transaction applies its filter when it is committed instead.
+     */
+    private void onPeriodChanged() {
+        if (!isInTransaction()) {
+            refilter(filterPredicate);
+        }
+    }
+
+    /**
+     * Returns the number of filters set whose results were remembered, including those kept from the filter before.
+     */
+    int getFilterHitCount() {
+        return filterHitCount;
+    }
+
+    /**
+     * Returns the number of filters set whose results were not remembered, so every person had to be tested.
+     */
+    int getFilterMissCount() {
+        return filterMissCount;
+    }
+
+    /**
+     * Returns the number of results of filters that are remembered for persons.
+     */
+    int getRememberedResultCount() {
+        return predicateResults.getResultCount();
+    }
+
+    /**
+     * Returns the persons of the open transaction that match its filter.
+     */
+    private ObservableList<Person> getStagedFilteredPersonList() {
+        PersonSubset matches = getStagedMatches();
+        if (stagedFilteredPersonsSource != matches) {
+            stagedFilteredPersons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(matches.asList()));
+            stagedFilteredPersonsSource = matches;
+        }
+        return stagedFilteredPersons;
+    }
+
+    /**
+     * Returns the staged persons that match the filter of the open transaction.
+     * <p>
+     * They are found once for each filter set, and then updated with each change to the staged persons. Until the
+     * address book or the filter changes, they are the persons in {@code filteredPersons}, so only their positions
+     * are looked up. Adding persons shows every person, so the matches are then the staged persons as they are.
+     * The persons are tested without the remembered results, as persons of a transaction that is rolled back are
+     * never removed from them.
+     */
+    private PersonSubset getStagedMatches() {
+        if (stagedMatches == null) {
+            AddressBookSnapshot start = savepoints.getLast().addressBook;
+            if (staged == start && stagedPredicate == filterPredicate && stagedPredicate != PREDICATE_SHOW_ALL_PERSONS
+                    && filteredPeriod == CurrentPeriod.getPeriodNumber()) {
+                PersonSubset matches = PersonSubset.empty();
+                for (Person person : filteredPersons) {
+                    matches = matches.with(staged.getSequence(person), person);
+                }
+                stagedMatches = matches;
+            } else {
+                stagedMatches = staged.getPersonsMatching(stagedPredicate);
+            }
+        }
+        return stagedMatches;
+    }
+
+    /**
+     * Adds {@code person}, who has just been staged in place of another, to the staged matches if they match the
+     * filter of the open transaction, and removes the person they replaced otherwise.
+     */
+    private void updateStagedMatch(Person person) {
+        if (stagedMatches == null) {
+            return;
+        }
+        long sequence = staged.getSequence(person);
+        stagedMatches = stagedPredicate.test(person)
+                ? stagedMatches.with(sequence, person)
+                : stagedMatches.without(sequence);
+    }
+
+    /**
+     * Records that {@code change} names with the words of {@code person}'s name were staged, so that similar name
+     * words are found through the address book's index without indexing the staged names afresh.
+     */
+    private void stageNameWords(Person person, int change) {
+        for (String word : person.getName().getWords()) {
+            changeNameWordCount(word, change);
+            stagedNameWordLog.add(Map.entry(word, change));
+        }
+    }
+
+    private void changeNameWordCount(String word, int change) {
+        stagedNameWordChanges.merge(word, change, (count, added) -> count + added == 0 ? null : count + added);
+    }
+
+    /**
+     * The staged state to return to when rolling back to a savepoint.
+     */
+    private static class Savepoint {
+        private final AddressBookSnapshot addressBook;
+        private final Predicate<Person> predicate;
+        private final PersonSubset matches;
+        private final int nameWordChangeCount;
+
+        Savepoint(AddressBookSnapshot addressBook, Predicate<Person> predicate, PersonSubset matches,
+                int nameWordChangeCount) {
+            this.addressBook = addressBook;
+            this.predicate = predicate;
+            this.matches = matches;
+            this.nameWordChangeCount = nameWordChangeCount;
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -119,13 +541,45 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return isInTransaction() ? getStagedFilteredPersonList() : filteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (isInTransaction()) {
+            if (predicate != stagedPredicate) {
+                stagedPredicate = predicate;
+                stagedMatches = null;
+            }
+            return;
+        }
+        setFilter(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return isInTransaction() ? stagedPredicate : currentPredicate();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Persons ranked by months overdue are taken from the address book's index of overdue persons, most overdue
+     * first, until enough of them pass the filter. Otherwise, the filtered persons are ranked with a bounded heap.
+     */
+    @Override
+    public List<Person> getTopPersons(Ranking ranking, int limit) {
+        requireNonNull(ranking);
+        if (isInTransaction()) {
+            return PersonRanker.top(getStagedFilteredPersonList(), PersonSortKey::new, ranking, limit);
+        }
+        Function<Person, PersonSortKey> sortKeys = addressBook.getPersonSortKeys();
+        if (ranking == Ranking.MONTHS_OVERDUE) {
+            List<Set<Person>> overdueGroups =
+                    addressBook.getPersonsOverdueSince(CurrentPeriod.getMonth().minusMonths(1));
+            return PersonRanker.topOverdue(overdueGroups, predicateResults.cache(filterPredicate), sortKeys, limit);
+        }
+        return PersonRanker.top(filteredPersons, sortKeys, ranking, limit);
     }
 
     @Override
@@ -0,0 +1,86 @@
+package seedu.tutorpal.model;
+
+import static seedu.tutorpal.commons.util.AppUtil.checkArgument;
+import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
+
+/**
+ * Finds the persons that rank highest by a {@link Ranking}, without sorting all of them.
+ * <p>
+ * Persons are ranked by the values in their sort keys, which the address book computes once per month and week.
+ * Scanning the persons while keeping the best {@code k} seen so far in a bounded heap finds the top {@code k} in
+ * O(n log k). Persons ranked by months overdue can instead be taken from the address book's index of the oldest
+ * month each person is overdue for, most overdue first, stopping once {@code k} are found, so that only the persons
+ * ranked and those tied with them are looked at.
+ */
+class PersonRanker {
+    private PersonRanker() {
+    }
+
+    /**
+     * Returns at most {@code limit} of {@code persons} with the highest positive value of {@code ranking}, highest
+     * first, with persons of equal value in order of name.
+     */
+    static List<Person> top(Collection<? extends Person> persons, Function<Person, PersonSortKey> sortKeys,
+            Ranking ranking, int limit) {
+        requireAllNonNull(persons, sortKeys, ranking);
+        checkArgument(limit > 0, "The number of persons ranked must be positive");
+        Comparator<Map.Entry<Person, PersonSortKey>> best = Map.Entry.comparingByValue(ranking.comparator());
+        // The worst of the best persons found so far is at the head, to be replaced by a better one
+        PriorityQueue<Map.Entry<Person, PersonSortKey>> heap = new PriorityQueue<>(best.reversed());
+        for (Person person : persons) {
+            PersonSortKey sortKey = sortKeys.apply(person);
+            if (ranking.getValue(sortKey) == 0) {
+                continue;
+            }
+            Map.Entry<Person, PersonSortKey> entry = Map.entry(person, sortKey);
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (best.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        List<Map.Entry<Person, PersonSortKey>> entries = new ArrayList<>(heap);
+        entries.sort(best);
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Returns at most {@code limit} of the persons matching {@code predicate} who have been overdue for the most
+     * months, most first, with persons overdue for equally long in order of name. {@code overdueGroups} holds every
+     * overdue person, grouped by the oldest month they are overdue for, oldest first, as the address book indexes
+     * them.
+     */
+    static List<Person> topOverdue(List<Set<Person>> overdueGroups, Predicate<Person> predicate,
+            Function<Person, PersonSortKey> sortKeys, int limit) {
+        requireAllNonNull(overdueGroups, predicate, sortKeys);
+        checkArgument(limit > 0, "The number of persons ranked must be positive");
+        List<Person> top = new ArrayList<>();
+        for (Set<Person> group : overdueGroups) {
+            List<Person> matches = group.stream().filter(predicate).toList();
+            if (!matches.isEmpty()) {
+                // Persons of a group are overdue for equally long, so only their names order them
+                top.addAll(top(matches, sortKeys, Ranking.MONTHS_OVERDUE, Math.min(matches.size(),
+                        limit - top.size())));
+            }
+            if (top.size() == limit) {
+                break;
+            }
+        }
+        return top;
+    }
+}
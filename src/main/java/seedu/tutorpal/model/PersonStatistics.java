@@ -0,0 +1,301 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.Role;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+
+/**
+ * Counts the persons of a list by role, class, level and payment status, and the students who attended each of the
+ * latest weeks, keeping the counts up to date as the list changes.
+ * <p>
+ * Each person added to or removed from the list updates the counts in time proportional to their number of classes,
+ * instead of counting every person again. Payment statuses and attendance depend on the current month and week, so
+ * all persons are counted again, once, on the first change or read after the month or week has changed.
+ * Listeners are told after the counts have changed, and when the month or week changes.
+ */
+public class PersonStatistics implements Observable {
+    /** Number of weeks, counting back from the current week, whose attendance is counted. */
+    public static final int ATTENDANCE_WEEKS = 4;
+
+    private static final List<String> PAYMENT_STATUSES = List.of("paid", "unpaid", "overdue");
+
+    private final ObservableList<Person> persons;
+    private final List<InvalidationListener> listeners = new ArrayList<>();
+    // Kept here as the current period holds its listeners weakly
+    private final Runnable periodListener = this::onPeriodChanged;
+
+    // Counts indexed by role ordinal
+    private final int[] roleCounts = new int[Role.values().length];
+    private final Map<Class, int[]> classCounts = new HashMap<>();
+    private final Map<String, int[]> levelCounts = new HashMap<>();
+    private final Map<String, Integer> paymentStatusCounts = new HashMap<>();
+    // The payment status each person was counted under, as it may change with the month
+    private final Map<Person, String> countedPaymentStatuses = new IdentityHashMap<>();
+    // Students who had joined by, and who attended, each of the latest weeks, the current week first
+    private final int[] enrolledCounts = new int[ATTENDANCE_WEEKS];
+    private final int[] attendedCounts = new int[ATTENDANCE_WEEKS];
+
+    // The period and week the persons were last counted in
+    private int period;
+    private WeeklyAttendance week;
+
+    /**
+     * Creates statistics of {@code persons} that are kept up to date as it changes.
+     */
+    public PersonStatistics(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        countAll();
+        persons.addListener(this::onChanged);
+        CurrentPeriod.addListener(periodListener);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Person> change) {
+        // Counting again takes in the change, as it counts the list as it is now
+        if (!countAllIfPeriodChanged()) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(person -> count(person, -1));
+                change.getAddedSubList().forEach(person -> count(person, 1));
+            }
+        }
+        notifyListeners();
+    }
+
+    private void onPeriodChanged() {
+        // The counts are taken again when they are next read
+        notifyListeners();
+    }
+
+    private void notifyListeners() {
+        new ArrayList<>(listeners).forEach(listener -> listener.invalidated(this));
+    }
+
+    /**
+     * Counts every person again if the month or week has changed since they were counted.
+     * Returns true if they were counted again.
+     */
+    private boolean countAllIfPeriodChanged() {
+        if (CurrentPeriod.getPeriodNumber() == period) {
+            return false;
+        }
+        countAll();
+        return true;
+    }
+
+    private void countAll() {
+        period = CurrentPeriod.getPeriodNumber();
+        week = CurrentPeriod.getWeek();
+        Arrays.fill(roleCounts, 0);
+        classCounts.clear();
+        levelCounts.clear();
+        paymentStatusCounts.clear();
+        countedPaymentStatuses.clear();
+        Arrays.fill(enrolledCounts, 0);
+        Arrays.fill(attendedCounts, 0);
+        persons.forEach(person -> count(person, 1));
+    }
+
+    /**
+     * Adds {@code delta}, which is 1 or -1, to the counts {@code person} falls under.
+     */
+    private void count(Person person, int delta) {
+        int role = person.getRole().ordinal();
+        roleCounts[role] += delta;
+        Set<String> levels = new HashSet<>();
+        for (Class personClass : person.getClasses()) {
+            addTo(classCounts, personClass, role, delta);
+            levels.add(personClass.getLevel());
+        }
+        levels.forEach(level -> addTo(levelCounts, level, role, delta));
+
+        if (delta > 0) {
+            String paymentStatus = person.getPaymentStatus().value;
+            countedPaymentStatuses.put(person, paymentStatus);
+            paymentStatusCounts.merge(paymentStatus, 1, Integer::sum);
+        } else {
+            paymentStatusCounts.merge(countedPaymentStatuses.remove(person), -1, Integer::sum);
+        }
+
+        if (person.hasAttendanceHistory()) {
+            WeeklyAttendance joinWeek = person.getJoinDate().getJoinWeek();
+            for (int i = 0; i < ATTENDANCE_WEEKS; i++) {
+                WeeklyAttendance countedWeek = week.minusWeeks(i);
+                if (joinWeek.isAfter(countedWeek)) {
+                    break;
+                }
+                enrolledCounts[i] += delta;
+                if (person.getAttendanceHistory().hasBeenMarked(countedWeek)) {
+                    attendedCounts[i] += delta;
+                }
+            }
+        }
+    }
+
+    private static <K> void addTo(Map<K, int[]> counts, K key, int role, int delta) {
+        int[] countsByRole = counts.computeIfAbsent(key, unused -> new int[Role.values().length]);
+        countsByRole[role] += delta;
+        if (Arrays.stream(countsByRole).allMatch(count -> count == 0)) {
+            counts.remove(key);
+        }
+    }
+
+    /**
+     * Returns the number of persons.
+     */
+    public int getPersonCount() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the number of persons with {@code role}.
+     */
+    public int getCount(Role role) {
+        requireNonNull(role);
+        return roleCounts[role.ordinal()];
+    }
+
+    /**
+     * Returns the classes that some person takes, in order of their codes.
+     */
+    public List<Class> getClasses() {
+        List<Class> classes = new ArrayList<>(classCounts.keySet());
+        classes.sort(Comparator.comparing(Class::toString));
+        return classes;
+    }
+
+    /**
+     * Returns the number of persons with {@code role} taking {@code personClass}.
+     */
+    public int getClassCount(Class personClass, Role role) {
+        requireAllNonNull(personClass, role);
+        int[] counts = classCounts.get(personClass);
+        return counts == null ? 0 : counts[role.ordinal()];
+    }
+
+    /**
+     * Returns the levels of the classes that some person takes, in order.
+     */
+    public List<String> getLevels() {
+        List<String> levels = new ArrayList<>(levelCounts.keySet());
+        levels.sort(Comparator.naturalOrder());
+        return levels;
+    }
+
+    /**
+     * Returns the number of persons with {@code role} taking a class of {@code level}.
+     */
+    public int getLevelCount(String level, Role role) {
+        requireAllNonNull(level, role);
+        int[] counts = levelCounts.get(level);
+        return counts == null ? 0 : counts[role.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons whose payment status is {@code paymentStatus}, as of the current month.
+     */
+    public int getPaymentStatusCount(String paymentStatus) {
+        requireNonNull(paymentStatus);
+        countAllIfPeriodChanged();
+        return paymentStatusCounts.getOrDefault(paymentStatus, 0);
+    }
+
+    /**
+     * Returns the week {@code weeksAgo} weeks before the current one, which must be less than
+     * {@link #ATTENDANCE_WEEKS}.
+     */
+    public WeeklyAttendance getAttendanceWeek(int weeksAgo) {
+        checkWeeksAgo(weeksAgo);
+        countAllIfPeriodChanged();
+        return week.minusWeeks(weeksAgo);
+    }
+
+    /**
+     * Returns the number of students who had joined by the week {@code weeksAgo} weeks before the current one.
+     */
+    public int getEnrolledCount(int weeksAgo) {
+        checkWeeksAgo(weeksAgo);
+        countAllIfPeriodChanged();
+        return enrolledCounts[weeksAgo];
+    }
+
+    /**
+     * Returns the number of students who attended the week {@code weeksAgo} weeks before the current one.
+     */
+    public int getAttendedCount(int weeksAgo) {
+        checkWeeksAgo(weeksAgo);
+        countAllIfPeriodChanged();
+        return attendedCounts[weeksAgo];
+    }
+
+    private static void checkWeeksAgo(int weeksAgo) {
+        if (weeksAgo < 0 || weeksAgo >= ATTENDANCE_WEEKS) {
+            throw new IndexOutOfBoundsException(weeksAgo);
+        }
+    }
+
+    /**
+     * Returns a one-line summary of the counts, e.g.
+     * {@code 12 persons (10 students, 2 tutors) | 8 paid, 1 unpaid, 3 overdue | Attendance this week: 7/10}.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder()
+                .append(getPersonCount()).append(" persons (")
+                .append(getCount(Role.STUDENT)).append(" students, ")
+                .append(getCount(Role.TUTOR)).append(" tutors) | ");
+        List<String> paymentCounts = new ArrayList<>();
+        PAYMENT_STATUSES.forEach(status -> paymentCounts.add(getPaymentStatusCount(status) + " " + status));
+        summary.append(String.join(", ", paymentCounts))
+                .append(" | Attendance this week: ")
+                .append(getAttendedCount(0)).append("/").append(getEnrolledCount(0));
+        return summary.toString();
+    }
+
+    /**
+     * Returns the payment statuses that persons are counted under, in the order they are summarised in.
+     */
+    public static List<String> getPaymentStatuses() {
+        return PAYMENT_STATUSES;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Counts the given persons, which are not kept up to date.
+     */
+    static PersonStatistics of(Collection<Person> persons) {
+        return new PersonStatistics(FXCollections.observableArrayList(persons));
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.tutorpal.commons.util.PersistentList;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * An immutable subset of the persons of an {@link AddressBookSnapshot}, in the order of the snapshot.
+ * <p>
+ * Each person is kept with their sequence number in the snapshot, which stays the same when the person is replaced,
+ * and the persons are ordered by it. So a person is added, replaced or removed in O(log n) by binary search, without
+ * going through the rest of the subset or the snapshot.
+ */
+final class PersonSubset {
+
+    private static final PersonSubset EMPTY = new PersonSubset(PersistentList.empty(), PersistentList.empty());
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Long> sequences;
+
+    private PersonSubset(PersistentList<Person> persons, PersistentList<Long> sequences) {
+        assert persons.size() == sequences.size() : "Each person should have a sequence number";
+        this.persons = persons;
+        this.sequences = sequences;
+    }
+
+    /**
+     * Returns an empty subset.
+     */
+    static PersonSubset empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the subset of {@code persons} with the sequence numbers {@code sequences}, which are in increasing order.
+     */
+    static PersonSubset of(PersistentList<Person> persons, PersistentList<Long> sequences) {
+        requireNonNull(persons);
+        requireNonNull(sequences);
+        return new PersonSubset(persons, sequences);
+    }
+
+    /**
+     * Returns the persons of this subset, as an unmodifiable view.
+     */
+    List<Person> asList() {
+        return persons.asList();
+    }
+
+    boolean isEmpty() {
+        return persons.isEmpty();
+    }
+
+    /**
+     * Returns a subset with {@code person}, who has the sequence number {@code sequence}, in place of the person with
+     * that sequence number, or added in order of sequence number if there is none.
+     */
+    PersonSubset with(long sequence, Person person) {
+        requireNonNull(person);
+        int position = sequences.lowerBound(sequence, Long::compare);
+        if (position < sequences.size() && sequences.get(position) == sequence) {
+            return new PersonSubset(persons.set(position, person), sequences);
+        }
+        return new PersonSubset(persons.add(position, person), sequences.add(position, sequence));
+    }
+
+    /**
+     * Returns a subset without the person with the sequence number {@code sequence}, if there is one.
+     */
+    PersonSubset without(long sequence) {
+        int position = sequences.lowerBound(sequence, Long::compare);
+        if (position == sequences.size() || sequences.get(position) != sequence) {
+            return this;
+        }
+        return new PersonSubset(persons.remove(position), sequences.remove(position));
+    }
+}
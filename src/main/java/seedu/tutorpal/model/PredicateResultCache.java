@@ -0,0 +1,130 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.tutorpal.model.person.CacheablePredicate;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.Person;
+
+/**
+ * Remembers the results that the most recently used filters of the person list gave for each person.
+ * <p>
+ * Results are kept per {@link CacheablePredicate#getCacheKey() cache key} and per person instance. As persons are
+ * immutable and an edit replaces the person, a remembered result holds until the person is removed, so filtering
+ * again with an equal filter tests only the persons added or edited since. The results are dropped when the month
+ * changes, as a person's payment status, and so the result of a filter on it, may change with it.
+ */
+class PredicateResultCache {
+    /** Number of filters whose results are kept. */
+    static final int CAPACITY = 16;
+
+    private final Map<Object, Map<Person, Boolean>> resultsByKey = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Map<Person, Boolean>> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+    private YearMonth month = CurrentPeriod.getMonth();
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, testing each person with
+     * {@code predicate} only if no result is remembered for the person under the cache key of {@code predicate}.
+     * Returns {@code predicate} itself if it has no cache key.
+     */
+    public Predicate<Person> cache(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof CacheablePredicate)) {
+            return predicate;
+        }
+
+        clearIfMonthChanged();
+        Map<Person, Boolean> results = resultsByKey.computeIfAbsent(((CacheablePredicate) predicate).getCacheKey(),
+                unused -> new IdentityHashMap<>());
+        return new CachingPredicate(predicate, results);
+    }
+
+    /**
+     * Returns true if results are remembered under the cache key of {@code predicate}.
+     */
+    public boolean hasResults(CacheablePredicate predicate) {
+        requireNonNull(predicate);
+        clearIfMonthChanged();
+        return resultsByKey.containsKey(predicate.getCacheKey());
+    }
+
+    /**
+     * Remembers, under the cache key of {@code predicate}, that it matches those of {@code persons} that
+     * {@code matches} contains and no others, in place of any results remembered under that key.
+     */
+    public void putResults(CacheablePredicate predicate, Collection<? extends Person> persons, Set<Person> matches) {
+        requireAllNonNull(predicate, persons, matches);
+        clearIfMonthChanged();
+        Map<Person, Boolean> results = new IdentityHashMap<>();
+        persons.forEach(person -> results.put(person, matches.contains(person)));
+        resultsByKey.put(predicate.getCacheKey(), results);
+    }
+
+    /**
+     * Forgets the results remembered for {@code persons}, which have been removed from the address book.
+     */
+    public void forget(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        for (Map<Person, Boolean> results : resultsByKey.values()) {
+            persons.forEach(results::remove);
+        }
+    }
+
+    /**
+     * Returns the number of filters whose results are kept.
+     */
+    public int size() {
+        return resultsByKey.size();
+    }
+
+    /**
+     * Returns the number of results kept, over all filters.
+     */
+    int getResultCount() {
+        return resultsByKey.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void clearIfMonthChanged() {
+        YearMonth currentMonth = CurrentPeriod.getMonth();
+        if (!currentMonth.equals(month)) {
+            resultsByKey.clear();
+            month = currentMonth;
+        }
+    }
+
+    /**
+     * Tests persons with a predicate, remembering the results.
+     */
+    private static class CachingPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private final Map<Person, Boolean> results;
+
+        CachingPredicate(Predicate<Person> predicate, Map<Person, Boolean> results) {
+            this.predicate = predicate;
+            this.results = results;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            Boolean result = results.get(person);
+            if (result == null) {
+                result = predicate.test(person);
+                results.put(person, result);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.tutorpal.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonQuery;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Role;
+
+/**
+ * Finds the persons of an address book that match a {@link PersonQuery} through the indexes the address book keeps,
+ * instead of testing every person against every filter of the query.
+ * <p>
+ * Each filter that an index answers is turned into the index sets whose union holds its matches: the class rosters
+ * of the matching classes, the rosters of the tutor's classes, the persons of the matching payment statuses, or the
+ * persons of the join dates or oldest overdue months in range, which the sorted indexes give without a scan.
+ * The plan takes the persons of the smallest union as candidates, checks them against the other indexed filters by
+ * looking them up in those sets, most selective first, and tests the few filters no index answers last.
+ * The matches are the same as those of testing the query on every person.
+ */
+class QueryPlanner {
+    private final AddressBook addressBook;
+
+    QueryPlanner(AddressBook addressBook) {
+        this.addressBook = requireNonNull(addressBook);
+    }
+
+    /**
+     * Returns the plan of finding the persons matching {@code query}.
+     */
+    Plan plan(PersonQuery query) {
+        requireNonNull(query);
+        List<IndexedFilter> indexedFilters = new ArrayList<>();
+        List<Predicate<Person>> otherFilters = new ArrayList<>();
+        query.getClassPredicate().ifPresent(classPredicate -> {
+            if (classPredicate.matchesAllStudents()) {
+                otherFilters.add(classPredicate);
+            } else {
+                indexedFilters.add(classFilter("class", classPredicate::matchesClass, false));
+            }
+        });
+        query.getTutorPredicate().ifPresent(tutorPredicate ->
+                indexedFilters.add(classFilter("tutor", tutorPredicate::matchesClass, true)));
+        query.getPaymentStatusPredicate().ifPresent(paymentStatusPredicate -> {
+            List<Set<Person>> personSets = addressBook.getPaymentStatuses().stream()
+                    .filter(paymentStatusPredicate::matchesStatus)
+                    .map(addressBook::getPersonsWithPaymentStatus)
+                    .toList();
+            indexedFilters.add(new IndexedFilter("payment status", personSets,
+                    person -> personSets.stream().anyMatch(personSet -> personSet.contains(person))));
+        });
+        query.getJoinDatePredicate().ifPresent(joinDatePredicate -> {
+            List<Set<Person>> personSets = addressBook.getPersonsJoinedBetween(
+                    joinDatePredicate.getFrom().orElse(LocalDate.MIN), joinDatePredicate.getTo().orElse(LocalDate.MAX));
+            indexedFilters.add(new IndexedFilter("join date", personSets, joinDatePredicate));
+        });
+        query.getMonthsOverduePredicate().ifPresent(monthsOverduePredicate -> {
+            YearMonth overdueSince = monthsOverduePredicate.getOverdueSince();
+            Function<Person, PersonSortKey> sortKeys = addressBook.getPersonSortKeys();
+            indexedFilters.add(new IndexedFilter("months overdue", addressBook.getPersonsOverdueSince(overdueSince),
+                    person -> sortKeys.apply(person).getOldestOverdueMonth()
+                            .map(month -> !month.isAfter(overdueSince))
+                            .orElse(false)));
+        });
+        indexedFilters.sort(Comparator.comparingInt(IndexedFilter::getEstimatedSize));
+        return new Plan(indexedFilters, otherFilters);
+    }
+
+    /**
+     * Returns a filter matching the persons taking a class that {@code matchesClass}, who must be students if
+     * {@code studentsOnly} is true.
+     */
+    private IndexedFilter classFilter(String name, Predicate<Class> matchesClass, boolean studentsOnly) {
+        Set<Class> matchingClasses = addressBook.getClasses().stream()
+                .filter(matchesClass)
+                .collect(Collectors.toSet());
+        List<Set<Person>> personSets = matchingClasses.stream()
+                .map(addressBook::getPersonsInClass)
+                .toList();
+        return new IndexedFilter(name, personSets, person -> (!studentsOnly || person.getRole() == Role.STUDENT)
+                && person.getClasses().stream().anyMatch(matchingClasses::contains));
+    }
+
+    /**
+     * A filter of the query answered by an index: it matches some of the persons in the union of its person sets.
+     */
+    private static class IndexedFilter {
+        private final String name;
+        private final List<Set<Person>> personSets;
+        // Tests a person of the address book by looking it up in the index, rather than by the filter itself
+        private final Predicate<Person> lookup;
+        private final int estimatedSize;
+
+        IndexedFilter(String name, List<Set<Person>> personSets, Predicate<Person> lookup) {
+            this.name = name;
+            this.personSets = personSets;
+            this.lookup = lookup;
+            estimatedSize = personSets.stream().mapToInt(Set::size).sum();
+        }
+
+        int getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + estimatedSize + ")";
+        }
+    }
+
+    /**
+     * The order in which the filters of a query are applied.
+     */
+    class Plan {
+        private final List<IndexedFilter> indexedFilters;
+        private final List<Predicate<Person>> otherFilters;
+
+        private Plan(List<IndexedFilter> indexedFilters, List<Predicate<Person>> otherFilters) {
+            this.indexedFilters = indexedFilters;
+            this.otherFilters = otherFilters;
+        }
+
+        /**
+         * Returns the name of the filter whose matches are the candidates, or "all persons" if no filter of the query
+         * is answered by an index.
+         */
+        String getDriver() {
+            return indexedFilters.isEmpty() ? "all persons" : indexedFilters.get(0).name;
+        }
+
+        /**
+         * Returns the persons of the address book that match the query, as a set that tells them apart by identity.
+         */
+        Set<Person> execute() {
+            Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (indexedFilters.isEmpty()) {
+                addressBook.getPersonList().stream().filter(this::matchesAll).forEach(matches::add);
+                return matches;
+            }
+            for (Set<Person> candidates : indexedFilters.get(0).personSets) {
+                for (Person candidate : candidates) {
+                    if (!matches.contains(candidate) && matchesAll(candidate)) {
+                        matches.add(candidate);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private boolean matchesAll(Person person) {
+            return indexedFilters.stream().allMatch(filter -> filter.lookup.test(person))
+                    && otherFilters.stream().allMatch(filter -> filter.test(person));
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("indexedFilters", indexedFilters)
+                    .add("otherFilters", otherFilters)
+                    .toString();
+        }
+    }
+}
@@ -31,21 +31,25 @@ public final class AttendanceHistory {
                     + "All attendance should be between the week of joining and the current week inclusive.\n"
                     + "New Join week : %3$s\t\t" + "Current week : %4$s";
 
+    /** Most weeks in a row of absence that {@link #getAbsenceStreak()} counts. */
+    public static final int MAX_ABSENCE_STREAK = Long.SIZE - 1;
+
     //JoinDate is immutable.
     private final JoinDate joinDate;
     //If WeeklyAttendance is inside, means attended that week
     //Immutable set stored.
     private final Set<WeeklyAttendance> weeklyAttendances;
-    //Clock is immutable.
+    //Clock is immutable. Null to take the current date from CurrentPeriod whenever it is needed.
     private final Clock nowClock; // Represents current date for testability
 
     /**
-     * Constructs an {@code AttendanceHistory} with the given join date.
+     * Constructs an {@code AttendanceHistory} with the given join date, which takes the current week from
+     * {@link CurrentPeriod} whenever it is needed.
      *
      * @param joinDate The date when the person joined the system.
      */
     public AttendanceHistory(JoinDate joinDate) {
-        this(joinDate, Set.of(), Clock.systemDefaultZone());
+        this(joinDate, Set.of(), null);
     }
 
     /**
@@ -54,7 +58,7 @@ public final class AttendanceHistory {
      * @param nowClock The clock to use for getting the current week.
      */
     public AttendanceHistory(JoinDate joinDate, Clock nowClock) {
-        this(joinDate, Set.of(), nowClock);
+        this(joinDate, Set.of(), requireNonNull(nowClock));
     }
 
     /**
@@ -62,15 +66,14 @@ public final class AttendanceHistory {
      * Main constructor that actually initialises object fields.
      * @param joinDate The date when the person joined the system.
      * @param attendances Immutable set holding WeeklyAttendances representing student attended that week.
-     * @param nowClock The clock to use for getting the current week.
+     * @param nowClock The clock to use for getting the current week, or null to use {@link CurrentPeriod}.
      */
     private AttendanceHistory(JoinDate joinDate, Set<WeeklyAttendance> attendances, Clock nowClock) {
-        requireAllNonNull(joinDate, attendances, nowClock);
-        // Validate invariant: joinDate cannot be after current date based on nowClock.
-        LocalDate today = LocalDate.now(nowClock);
-        ensureJoinDateNotAfterToday(today, joinDate);
+        requireAllNonNull(joinDate, attendances);
         this.joinDate = joinDate;
         this.nowClock = nowClock;
+        // Validate invariant: joinDate cannot be after current date based on nowClock.
+        ensureJoinDateNotAfterToday(getToday(), joinDate);
 
         // Validate invariant: all provided attendances must be within [joinWeek, currentWeek]
         // else throw InvalidRangeException. Should never be triggered.
@@ -104,6 +107,30 @@ public final class AttendanceHistory {
         return weeklyAttendances.contains(weeklyAttendance);
     }
 
+    /**
+     * Returns the number of weeks in a row, up to the week before the current week, that the student missed since
+     * joining, or 0 if they attended the current week. At most {@link #MAX_ABSENCE_STREAK} weeks are counted.
+     */
+    public int getAbsenceStreak() {
+        WeeklyAttendance currentWeek = getCurrentWeek();
+        if (this.joinDate.getJoinWeek().isAfter(currentWeek)) {
+            return 0;
+        }
+        int weeksSinceJoining = currentWeek.subtractWeeklyAttendance(this.joinDate.getJoinWeek());
+        // Bit i is set if the student attended the week i weeks ago, or had not joined yet by then
+        long attended = weeksSinceJoining < Long.SIZE - 1 ? -1L << (weeksSinceJoining + 1) : 0;
+        for (WeeklyAttendance wa : weeklyAttendances) {
+            int weeksAgo = wa.isAfter(currentWeek) ? Long.SIZE : currentWeek.subtractWeeklyAttendance(wa);
+            if (weeksAgo < Long.SIZE) {
+                attended |= 1L << weeksAgo;
+            }
+        }
+        if ((attended & 1) != 0) {
+            return 0;
+        }
+        return Math.min(Long.numberOfTrailingZeros(attended >>> 1), MAX_ABSENCE_STREAK);
+    }
+
     /**
      * Marks attendance for the given weekly attendance period.
      * Throws illegal argument exception if outside valid range.
@@ -151,7 +178,7 @@ public final class AttendanceHistory {
      */
     private void ensureWithinValidRange(WeeklyAttendance weeklyAttendance) {
         WeeklyAttendance joinWeek = this.joinDate.getJoinWeek();
-        WeeklyAttendance currentWeek = WeeklyAttendance.getCurrentWeek(this.nowClock);
+        WeeklyAttendance currentWeek = getCurrentWeek();
 
         if (weeklyAttendance.isBefore(joinWeek) || weeklyAttendance.isAfter(currentWeek)) {
             throw new InvalidRangeException(String.format(MESSAGE_INVALID_WEEK_RANGE,
@@ -159,6 +186,14 @@ public final class AttendanceHistory {
         }
     }
 
+    private LocalDate getToday() {
+        return nowClock == null ? CurrentPeriod.getDate() : CurrentPeriod.getDate(nowClock);
+    }
+
+    private WeeklyAttendance getCurrentWeek() {
+        return nowClock == null ? CurrentPeriod.getWeek() : CurrentPeriod.getWeek(nowClock);
+    }
+
     private static void ensureJoinDateNotAfterToday(LocalDate today, JoinDate joinDate) {
         if (joinDate.isAfter(today)) {
             throw new InvalidRangeException(String.format(MESSAGE_JOIN_DATE_IN_FUTURE, joinDate, today));
@@ -181,14 +216,13 @@ public final class AttendanceHistory {
         }
 
         // 1. Validate that join date is not in the future
-        LocalDate today = LocalDate.now(this.nowClock);
-        ensureJoinDateNotAfterToday(today, newJoinDate);
+        ensureJoinDateNotAfterToday(getToday(), newJoinDate);
 
         // 2. Ensure no attendance lies before the new join week
         findAttendanceBeforeJoinWeek(newJoinDate, this.weeklyAttendances)
                 .ifPresent(invalid -> {
                     WeeklyAttendance newJoinWeek = newJoinDate.getJoinWeek();
-                    WeeklyAttendance currentWeek = WeeklyAttendance.getCurrentWeek(this.nowClock);
+                    WeeklyAttendance currentWeek = getCurrentWeek();
                     throw new InvalidRangeException(String.format(
                             MESSAGE_CANNOT_CHANGE_JOIN_DATE, newJoinDate, invalid, newJoinWeek, currentWeek));
                 });
@@ -0,0 +1,19 @@
+package seedu.tutorpal.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A filter of persons whose result for a person depends only on that person, the current month and a key.
+ * <p>
+ * Filters with equal keys give the same result for the same person, so the results a filter gave can be remembered
+ * and reused for any equal filter until the person is edited, instead of testing every person again.
+ */
+public interface CacheablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns the key that determines the results of this filter.
+     * The key must be immutable, and must not equal the key of a filter that may give another result for a person,
+     * including the filters of other classes.
+     */
+    Object getCacheKey();
+}
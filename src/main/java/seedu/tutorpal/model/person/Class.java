@@ -45,6 +45,13 @@ public class Class {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the level of this class, e.g. {@code s4} for {@code s4mon1600}.
+     */
+    public String getLevel() {
+        return value.substring(0, 2);
+    }
+
     @Override
     public String toString() {
         return value;
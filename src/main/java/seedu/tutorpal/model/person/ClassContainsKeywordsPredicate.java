@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.tutorpal.commons.util.ToStringBuilder;
 
@@ -12,7 +11,7 @@ import seedu.tutorpal.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Class} matches any of the keywords given.
  */
-public class ClassContainsKeywordsPredicate implements Predicate<Person> {
+public class ClassContainsKeywordsPredicate implements CacheablePredicate {
     private final List<String> keywords;
 
     public ClassContainsKeywordsPredicate(List<String> keywords) {
@@ -29,13 +28,34 @@ public class ClassContainsKeywordsPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
-        if (!keywords.equals(Collections.emptyList()) && keywords.get(0).isEmpty()) {
+        if (matchesAllStudents()) {
             return person.getRole() == Role.STUDENT;
         }
+        return person.getClasses().stream().anyMatch(this::matchesClass);
+    }
+
+    /**
+     * Returns true if this predicate matches every student whatever their classes, as it does when its first
+     * keyword is empty.
+     */
+    public boolean matchesAllStudents() {
+        return !keywords.equals(Collections.emptyList()) && keywords.get(0).isEmpty();
+    }
+
+    /**
+     * Returns true if {@code personClass} contains any of the keywords, ignoring case.
+     * Unless it {@link #matchesAllStudents() matches all students}, this predicate matches the persons taking such a
+     * class.
+     */
+    public boolean matchesClass(Class personClass) {
+        requireNonNull(personClass);
         return keywords.stream()
-                .anyMatch(keyword -> person.getClasses().stream()
-                        .anyMatch(personClass -> personClass.value.toLowerCase()
-                        .contains(keyword.toLowerCase())));
+                .anyMatch(keyword -> personClass.value.toLowerCase().contains(keyword.toLowerCase()));
+    }
+
+    @Override
+    public Object getCacheKey() {
+        return List.of(ClassContainsKeywordsPredicate.class, List.copyOf(keywords));
     }
 
     @Override
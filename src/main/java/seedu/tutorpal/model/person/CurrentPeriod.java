@@ -0,0 +1,188 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Publishes the current date, month and ISO week, which payment statuses and the weeks that attendance may be
+ * marked for depend on.
+ * <p>
+ * The month and week only change at midnight, so they are worked out from the clock once a day, and reading them
+ * otherwise costs one read of the clock. Each change of the month or week starts a new period, numbered by
+ * {@link #getPeriodNumber()}, so that anything computed for an earlier period can be recognised as out of date. The
+ * listeners are told of the new period on the next {@link #refresh()}, once for all changes since the last one, so
+ * that they can drop what was computed for the earlier period in one batch.
+ * <p>
+ * The clock can be replaced, e.g. with a fixed clock in tests, which makes everything that depends on the current
+ * period deterministic.
+ */
+public final class CurrentPeriod {
+    // Listeners are held weakly, so that registering does not keep them from being collected.
+    private static final Map<Runnable, Boolean> listeners = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Period period = new Period(clock, 0);
+    private static int notifiedPeriodNumber;
+
+    private CurrentPeriod() {
+    }
+
+    /**
+     * Returns the clock the current period is taken from.
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Takes the current period from {@code newClock} from now on, and tells the listeners if that changes the
+     * month or week.
+     */
+    public static void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+        refresh();
+    }
+
+    /**
+     * Returns the current date.
+     */
+    public static LocalDate getDate() {
+        return getPeriod().date;
+    }
+
+    /**
+     * Returns the current date according to {@code clock}, which is taken from the current period if {@code clock}
+     * is the clock of the current period.
+     */
+    public static LocalDate getDate(Clock clock) {
+        requireNonNull(clock);
+        return clock == CurrentPeriod.clock ? getDate() : LocalDate.now(clock);
+    }
+
+    /**
+     * Returns the current month.
+     */
+    public static YearMonth getMonth() {
+        return getPeriod().month;
+    }
+
+    /**
+     * Returns the current ISO week.
+     */
+    public static WeeklyAttendance getWeek() {
+        return getPeriod().week;
+    }
+
+    /**
+     * Returns the current ISO week according to {@code clock}, which is taken from the current period if
+     * {@code clock} is the clock of the current period.
+     */
+    public static WeeklyAttendance getWeek(Clock clock) {
+        requireNonNull(clock);
+        return clock == CurrentPeriod.clock ? getWeek() : WeeklyAttendance.at(LocalDate.now(clock));
+    }
+
+    /**
+     * Returns the number of the current period, which is incremented each time the month or week changes.
+     */
+    public static int getPeriodNumber() {
+        return getPeriod().number;
+    }
+
+    /**
+     * Returns the number of milliseconds until the current date ends.
+     */
+    public static long getMillisUntilNextDay() {
+        Period current = getPeriod();
+        return current.endMillis - clock.millis();
+    }
+
+    /**
+     * Tells the listeners if the month or week has changed since they were last told.
+     */
+    public static void refresh() {
+        int periodNumber = getPeriodNumber();
+        List<Runnable> toNotify;
+        synchronized (CurrentPeriod.class) {
+            if (periodNumber == notifiedPeriodNumber) {
+                return;
+            }
+            notifiedPeriodNumber = periodNumber;
+            synchronized (listeners) {
+                toNotify = new ArrayList<>(listeners.keySet());
+            }
+        }
+        toNotify.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers {@code listener} to be run when the month or week changes. The listener is held weakly, so the
+     * caller must keep a reference to it for as long as it should be run.
+     */
+    public static void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.put(listener, Boolean.TRUE);
+    }
+
+    /**
+     * Stops running {@code listener} when the month or week changes.
+     */
+    public static void removeListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the current period, working it out again if the clock has left the day it was worked out for.
+     */
+    private static Period getPeriod() {
+        Period current = period;
+        Clock currentClock = clock;
+        long millis = currentClock.millis();
+        if (current.clock == currentClock && millis >= current.startMillis && millis < current.endMillis) {
+            return current;
+        }
+        synchronized (CurrentPeriod.class) {
+            if (period == current) {
+                Period next = new Period(currentClock, current.number);
+                if (!next.month.equals(current.month) || !next.week.equals(current.week)) {
+                    next = new Period(currentClock, current.number + 1);
+                }
+                period = next;
+            }
+            return period;
+        }
+    }
+
+    /**
+     * The date, month and week of a day, and the instants at which that day starts and ends.
+     */
+    private static class Period {
+        private final Clock clock;
+        private final int number;
+        private final LocalDate date;
+        private final YearMonth month;
+        private final WeeklyAttendance week;
+        private final long startMillis;
+        private final long endMillis;
+
+        Period(Clock clock, int number) {
+            this.clock = clock;
+            this.number = number;
+            date = LocalDate.now(clock);
+            month = YearMonth.from(date);
+            week = WeeklyAttendance.at(date);
+            startMillis = date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            endMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -50,14 +50,14 @@ public final class JoinDate {
      * Gives current date as JoinDate
      */
     public static JoinDate now() {
-        return new JoinDate(LocalDate.now());
+        return new JoinDate(CurrentPeriod.getDate());
     }
 
     /**
      * Testable version of now
      */
     public static JoinDate now(Clock nowClock) {
-        return new JoinDate(LocalDate.now(nowClock));
+        return new JoinDate(CurrentPeriod.getDate(nowClock));
     }
 
     /**
@@ -69,7 +69,7 @@ public final class JoinDate {
         try {
             LocalDate date = LocalDate.parse(test, DATE_FORMATTER);
             // Must be year 2000 or later, and not in the future
-            return date.getYear() >= 2000 && !date.isAfter(LocalDate.now());
+            return date.getYear() >= 2000 && !date.isAfter(CurrentPeriod.getDate());
         } catch (DateTimeParseException e) {
             return false;
         }
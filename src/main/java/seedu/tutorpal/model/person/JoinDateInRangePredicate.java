@@ -0,0 +1,68 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} joined within a range of dates, either end of which may be open.
+ */
+public class JoinDateInRangePredicate implements CacheablePredicate {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a predicate matching the persons who joined from {@code from} to {@code to}, both inclusive.
+     * Either may be null to leave that end of the range open, but not both.
+     */
+    public JoinDateInRangePredicate(LocalDate from, LocalDate to) {
+        assert from != null || to != null : "At least one end of the range should be given";
+        this.from = from;
+        this.to = to;
+    }
+
+    public Optional<LocalDate> getFrom() {
+        return Optional.ofNullable(from);
+    }
+
+    public Optional<LocalDate> getTo() {
+        return Optional.ofNullable(to);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        LocalDate joinDate = person.getJoinDate().toLocalDate();
+        return (from == null || !joinDate.isBefore(from)) && (to == null || !joinDate.isAfter(to));
+    }
+
+    @Override
+    public Object getCacheKey() {
+        return Arrays.asList(JoinDateInRangePredicate.class, from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JoinDateInRangePredicate)) {
+            return false;
+        }
+
+        JoinDateInRangePredicate otherPredicate = (JoinDateInRangePredicate) other;
+        return Objects.equals(from, otherPredicate.from) && Objects.equals(to, otherPredicate.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} has been overdue for at least a number of months, that is, that the oldest month
+ * before the current one they have not paid for is at least that many months ago.
+ */
+public class MonthsOverduePredicate implements CacheablePredicate {
+    private final int months;
+
+    /**
+     * Creates a predicate matching the persons overdue for at least {@code months} months, which must be positive.
+     */
+    public MonthsOverduePredicate(int months) {
+        assert months > 0 : "Months overdue should be positive";
+        this.months = months;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    /**
+     * Returns the latest month that the oldest unpaid month of a matching person can be, as of the current month.
+     */
+    public YearMonth getOverdueSince() {
+        return CurrentPeriod.getMonth().minusMonths(months);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        YearMonth overdueSince = getOverdueSince();
+        return person.getPaymentHistory().getOldestOverdueMonth()
+                .map(month -> !month.isAfter(overdueSince))
+                .orElse(false);
+    }
+
+    @Override
+    public Object getCacheKey() {
+        return List.of(MonthsOverduePredicate.class, months);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MonthsOverduePredicate)) {
+            return false;
+        }
+
+        MonthsOverduePredicate otherPredicate = (MonthsOverduePredicate) other;
+        return months == otherPredicate.months;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("months", months).toString();
+    }
+}
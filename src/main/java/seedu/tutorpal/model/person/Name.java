@@ -3,6 +3,8 @@ package seedu.tutorpal.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -32,6 +34,13 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns the words of this name.
+     */
+    public List<String> getWords() {
+        return List.of(fullName.trim().split("\\s+"));
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
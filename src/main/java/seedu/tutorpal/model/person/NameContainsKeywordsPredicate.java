@@ -3,7 +3,6 @@ package seedu.tutorpal.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.tutorpal.commons.util.StringUtil;
 import seedu.tutorpal.commons.util.ToStringBuilder;
@@ -12,7 +11,7 @@ import seedu.tutorpal.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements CacheablePredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -26,6 +25,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public Object getCacheKey() {
+        return List.of(NameContainsKeywordsPredicate.class, List.copyOf(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
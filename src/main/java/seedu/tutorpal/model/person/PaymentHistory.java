@@ -2,9 +2,11 @@ package seedu.tutorpal.model.person;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -59,7 +61,7 @@ public class PaymentHistory {
     private Set<MonthlyPayment> initializePaymentHistory(LocalDate joinDate) {
         assert joinDate != null : "Join date cannot be null";
         Set<MonthlyPayment> payments = new HashSet<>();
-        YearMonth currentMonth = YearMonth.now();
+        YearMonth currentMonth = CurrentPeriod.getMonth();
         YearMonth joinMonth = YearMonth.from(joinDate);
         YearMonth month = joinMonth;
         while (!month.isAfter(currentMonth)) {
@@ -133,6 +135,22 @@ public class PaymentHistory {
         return new PaymentHistory(joinDate, newPayments);
     }
 
+    /**
+     * Marks each of the given months as paid, copying the payment records only once.
+     *
+     * @param months The months to mark as paid (must not be null)
+     * @return A new PaymentHistory with the updated payment status
+     * @throws IllegalArgumentException if any month is before join date or in the future
+     */
+    public PaymentHistory markMonthsAsPaid(Collection<YearMonth> months) {
+        assert months != null : "Months cannot be null";
+        months.forEach(this::validateMonth);
+        Set<MonthlyPayment> newPayments = new HashSet<>(monthlyPayments);
+        newPayments.removeIf(payment -> months.contains(payment.getMonth()));
+        months.forEach(month -> newPayments.add(new MonthlyPayment(month, true)));
+        return new PaymentHistory(joinDate, newPayments);
+    }
+
     /**
      * Deletes the payment record for a specific month, if present.
      * After deletion, queries like isMonthPaid(month) will return false for the deleted month.
@@ -186,7 +204,7 @@ public class PaymentHistory {
         if (month.isBefore(YearMonth.from(joinDate))) {
             throw new IllegalArgumentException("Cannot mark payment for month before join date");
         }
-        if (month.isAfter(YearMonth.now())) {
+        if (month.isAfter(CurrentPeriod.getMonth())) {
             throw new IllegalArgumentException("Cannot mark payment for future month");
         }
     }
@@ -195,19 +213,29 @@ public class PaymentHistory {
      * @return the overall payment status
      */
     public String getOverallStatus() {
-        YearMonth currentMonth = YearMonth.now();
-        YearMonth joinMonth = YearMonth.from(joinDate);
         // Check if any previous month is unpaid (overdue)
-        YearMonth month = joinMonth;
+        if (getOldestOverdueMonth().isPresent()) {
+            return "overdue";
+        }
+        // Check current month
+        boolean currentMonthPaid = isMonthPaid(CurrentPeriod.getMonth());
+        return currentMonthPaid ? "paid" : "unpaid";
+    }
+
+    /**
+     * Returns the earliest month before the current month that is not paid, if there is one.
+     * The person has been overdue since that month.
+     */
+    public Optional<YearMonth> getOldestOverdueMonth() {
+        YearMonth currentMonth = CurrentPeriod.getMonth();
+        YearMonth month = YearMonth.from(joinDate);
         while (month.isBefore(currentMonth)) {
             if (!isMonthPaid(month)) {
-                return "overdue";
+                return Optional.of(month);
             }
             month = month.plusMonths(1);
         }
-        // Check current month
-        boolean currentMonthPaid = isMonthPaid(currentMonth);
-        return currentMonthPaid ? "paid" : "unpaid";
+        return Optional.empty();
     }
 
     /**
@@ -4,14 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.tutorpal.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Payment} status matches any of the keywords given.
  */
-public class PaymentStatusMatchesPredicate implements Predicate<Person> {
+public class PaymentStatusMatchesPredicate implements CacheablePredicate {
     private final List<String> keywords;
 
     public PaymentStatusMatchesPredicate(List<String> keywords) {
@@ -28,9 +27,20 @@ public class PaymentStatusMatchesPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         requireNonNull(person);
-        Payment paymentStatus = person.getPaymentStatus();
-        return keywords.stream()
-                .anyMatch(keyword -> paymentStatus.value.equalsIgnoreCase(keyword));
+        return matchesStatus(person.getPaymentStatus().value);
+    }
+
+    /**
+     * Returns true if {@code paymentStatus} is any of the keywords, ignoring case.
+     */
+    public boolean matchesStatus(String paymentStatus) {
+        requireNonNull(paymentStatus);
+        return keywords.stream().anyMatch(paymentStatus::equalsIgnoreCase);
+    }
+
+    @Override
+    public Object getCacheKey() {
+        return List.of(PaymentStatusMatchesPredicate.class, List.copyOf(keywords));
     }
 
     @Override
@@ -98,7 +98,7 @@ public abstract class Person {
      */
     public static void ensureValidJoinDate(JoinDate joinDate, Clock nowClock) {
         requireAllNonNull(joinDate, nowClock);
-        LocalDate currentDate = LocalDate.now(nowClock);
+        LocalDate currentDate = CurrentPeriod.getDate(nowClock);
         if (joinDate.isAfter(currentDate)) {
             throw new IllegalArgumentException(Person.MESSAGE_INVALID_JOIN_DATE);
         }
@@ -135,7 +135,7 @@ public abstract class Person {
      */
     public String printPaymentHistory() {
         HashMap<YearMonth, Boolean> paymentMonths = new HashMap<>();
-        YearMonth today = YearMonth.now();
+        YearMonth today = CurrentPeriod.getMonth();
         for (int i = 0; i < 6; i++) {
             paymentMonths.put(today.minusMonths(i), false);
         }
@@ -179,6 +179,14 @@ public abstract class Person {
                 && otherPerson.getPhone().equals(getPhone());
     }
 
+    /**
+     * Returns a value that is equal for two persons exactly when {@link #isSamePerson(Person)} is true for them,
+     * so that persons can be matched by identity with a hash lookup instead of comparing them pairwise.
+     */
+    public List<Object> getIdentityKey() {
+        return List.of(getName(), getPhone());
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -0,0 +1,90 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches all of the given class, tutor, payment status, join date and months overdue
+ * filters, any of which may be absent. A query without filters matches every person.
+ * <p>
+ * The model finds the persons matching a query through its indexes rather than by testing every person, so the
+ * filters are kept apart instead of being chained into one predicate.
+ */
+public class PersonQuery implements CacheablePredicate {
+    private final ClassContainsKeywordsPredicate classPredicate;
+    private final StudentBelongsToTutorPredicate tutorPredicate;
+    private final PaymentStatusMatchesPredicate paymentStatusPredicate;
+    private final JoinDateInRangePredicate joinDatePredicate;
+    private final MonthsOverduePredicate monthsOverduePredicate;
+
+    /**
+     * Creates a query of the given filters, each of which may be null if it is absent.
+     */
+    public PersonQuery(ClassContainsKeywordsPredicate classPredicate, StudentBelongsToTutorPredicate tutorPredicate,
+            PaymentStatusMatchesPredicate paymentStatusPredicate, JoinDateInRangePredicate joinDatePredicate,
+            MonthsOverduePredicate monthsOverduePredicate) {
+        this.classPredicate = classPredicate;
+        this.tutorPredicate = tutorPredicate;
+        this.paymentStatusPredicate = paymentStatusPredicate;
+        this.joinDatePredicate = joinDatePredicate;
+        this.monthsOverduePredicate = monthsOverduePredicate;
+    }
+
+    public Optional<ClassContainsKeywordsPredicate> getClassPredicate() {
+        return Optional.ofNullable(classPredicate);
+    }
+
+    public Optional<StudentBelongsToTutorPredicate> getTutorPredicate() {
+        return Optional.ofNullable(tutorPredicate);
+    }
+
+    public Optional<PaymentStatusMatchesPredicate> getPaymentStatusPredicate() {
+        return Optional.ofNullable(paymentStatusPredicate);
+    }
+
+    public Optional<JoinDateInRangePredicate> getJoinDatePredicate() {
+        return Optional.ofNullable(joinDatePredicate);
+    }
+
+    public Optional<MonthsOverduePredicate> getMonthsOverduePredicate() {
+        return Optional.ofNullable(monthsOverduePredicate);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        requireNonNull(person);
+        return getFilters().stream().allMatch(filter -> filter.test(person));
+    }
+
+    @Override
+    public Object getCacheKey() {
+        return List.of(PersonQuery.class, getFilters().stream().map(CacheablePredicate::getCacheKey).toList());
+    }
+
+    /**
+     * Returns the filters that are present, in a fixed order.
+     */
+    private List<CacheablePredicate> getFilters() {
+        return Stream.of(classPredicate, tutorPredicate, paymentStatusPredicate, joinDatePredicate,
+                        monthsOverduePredicate)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("classPredicate", classPredicate)
+                .add("tutorPredicate", tutorPredicate)
+                .add("paymentStatusPredicate", paymentStatusPredicate)
+                .add("joinDatePredicate", joinDatePredicate)
+                .add("monthsOverduePredicate", monthsOverduePredicate)
+                .toString();
+    }
+}
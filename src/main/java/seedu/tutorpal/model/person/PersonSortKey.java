@@ -0,0 +1,168 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.tutorpal.commons.util.ToStringBuilder;
+
+/**
+ * The values a {@code Person} is sorted and tabulated by, computed once when the person is added to the address book.
+ * <p>
+ * Comparing these keys takes a few field reads, whereas comparing persons directly would work out each person's
+ * payment status from their payment history on every comparison.
+ * Guarantees: immutable. The payment status, months overdue and absences are those of the month and week in which
+ * the key was computed.
+ */
+public final class PersonSortKey {
+
+    public static final Comparator<PersonSortKey> BY_NAME = Comparator.comparing(key -> key.nameKey);
+    public static final Comparator<PersonSortKey> BY_ROLE = Comparator.comparing(key -> key.role);
+    public static final Comparator<PersonSortKey> BY_CLASSES = Comparator.comparing(key -> key.classes);
+    public static final Comparator<PersonSortKey> BY_JOIN_DATE = Comparator.comparing(key -> key.joinDate);
+    public static final Comparator<PersonSortKey> BY_PAYMENT_STATUS = Comparator.comparingInt(
+            key -> key.paymentStatusRank);
+    public static final Comparator<PersonSortKey> BY_ATTENDANCE_COUNT = Comparator.comparingInt(
+            key -> key.attendanceCount);
+
+    /** Payment statuses, in the order they are sorted in: settled before owing. */
+    private static final List<String> PAYMENT_STATUS_ORDER = List.of("paid", "unpaid", "overdue");
+
+    private final String name;
+    private final String nameKey;
+    private final Role role;
+    private final String classes;
+    private final LocalDate joinDate;
+    private final String paymentStatus;
+    private final int paymentStatusRank;
+    private final YearMonth oldestOverdueMonth;
+    private final int attendanceCount;
+    private final int monthsOverdue;
+    private final int absenceStreak;
+
+    /**
+     * Computes the sort key of {@code person}.
+     */
+    public PersonSortKey(Person person) {
+        requireNonNull(person);
+        name = person.getName().fullName;
+        nameKey = name.toLowerCase();
+        role = person.getRole();
+        classes = person.getClasses().stream()
+                .map(personClass -> personClass.value)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        joinDate = person.getJoinDate().toLocalDate();
+        paymentStatus = person.getPaymentStatus().value;
+        paymentStatusRank = PAYMENT_STATUS_ORDER.indexOf(paymentStatus);
+        oldestOverdueMonth = person.getPaymentHistory().getOldestOverdueMonth().orElse(null);
+        AttendanceHistory attendanceHistory = person.hasAttendanceHistory() ? person.getAttendanceHistory() : null;
+        attendanceCount = attendanceHistory == null ? -1 : attendanceHistory.getWeeklyAttendances().size();
+        monthsOverdue = oldestOverdueMonth == null
+                ? 0
+                : (int) ChronoUnit.MONTHS.between(oldestOverdueMonth, CurrentPeriod.getMonth());
+        absenceStreak = attendanceHistory == null ? 0 : attendanceHistory.getAbsenceStreak();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the classes of the person, sorted and separated by commas.
+     */
+    public String getClasses() {
+        return classes;
+    }
+
+    public LocalDate getJoinDate() {
+        return joinDate;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    /**
+     * Returns the earliest month before the month of this key that the person has not paid for, if there is one.
+     */
+    public Optional<YearMonth> getOldestOverdueMonth() {
+        return Optional.ofNullable(oldestOverdueMonth);
+    }
+
+    /**
+     * Returns the number of weeks the person attended, or -1 if the person does not take attendance.
+     */
+    public int getAttendanceCount() {
+        return attendanceCount;
+    }
+
+    /**
+     * Returns the number of months since the person's oldest overdue month, or 0 if the person is not overdue.
+     */
+    public int getMonthsOverdue() {
+        return monthsOverdue;
+    }
+
+    /**
+     * Returns the number of weeks in a row the person has been absent, or 0 if the person does not take attendance.
+     *
+     * @see AttendanceHistory#getAbsenceStreak()
+     */
+    public int getAbsenceStreak() {
+        return absenceStreak;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortKey)) {
+            return false;
+        }
+
+        PersonSortKey otherKey = (PersonSortKey) other;
+        return name.equals(otherKey.name)
+                && role == otherKey.role
+                && classes.equals(otherKey.classes)
+                && joinDate.equals(otherKey.joinDate)
+                && paymentStatus.equals(otherKey.paymentStatus)
+                && Objects.equals(oldestOverdueMonth, otherKey.oldestOverdueMonth)
+                && attendanceCount == otherKey.attendanceCount
+                && absenceStreak == otherKey.absenceStreak;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, role, classes, joinDate, paymentStatus, oldestOverdueMonth, attendanceCount,
+                absenceStreak);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("role", role)
+                .add("classes", classes)
+                .add("joinDate", joinDate)
+                .add("paymentStatus", paymentStatus)
+                .add("oldestOverdueMonth", oldestOverdueMonth)
+                .add("attendanceCount", attendanceCount)
+                .add("absenceStreak", absenceStreak)
+                .toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.tutorpal.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * A measure by which persons are ranked, highest first, to find those most at risk.
+ * Guarantees: immutable and type-safe.
+ */
+public enum Ranking {
+    ABSENCES("absences", "weeks absent in a row"),
+    MONTHS_OVERDUE("overdue", "months overdue");
+
+    public static final String MESSAGE_CONSTRAINTS = "Persons can only be ranked by absences or overdue.";
+
+    private final String keyword;
+    private final String description;
+
+    Ranking(String keyword, String description) {
+        this.keyword = keyword;
+        this.description = description;
+    }
+
+    /**
+     * Returns the ranking with the given keyword, ignoring case and surrounding spaces, if there is one.
+     */
+    public static Optional<Ranking> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        String trimmed = keyword.trim().toLowerCase();
+        for (Ranking ranking : values()) {
+            if (ranking.keyword.equals(trimmed)) {
+                return Optional.of(ranking);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns what the value of this ranking counts, e.g. {@code months overdue}.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the value of this ranking for the person with {@code sortKey}. Persons with a higher value rank higher,
+     * and those with 0 are not ranked.
+     */
+    public int getValue(PersonSortKey sortKey) {
+        requireNonNull(sortKey);
+        switch (this) {
+        case ABSENCES:
+            return sortKey.getAbsenceStreak();
+        case MONTHS_OVERDUE:
+            return sortKey.getMonthsOverdue();
+        default:
+            throw new AssertionError(this);
+        }
+    }
+
+    /**
+     * Returns a comparator that orders sort keys from the highest value of this ranking to the lowest, and those of
+     * equal value by name.
+     */
+    public Comparator<PersonSortKey> comparator() {
+        return Comparator.comparingInt(this::getValue).reversed().thenComparing(PersonSortKey.BY_NAME);
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
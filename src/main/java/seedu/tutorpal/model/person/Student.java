@@ -25,7 +25,7 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Class> classes,
             JoinDate joinDate) {
-        this(name, phone, email, address, classes, joinDate, null, Clock.systemDefaultZone(),
+        this(name, phone, email, address, classes, joinDate, null, null,
                 new PaymentHistory(joinDate.toLocalDate()));
     }
 
@@ -35,7 +35,7 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Class> classes,
                    JoinDate joinDate, PaymentHistory paymentHistory) {
-        this(name, phone, email, address, classes, joinDate, null, Clock.systemDefaultZone(), paymentHistory);
+        this(name, phone, email, address, classes, joinDate, null, null, paymentHistory);
     }
 
     /**
@@ -54,7 +54,7 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Class> classes,
                    JoinDate joinDate, AttendanceHistory attendanceHistory) {
-        this(name, phone, email, address, classes, joinDate, attendanceHistory, Clock.systemDefaultZone(),
+        this(name, phone, email, address, classes, joinDate, attendanceHistory, null,
                 new PaymentHistory(joinDate.toLocalDate()));
     }
 
@@ -73,23 +73,24 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address, Set<Class> classes,
                    JoinDate joinDate, AttendanceHistory attendanceHistory, PaymentHistory paymentHistory) {
-        this(name, phone, email, address, classes, joinDate, attendanceHistory, Clock.systemDefaultZone(),
+        this(name, phone, email, address, classes, joinDate, attendanceHistory, null,
                 paymentHistory);
     }
 
     /**
-     * Private constructor: inject a Clock to control "now".
-     * If attendanceHistory is null, it will be constructed from joinDate and
+     * Private constructor: inject a Clock to control "now", or null to take it from {@link CurrentPeriod}
+     * whenever it is needed. If attendanceHistory is null, it will be constructed from joinDate and
      * nowClock.
      */
     private Student(Name name, Phone phone, Email email, Address address, Set<Class> classes,
             JoinDate joinDate, AttendanceHistory attendanceHistory, Clock nowClock,
             PaymentHistory paymentHistory) {
-        super(name, phone, email, address, classes, joinDate, paymentHistory, nowClock);
+        super(name, phone, email, address, classes, joinDate, paymentHistory,
+                nowClock == null ? CurrentPeriod.getClock() : nowClock);
         validateClassSize(classes);
         AttendanceHistory normalized = attendanceHistory != null
                 ? attendanceHistory
-                : new AttendanceHistory(joinDate, nowClock);
+                : nowClock == null ? new AttendanceHistory(joinDate) : new AttendanceHistory(joinDate, nowClock);
         validateJoinDateSync(normalized, this.getJoinDate());
         this.attendanceHistory = normalized;
     }
@@ -147,7 +148,7 @@ public class Student extends Person {
      */
     public String printAttendanceHistory() {
         HashMap<WeeklyAttendance, Boolean> attendanceWeeks = new HashMap<>();
-        LocalDate today = LocalDate.now();
+        LocalDate today = CurrentPeriod.getDate();
         WeeklyAttendance todayWeeklyAttendance = WeeklyAttendance.of(today);
         for (int i = 0; i < 10; i++) {
             attendanceWeeks.put(todayWeeklyAttendance.minusWeeks(i), false);
@@ -1,7 +1,7 @@
 package seedu.tutorpal.model.person;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.tutorpal.commons.util.StringUtil;
@@ -11,7 +11,7 @@ import seedu.tutorpal.commons.util.ToStringBuilder;
  * Tests that a {@code Person}'s {@code Class} matches any of the tutor's classes.
  * This predicate finds tutors by name and filters students who share classes with them.
  */
-public class StudentBelongsToTutorPredicate implements Predicate<Person> {
+public class StudentBelongsToTutorPredicate implements CacheablePredicate {
     private final List<String> tutorNames;
     private List<String> tutorClassKeywords;
 
@@ -51,9 +51,19 @@ public class StudentBelongsToTutorPredicate implements Predicate<Person> {
             return false;
         }
         // Check if student has any classes that match the tutor's classes
+        return person.getClasses().stream().anyMatch(this::matchesClass);
+    }
+
+    /**
+     * Returns true if {@code studentClass} is one of the tutor's classes found so far.
+     * This predicate matches the students taking such a class.
+     */
+    public boolean matchesClass(Class studentClass) {
+        if (tutorClassKeywords == null) {
+            return false;
+        }
         return tutorClassKeywords.stream()
-                .anyMatch(tutorClass -> person.getClasses().stream()
-                        .anyMatch(studentClass -> StringUtil.containsWordIgnoreCase(studentClass.value, tutorClass)));
+                .anyMatch(tutorClass -> StringUtil.containsWordIgnoreCase(studentClass.value, tutorClass));
     }
 
     /**
@@ -72,6 +82,15 @@ public class StudentBelongsToTutorPredicate implements Predicate<Person> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns a key made of the tutor names and the tutor class keywords set so far, as the results depend on both.
+     */
+    @Override
+    public Object getCacheKey() {
+        return Arrays.asList(StudentBelongsToTutorPredicate.class, List.copyOf(tutorNames),
+                tutorClassKeywords == null ? null : List.copyOf(tutorClassKeywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -19,7 +19,7 @@ public class Tutor extends Person {
      */
     public Tutor(Name name, Phone phone, Email email, Address address, Set<Class> classes,
                  JoinDate joinDate) {
-        this(name, phone, email, address, classes, joinDate, null, Clock.systemDefaultZone(),
+        this(name, phone, email, address, classes, joinDate, null, CurrentPeriod.getClock(),
                 new PaymentHistory(joinDate.toLocalDate()));
     }
 
@@ -28,7 +28,7 @@ public class Tutor extends Person {
      */
     public Tutor(Name name, Phone phone, Email email, Address address, Set<Class> classes,
                  JoinDate joinDate, PaymentHistory paymentHistory) {
-        this(name, phone, email, address, classes, joinDate, null, Clock.systemDefaultZone(),
+        this(name, phone, email, address, classes, joinDate, null, CurrentPeriod.getClock(),
                 paymentHistory);
     }
 
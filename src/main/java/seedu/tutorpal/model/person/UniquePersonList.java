@@ -3,11 +3,28 @@ package seedu.tutorpal.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.tutorpal.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.tutorpal.commons.util.BatchedObservableList;
+import seedu.tutorpal.commons.util.PersistentList;
+import seedu.tutorpal.commons.util.TrigramIndex;
 import seedu.tutorpal.model.person.exceptions.DuplicatePersonException;
 import seedu.tutorpal.model.person.exceptions.PersonNotFoundException;
 
@@ -24,9 +41,26 @@ import seedu.tutorpal.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Person> internalList = new BatchedObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Structurally shared mirror of internalList, so that snapshots of this list can be taken in O(1).
+    private PersistentList<Person> persistentList = PersistentList.empty();
+    // Persons taking each class, so that a class roster can be looked up without scanning the list.
+    private final Map<Class, Set<Person>> personsByClass = new HashMap<>();
+    // Words of the persons' names, so that similarly spelt names can be found without comparing against every name.
+    // Null after the whole list is replaced, and rebuilt on the next search, as that is rarer than replacements.
+    private TrigramIndex nameWordIndex;
+    // Sort key of each person in the list, by identity. Keys are added before a person enters the list, so that
+    // sorted views of the list find them while the change is propagated, and computed afresh in a new period.
+    private Map<Person, PersonSortKey> sortKeys = new IdentityHashMap<>();
+    private int sortKeysPeriod = CurrentPeriod.getPeriodNumber();
+    // Persons with each payment status, by identity, as given by their sort keys and recomputed with them.
+    private final Map<String, Set<Person>> personsByPaymentStatus = new HashMap<>();
+    // Persons by join date, and by the oldest month they are overdue for as given by their sort keys, by identity,
+    // so that the persons in a range of either can be found in O(log n + k).
+    private final NavigableMap<LocalDate, Set<Person>> personsByJoinDate = new TreeMap<>();
+    private final NavigableMap<YearMonth, Set<Person>> personsByOldestOverdueMonth = new TreeMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -45,7 +79,37 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addSortKey(toAdd);
         internalList.add(toAdd);
+        persistentList = persistentList.add(toAdd);
+        indexPerson(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, notifying listeners of a single change.
+     * Identities are checked with one hash lookup per person rather than a scan of the list.
+     * None of the persons may already exist in the list, or appear twice in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<List<Object>> identities = new HashSet<>();
+        for (Person person : internalList) {
+            identities.add(person.getIdentityKey());
+        }
+        for (Person person : toAdd) {
+            if (!identities.add(person.getIdentityKey())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        PersistentList<Person> updatedPersistentList = persistentList;
+        for (Person person : toAdd) {
+            updatedPersistentList = updatedPersistentList.add(person);
+        }
+        toAdd.forEach(this::addSortKey);
+        internalList.addAll(toAdd);
+        persistentList = updatedPersistentList;
+        toAdd.forEach(this::indexPerson);
     }
 
     /**
@@ -65,7 +129,60 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        addSortKey(editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        persistentList = persistentList.set(index, editedPerson);
+        unindexPerson(replaced);
+        indexPerson(editedPerson);
+    }
+
+    /**
+     * Replaces each key of {@code replacements} in the list with its value, in a single list change that covers only
+     * the replaced positions.
+     * Every key must exist in the list.
+     * The person identity of each value must not be the same as another existing person in the resulting list.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        List<Person> updatedList = new ArrayList<>(internalList);
+        PersistentList<Person> updatedPersistentList = persistentList;
+        List<Integer> replacedIndexes = new ArrayList<>();
+        List<Person> replacedPersons = new ArrayList<>();
+        for (int i = 0; i < updatedList.size(); i++) {
+            Person editedPerson = replacements.get(updatedList.get(i));
+            if (editedPerson != null) {
+                replacedIndexes.add(i);
+                replacedPersons.add(updatedList.set(i, editedPerson));
+                updatedPersistentList = updatedPersistentList.set(i, editedPerson);
+            }
+        }
+        if (replacedPersons.size() != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            Person editedPerson = replacement.getValue();
+            if (!replacement.getKey().isSamePerson(editedPerson)
+                    && updatedList.stream().anyMatch(p -> p != editedPerson && p.isSamePerson(editedPerson))) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        replacements.values().forEach(this::addSortKey);
+        internalList.batch(() -> replacedIndexes.forEach(i -> internalList.set(i, updatedList.get(i))));
+        persistentList = updatedPersistentList;
+        replacedPersons.forEach(this::unindexPerson);
+        replacements.values().forEach(this::indexPerson);
+    }
+
+    /**
+     * Runs {@code updates}, which may update this list through any of its methods, and reports all of the updates to
+     * the listeners of {@link #asUnmodifiableObservableList()} as a single list change once it returns. Until then,
+     * lists derived from that list, such as a {@code FilteredList} of it, do not reflect the updates.
+     * If {@code updates} throws, the updates made before it threw are kept and reported, and the exception is
+     * rethrown.
+     */
+    public void batch(Runnable updates) {
+        internalList.batch(updates);
     }
 
     /**
@@ -74,14 +191,50 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        persistentList = persistentList.remove(index);
+        unindexPerson(removed);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        resetSortKeys(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        reindexPersons();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement} in a single list change.
+     * {@code replacement} must not contain duplicate persons, which holds for any list obtained from
+     * {@link #asPersistentList()} or derived from one through uniqueness-checked updates.
+     * <p>
+     * The change covers only the positions whose persons differ, and only the persons that are taken out or put in
+     * are re-indexed, so restoring a snapshot that differs from the list in a few persons costs little more than
+     * comparing the two lists.
+     */
+    public void setPersons(PersistentList<Person> replacement) {
+        requireNonNull(replacement);
+        refreshSortKeys();
+        List<Person> persons = new ArrayList<>(replacement.size());
+        replacement.forEach(persons::add);
+
+        Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(persons);
+        Set<Person> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(internalList);
+        List<Person> removedPersons = internalList.stream().filter(person -> !kept.contains(person)).toList();
+        List<Person> addedPersons = persons.stream().filter(person -> !current.contains(person)).toList();
+
+        addedPersons.forEach(this::addSortKey);
+        internalList.batch(() -> internalList.setAll(persons));
+        persistentList = replacement;
+        removedPersons.forEach(this::unindexPerson);
+        addedPersons.forEach(this::indexPerson);
     }
 
     /**
@@ -94,7 +247,109 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        resetSortKeys(persons);
         internalList.setAll(persons);
+        persistentList = PersistentList.of(persons);
+        reindexPersons();
+    }
+
+    /**
+     * Returns the persons in the list taking {@code classToFind}, as an unmodifiable view.
+     * Runs in O(1).
+     */
+    public Set<Person> getPersonsInClass(Class classToFind) {
+        requireNonNull(classToFind);
+        Set<Person> persons = personsByClass.get(classToFind);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the classes taken by the persons in the list, as an unmodifiable view.
+     */
+    public Set<Class> getClasses() {
+        return Collections.unmodifiableSet(personsByClass.keySet());
+    }
+
+    /**
+     * Returns the payment statuses that the persons in the list have this month, as an unmodifiable view.
+     */
+    public Set<String> getPaymentStatuses() {
+        refreshSortKeys();
+        return Collections.unmodifiableSet(personsByPaymentStatus.keySet());
+    }
+
+    /**
+     * Returns the persons in the list whose payment status is {@code paymentStatus} this month, as an unmodifiable
+     * view whose {@code contains} tells persons apart by identity.
+     * Runs in O(1), unless the month or week changed since the sort keys were last computed.
+     */
+    public Set<Person> getPersonsWithPaymentStatus(String paymentStatus) {
+        requireNonNull(paymentStatus);
+        refreshSortKeys();
+        Set<Person> persons = personsByPaymentStatus.get(paymentStatus);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the persons in the list who joined from {@code from} to {@code to}, both inclusive, grouped by join
+     * date in ascending order, as unmodifiable views.
+     * Runs in O(log n + k), where k is the number of persons returned.
+     */
+    public List<Set<Person>> getPersonsJoinedBetween(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        return unmodifiableSets(personsByJoinDate.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Returns the persons in the list who have been overdue since {@code month} or earlier, that is, whose oldest
+     * unpaid month before this month is no later than {@code month}, grouped by that month in ascending order, as
+     * unmodifiable views.
+     * Runs in O(log n + k), where k is the number of persons returned, unless the month or week changed since the
+     * sort keys were last computed.
+     */
+    public List<Set<Person>> getPersonsOverdueSince(YearMonth month) {
+        requireNonNull(month);
+        refreshSortKeys();
+        return unmodifiableSets(personsByOldestOverdueMonth.headMap(month, true).values());
+    }
+
+    /**
+     * Returns the words of the persons' names, in lower case, that are within edit distance {@code maxDistance} of
+     * {@code word}, ignoring case. The closest words come first.
+     *
+     * @see TrigramIndex#findSimilar(String, int)
+     */
+    public List<String> findSimilarNameWords(String word, int maxDistance) {
+        return findSimilarNameWords(word, maxDistance, Map.of());
+    }
+
+    /**
+     * Returns the words that {@link #findSimilarNameWords(String, int)} would return if the number of names in the
+     * list with each word in {@code nameWordChanges} were changed by the amount it maps to.
+     */
+    public List<String> findSimilarNameWords(String word, int maxDistance, Map<String, Integer> nameWordChanges) {
+        requireAllNonNull(word, nameWordChanges);
+        if (nameWordIndex == null) {
+            nameWordIndex = new TrigramIndex();
+            internalList.forEach(person -> person.getName().getWords().forEach(nameWordIndex::add));
+        }
+        return nameWordIndex.findSimilar(word, maxDistance, nameWordChanges);
+    }
+
+    /**
+     * Returns a function that looks up the sort key of a person in the list in O(1), or computes it for a person not
+     * in the list. The keys are computed afresh first if the month or week changed since they were last computed, as
+     * the payment statuses and absences of the persons may have changed with it.
+     */
+    public Function<Person, PersonSortKey> getSortKeys() {
+        refreshSortKeys();
+        return person -> {
+            PersonSortKey sortKey = sortKeys.get(person);
+            return sortKey == null ? new PersonSortKey(person) : sortKey;
+        };
     }
 
     /**
@@ -104,6 +359,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the current contents as an immutable {@code PersistentList}. Runs in O(1).
+     */
+    public PersistentList<Person> asPersistentList() {
+        return persistentList;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -134,6 +396,104 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Computes the sort keys afresh if the month or week changed since they were last computed.
+     */
+    private void refreshSortKeys() {
+        if (CurrentPeriod.getPeriodNumber() != sortKeysPeriod) {
+            resetSortKeys(internalList);
+        }
+    }
+
+    private void addSortKey(Person person) {
+        sortKeys.computeIfAbsent(person, PersonSortKey::new);
+    }
+
+    /**
+     * Replaces the sort keys with those of {@code persons}, reusing the keys of the persons already in the list, as
+     * most of them are when the list is restored to a snapshot, unless the month or week changed since they were
+     * computed.
+     */
+    private void resetSortKeys(List<Person> persons) {
+        int currentPeriod = CurrentPeriod.getPeriodNumber();
+        Map<Person, PersonSortKey> previousKeys = currentPeriod == sortKeysPeriod ? sortKeys : Map.of();
+        sortKeys = new IdentityHashMap<>();
+        sortKeysPeriod = currentPeriod;
+        for (Person person : persons) {
+            PersonSortKey sortKey = previousKeys.get(person);
+            sortKeys.put(person, sortKey == null ? new PersonSortKey(person) : sortKey);
+        }
+        personsByPaymentStatus.clear();
+        personsByOldestOverdueMonth.clear();
+        persons.forEach(this::indexPaymentStatus);
+    }
+
+    private void indexPerson(Person person) {
+        addSortKey(person);
+        indexPaymentStatus(person);
+        addToIndex(personsByJoinDate, person.getJoinDate().toLocalDate(), person);
+        for (Class personClass : person.getClasses()) {
+            personsByClass.computeIfAbsent(personClass, unused -> new LinkedHashSet<>()).add(person);
+        }
+        if (nameWordIndex != null) {
+            person.getName().getWords().forEach(nameWordIndex::add);
+        }
+    }
+
+    private void unindexPerson(Person person) {
+        unindexPaymentStatus(sortKeys.remove(person), person);
+        removeFromIndex(personsByJoinDate, person.getJoinDate().toLocalDate(), person);
+        for (Class personClass : person.getClasses()) {
+            Set<Person> persons = personsByClass.get(personClass);
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByClass.remove(personClass);
+            }
+        }
+        if (nameWordIndex != null) {
+            person.getName().getWords().forEach(nameWordIndex::remove);
+        }
+    }
+
+    private void indexPaymentStatus(Person person) {
+        PersonSortKey sortKey = sortKeys.get(person);
+        addToIndex(personsByPaymentStatus, sortKey.getPaymentStatus(), person);
+        sortKey.getOldestOverdueMonth().ifPresent(month -> addToIndex(personsByOldestOverdueMonth, month, person));
+    }
+
+    private void unindexPaymentStatus(PersonSortKey sortKey, Person person) {
+        removeFromIndex(personsByPaymentStatus, sortKey.getPaymentStatus(), person);
+        sortKey.getOldestOverdueMonth().ifPresent(month ->
+                removeFromIndex(personsByOldestOverdueMonth, month, person));
+    }
+
+    private static <K> void addToIndex(Map<K, Set<Person>> index, K key, Person person) {
+        index.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(person);
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<Person>> index, K key, Person person) {
+        Set<Person> persons = index.get(key);
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static List<Set<Person>> unmodifiableSets(Collection<Set<Person>> sets) {
+        List<Set<Person>> unmodifiable = new ArrayList<>(sets.size());
+        sets.forEach(set -> unmodifiable.add(Collections.unmodifiableSet(set)));
+        return unmodifiable;
+    }
+
+    private void reindexPersons() {
+        personsByClass.clear();
+        personsByPaymentStatus.clear();
+        personsByOldestOverdueMonth.clear();
+        personsByJoinDate.clear();
+        nameWordIndex = null;
+        internalList.forEach(this::indexPerson);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
@@ -223,9 +223,7 @@ public final class WeeklyAttendance implements Comparable<WeeklyAttendance> {
      * @throws NullPointerException if {@code clock} is {@code null}.
      */
     public static WeeklyAttendance getCurrentWeek(Clock clock) {
-        requireNonNull(clock);
-        LocalDate currentDate = LocalDate.now(clock);
-        return WeeklyAttendance.at(currentDate);
+        return CurrentPeriod.getWeek(clock);
     }
 
     /**
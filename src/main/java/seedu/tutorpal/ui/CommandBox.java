@@ -1,34 +1,86 @@
 package seedu.tutorpal.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.tutorpal.logic.autocomplete.Completion;
 import seedu.tutorpal.logic.commands.CommandResult;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.parser.Validation;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * Pressing Tab completes the word being typed. Candidates are asked for in the background after every change to the
+ * text or caret, so they are usually ready by the time Tab is pressed. When the candidates share a longer prefix
+ * than what was typed, Tab completes to that prefix; otherwise, repeated presses cycle through the candidates.
+ * <p>
+ * Once typing pauses for {@link #FILTER_DELAY}, the text is passed to the {@code CommandPreviewer}, so that a
+ * {@code find} or {@code list} command can narrow the person list as it is typed.
+ * <p>
+ * The text is also validated after every keystroke. While it has arguments that would make the command fail, the
+ * command box is marked, and its tooltip lists those arguments and what is wrong with them.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String WARNING_STYLE_CLASS = "warning";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration FILTER_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final CommandPreviewer commandPreviewer;
+    private final CommandValidator commandValidator;
+    private final Tooltip problemsTooltip = new Tooltip();
+    private final PauseTransition filterDelay = new PauseTransition(FILTER_DELAY);
+
+    // The latest completion asked for, and the text and caret position it was asked for
+    private CompletableFuture<Completion> pendingCompletion;
+    private String pendingText;
+    private int pendingCaretPosition;
+
+    // The completion whose candidates Tab is cycling through, and the text it applies to
+    private Completion cycledCompletion;
+    private String cycledText;
+    private int cycledIndex;
+
+    private boolean isApplyingCompletion;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code CommandCompleter},
+     * {@code CommandPreviewer} and {@code CommandValidator}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter,
+            CommandPreviewer commandPreviewer, CommandValidator commandValidator) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
+        this.commandPreviewer = commandPreviewer;
+        this.commandValidator = commandValidator;
+        filterDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            showProblems(newText, commandValidator.validate(newText));
+            filterDelay.playFromStart();
+            handleInputChanged();
+        });
+        commandTextField.caretPositionProperty().addListener((unused1, unused2, unused3) -> handleInputChanged());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -40,6 +92,7 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        filterDelay.stop();
 
         try {
             commandExecutor.execute(commandText);
@@ -49,6 +102,122 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Asks for the completion of the new input in the background, unless the input was changed by a completion.
+     */
+    private void handleInputChanged() {
+        if (isApplyingCompletion) {
+            return;
+        }
+        cycledCompletion = null;
+        requestCompletion();
+    }
+
+    /**
+     * Returns the completion of the current input, asking for it if it has not been asked for yet.
+     * The completion asked for before is cancelled.
+     */
+    private CompletableFuture<Completion> requestCompletion() {
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        if (pendingCompletion != null && text.equals(pendingText) && caretPosition == pendingCaretPosition) {
+            return pendingCompletion;
+        }
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(false);
+        }
+        pendingCompletion = commandCompleter.complete(text, caretPosition);
+        pendingText = text;
+        pendingCaretPosition = caretPosition;
+        return pendingCompletion;
+    }
+
+    /**
+     * Handles the Tab key, which would otherwise move the focus out of the command box.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || event.isShiftDown() || event.isControlDown()) {
+            return;
+        }
+        event.consume();
+
+        if (cycledCompletion != null) {
+            cycledIndex = (cycledIndex + 1) % cycledCompletion.getCandidates().size();
+            replaceWith(cycledCompletion, cycledText, cycledCompletion.getCandidates().get(cycledIndex));
+            return;
+        }
+
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        requestCompletion().thenAcceptAsync(completion -> applyCompletion(text, caretPosition, completion),
+                Platform::runLater);
+    }
+
+    /**
+     * Applies {@code completion} if the input is still the {@code text} and {@code caretPosition} it is for.
+     */
+    private void applyCompletion(String text, int caretPosition, Completion completion) {
+        if (!completion.hasCandidates() || !text.equals(commandTextField.getText())
+                || caretPosition != commandTextField.getCaretPosition()) {
+            return;
+        }
+
+        String typed = text.substring(completion.getStart(), completion.getEnd());
+        String commonPrefix = completion.getCommonPrefix();
+        if (completion.getCandidates().size() == 1) {
+            replaceWith(completion, text, completion.getCandidates().get(0));
+        } else if (commonPrefix.length() > typed.length()) {
+            replaceWith(completion, text, commonPrefix);
+        } else {
+            cycledCompletion = completion;
+            cycledText = text;
+            cycledIndex = 0;
+            replaceWith(completion, text, completion.getCandidates().get(0));
+            return;
+        }
+        requestCompletion();
+    }
+
+    /**
+     * Replaces the part of {@code text} that {@code completion} completes with {@code replacement}, and moves the
+     * caret to the end of the replacement.
+     */
+    private void replaceWith(Completion completion, String text, String replacement) {
+        isApplyingCompletion = true;
+        try {
+            commandTextField.setText(completion.applyTo(text, replacement));
+            commandTextField.positionCaret(completion.getStart() + replacement.length());
+        } finally {
+            isApplyingCompletion = false;
+        }
+    }
+
+    /**
+     * Marks the command box and lists the problems of {@code validation} in its tooltip, or clears both if there
+     * are none. Each problem is listed with the part of {@code text} that it covers.
+     */
+    private void showProblems(String text, Validation validation) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (validation.isValid()) {
+            styleClass.remove(WARNING_STYLE_CLASS);
+            commandTextField.setTooltip(null);
+            return;
+        }
+
+        StringBuilder problems = new StringBuilder();
+        for (Validation.Problem problem : validation.getProblems()) {
+            if (problems.length() > 0) {
+                problems.append("\n");
+            }
+            problems.append(text, problem.getStart(), problem.getEnd()).append(": ").append(problem.getMessage());
+        }
+        problemsTooltip.setText(problems.toString());
+        commandTextField.setTooltip(problemsTooltip);
+        if (!styleClass.contains(WARNING_STYLE_CLASS)) {
+            styleClass.add(WARNING_STYLE_CLASS);
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +251,43 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that finds the candidates for completing a command in the background.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the candidates for completing {@code commandText} at {@code caretPosition}.
+         *
+         * @see seedu.tutorpal.logic.Logic#complete(String, int)
+         */
+        CompletableFuture<Completion> complete(String commandText, int caretPosition);
+    }
+
+    /**
+     * Represents a function that previews the effect of a partly typed command.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews {@code commandText}, which may not be complete or valid.
+         *
+         * @see seedu.tutorpal.logic.Logic#previewFilter(String, java.util.concurrent.Executor)
+         */
+        void preview(String commandText);
+    }
+
+    /**
+     * Represents a function that finds the problems in a partly typed command.
+     */
+    @FunctionalInterface
+    public interface CommandValidator {
+        /**
+         * Returns the problems found so far in {@code commandText}.
+         *
+         * @see seedu.tutorpal.logic.Logic#validate(String)
+         */
+        Validation validate(String commandText);
+    }
+
 }
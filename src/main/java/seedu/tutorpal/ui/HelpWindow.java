@@ -1,7 +1,5 @@
 package seedu.tutorpal.ui;
 
-import static seedu.tutorpal.commons.core.commandword.CommandWord.COMMANDS;
-
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -11,7 +9,7 @@ import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.stage.Stage;
 import seedu.tutorpal.commons.core.LogsCenter;
-import seedu.tutorpal.logic.commands.Command;
+import seedu.tutorpal.logic.parser.CommandRegistry;
 
 /**
  * Controller for a help page
@@ -40,14 +38,9 @@ public class HelpWindow extends UiPart<Stage> {
 
         StringBuilder allCommandDescription = new StringBuilder(HELP_MESSAGE_PREFIX);
 
-        for (Class<? extends Command> cls : COMMANDS) {
-            try {
-                // Static field access → use getField() and pass null to get()
-                String usage = (String) cls.getField("MESSAGE_USAGE_SHORTENED").get(null);
-                allCommandDescription.append(usage).append("\n\n");
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                // Ignore classes without MESSAGE_USAGE_SHORTENED
-            }
+        for (CommandRegistry.Entry entry : CommandRegistry.getInstance().getEntries()) {
+            entry.getMessageUsageShortened()
+                    .ifPresent(usage -> allCommandDescription.append(usage).append("\n\n"));
         }
 
         helpMessage.setText(allCommandDescription.toString().trim());
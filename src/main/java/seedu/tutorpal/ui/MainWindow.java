@@ -1,22 +1,31 @@
 package seedu.tutorpal.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.stage.WindowEvent;
+import javafx.util.Duration;
 import seedu.tutorpal.commons.core.GuiSettings;
 import seedu.tutorpal.commons.core.LogsCenter;
 import seedu.tutorpal.logic.Logic;
 import seedu.tutorpal.logic.commands.CommandResult;
+import seedu.tutorpal.logic.commands.CommandResult.PersonView;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.CurrentPeriod;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -33,6 +42,7 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private PersonTablePanel personTablePanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private DisplayWindow displayWindow;
@@ -118,11 +128,30 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.getPersonStatistics());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::complete, this::previewCommand,
+                logic::validate);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        scheduleNextDay();
+    }
+
+    /**
+     * Tells everything that depends on the current month or week when the day ends, so that statuses shown are
+     * updated at the start of a new month or week even if no command is run.
+     */
+    private void scheduleNextDay() {
+        // Waits a little past midnight, so that the clock is certain to show the new day
+        Duration delay = Duration.millis(CurrentPeriod.getMillisUntilNextDay() + 1000);
+        PauseTransition untilNextDay = new PauseTransition(delay);
+        untilNextDay.setOnFinished(event -> {
+            CurrentPeriod.refresh();
+            scheduleNextDay();
+        });
+        untilNextDay.play();
     }
 
     /**
@@ -166,6 +195,18 @@ public class MainWindow extends UiPart<Stage> {
         logger.fine("Display window shown for person");
     }
 
+    /**
+     * Shows the person list as {@code personView}. The table is created the first time it is shown.
+     */
+    private void showPersonView(PersonView personView) {
+        if (personView == PersonView.TABLE && personTablePanel == null) {
+            personTablePanel = new PersonTablePanel(logic.getFilteredPersonList(), logic::getPersonSortKeys);
+        }
+        UiPart<Region> panel = personView == PersonView.TABLE ? personTablePanel : personListPanel;
+        personListPanelPlaceholder.getChildren().setAll(panel.getRoot());
+        logger.fine("Person list shown as " + personView);
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -191,6 +232,38 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    /**
+     * Shows the feedback of {@code followUp} once the background work it belongs to finishes.
+     */
+    private void showFollowUp(CompletionStage<String> followUp) {
+        followUp.whenComplete((feedback, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.log(Level.WARNING, "Background work of a command failed", error);
+                resultDisplay.setFeedbackToUser("An unexpected error occurred: " + error.getMessage());
+                return;
+            }
+            logger.info("Follow-up result: " + feedback);
+            resultDisplay.setFeedbackToUser(feedback);
+        }));
+    }
+
+    /**
+     * Parses the partly typed {@code commandText} ahead of its execution, and narrows the person list to the
+     * persons it matches.
+     *
+     * @see seedu.tutorpal.logic.Logic#parseAhead(String)
+     * @see seedu.tutorpal.logic.Logic#previewFilter(String, java.util.concurrent.Executor)
+     */
+    private void previewCommand(String commandText) {
+        logic.parseAhead(commandText);
+        logic.previewFilter(commandText, Platform::runLater).whenComplete((unused, error) -> {
+            if (error != null && !(error instanceof CancellationException)
+                    && !(error.getCause() instanceof CancellationException)) {
+                logger.log(Level.WARNING, "Could not preview the filter of: " + commandText, error);
+            }
+        });
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -201,6 +274,8 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getFollowUp().ifPresent(this::showFollowUp);
+            commandResult.getPersonView().ifPresent(this::showPersonView);
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
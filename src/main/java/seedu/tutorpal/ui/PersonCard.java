@@ -1,35 +1,47 @@
 package seedu.tutorpal.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
+import java.util.List;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import seedu.tutorpal.model.person.AttendanceHistory;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.Person;
 import seedu.tutorpal.model.person.Role;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * <p>
+ * The card is built once and can then be shown for any number of persons in turn, so that a list cell can reuse
+ * its card instead of loading a new one whenever it shows another person. The colours of the fields are set by
+ * style classes of the stylesheet, rather than by inline styles that would be parsed again on every update.
  */
 public class PersonCard extends UiPart<Region> {
 
+    static final String STYLE_CLASS_CLASS = "person-card-class";
+    static final String STYLE_CLASS_ATTENDANCE_HIGH = "attendance-high";
+    static final String STYLE_CLASS_ATTENDANCE_MEDIUM = "attendance-medium";
+    static final String STYLE_CLASS_ATTENDANCE_LOW = "attendance-low";
+    static final String STYLE_CLASS_ATTENDANCE_NONE = "attendance-none";
+
     private static final String FXML = "PersonListCard.fxml";
 
-    private static final String COLOR_STUDENT = "#f48771"; // Orange-red
-    private static final String COLOR_TUTOR = "#4fc3f7"; // Light blue
-    private static final String COLOR_CLASS = "#4ec9b0"; // Cyan-green
-    private static final String COLOR_PAID = "#6a9955"; // Green
-    private static final String COLOR_UNPAID = "#ce9178"; // Orange
-    private static final String COLOR_OVERDUE = "#f48771"; // Red
-    private static final String COLOR_ATTENDANCE_HIGH = "#6a9955"; // Green (>=8 weeks)
-    private static final String COLOR_ATTENDANCE_MEDIUM = "#dcdcaa"; // Yellow (5-7 weeks)
-    private static final String COLOR_ATTENDANCE_LOW = "#f48771"; // Red (<5 weeks)
-    private static final String COLOR_TEXT = "#cccccc"; // Default text
-    private static final String COLOR_ID = "#858585"; // Dim gray
+    private static final List<String> ROLE_STYLE_CLASSES = List.of("tutor", "student");
+    private static final List<String> ATTENDANCE_STYLE_CLASSES = List.of(STYLE_CLASS_ATTENDANCE_HIGH,
+            STYLE_CLASS_ATTENDANCE_MEDIUM, STYLE_CLASS_ATTENDANCE_LOW, STYLE_CLASS_ATTENDANCE_NONE);
+    private static final List<String> PAYMENT_STYLE_CLASSES = List.of("paid", "unpaid", "overdue");
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
+    // The period in which the person was shown, as their payment status may change with the period
+    private int period;
 
     @FXML
     private Label name;
@@ -52,117 +64,118 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label joinDate;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled by {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
 
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
-        assert person != null : "Person should not be null";
-        assert displayedIndex > 0 : "Displayed index should be positive";
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
 
+    /**
+     * Shows {@code person}, with {@code displayedIndex}, in place of the person shown so far.
+     * Does nothing if the card already shows them, unless the month or week has changed since.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        assert displayedIndex > 0 : "Displayed index should be positive";
+        int currentPeriod = CurrentPeriod.getPeriodNumber();
+        if (person == this.person && displayedIndex == this.displayedIndex && currentPeriod == period) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
+        this.period = currentPeriod;
 
-        // Set ID with monospace font
         id.setText(String.format("%05d", displayedIndex));
-        id.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 9px; -fx-text-fill: "
-                + COLOR_ID + ";");
-
-        // Set name
         name.setText(person.getName().fullName);
-        name.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 13px; "
-                + "-fx-font-weight: bold; -fx-text-fill: #ffffff;");
-
-        // Phone
         phone.setText(person.getPhone().value);
-        phone.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                + "-fx-text-fill: " + COLOR_TEXT + ";");
-
-        // Email
         email.setText(person.getEmail().value);
-        email.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                + "-fx-text-fill: " + COLOR_TEXT + ";");
-
-        // Address
         address.setText(person.getAddress().value);
-        address.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                + "-fx-text-fill: " + COLOR_TEXT + ";");
-
-        //Joindate
         joinDate.setText(person.getJoinDate().toString());
-        joinDate.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                + "-fx-text-fill: " + COLOR_TEXT + ";");
 
-        // Role
         String roleValue = person.getRole().toString();
         role.setText(roleValue.toUpperCase());
+        setStyleClass(role, ROLE_STYLE_CLASSES, roleValue.toLowerCase());
 
-        if ("tutor".equalsIgnoreCase(roleValue)) {
-            role.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 11px; "
-                    + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_TUTOR + ";");
-        } else if ("student".equalsIgnoreCase(roleValue)) {
-            role.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 11px; "
-                    + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_STUDENT + ";");
-        }
-
-        // Classes with background
-        person.getClasses().stream()
-                .sorted(Comparator.comparing(course -> course.value))
-                .forEach(course -> {
-                    Label classLabel = new Label(course.value);
-                    classLabel.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                            + "-fx-text-fill: " + COLOR_CLASS + "; "
-                            + "-fx-background-color: #2d2d30; "
-                            + "-fx-padding: 2 6 2 6; "
-                            + "-fx-border-radius: 2; "
-                            + "-fx-background-radius: 2;");
-                    classes.getChildren().add(classLabel);
-                });
+        setClasses(person.getClasses().stream()
+                .map(course -> course.value)
+                .sorted(Comparator.naturalOrder())
+                .toList());
 
         // Attendance - show weeks attended for students, N/A for tutors
         if (person.getRole() == Role.STUDENT) {
             AttendanceHistory attendanceHistory = person.getAttendanceHistory();
-            if (attendanceHistory != null) {
-                int attendedWeeks = attendanceHistory.getWeeklyAttendances().size();
-                attendance.setText(attendedWeeks + " wks");
-
-                // Color code based on attendance count
-                String attendanceColor;
-                if (attendedWeeks >= 8) {
-                    attendanceColor = COLOR_ATTENDANCE_HIGH;
-                } else if (attendedWeeks >= 5) {
-                    attendanceColor = COLOR_ATTENDANCE_MEDIUM;
-                } else {
-                    attendanceColor = COLOR_ATTENDANCE_LOW;
-                }
-
-                attendance.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                        + "-fx-font-weight: bold; -fx-text-fill: " + attendanceColor + ";");
-            } else {
-                attendance.setText("0 wks");
-                attendance.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                        + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_ATTENDANCE_LOW + ";");
-            }
+            int attendedWeeks = attendanceHistory == null ? 0 : attendanceHistory.getWeeklyAttendances().size();
+            attendance.setText(attendedWeeks + " wks");
+            setStyleClass(attendance, ATTENDANCE_STYLE_CLASSES, getAttendanceStyleClass(attendedWeeks));
         } else {
-            // Tutor - show N/A
             attendance.setText("N/A");
-            attendance.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                    + "-fx-text-fill: " + COLOR_TEXT + ";");
+            setStyleClass(attendance, ATTENDANCE_STYLE_CLASSES, STYLE_CLASS_ATTENDANCE_NONE);
         }
 
-        // Payment status
         String paymentValue = person.getPaymentStatus().toString();
         paymentStatus.setText(paymentValue.toUpperCase());
+        setStyleClass(paymentStatus, PAYMENT_STYLE_CLASSES, paymentValue.toLowerCase());
+    }
 
-        if ("paid".equalsIgnoreCase(paymentValue)) {
-            paymentStatus.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                    + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_PAID + ";");
-        } else if ("overdue".equalsIgnoreCase(paymentValue)) {
-            paymentStatus.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                    + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_OVERDUE + ";");
-        } else { // unpaid
-            paymentStatus.setStyle("-fx-font-family: 'Consolas', monospace; -fx-font-size: 10px; "
-                    + "-fx-font-weight: bold; -fx-text-fill: " + COLOR_UNPAID + ";");
+    /**
+     * Returns the style class that colours an attendance of {@code attendedWeeks} weeks.
+     */
+    static String getAttendanceStyleClass(int attendedWeeks) {
+        if (attendedWeeks >= 8) {
+            return STYLE_CLASS_ATTENDANCE_HIGH;
+        } else if (attendedWeeks >= 5) {
+            return STYLE_CLASS_ATTENDANCE_MEDIUM;
+        } else {
+            return STYLE_CLASS_ATTENDANCE_LOW;
+        }
+    }
+
+    /**
+     * Shows {@code classNames}, reusing the labels of the classes shown so far.
+     */
+    private void setClasses(List<String> classNames) {
+        ObservableList<Node> labels = classes.getChildren();
+        for (int i = 0; i < classNames.size(); i++) {
+            if (i < labels.size()) {
+                Label classLabel = (Label) labels.get(i);
+                classLabel.setText(classNames.get(i));
+            } else {
+                Label classLabel = new Label(classNames.get(i));
+                classLabel.getStyleClass().add(STYLE_CLASS_CLASS);
+                labels.add(classLabel);
+            }
+        }
+        if (labels.size() > classNames.size()) {
+            labels.remove(classNames.size(), labels.size());
+        }
+    }
+
+    /**
+     * Makes {@code styleClass} the only one of {@code choices} that {@code label} has.
+     * Leaves the style classes of {@code label} untouched if they are already right, as any change restyles it.
+     */
+    private static void setStyleClass(Label label, List<String> choices, String styleClass) {
+        ObservableList<String> styleClasses = label.getStyleClass();
+        for (String choice : choices) {
+            if (!choice.equals(styleClass) && styleClasses.contains(choice)) {
+                styleClasses.remove(choice);
+            }
+        }
+        if (choices.contains(styleClass) && !styleClasses.contains(styleClass)) {
+            styleClasses.add(styleClass);
         }
     }
 }
@@ -34,8 +34,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The card is created with the cell and shows each person the cell is given in turn.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -43,9 +46,16 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                assert getIndex() >= 0 : "Index should be non-negative";
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                return;
+            }
+
+            assert getIndex() >= 0 : "Index should be non-negative";
+            if (personCard == null) {
+                personCard = new PersonCard();
+            }
+            personCard.setPerson(person, getIndex() + 1);
+            if (getGraphic() != personCard.getRoot()) {
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,162 @@
+package seedu.tutorpal.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import seedu.tutorpal.commons.core.LogsCenter;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+
+/**
+ * Panel containing the list of persons as a table, which can be sorted by clicking its column headers.
+ * <p>
+ * Only the rows in view are laid out, so the table scrolls smoothly through any number of persons. The cells show,
+ * and the rows are sorted by, the {@link PersonSortKey}s that the address book keeps of its persons, so neither
+ * scrolling nor sorting works out any person's payment status again.
+ * Sorting does not change the index of a person that commands take, which is shown in the first column.
+ */
+public class PersonTablePanel extends UiPart<Region> {
+    private static final String FXML = "PersonTablePanel.fxml";
+    private static final String NOT_APPLICABLE = "N/A";
+    private final Logger logger = LogsCenter.getLogger(PersonTablePanel.class);
+
+    private final SortedList<Person> sortedPersons;
+    private final Supplier<Function<Person, PersonSortKey>> sortKeysSupplier;
+    private final Map<TableColumn<Person, ?>, Comparator<PersonSortKey>> comparatorsByColumn = new HashMap<>();
+    private Function<Person, PersonSortKey> sortKeys;
+
+    @FXML
+    private TableView<Person> personTableView;
+    @FXML
+    private TableColumn<Person, Person> indexColumn;
+    @FXML
+    private TableColumn<Person, String> nameColumn;
+    @FXML
+    private TableColumn<Person, String> roleColumn;
+    @FXML
+    private TableColumn<Person, String> classColumn;
+    @FXML
+    private TableColumn<Person, String> joinDateColumn;
+    @FXML
+    private TableColumn<Person, String> paymentColumn;
+    @FXML
+    private TableColumn<Person, String> attendanceColumn;
+
+    /**
+     * Creates a {@code PersonTablePanel} with the given {@code ObservableList}, whose sort keys are looked up with
+     * the function that {@code sortKeysSupplier} supplies.
+     */
+    public PersonTablePanel(ObservableList<Person> personList,
+            Supplier<Function<Person, PersonSortKey>> sortKeysSupplier) {
+        super(FXML);
+        requireNonNull(personList);
+        this.sortKeysSupplier = requireNonNull(sortKeysSupplier);
+        sortKeys = sortKeysSupplier.get();
+
+        // Registered before the sorted list's own listener, so that the sorted list sorts with the latest keys.
+        // The rows are refreshed as well, as the index of a person may change without the person moving in the table.
+        personList.addListener((ListChangeListener<Person>) change -> {
+            sortKeys = sortKeysSupplier.get();
+            personTableView.refresh();
+        });
+        sortedPersons = new SortedList<>(personList);
+
+        indexColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue()));
+        indexColumn.setCellFactory(column -> new IndexCell());
+        setUpColumn(nameColumn, PersonSortKey::getName, PersonSortKey.BY_NAME);
+        setUpColumn(roleColumn, key -> key.getRole().toString().toUpperCase(), PersonSortKey.BY_ROLE);
+        setUpColumn(classColumn, PersonSortKey::getClasses, PersonSortKey.BY_CLASSES);
+        setUpColumn(joinDateColumn, key -> key.getJoinDate().format(JoinDate.DATE_FORMATTER),
+                PersonSortKey.BY_JOIN_DATE);
+        setUpColumn(paymentColumn, key -> key.getPaymentStatus().toUpperCase(), PersonSortKey.BY_PAYMENT_STATUS);
+        setUpColumn(attendanceColumn, PersonTablePanel::formatAttendanceCount, PersonSortKey.BY_ATTENDANCE_COUNT);
+
+        personTableView.setSortPolicy(table -> {
+            sortPersons(table.getSortOrder());
+            return true;
+        });
+        personTableView.setItems(sortedPersons);
+        logger.fine("PersonTablePanel created with " + personList.size() + " persons");
+    }
+
+    /**
+     * Returns a comparator of persons that compares their sort keys, looked up with {@code sortKeys}, by each of
+     * {@code keyComparators} in turn, or null if there are none.
+     */
+    static Comparator<Person> createComparator(Function<Person, PersonSortKey> sortKeys,
+            List<Comparator<PersonSortKey>> keyComparators) {
+        requireNonNull(sortKeys);
+        Comparator<PersonSortKey> keyComparator = keyComparators.stream()
+                .reduce(Comparator::thenComparing)
+                .orElse(null);
+        return keyComparator == null ? null : Comparator.comparing(sortKeys, keyComparator);
+    }
+
+    /**
+     * Returns the text the attendance column shows for the attendance count of {@code sortKey}.
+     */
+    static String formatAttendanceCount(PersonSortKey sortKey) {
+        int attendanceCount = sortKey.getAttendanceCount();
+        return attendanceCount < 0 ? NOT_APPLICABLE : String.valueOf(attendanceCount);
+    }
+
+    private void setUpColumn(TableColumn<Person, String> column, Function<PersonSortKey, String> text,
+            Comparator<PersonSortKey> comparator) {
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(text.apply(sortKeys.apply(cell.getValue()))));
+        comparatorsByColumn.put(column, comparator);
+    }
+
+    /**
+     * Sorts the persons by the columns of {@code sortOrder}, or shows them in the order of the person list if it is
+     * empty.
+     */
+    private void sortPersons(List<TableColumn<Person, ?>> sortOrder) {
+        sortKeys = sortKeysSupplier.get();
+        List<Comparator<PersonSortKey>> keyComparators = new ArrayList<>();
+        for (TableColumn<Person, ?> column : sortOrder) {
+            Comparator<PersonSortKey> comparator = comparatorsByColumn.get(column);
+            keyComparators.add(column.getSortType() == TableColumn.SortType.DESCENDING
+                    ? comparator.reversed()
+                    : comparator);
+        }
+        // Looks the keys up through the field, which follows changes of the person list
+        sortedPersons.setComparator(createComparator(person -> sortKeys.apply(person), keyComparators));
+        logger.fine("Sorted person table by " + sortOrder.size() + " columns");
+    }
+
+    /**
+     * Custom {@code TableCell} that shows the index of a person in the person list, by which commands refer to the
+     * person, whichever row the person is sorted into.
+     */
+    private class IndexCell extends TableCell<Person, Person> {
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+
+            if (empty || person == null || getIndex() < 0 || getIndex() >= sortedPersons.size()) {
+                setText(null);
+                return;
+            }
+            setText(String.valueOf(sortedPersons.getSourceIndex(getIndex()) + 1));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.tutorpal.model.PersonStatistics;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -16,13 +17,18 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label statisticsStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, and a summary of {@code statistics} that is
+     * updated as they change.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, PersonStatistics statistics) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        statisticsStatus.setText(statistics.getSummary());
+        statistics.addListener(unused -> statisticsStatus.setText(statistics.getSummary()));
     }
 
 }
@@ -0,0 +1,147 @@
+package seedu.tutorpal.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<String> mirror = new ArrayList<>();
+    private int changeCount;
+
+    {
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            applyTo(change, mirror);
+        });
+    }
+
+    @Test
+    public void batch_manyUpdates_oneChange() {
+        list.addAll(List.of("a", "b", "c", "d", "e", "f"));
+        changeCount = 0;
+
+        list.batch(() -> {
+            list.set(4, "E");
+            list.remove(1);
+            list.add(0, "z");
+            list.add("g");
+            list.remove("c");
+        });
+        assertEquals(1, changeCount);
+        assertEquals(List.of("z", "a", "d", "E", "f", "g"), list);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void batch_nested_oneChange() {
+        list.batch(() -> {
+            list.add("a");
+            list.batch(() -> list.add("b"));
+            list.add("c");
+        });
+        assertEquals(1, changeCount);
+        assertEquals(list, mirror);
+    }
+
+    @Test
+    public void batch_updatesThrow_updatesBeforeKeptAndReported() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.batch(() -> {
+            list.add("a");
+            list.remove(5);
+        }));
+        assertEquals(1, changeCount);
+        assertEquals(List.of("a"), mirror);
+    }
+
+    @Test
+    public void batch_randomUpdates_changeReplaysToSameList() {
+        Random random = new Random(1);
+        for (int i = 0; i < 50; i++) {
+            list.add("p" + i);
+        }
+        for (int round = 0; round < 200; round++) {
+            int before = changeCount;
+            list.batch(() -> {
+                for (int update = 0; update < 1 + random.nextInt(20); update++) {
+                    int index = list.isEmpty() ? 0 : random.nextInt(list.size());
+                    switch (list.isEmpty() ? 0 : random.nextInt(5)) {
+                    case 0:
+                        list.add(index, "n" + random.nextInt(1000));
+                        break;
+                    case 1:
+                        list.set(index, "s" + random.nextInt(1000));
+                        break;
+                    case 2:
+                        list.remove(index);
+                        break;
+                    case 3:
+                        list.remove(index, Math.min(list.size(), index + random.nextInt(4)));
+                        break;
+                    default:
+                        list.addAll(index, List.of("x", "y"));
+                        break;
+                    }
+                }
+            });
+            // A batch whose updates undo each other is not reported
+            assertTrue(changeCount - before <= 1);
+            assertEquals(list, mirror);
+        }
+    }
+
+    @Test
+    public void batch_updatesUndoEachOther_noChange() {
+        list.addAll(List.of("a", "b"));
+        changeCount = 0;
+
+        list.batch(() -> {
+            list.add(1, "c");
+            list.remove("c");
+            list.set(0, list.set(0, "d"));
+        });
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void bulkUpdates_oneChangeEach() {
+        list.setAll(List.of("a", "b", "c", "d"));
+        list.addAll(1, List.of("x", "y"));
+        list.remove(2, 4);
+        list.clear();
+        assertEquals(4, changeCount);
+        assertEquals(List.of(), mirror);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(NullPointerException.class, () -> list.addAll(Arrays.asList("a", null)));
+        assertEquals(0, changeCount);
+    }
+
+    /**
+     * Applies {@code change} to {@code target}, which held the same elements as the list the change is of did before.
+     */
+    private static <E> void applyTo(ListChangeListener.Change<? extends E> change, List<E> target) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasRemoved()) {
+                target.subList(from, from + change.getRemovedSize()).clear();
+            }
+            if (change.wasAdded()) {
+                target.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+}
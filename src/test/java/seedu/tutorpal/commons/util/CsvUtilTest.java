@@ -0,0 +1,37 @@
+package seedu.tutorpal.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_plainFields_splitsOnCommas() {
+        assertEquals(List.of("a", " b", "", "c"), CsvUtil.parseLine("a, b,,c"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+    }
+
+    @Test
+    public void parseLine_quotedFields_keepsCommasAndQuotes() {
+        assertEquals(List.of("123, Jurong West", "say \"hi\"", "x"),
+                CsvUtil.parseLine("\"123, Jurong West\",\"say \"\"hi\"\"\",x"));
+    }
+
+    @Test
+    public void parseLine_unclosedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, ()
+            -> CsvUtil.parseLine("a,\"b"));
+    }
+
+    @Test
+    public void toLine_roundTrips() {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "", "multi\nline");
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",,\"multi\nline\"", CsvUtil.toLine(fields));
+        List<String> singleLineFields = fields.subList(0, 4);
+        assertEquals(singleLineFields, CsvUtil.parseLine(CsvUtil.toLine(singleLineFields)));
+    }
+}
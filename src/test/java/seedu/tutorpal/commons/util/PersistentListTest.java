@@ -0,0 +1,130 @@
+package seedu.tutorpal.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void of_validList_sameElements() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(5, list.size());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(0, PersistentList.empty().size());
+        assertEquals(PersistentList.empty(), PersistentList.of(new ArrayList<>()));
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void lowerBound_sortedList_positionOfFirstNotLess() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 50; i++) {
+            list = list.add(i * 2);
+        }
+        assertEquals(0, list.lowerBound(-1, Integer::compare));
+        assertEquals(0, list.lowerBound(0, Integer::compare));
+        assertEquals(5, list.lowerBound(9, Integer::compare));
+        assertEquals(5, list.lowerBound(10, Integer::compare));
+        assertEquals(50, list.lowerBound(100, Integer::compare));
+        assertEquals(0, PersistentList.<Integer>empty().lowerBound(1, Integer::compare));
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> added = original.add("d");
+        PersistentList<String> set = original.set(1, "x");
+        PersistentList<String> removed = original.remove(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.asList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), added.asList());
+        assertEquals(Arrays.asList("a", "x", "c"), set.asList());
+        assertEquals(Arrays.asList("b", "c"), removed.asList());
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.asList().add("b"));
+    }
+
+    @Test
+    public void indexOf() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "b"));
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(-1, list.indexOf("z"));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.asList());
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.add("c")));
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.tutorpal.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tutorpal.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -130,6 +132,68 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("a123@4s+_[] 2 2 3dawad dwmoaao +_DA+D_", "a123@4s+_[]"));
     }
 
+    //---------------- Tests for editDistanceAtMost --------------------------------------
+
+    @Test
+    public void editDistanceAtMost_withinBound_returnsDistance() {
+        assertEquals(0, StringUtil.editDistanceAtMost("", "", 0));
+        assertEquals(0, StringUtil.editDistanceAtMost("abc", "abc", 0));
+        assertEquals(1, StringUtil.editDistanceAtMost("cristopher", "christopher", 2)); // insertion
+        assertEquals(1, StringUtil.editDistanceAtMost("christopher", "cristopher", 2)); // deletion
+        assertEquals(1, StringUtil.editDistanceAtMost("meier", "meyer", 1)); // substitution
+        assertEquals(2, StringUtil.editDistanceAtMost("ab", "ba", 2));
+        assertEquals(2, StringUtil.editDistanceAtMost("", "ab", 2));
+    }
+
+    @Test
+    public void editDistanceAtMost_beyondBound_returnsBoundPlusOne() {
+        assertEquals(1, StringUtil.editDistanceAtMost("abc", "abd", 0));
+        assertEquals(2, StringUtil.editDistanceAtMost("abc", "xyz", 1));
+        assertEquals(3, StringUtil.editDistanceAtMost("alex", "alexander", 2)); // lengths too far apart
+        assertEquals(2, StringUtil.editDistanceAtMost("abcdef", "badcfe", 1));
+    }
+
+    @Test
+    public void editDistanceAtMost_randomStrings_matchesFullTable() {
+        Random random = new Random(38);
+        for (int i = 0; i < 2000; i++) {
+            String first = randomString(random);
+            String second = randomString(random);
+            int maxDistance = random.nextInt(4);
+            int expected = Math.min(fullEditDistance(first, second), maxDistance + 1);
+            assertEquals(expected, StringUtil.editDistanceAtMost(first, second, maxDistance), first + " " + second);
+        }
+    }
+
+    @Test
+    public void editDistanceAtMost_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.editDistanceAtMost("a", "b", -1));
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder string = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            string.append((char) ('a' + random.nextInt(3)));
+        }
+        return string.toString();
+    }
+
+    private static int fullEditDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                    distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
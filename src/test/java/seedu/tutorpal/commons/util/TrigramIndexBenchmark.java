@@ -0,0 +1,85 @@
+package seedu.tutorpal.commons.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the time taken to find the name words similar to misspelt keywords with {@link TrigramIndex}, and with
+ * a bounded edit distance against every name of a 100,000-person address book.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the IDE, with assertions disabled.
+ */
+public class TrigramIndexBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final String[] SYLLABLES = {"al", "be", "chris", "to", "pher", "da", "ni", "el", "ka", "ren",
+        "mei", "er", "li", "an", "na", "siti", "nur", "wei", "jun", "ho", "ong", "ra", "jes", "sa", "mo"};
+    private static final List<String> KEYWORDS = List.of("cristopher", "danial", "meir", "kareen", "jessa", "hoong");
+    private static final int MAX_DISTANCE = 2;
+
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 200;
+
+    public static void main(String[] args) {
+        Random random = new Random(38);
+        List<List<String>> names = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            names.add(List.of(randomWord(random), randomWord(random), randomWord(random)));
+        }
+
+        TrigramIndex index = new TrigramIndex();
+        long buildStart = System.nanoTime();
+        names.forEach(words -> words.forEach(index::add));
+        long buildTime = (System.nanoTime() - buildStart) / 1_000_000;
+        System.out.printf("Indexed %d persons (%d distinct words) in %d ms%n", PERSON_COUNT, index.size(), buildTime);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            searchIndex(index);
+            scanAll(names);
+        }
+        long indexStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            searchIndex(index);
+        }
+        long indexTime = (System.nanoTime() - indexStart) / (MEASURED_ROUNDS * KEYWORDS.size());
+        long scanStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            scanAll(names);
+        }
+        long scanTime = (System.nanoTime() - scanStart) / (MEASURED_ROUNDS * KEYWORDS.size());
+        System.out.printf("Per keyword: trigram index %d us, edit distance against every name %d us%n",
+                indexTime / 1000, scanTime / 1000);
+    }
+
+    private static int searchIndex(TrigramIndex index) {
+        int found = 0;
+        for (String keyword : KEYWORDS) {
+            found += index.findSimilar(keyword, MAX_DISTANCE).size();
+        }
+        return found;
+    }
+
+    private static int scanAll(List<List<String>> names) {
+        int found = 0;
+        for (String keyword : KEYWORDS) {
+            for (List<String> words : names) {
+                for (String word : words) {
+                    if (StringUtil.editDistanceAtMost(keyword, word, MAX_DISTANCE) <= MAX_DISTANCE) {
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.tutorpal.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void trigramsOf_word_paddedTrigrams() {
+        assertEquals(Set.of("  a", " am", "amy", "my "), TrigramIndex.trigramsOf("amy"));
+    }
+
+    @Test
+    public void findSimilar_misspelling_closestFirst() {
+        TrigramIndex index = new TrigramIndex();
+        List.of("Christopher", "Christophe", "Kristoffer", "Chris", "Alex").forEach(index::add);
+
+        assertEquals(List.of("christopher", "christophe"), index.findSimilar("Cristopher", 2));
+        assertEquals(List.of("christopher"), index.findSimilar("cristopher", 1));
+        assertEquals(List.of("chris"), index.findSimilar("CHRIS", 0));
+        assertEquals(List.of(), index.findSimilar("bob", 1));
+    }
+
+    @Test
+    public void remove_addedSeveralTimes_keptUntilAllRemoved() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("Meier");
+        index.add("meier");
+        index.add("Meyer");
+        assertEquals(2, index.size());
+
+        index.remove("Meier");
+        assertEquals(List.of("meier", "meyer"), index.findSimilar("meier", 1));
+        index.remove("MEIER");
+        assertEquals(List.of("meyer"), index.findSimilar("meier", 1));
+
+        // removing a word that is not there does nothing
+        index.remove("Meier");
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void findSimilar_occurrenceChanges_sameAsChangedIndex() {
+        TrigramIndex index = new TrigramIndex();
+        List.of("Meier", "Meyer", "Meier").forEach(index::add);
+        Map<String, Integer> changes = Map.of("Meyer", -1, "meier", -1, "Maier", 1, "Mayer", -1);
+
+        assertEquals(List.of("maier", "meier"), index.findSimilar("Maier", 1, changes));
+        assertEquals(List.of("meier", "meyer"), index.findSimilar("Meier", 1));
+        assertEquals(List.of(), index.findSimilar("Meyer", 0, Map.of("MEYER", -1)));
+        assertEquals(List.of("meier"), index.findSimilar("Meyer", 1, Map.of("MEYER", -1)));
+    }
+
+    @Test
+    public void findSimilar_turkishDefaultLocale_ignoresCase() {
+        Locale originalLocale = Locale.getDefault();
+        try {
+            // Lower-casing "I" in Turkish gives a dotless i, which does not match "i"
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            TrigramIndex index = new TrigramIndex();
+            index.add("ISAAC");
+            assertEquals(List.of("isaac"), index.findSimilar("isaak", 1));
+            assertEquals(List.of("isaac"), index.findSimilar("ISAAC", 0));
+            index.remove("Isaac");
+            assertEquals(0, index.size());
+        } finally {
+            Locale.setDefault(originalLocale);
+        }
+    }
+
+    @Test
+    public void findSimilar_negativeDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TrigramIndex().findSimilar("a", -1));
+    }
+}
@@ -21,8 +21,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.tutorpal.logic.commands.AddCommand;
+import seedu.tutorpal.logic.commands.ClearCommand;
 import seedu.tutorpal.logic.commands.CommandResult;
 import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.RedoCommand;
+import seedu.tutorpal.logic.commands.UndoCommand;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.Model;
@@ -72,6 +75,17 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_undoAfterClear_restoresAddressBook() throws Exception {
+        model.addPerson(AMY);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        model.commitAddressBook();
+
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, new ModelManager());
+    }
+
     //    @Test
     //    public void execute_storageThrowsIoException_throwsCommandException() {
     //        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -0,0 +1,89 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+/**
+ * Measures the time taken by {@link AutocompleteIndex} to complete each keystroke of typical commands,
+ * with 100,000 persons in the index, and the time taken to apply a change to a person.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the IDE, with assertions disabled.
+ */
+public class AutocompleteBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Kevin",
+        "Nur", "Siti", "Wei", "Jun", "Hui", "Ming", "Aaron", "Zoe"};
+    private static final String[] DAYS = {"mon", "tue", "wed", "thu", "fri", "sat", "sun"};
+    private static final List<String> COMMANDS = List.of("list t/Kevin Lim", "find kev", "edit 3 n/Alex Tan",
+            "mark c/s4mon1600", "list c/s2wed1000 ps/unpaid");
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+    private static final BooleanSupplier NEVER = () -> false;
+
+    public static void main(String[] args) {
+        Random random = new Random(37);
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(randomPerson(random, i));
+        }
+
+        AutocompleteIndex index = new AutocompleteIndex(List.of("add", "delete", "edit", "find", "list", "mark"));
+        long buildStart = System.nanoTime();
+        persons.forEach(index::addPerson);
+        System.out.printf("Indexed %d persons in %d ms%n", PERSON_COUNT, (System.nanoTime() - buildStart) / 1_000_000);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            typeAll(index);
+        }
+        long[] times = new long[MEASURED_ROUNDS * keystrokesPerRound()];
+        int keystrokes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            for (String command : COMMANDS) {
+                for (int caret = 1; caret <= command.length(); caret++) {
+                    long start = System.nanoTime();
+                    index.complete(command, caret, NEVER);
+                    times[keystrokes++] = System.nanoTime() - start;
+                }
+            }
+        }
+        Arrays.sort(times);
+        System.out.printf("Completion: %d ns per keystroke on average, %d ns at the 99th percentile%n",
+                Arrays.stream(times).sum() / times.length, times[times.length * 99 / 100]);
+
+        long updateStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            Person person = persons.get(random.nextInt(PERSON_COUNT));
+            index.removePerson(person);
+            index.addPerson(person);
+        }
+        System.out.printf("Update: %d ns per changed person%n", (System.nanoTime() - updateStart) / MEASURED_ROUNDS);
+    }
+
+    private static int keystrokesPerRound() {
+        return COMMANDS.stream().mapToInt(String::length).sum();
+    }
+
+    private static void typeAll(AutocompleteIndex index) {
+        for (String command : COMMANDS) {
+            for (int caret = 1; caret <= command.length(); caret++) {
+                index.complete(command, caret, NEVER);
+            }
+        }
+    }
+
+    private static Person randomPerson(Random random, int id) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + Integer.toString(id, 36);
+        String studentClass = "s" + (1 + random.nextInt(5)) + DAYS[random.nextInt(DAYS.length)]
+                + (1000 + 100 * random.nextInt(10));
+        return new PersonBuilder().withName(name).withClasses(studentClass).build();
+    }
+}
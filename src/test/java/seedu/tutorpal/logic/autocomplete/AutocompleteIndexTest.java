@@ -0,0 +1,91 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AutocompleteIndexTest {
+
+    private static final BooleanSupplier NEVER = () -> false;
+
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new AutocompleteIndex(List.of("add", "delete", "delpay", "find", "list"));
+        index.addPerson(ALICE);
+        index.addPerson(BENSON);
+        index.addPerson(DANIEL);
+    }
+
+    @Test
+    public void complete_firstWord_commandWords() {
+        assertEquals(new Completion(0, 3, List.of("delete", "delpay")), complete("del"));
+        assertEquals(new Completion(2, 4, List.of("list")), complete("  li"));
+    }
+
+    @Test
+    public void complete_classPrefix_classCodes() {
+        assertEquals(new Completion(7, 9, List.of("s3tue1400")), complete("list c/s3"));
+        assertEquals(new Completion(7, 7, List.of("s3tue1400", "s4mon1600", "s5thu1600")), complete("list c/"));
+    }
+
+    @Test
+    public void complete_namePrefix_namesAcrossWords() {
+        assertEquals(new Completion(7, 13, List.of("Benson Meier")), complete("list t/benson"));
+        assertEquals(new Completion(7, 15, List.of("Daniel Meier")), complete("list t/Daniel M"));
+        assertEquals(new Completion(9, 9, List.of("Alice Pauline", "Benson Meier", "Daniel Meier")),
+                complete("edit 1 n/"));
+    }
+
+    @Test
+    public void complete_afterNameValue_prefixes() {
+        assertEquals(new Completion(18, 19, List.of("p/", "ps/")), complete("edit 1 n/Alice Pa p"));
+    }
+
+    @Test
+    public void complete_findKeyword_nameWords() {
+        assertEquals(new Completion(11, 13, List.of("Meier")), complete("find alice me"));
+        assertEquals(new Completion(5, 6, List.of("Daniel")), complete("find d"));
+    }
+
+    @Test
+    public void complete_otherWord_prefixes() {
+        assertEquals(new Completion(5, 6, List.of("c/")), complete("list c"));
+        assertEquals(new Completion(8, 8, List.of()), complete("list p/9"));
+        assertEquals(new Completion(5, 7, List.of()), complete("list zz"));
+    }
+
+    @Test
+    public void complete_caretInMiddle_completesWordBeforeCaret() {
+        assertEquals(new Completion(0, 2, List.of("list")), index.complete("li c/s3", 2, NEVER));
+    }
+
+    @Test
+    public void removePerson_sharedNameWord_keptUntilAllRemoved() {
+        index.removePerson(BENSON);
+        assertEquals(List.of("Meier"), complete("find me").getCandidates());
+        assertEquals(List.of("s4mon1600", "s5thu1600"), complete("list c/s").getCandidates());
+        index.removePerson(DANIEL);
+        assertFalse(complete("find me").hasCandidates());
+    }
+
+    @Test
+    public void complete_cancelled_throwsCancellationException() {
+        assertThrows(CancellationException.class, () -> index.complete("find a", 6, () -> true));
+    }
+
+    private Completion complete(String commandText) {
+        return index.complete(commandText, commandText.length(), NEVER);
+    }
+}
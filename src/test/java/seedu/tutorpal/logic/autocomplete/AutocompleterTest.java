@@ -0,0 +1,55 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.tutorpal.model.person.Person;
+
+public class AutocompleterTest {
+
+    @Test
+    public void complete_personsChanged_followsChanges() throws Exception {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+        Autocompleter autocompleter = new Autocompleter(persons, Runnable::run);
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), candidates(autocompleter, "list t/"));
+
+        persons.remove(ALICE);
+        persons.add(CARL);
+        assertEquals(List.of("Benson Meier", "Carl Kurz"), candidates(autocompleter, "list t/"));
+
+        persons.setAll(ALICE);
+        assertEquals(List.of("Alice Pauline"), candidates(autocompleter, "list t/"));
+        assertEquals(List.of("list"), candidates(autocompleter, "li"));
+    }
+
+    @Test
+    public void complete_newerRequest_earlierRequestCancelled() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Autocompleter autocompleter = new Autocompleter(FXCollections.observableArrayList(ALICE), tasks::add);
+
+        CompletableFuture<Completion> stale = autocompleter.complete("find a", 6);
+        CompletableFuture<Completion> latest = autocompleter.complete("find al", 7);
+        while (!tasks.isEmpty()) {
+            tasks.remove().run();
+        }
+
+        assertTrue(stale.isCompletedExceptionally());
+        assertEquals(new Completion(5, 7, List.of("Alice")), latest.join());
+    }
+
+    private static List<String> candidates(Autocompleter autocompleter, String commandText) {
+        return autocompleter.complete(commandText, commandText.length()).join().getCandidates();
+    }
+}
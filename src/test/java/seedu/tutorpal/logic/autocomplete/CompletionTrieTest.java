@@ -0,0 +1,122 @@
+package seedu.tutorpal.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionTrieTest {
+
+    private static final BooleanSupplier NEVER = () -> false;
+
+    @Test
+    public void complete_prefix_returnsMatchesInOrderIgnoringCase() {
+        CompletionTrie trie = new CompletionTrie();
+        List.of("list", "delete", "delpay", "display", "Alex Yeoh", "alex Tan", "Alexa").forEach(trie::add);
+
+        assertEquals(List.of("delete", "delpay"), trie.complete("del", 10, NEVER));
+        assertEquals(List.of("delete", "delpay", "display"), trie.complete("D", 10, NEVER));
+        assertEquals(List.of("alex Tan", "Alex Yeoh", "Alexa"), trie.complete("ALEX", 10, NEVER));
+        assertEquals(List.of("Alex Yeoh"), trie.complete("alex y", 10, NEVER));
+        assertEquals(List.of("delpay"), trie.complete("delpay", 10, NEVER));
+        assertEquals(List.of(), trie.complete("delx", 10, NEVER));
+        assertEquals(List.of(), trie.complete("deletes", 10, NEVER));
+        assertEquals(7, trie.complete("", 10, NEVER).size());
+    }
+
+    @Test
+    public void complete_turkishDefaultLocale_ignoresCase() {
+        Locale originalLocale = Locale.getDefault();
+        try {
+            // Lower-casing "I" in Turkish gives a dotless i, which does not match "i"
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            CompletionTrie trie = new CompletionTrie();
+            List.of("list", "ISAAC").forEach(trie::add);
+            assertEquals(List.of("list"), trie.complete("LI", 10, NEVER));
+            assertEquals(List.of("ISAAC"), trie.complete("is", 10, NEVER));
+        } finally {
+            Locale.setDefault(originalLocale);
+        }
+    }
+
+    @Test
+    public void complete_limit_returnsFirstMatches() {
+        CompletionTrie trie = new CompletionTrie();
+        List.of("s1", "s2", "s3", "s4").forEach(trie::add);
+        assertEquals(List.of("s1", "s2"), trie.complete("s", 2, NEVER));
+    }
+
+    @Test
+    public void remove_addedSeveralTimes_keptUntilAllRemoved() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Meier");
+        trie.add("Meier");
+        trie.add("Meyer");
+        assertEquals(2, trie.size());
+
+        trie.remove("Meier");
+        assertEquals(List.of("Meier", "Meyer"), trie.complete("me", 10, NEVER));
+        trie.remove("Meier");
+        assertEquals(List.of("Meyer"), trie.complete("me", 10, NEVER));
+        assertEquals(1, trie.size());
+
+        // removing a string that is not there does nothing
+        trie.remove("Meier");
+        trie.remove("Me");
+        trie.remove("Meyers");
+        assertEquals(List.of("Meyer"), trie.complete("m", 10, NEVER));
+    }
+
+    @Test
+    public void complete_cancelled_throwsCancellationException() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("alice");
+        assertThrows(CancellationException.class, () -> trie.complete("a", 10, () -> true));
+    }
+
+    @Test
+    public void addRemove_randomOperations_matchesSortedSet() {
+        Random random = new Random(37);
+        CompletionTrie trie = new CompletionTrie();
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                String value = added.remove(random.nextInt(added.size()));
+                trie.remove(value);
+            } else {
+                String value = randomWord(random);
+                added.add(value);
+                trie.add(value);
+            }
+        }
+
+        TreeSet<String> expected = new TreeSet<>(added);
+        assertEquals(expected.size(), trie.size());
+        for (String prefix : List.of("", "a", "ab", "ba", "cab", "abc")) {
+            List<String> expectedMatches = new ArrayList<>();
+            for (String value : expected) {
+                if (value.startsWith(prefix)) {
+                    expectedMatches.add(value);
+                }
+            }
+            assertEquals(expectedMatches, trie.complete(prefix, Integer.MAX_VALUE, NEVER));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 1 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // different personView value -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", CommandResult.PersonView.TABLE)));
+        assertFalse(new CommandResult("feedback", CommandResult.PersonView.CARDS)
+                .equals(new CommandResult("feedback", CommandResult.PersonView.TABLE)));
     }
 
     @Test
@@ -107,4 +114,14 @@ public class CommandResultTest {
             + "}";
         assertEquals(expected, withInfo.toString());
     }
+
+    @Test
+    public void getFollowUp() {
+        assertTrue(new CommandResult("feedback").getFollowUp().isEmpty());
+
+        CompletableFuture<String> followUp = CompletableFuture.completedFuture("done");
+        CommandResult commandResult = new CommandResult("feedback", followUp);
+        assertEquals(followUp, commandResult.getFollowUp().get());
+        assertEquals(new CommandResult("feedback"), commandResult);
+    }
 }
@@ -8,8 +8,11 @@ import static seedu.tutorpal.logic.commands.CommandTestUtil.assertCommandSuccess
 import static seedu.tutorpal.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.tutorpal.commons.core.index.Index;
@@ -105,7 +108,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndexes=" + List.of(targetIndex) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -125,6 +128,53 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexes_deletesAllInOneChange() {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        Person first = lastShownList.get(INDEX_FIRST_PERSON.getZeroBased());
+        Person third = lastShownList.get(INDEX_THIRD_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON));
+
+        String expectedMessage = String.format(MultiIndexCommand.MESSAGE_BATCH_SUCCESS, 2, 2)
+                + "\n" + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, first.getName())
+                + "\n" + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, third.getName());
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(first);
+        expectedModel.deletePerson(third);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleIndexesOneOutOfBounds_deletesRestAndReportsIndex() {
+        Person first = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex));
+
+        String expectedMessage = String.format(MultiIndexCommand.MESSAGE_BATCH_SUCCESS, 1, 2)
+                + "\n" + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, first.getName())
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(MultiIndexCommand.MESSAGE_BATCH_ITEM_FAILED, outOfBoundIndex.getOneBased(),
+                        Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(first);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleIndexesAllOutOfBounds_throwsCommandException() {
+        int size = model.getFilteredPersonList().size();
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(Index.fromOneBased(size + 1),
+                Index.fromOneBased(size + 2)));
+
+        assertCommandFailure(deleteCommand, model, MultiIndexCommand.MESSAGE_BATCH_FAILURE
+                + "\n" + String.format(MultiIndexCommand.MESSAGE_BATCH_PAST_END, 2, size,
+                        Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+    }
+
     /**
      * Updates {@code model}'s filtered list to show no one.
      */
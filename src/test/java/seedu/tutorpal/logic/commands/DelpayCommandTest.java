@@ -457,6 +457,61 @@ public class DelpayCommandTest {
         @Override public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
+        @Override public void beginTransaction() {
+            throw new AssertionError();
+        }
+        @Override public void commit() {
+            throw new AssertionError();
+        }
+        @Override public void rollback() {
+            throw new AssertionError();
+        }
+        @Override public boolean isInTransaction() {
+            throw new AssertionError();
+        }
+        @Override public void commitAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public boolean canUndoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public boolean canRedoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void undoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void redoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void replacePersons(java.util.Map<Person, Person> replacements) {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<Person> getPersonsInClass(seedu.tutorpal.model.person.Class classToFind) {
+            throw new AssertionError();
+        }
+        @Override public void addPersons(java.util.List<seedu.tutorpal.model.person.Person> persons) {
+            throw new AssertionError();
+        }
+        @Override public seedu.tutorpal.model.AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError();
+        }
+        @Override public java.util.function.Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<String> findSimilarNameWords(String word, int maxDistance) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.function.Function<Person, seedu.tutorpal.model.person.PersonSortKey> getPersonSortKeys() {
+            throw new AssertionError();
+        }
+        @Override public seedu.tutorpal.model.PersonStatistics getPersonStatistics() {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<Person> getTopPersons(seedu.tutorpal.model.person.Ranking ranking, int limit) {
+            throw new AssertionError();
+        }
     }
 }
 
@@ -0,0 +1,145 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.AddressBook;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.Address;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.EditPersonDescriptorBuilder;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class EditAllCommandTest {
+
+    private static final Class S3_MON = new Class("s3mon1600");
+    private static final Class S4_MON = new Class("s4mon1600");
+
+    private final Person student = new PersonBuilder().withName("Sam Student").withPhone("91111111")
+            .withEmail("sam@example.com").withClasses("s3mon1600").withJoinDate("01-01-2025").build();
+    private final Person otherStudent = new PersonBuilder().withName("Olive Other").withPhone("92222222")
+            .withEmail("olive@example.com").withClasses("s2tue1000").withJoinDate("01-01-2025").build();
+    private final Person tutor = new PersonBuilder().withName("Tom Tutor").withPhone("93333333")
+            .withEmail("tom@example.com").withRole("tutor").withClasses("s3mon1600", "s5fri1800")
+            .withJoinDate("01-01-2025").build();
+
+    @Test
+    public void execute_moveClass_movesOnlyPersonsInClass() throws Exception {
+        Model model = createModel(student, otherStudent, tutor);
+
+        CommandResult result = new EditAllCommand(new EditPersonDescriptor(), S3_MON, S4_MON).execute(model);
+
+        assertEquals(String.format(EditAllCommand.MESSAGE_SUCCESS, 2, 3,
+                String.format(EditAllCommand.MESSAGE_CLASS_MOVED, S3_MON, S4_MON)), result.getFeedbackToUser());
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(Set.of(S4_MON), persons.get(0).getClasses());
+        assertEquals(otherStudent, persons.get(1));
+        assertEquals(Set.of(S4_MON, new Class("s5fri1800")), persons.get(2).getClasses());
+        assertTrue(model.getPersonsInClass(S3_MON).isEmpty());
+        assertEquals(2, model.getPersonsInClass(S4_MON).size());
+    }
+
+    @Test
+    public void execute_setFieldOnFilteredList_editsOnlyDisplayedPersons() throws Exception {
+        Model model = createModel(student, otherStudent);
+        model.updateFilteredPersonList(student::isSamePerson);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withAddress("1 New Street").build();
+
+        new EditAllCommand(descriptor).execute(model);
+
+        List<Person> persons = model.getFilteredPersonList();
+        assertEquals(2, persons.size());
+        assertEquals(new Address("1 New Street"), persons.get(0).getAddress());
+        assertEquals(otherStudent, persons.get(1));
+    }
+
+    @Test
+    public void execute_invalidJoinDateForSomePersons_skipsThem() throws Exception {
+        Person lateJoiner = new PersonBuilder(otherStudent).withJoinDate("01-03-2025").build();
+        Model model = createModel(student, lateJoiner);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withJoinDate("01-02-2025").build();
+
+        CommandResult result = new EditAllCommand(descriptor).execute(model);
+
+        // the student already has a payment record for January, before the new join date
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(EditAllCommand.MESSAGE_SUCCESS, 1, 2,
+                "joinDate: 01-02-2025") + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED + "\n"
+                + student.getName() + ": "));
+        assertEquals(student, model.getFilteredPersonList().get(0));
+        assertEquals(new JoinDate("01-02-2025"), model.getFilteredPersonList().get(1).getJoinDate());
+    }
+
+    @Test
+    public void execute_noPersonInClass_throwsCommandException() {
+        Model model = createModel(otherStudent);
+        assertThrows(CommandException.class, EditAllCommand.MESSAGE_NOTHING_TO_EDIT, ()
+                -> new EditAllCommand(new EditPersonDescriptor(), S3_MON, S4_MON).execute(model));
+    }
+
+    @Test
+    public void execute_allPersonsInvalid_throwsCommandException() {
+        Model model = createModel(student);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withJoinDate("01-03-2025").build();
+
+        assertThrows(CommandException.class, () -> new EditAllCommand(descriptor).execute(model));
+        assertEquals(student, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void equals() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withAddress("1 New Street").build();
+        EditAllCommand command = new EditAllCommand(descriptor);
+        EditAllCommand moveCommand = new EditAllCommand(new EditPersonDescriptor(), S3_MON, S4_MON);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new EditAllCommand(new EditPersonDescriptor(descriptor))));
+        assertTrue(moveCommand.equals(new EditAllCommand(new EditPersonDescriptor(), S3_MON, S4_MON)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different descriptor -> returns false
+        assertFalse(command.equals(new EditAllCommand(
+                new EditPersonDescriptorBuilder().withAddress("2 Old Street").build())));
+
+        // different classes -> returns false
+        assertFalse(moveCommand.equals(new EditAllCommand(new EditPersonDescriptor(), S4_MON, S3_MON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptor();
+        EditAllCommand command = new EditAllCommand(descriptor, S3_MON, S4_MON);
+        String expected = EditAllCommand.class.getCanonicalName() + "{editPersonDescriptor=" + descriptor
+                + ", fromClass=" + Optional.of(S3_MON) + ", toClass=" + Optional.of(S4_MON) + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static Model createModel(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tutorpal.model.AddressBook;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.AttendanceHistory;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.PaymentHistory;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    private static final YearMonth DECEMBER_2024 = YearMonth.of(2024, 12);
+    private static final YearMonth FEBRUARY_2025 = YearMonth.of(2025, 2);
+
+    /** Student who joined in W03-2025, attended that week and paid for January 2025. */
+    private static final Person AMY = createAmy();
+
+    private static final String AMY_ROW = "Student,Amy Bee,91111111,amy@example.com,s4mon1600,"
+            + "\"Block 312, Amy Street 1\",15-01-2025,,paid,unpaid" + ",".repeat(7) + ",present" + ",absent".repeat(6);
+    private static final String BOB_ROW = "Tutor,Bob Choo,82222222,bob@example.com,s2wed1400,"
+            + "\"Block 123, Bobby Street 3\",01-11-2024,unpaid,unpaid,unpaid" + ",".repeat(14);
+
+    @TempDir
+    public Path testFolder;
+
+    private static Person createAmy() {
+        JoinDate joinDate = new JoinDate("15-01-2025");
+        Student student = (Student) new PersonBuilder().withName("Amy Bee").withPhone("91111111")
+                .withEmail("amy@example.com").withAddress("Block 312, Amy Street 1").withClasses("s4mon1600")
+                .withJoinDate("15-01-2025").build();
+        return new Student(student.getName(), student.getPhone(), student.getEmail(), student.getAddress(),
+                student.getClasses(), joinDate,
+                new AttendanceHistory(joinDate).markAttendance(new WeeklyAttendance("W03-2025")),
+                new PaymentHistory(joinDate.toLocalDate()).markMonthAsPaid(YearMonth.of(2025, 1)));
+    }
+
+    private static Model createModel() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        addressBook.addPerson(BOB);
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    private static String awaitFollowUp(CommandResult result) throws Exception {
+        return result.getFollowUp().orElseThrow().toCompletableFuture().get();
+    }
+
+    @Test
+    public void execute_all_writesHeaderAndFlattenedHistories() throws Exception {
+        Model model = createModel();
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Amy")));
+        Path csv = testFolder.resolve("out").resolve("persons.csv");
+
+        CommandResult result = new ExportCommand(csv, true, DECEMBER_2024, FEBRUARY_2025).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING_ALL, csv), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, csv), awaitFollowUp(result));
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("role,name,phone,email,class,address,joindate,"
+                + "payment 12-2024,payment 01-2025,payment 02-2025,attendance W48-2024,"));
+        assertTrue(lines.get(0).endsWith(",attendance W09-2025"));
+        assertEquals(AMY_ROW, lines.get(1));
+        assertEquals(BOB_ROW, lines.get(2));
+    }
+
+    @Test
+    public void execute_displayed_writesFilteredPersonsOnly() throws Exception {
+        Model model = createModel();
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Bob")));
+        Path csv = testFolder.resolve("persons.csv");
+
+        CommandResult result = new ExportCommand(csv, false, DECEMBER_2024, FEBRUARY_2025).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_EXPORTING_DISPLAYED, csv), result.getFeedbackToUser());
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, csv), awaitFollowUp(result));
+        assertEquals(BOB_ROW, Files.readAllLines(csv).get(1));
+    }
+
+    @Test
+    public void execute_laterChanges_doNotAffectExport() throws Exception {
+        Model model = createModel();
+        Path csv = testFolder.resolve("persons.csv");
+
+        CommandResult result = new ExportCommand(csv, true, DECEMBER_2024, FEBRUARY_2025).execute(model);
+        model.deletePerson(AMY);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 2, csv), awaitFollowUp(result));
+        assertEquals(List.of(AMY_ROW, BOB_ROW), Files.readAllLines(csv).subList(1, 3));
+    }
+
+    @Test
+    public void execute_unwritableFile_reportsFailure() throws Exception {
+        Path csv = testFolder.resolve("directory");
+        Files.createDirectories(csv);
+        Files.writeString(csv.resolve("keep.txt"), "keep");
+
+        CommandResult result = new ExportCommand(csv, true, DECEMBER_2024, FEBRUARY_2025).execute(createModel());
+
+        assertTrue(awaitFollowUp(result).startsWith(String.format(ExportCommand.MESSAGE_FAILURE, csv, "")));
+        assertTrue(Files.isDirectory(csv));
+        assertEquals(List.of(csv.resolve("keep.txt")), Files.list(csv).toList());
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void equals() {
+        Path csv = Paths.get("persons.csv");
+        ExportCommand command = new ExportCommand(csv, false, DECEMBER_2024, FEBRUARY_2025);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ExportCommand(csv, false, DECEMBER_2024, FEBRUARY_2025)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertFalse(command.equals(new ExportCommand(csv, true, DECEMBER_2024, FEBRUARY_2025)));
+        assertFalse(command.equals(new ExportCommand(csv, false, FEBRUARY_2025, FEBRUARY_2025)));
+        assertFalse(command.equals(new ExportCommand(Paths.get("other.csv"), false, DECEMBER_2024, FEBRUARY_2025)));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.tutorpal.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+import static seedu.tutorpal.testutil.TypicalPersons.DANIEL;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FuzzyFindCommand}.
+ */
+public class FuzzyFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FuzzyFindCommand findFirstCommand = new FuzzyFindCommand(List.of("first"));
+        FuzzyFindCommand findSecondCommand = new FuzzyFindCommand(List.of("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FuzzyFindCommand(List.of("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, FuzzyFindCommand.getMaxEditDistance("Al"));
+        assertEquals(1, FuzzyFindCommand.getMaxEditDistance("Meir"));
+        assertEquals(1, FuzzyFindCommand.getMaxEditDistance("Kurtz"));
+        assertEquals(2, FuzzyFindCommand.getMaxEditDistance("Cristopher"));
+    }
+
+    @Test
+    public void execute_misspelledKeyword_similarNamesFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(FuzzyFindCommand.MESSAGE_SIMILAR_WORDS, "meier");
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("Meir"));
+        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meir", "meier")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_exactKeywords_noSimilarNamesReported() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("Carl", "Zz"));
+        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("carl", "zz")));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyFindCommand command = new FuzzyFindCommand(List.of("keyword"));
+        String expected = FuzzyFindCommand.class.getCanonicalName() + "{keywords=[keyword]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.AMY;
+import static seedu.tutorpal.testutil.TypicalPersons.BOB;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.ImportCommand.CsvRow;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final Path CSV_PATH = Paths.get("persons.csv");
+
+    @Test
+    public void execute_validAndInvalidRows_importsValidRowsOnly() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int size = model.getFilteredPersonList().size();
+        Person bobWithOtherAddress = new PersonBuilder(BOB).withAddress("elsewhere").build();
+
+        ImportCommand command = new ImportCommand(CSV_PATH, List.of(
+                CsvRow.parsed(2, AMY),
+                CsvRow.failed(3, "bad row"),
+                CsvRow.parsed(4, ALICE),
+                CsvRow.parsed(5, BOB),
+                CsvRow.parsed(6, bobWithOtherAddress)), false);
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 5, CSV_PATH)
+                + "\n" + ImportCommand.MESSAGE_REJECTED
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_REJECTED, 3, "bad row")
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_REJECTED, 4, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_REJECTED, 6, ImportCommand.MESSAGE_DUPLICATE_PERSON),
+                result.getFeedbackToUser());
+        assertEquals(size + 2, model.getFilteredPersonList().size());
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList().subList(size, size + 2));
+    }
+
+    @Test
+    public void execute_dryRun_nothingChanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> before = List.copyOf(model.getFilteredPersonList());
+
+        ImportCommand command = new ImportCommand(CSV_PATH, List.of(
+                CsvRow.parsed(2, AMY), CsvRow.parsed(3, ALICE)), true);
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_DRY_RUN, 1, 2, CSV_PATH)
+                + "\n" + ImportCommand.MESSAGE_REJECTED
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_REJECTED, 3, ImportCommand.MESSAGE_DUPLICATE_PERSON),
+                result.getFeedbackToUser());
+        assertEquals(before, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_everyRowRejected_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ImportCommand command = new ImportCommand(CSV_PATH, List.of(CsvRow.parsed(2, ALICE)), false);
+
+        String expectedMessage = ImportCommand.MESSAGE_NOTHING_IMPORTED
+                + "\n" + ImportCommand.MESSAGE_REJECTED
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_REJECTED, 2, ImportCommand.MESSAGE_DUPLICATE_PERSON);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_noRows_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_NO_ROWS, CSV_PATH), ()
+                -> new ImportCommand(CSV_PATH, List.of(), false).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand command = new ImportCommand(CSV_PATH, List.of(CsvRow.parsed(2, AMY)), false);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ImportCommand(CSV_PATH, List.of(CsvRow.parsed(2, AMY)), false)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertFalse(command.equals(new ImportCommand(CSV_PATH, List.of(CsvRow.parsed(2, AMY)), true)));
+        assertFalse(command.equals(new ImportCommand(CSV_PATH, List.of(CsvRow.failed(2, "bad row")), false)));
+        assertFalse(command.equals(new ImportCommand(Paths.get("other.csv"), List.of(CsvRow.parsed(2, AMY)), false)));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.tutorpal.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tutorpal.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -7,7 +8,11 @@ import static seedu.tutorpal.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,11 @@ import seedu.tutorpal.model.Model;
 import seedu.tutorpal.model.ModelManager;
 import seedu.tutorpal.model.UserPrefs;
 import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.JoinDateInRangePredicate;
+import seedu.tutorpal.model.person.MonthsOverduePredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
 import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
 
 /**
@@ -122,6 +132,82 @@ public class ListCommandTest {
         assertCommandSuccess(cmd, model, header + "\n" + count, expectedModel);
     }
 
+    @Test
+    public void execute_joinDateAndMonthsOverdue() {
+        // EP: join date range and months overdue combined (AND logic)
+        JoinDateInRangePredicate joinDatePred = new JoinDateInRangePredicate(null, LocalDate.of(2024, 11, 30));
+        MonthsOverduePredicate monthsOverduePred = new MonthsOverduePredicate(3);
+        ListCommand cmd = new ListCommand(null, null, null, joinDatePred, monthsOverduePred);
+
+        expectedModel.updateFilteredPersonList(p -> joinDatePred.test(p) && monthsOverduePred.test(p));
+
+        String details = "Joined on or before 30-11-2024 AND Overdue for at least 3 months";
+        String header = String.format(ListCommand.MESSAGE_SUCCESS_FILTERED_ANY, details);
+        String count = String.format(seedu.tutorpal.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+            expectedModel.getFilteredPersonList().size());
+        assertCommandSuccess(cmd, model, header + "\n" + count, expectedModel);
+    }
+
+    @Test
+    public void execute_joinDateRangeOnly() {
+        // EP: join date range with both ends (single new filter still uses the structured format)
+        JoinDateInRangePredicate joinDatePred =
+            new JoinDateInRangePredicate(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31));
+        ListCommand cmd = new ListCommand(null, null, null, joinDatePred, null);
+
+        expectedModel.updateFilteredPersonList(joinDatePred);
+
+        String header = String.format(ListCommand.MESSAGE_SUCCESS_FILTERED_ANY,
+            "Joined between 01-01-2025 and 31-03-2025");
+        String count = String.format(seedu.tutorpal.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+            expectedModel.getFilteredPersonList().size());
+        assertCommandSuccess(cmd, model, header + "\n" + count, expectedModel);
+    }
+
+    @Test
+    public void execute_ranked_listsTopPersonsInOrder() {
+        // EP: ranking by months overdue; the persons are listed most overdue first
+        ListCommand cmd = new ListCommand(null, null, null, null, null, Ranking.MONTHS_OVERDUE, 2);
+        List<Person> expectedTop = expectedModel.getFilteredPersonList().stream()
+            .filter(p -> Ranking.MONTHS_OVERDUE.getValue(new PersonSortKey(p)) > 0)
+            .sorted(Comparator.comparing(PersonSortKey::new, Ranking.MONTHS_OVERDUE.comparator()))
+            .limit(2)
+            .toList();
+        expectedModel.updateFilteredPersonList(expectedTop::contains);
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(ListCommand.MESSAGE_SUCCESS_RANKED,
+            expectedTop.size(), Ranking.MONTHS_OVERDUE.getDescription()));
+        for (int i = 0; i < expectedTop.size(); i++) {
+            expectedMessage.append("\n").append(String.format(ListCommand.MESSAGE_RANKED_PERSON, i + 1,
+                expectedTop.get(i).getName(), new PersonSortKey(expectedTop.get(i)).getMonthsOverdue()));
+        }
+        assertCommandSuccess(cmd, model, expectedMessage.toString(), expectedModel);
+    }
+
+    @Test
+    public void execute_rankedThenPaid_paidPersonStillListed() throws Exception {
+        // EP: a listed person is replaced by paying for them while the ranked persons are shown
+        new ListCommand(null, null, null, null, null, Ranking.MONTHS_OVERDUE, 3).execute(model);
+        List<Person> ranked = List.copyOf(model.getFilteredPersonList());
+        Person first = ranked.get(0);
+        YearMonth overdueMonth = new PersonSortKey(first).getOldestOverdueMonth().orElseThrow();
+
+        new PaymentCommand(INDEX_FIRST_PERSON, overdueMonth).execute(model);
+        assertEquals(ranked.size(), model.getFilteredPersonList().size());
+        assertTrue(model.getFilteredPersonList().get(0).isSamePerson(first));
+        assertFalse(model.getFilteredPersonList().contains(first));
+    }
+
+    @Test
+    public void execute_rankedNoneMatching_listsNoPersons() {
+        // EP: ranking with a filter that no person matches
+        ListCommand cmd = new ListCommand(new ClassContainsKeywordsPredicate(Arrays.asList("z9")), null, null, null,
+            null, Ranking.ABSENCES, 5);
+        expectedModel.updateFilteredPersonList(p -> false);
+        assertCommandSuccess(cmd, model,
+            String.format(ListCommand.MESSAGE_NO_RANKED_PERSONS, Ranking.ABSENCES.getDescription()), expectedModel);
+    }
+
     @Test
     public void equals_sameValuesTrue() {
         ClassContainsKeywordsPredicate c1 =
@@ -147,6 +233,15 @@ public class ListCommandTest {
 
         assertFalse(all.equals(classOnly));
         assertFalse(classOnly.equals(tutorOnly));
+        assertFalse(all.equals(new ListCommand(null, null, null, null, new MonthsOverduePredicate(1))));
+        ListCommand joinedFrom = new ListCommand(null, null, null,
+            new JoinDateInRangePredicate(LocalDate.of(2025, 1, 1), null), null);
+        ListCommand joinedTo = new ListCommand(null, null, null,
+            new JoinDateInRangePredicate(null, LocalDate.of(2025, 1, 1)), null);
+        assertFalse(joinedFrom.equals(joinedTo));
+        assertFalse(all.equals(new ListCommand(null, null, null, null, null, Ranking.ABSENCES, 3)));
+        assertFalse(new ListCommand(null, null, null, null, null, Ranking.ABSENCES, 3)
+            .equals(new ListCommand(null, null, null, null, null, Ranking.ABSENCES, 4)));
         assertFalse(classOnly.equals(null));
         assertFalse(classOnly.equals("not a command"));
     }
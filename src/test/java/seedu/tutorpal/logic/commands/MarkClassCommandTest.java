@@ -0,0 +1,185 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.tutorpal.commons.core.index.Index;
+import seedu.tutorpal.logic.Messages;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.AddressBook;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.AttendanceHistory;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class MarkClassCommandTest {
+
+    private static final Class CLASS_S4MON1600 = new Class("s4mon1600");
+    private static final Class CLASS_S1SUN0800 = new Class("s1sun0800");
+    private static final WeeklyAttendance WEEK = new WeeklyAttendance("W10-2025");
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MarkClassCommand(null, List.of(), WEEK));
+        assertThrows(NullPointerException.class, () -> new MarkClassCommand(CLASS_S4MON1600, null, WEEK));
+        assertThrows(NullPointerException.class, () -> new MarkClassCommand(CLASS_S4MON1600, List.of(), null));
+    }
+
+    @Test
+    public void execute_classWithStudentsAndTutor_marksOnlyStudents() throws Exception {
+        Person alex = new PersonBuilder().withName("Alex Tan").withPhone("91234567").withEmail("alex@example.com")
+                .withClasses("s4mon1600").build();
+        Person tutor = new PersonBuilder().withName("Tina Lim").withPhone("92345678").withEmail("tina@example.com")
+                .withRole("tutor").withClasses("s4mon1600").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(alex);
+        addressBook.addPerson(tutor);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new MarkClassCommand(CLASS_S4MON1600, List.of(), WEEK).execute(model);
+
+        assertEquals(String.format(MarkClassCommand.MESSAGE_SUCCESS, 2, 2, CLASS_S4MON1600, WEEK),
+                result.getFeedbackToUser());
+        assertTrue(model.getPersonsInClass(CLASS_S4MON1600).stream()
+                .filter(person -> !person.isSamePerson(tutor))
+                .allMatch(MarkClassCommandTest::isMarked));
+        assertTrue(model.getPersonsInClass(CLASS_S4MON1600).contains(tutor));
+    }
+
+    @Test
+    public void execute_exceptIndex_skipsExcludedStudent() throws Exception {
+        Person alex = new PersonBuilder().withName("Alex Tan").withPhone("91234567").withEmail("alex@example.com")
+                .withClasses("s4mon1600").build();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(alex);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        // ALICE is the first person in the displayed list
+        CommandResult result = new MarkClassCommand(CLASS_S4MON1600, List.of(Index.fromOneBased(1)), WEEK)
+                .execute(model);
+
+        assertEquals(String.format(MarkClassCommand.MESSAGE_SUCCESS, 1, 1, CLASS_S4MON1600, WEEK),
+                result.getFeedbackToUser());
+        assertFalse(isMarked(model.getFilteredPersonList().get(0)));
+        assertTrue(isMarked(model.getPersonsInClass(CLASS_S4MON1600).stream()
+                .filter(alex::isSamePerson).findFirst().orElseThrow()));
+    }
+
+    @Test
+    public void execute_alreadyMarkedStudentAmongOthers_reportsSkipped() throws Exception {
+        Person alex = new PersonBuilder().withName("Alex Tan").withPhone("91234567").withEmail("alex@example.com")
+                .withClasses("s4mon1600").build();
+        Person markedAlex = MarkCommand.createMarkedPerson(alex, WEEK);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(markedAlex);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        CommandResult result = new MarkClassCommand(CLASS_S4MON1600, List.of(), WEEK).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(MarkClassCommand.MESSAGE_SUCCESS, 1, 2, CLASS_S4MON1600, WEEK)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED));
+        assertTrue(isMarked(model.getFilteredPersonList().get(0)));
+    }
+
+    @Test
+    public void execute_allStudentsAlreadyMarked_throwsCommandException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(MarkCommand.createMarkedPerson(ALICE, WEEK));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        List<Person> before = List.copyOf(model.getFilteredPersonList());
+
+        String expectedMessage = MultiIndexCommand.MESSAGE_BATCH_FAILURE + "\n" + String.format(
+                AttendanceHistory.MESSAGE_ALREADY_MARKED, WEEK, ALICE.getName());
+        assertThrows(CommandException.class, expectedMessage, ()
+                -> new MarkClassCommand(CLASS_S4MON1600, List.of(), WEEK).execute(model));
+        assertEquals(before, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_classWithoutStudents_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertThrows(CommandException.class, String.format(MarkClassCommand.MESSAGE_NO_STUDENTS, CLASS_S1SUN0800), ()
+                -> new MarkClassCommand(CLASS_S1SUN0800, List.of(), WEEK).execute(model));
+    }
+
+    @Test
+    public void execute_exceptIndexOutOfBounds_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Index outOfBounds = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertThrows(CommandException.class, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, ()
+                -> new MarkClassCommand(CLASS_S4MON1600, List.of(outOfBounds), WEEK).execute(model));
+    }
+
+    @Test
+    public void execute_largeClass_publishesSingleChange() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 500; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("student" + i + "@example.com").withClasses("s4mon1600").build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        CommandResult result = new MarkClassCommand(CLASS_S4MON1600, List.of(), WEEK).execute(model);
+
+        assertEquals(String.format(MarkClassCommand.MESSAGE_SUCCESS, 500, 500, CLASS_S4MON1600, WEEK),
+                result.getFeedbackToUser());
+        assertEquals(1, changeCount[0]);
+        assertTrue(model.getFilteredPersonList().stream().allMatch(MarkClassCommandTest::isMarked));
+    }
+
+    @Test
+    public void equals() {
+        MarkClassCommand command = new MarkClassCommand(CLASS_S4MON1600, List.of(Index.fromOneBased(1)), WEEK);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new MarkClassCommand(CLASS_S4MON1600, List.of(Index.fromOneBased(1)), WEEK)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different class -> returns false
+        assertFalse(command.equals(new MarkClassCommand(CLASS_S1SUN0800, List.of(Index.fromOneBased(1)), WEEK)));
+
+        // different except indexes -> returns false
+        assertFalse(command.equals(new MarkClassCommand(CLASS_S4MON1600, List.of(), WEEK)));
+
+        // different week -> returns false
+        assertFalse(command.equals(new MarkClassCommand(CLASS_S4MON1600, List.of(Index.fromOneBased(1)),
+                new WeeklyAttendance("W11-2025"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Index> exceptIndexes = List.of(Index.fromOneBased(2));
+        MarkClassCommand command = new MarkClassCommand(CLASS_S4MON1600, exceptIndexes, WEEK);
+        String expected = MarkClassCommand.class.getCanonicalName() + "{targetClass=" + CLASS_S4MON1600
+                + ", exceptIndexes=" + exceptIndexes + ", week=" + WEEK + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static boolean isMarked(Person person) {
+        return person.getAttendanceHistory().getWeeklyAttendances().contains(WEEK);
+    }
+}
@@ -19,9 +19,13 @@ import seedu.tutorpal.commons.core.GuiSettings;
 import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.parser.ParserUtil;
+import seedu.tutorpal.model.AddressBook;
 import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
 import seedu.tutorpal.model.ReadOnlyAddressBook;
 import seedu.tutorpal.model.ReadOnlyUserPrefs;
+import seedu.tutorpal.model.UserPrefs;
 import seedu.tutorpal.model.person.Address;
 import seedu.tutorpal.model.person.AttendanceHistory;
 import seedu.tutorpal.model.person.Class;
@@ -30,8 +34,11 @@ import seedu.tutorpal.model.person.JoinDate;
 import seedu.tutorpal.model.person.Name;
 import seedu.tutorpal.model.person.Person;
 import seedu.tutorpal.model.person.Phone;
+import seedu.tutorpal.model.person.Role;
 import seedu.tutorpal.model.person.Student;
 import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.PersonBuilder;
+import seedu.tutorpal.testutil.TypicalPersons;
 
 /**
  * Tests for MarkCommand.
@@ -51,6 +58,89 @@ public class MarkCommandTest {
         assertThrows(NullPointerException.class, () -> cmd.execute(null));
     }
 
+    @Test
+    public void execute_multipleIndexes_marksStudentsAndReportsSkippedTutor() throws Exception {
+        // EP: batch with students (indexes 1, 2) and a tutor (index 3)
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        WeeklyAttendance week = new WeeklyAttendance("W10-2025");
+        Person alice = model.getFilteredPersonList().get(0);
+        Person benson = model.getFilteredPersonList().get(1);
+
+        MarkCommand cmd = new MarkCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(3)), week);
+        CommandResult result = cmd.execute(model);
+
+        String expected = String.format(MultiIndexCommand.MESSAGE_BATCH_SUCCESS, 2, 3)
+                + "\n" + String.format(MarkCommand.MESSAGE_SUCCESS, alice.getName(), week)
+                + "\n" + String.format(MarkCommand.MESSAGE_SUCCESS, benson.getName(), week)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(MultiIndexCommand.MESSAGE_BATCH_ITEM_FAILED, 3,
+                        String.format(MarkCommand.MESSAGE_CANNOT_MARK_FOR_ROLE, Role.TUTOR));
+        assertEquals(expected, result.getFeedbackToUser());
+        assertFalse(model.isInTransaction());
+        assertTrue(model.getFilteredPersonList().get(0).getAttendanceHistory().getWeeklyAttendances().contains(week));
+        assertTrue(model.getFilteredPersonList().get(1).getAttendanceHistory().getWeeklyAttendances().contains(week));
+    }
+
+    @Test
+    public void execute_multipleIndexesSomeOutOfRange_reportsSkippedIndexes() throws Exception {
+        // EP: batch with a valid student index and indexes past the end of the list
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        WeeklyAttendance week = new WeeklyAttendance("W10-2025");
+        Person alice = model.getFilteredPersonList().get(0);
+        int size = model.getFilteredPersonList().size();
+
+        MarkCommand cmd = new MarkCommand(List.of(Index.fromOneBased(1), Index.fromOneBased(size + 1),
+                Index.fromOneBased(size + 5)), week);
+        CommandResult result = cmd.execute(model);
+
+        String expected = String.format(MultiIndexCommand.MESSAGE_BATCH_SUCCESS, 1, 3)
+                + "\n" + String.format(MarkCommand.MESSAGE_SUCCESS, alice.getName(), week)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(MultiIndexCommand.MESSAGE_BATCH_PAST_END, 2, size,
+                        Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertEquals(expected, result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().get(0).getAttendanceHistory().getWeeklyAttendances().contains(week));
+    }
+
+    @Test
+    public void execute_largeRangeOnShortList_resultStaysShort() throws Exception {
+        // Boundary: the largest range the parser accepts, on a list longer than the persons listed in a result
+        AddressBook addressBook = new AddressBook();
+        int studentCount = MultiIndexCommand.MAX_LISTED_ITEMS + 10;
+        for (int i = 0; i < studentCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("student" + i + "@example.com").build());
+        }
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        WeeklyAttendance week = new WeeklyAttendance("W10-2025");
+
+        CommandResult result = new MarkCommand(ParserUtil.parseIndexes("1-" + ParserUtil.MAX_INDEXES), week)
+                .execute(model);
+
+        List<String> lines = List.of(result.getFeedbackToUser().split("\n"));
+        assertEquals(String.format(MultiIndexCommand.MESSAGE_BATCH_SUCCESS, studentCount, ParserUtil.MAX_INDEXES),
+                lines.get(0));
+        assertEquals(MultiIndexCommand.MAX_LISTED_ITEMS + 4, lines.size());
+        assertEquals(String.format(MultiIndexCommand.MESSAGE_MORE_ITEMS, 10),
+                lines.get(MultiIndexCommand.MAX_LISTED_ITEMS + 1));
+        assertEquals(String.format(MultiIndexCommand.MESSAGE_BATCH_PAST_END, ParserUtil.MAX_INDEXES - studentCount,
+                studentCount, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), lines.get(lines.size() - 1));
+    }
+
+    @Test
+    public void execute_multipleIndexesAllFail_nothingChanged() {
+        // EP: batch where every person is skipped
+        Model model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+        List<Person> before = List.copyOf(model.getFilteredPersonList());
+        MarkCommand cmd = new MarkCommand(List.of(Index.fromOneBased(3), Index.fromOneBased(6)),
+                new WeeklyAttendance("W10-2025"));
+
+        assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertFalse(model.isInTransaction());
+        assertEquals(before, model.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         WeeklyAttendance w1 = new WeeklyAttendance("W01-2025");
@@ -295,5 +385,60 @@ public class MarkCommandTest {
         @Override public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
+        @Override public void beginTransaction() {
+            throw new AssertionError();
+        }
+        @Override public void commit() {
+            throw new AssertionError();
+        }
+        @Override public void rollback() {
+            throw new AssertionError();
+        }
+        @Override public boolean isInTransaction() {
+            throw new AssertionError();
+        }
+        @Override public void commitAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public boolean canUndoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public boolean canRedoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void undoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void redoAddressBook() {
+            throw new AssertionError();
+        }
+        @Override public void replacePersons(java.util.Map<Person, Person> replacements) {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<Person> getPersonsInClass(seedu.tutorpal.model.person.Class classToFind) {
+            throw new AssertionError();
+        }
+        @Override public void addPersons(java.util.List<seedu.tutorpal.model.person.Person> persons) {
+            throw new AssertionError();
+        }
+        @Override public seedu.tutorpal.model.AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError();
+        }
+        @Override public java.util.function.Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<String> findSimilarNameWords(String word, int maxDistance) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.function.Function<Person, seedu.tutorpal.model.person.PersonSortKey> getPersonSortKeys() {
+            throw new AssertionError();
+        }
+        @Override public seedu.tutorpal.model.PersonStatistics getPersonStatistics() {
+            throw new AssertionError();
+        }
+        @Override public java.util.List<Person> getTopPersons(seedu.tutorpal.model.person.Ranking ranking, int limit) {
+            throw new AssertionError();
+        }
     }
 }
@@ -0,0 +1,134 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.model.AddressBook;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PayAllCommandTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    private final Person earlyJoiner = new PersonBuilder().withName("Early Joiner").withPhone("91111111")
+            .withEmail("early@example.com").withJoinDate("01-12-2024").build();
+    private final Person midJoiner = new PersonBuilder().withName("Mid Joiner").withPhone("92222222")
+            .withEmail("mid@example.com").withRole("tutor").withJoinDate("15-02-2025").build();
+    private final Person lateJoiner = new PersonBuilder().withName("Late Joiner").withPhone("93333333")
+            .withEmail("late@example.com").withJoinDate("01-06-2025").build();
+
+    @Test
+    public void constructor_nullMonth_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PayAllCommand(null, MARCH));
+        assertThrows(NullPointerException.class, () -> new PayAllCommand(JANUARY, null));
+    }
+
+    @Test
+    public void execute_monthRange_paysFromJoinMonthAndReportsSkipped() throws Exception {
+        Model model = createModel(earlyJoiner, midJoiner, lateJoiner);
+
+        CommandResult result = new PayAllCommand(JANUARY, MARCH).execute(model);
+
+        String expected = String.format(PayAllCommand.MESSAGE_SUCCESS, JANUARY + " to " + MARCH, 2, 3)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(PayAllCommand.MESSAGE_ITEM_SKIPPED, lateJoiner.getName(),
+                        String.format(PaymentCommand.MESSAGE_MONTH_BEFORE_JOIN, YearMonth.of(2025, 6)));
+        assertEquals(expected, result.getFeedbackToUser());
+
+        List<Person> persons = model.getFilteredPersonList();
+        assertTrue(persons.get(0).getPaymentHistory().isMonthPaid(JANUARY));
+        assertTrue(persons.get(0).getPaymentHistory().isMonthPaid(MARCH));
+        assertTrue(persons.get(1).getPaymentHistory().isMonthPaid(YearMonth.of(2025, 2)));
+        assertTrue(persons.get(1).getPaymentHistory().isMonthPaid(MARCH));
+        assertEquals(lateJoiner, persons.get(2));
+    }
+
+    @Test
+    public void execute_appliesOnlyToDisplayedPersons() throws Exception {
+        Model model = createModel(earlyJoiner, midJoiner);
+        model.updateFilteredPersonList(earlyJoiner::isSamePerson);
+
+        new PayAllCommand(MARCH, MARCH).execute(model);
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertTrue(model.getFilteredPersonList().get(0).getPaymentHistory().isMonthPaid(MARCH));
+        assertFalse(model.getFilteredPersonList().get(1).getPaymentHistory().isMonthPaid(MARCH));
+    }
+
+    @Test
+    public void execute_alreadyPaid_throwsCommandException() throws Exception {
+        Model model = createModel(earlyJoiner);
+        new PayAllCommand(JANUARY, JANUARY).execute(model);
+        Person paidPerson = model.getFilteredPersonList().get(0);
+
+        String expectedMessage = PayAllCommand.MESSAGE_NOTHING_TO_PAY + "\n"
+                + String.format(PayAllCommand.MESSAGE_ITEM_SKIPPED, paidPerson.getName(),
+                        String.format(PaymentCommand.MESSAGE_ALREADY_PAID, paidPerson.getName(), JANUARY));
+        assertThrows(CommandException.class, expectedMessage, () -> new PayAllCommand(JANUARY, JANUARY)
+                .execute(model));
+        assertEquals(paidPerson, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_futureMonth_throwsCommandException() {
+        Model model = createModel(earlyJoiner);
+        YearMonth nextMonth = YearMonth.now().plusMonths(1);
+        assertThrows(CommandException.class, PaymentCommand.MESSAGE_FUTURE_MONTH, () ->
+                new PayAllCommand(JANUARY, nextMonth).execute(model));
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        Model model = createModel();
+        assertThrows(CommandException.class, PayAllCommand.MESSAGE_NO_PERSONS, () ->
+                new PayAllCommand(JANUARY, JANUARY).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        PayAllCommand command = new PayAllCommand(JANUARY, MARCH);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new PayAllCommand(JANUARY, MARCH)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different range -> returns false
+        assertFalse(command.equals(new PayAllCommand(JANUARY, JANUARY)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PayAllCommand command = new PayAllCommand(JANUARY, MARCH);
+        String expected = PayAllCommand.class.getCanonicalName() + "{fromMonth=" + JANUARY + ", toMonth=" + MARCH + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static Model createModel(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+}
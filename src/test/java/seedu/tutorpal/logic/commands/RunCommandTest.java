@@ -0,0 +1,159 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tutorpal.logic.Messages;
+import seedu.tutorpal.logic.commands.RunCommand.LineParser;
+import seedu.tutorpal.logic.commands.RunCommand.ScriptLine;
+import seedu.tutorpal.logic.commands.exceptions.CommandException;
+import seedu.tutorpal.logic.parser.RunCommandParser;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.Person;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_linesRunInOrder_laterLinesSeeEarlierChanges() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person second = model.getFilteredPersonList().get(1);
+        Person third = model.getFilteredPersonList().get(2);
+        int size = model.getFilteredPersonList().size();
+
+        // deleting the first person twice deletes the first two persons
+        Path script = writeScript("delete 1", "bogus", "delete 1");
+        CommandResult result = new RunCommand(script, RunCommandParser.LINE_PARSER).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, 3, script)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND),
+                result.getFeedbackToUser());
+        assertFalse(model.isInTransaction());
+        assertEquals(size - 2, model.getFilteredPersonList().size());
+        assertFalse(model.hasPerson(second));
+        assertEquals(third, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void execute_commentsAndUnsupportedCommands_reportedByLineNumber() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path script = writeScript("# set up", "delete 1", "", "  list  ", "unknown", "undo", "export data/out.csv");
+        CommandResult result = new RunCommand(script, RunCommandParser.LINE_PARSER).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, 5, script)
+                + "\n" + MultiIndexCommand.MESSAGE_BATCH_SKIPPED
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 5, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 6,
+                        String.format(RunCommandParser.MESSAGE_UNSUPPORTED_IN_SCRIPT, "undo"))
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 7,
+                        String.format(RunCommandParser.MESSAGE_UNSUPPORTED_IN_SCRIPT, "export")),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_filterThenIndex_usesFilteredList() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Carl"));
+        Person carl = model.getFilteredPersonList().stream().filter(predicate).findFirst().orElseThrow();
+
+        new RunCommand(writeScript("find Carl", "delete 1"), RunCommandParser.LINE_PARSER).execute(model);
+
+        assertFalse(model.hasPerson(carl));
+    }
+
+    @Test
+    public void execute_allLinesFail_nothingChanged() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> before = List.copyOf(model.getFilteredPersonList());
+        RunCommand command = new RunCommand(writeScript("bogus", "delete " + (before.size() + 1)),
+                RunCommandParser.LINE_PARSER);
+
+        String expectedMessage = RunCommand.MESSAGE_NOTHING_RUN
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(RunCommand.MESSAGE_LINE_FAILED, 2,
+                        Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+        assertFalse(model.isInTransaction());
+        assertEquals(before, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_emptyScript_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path script = writeScript("# nothing yet", "");
+        assertThrows(CommandException.class, String.format(RunCommand.MESSAGE_NO_COMMANDS, script), ()
+                -> new RunCommand(script, RunCommandParser.LINE_PARSER).execute(model));
+    }
+
+    @Test
+    public void execute_scriptChangedAfterParsing_runsScriptAsExecuted() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int size = model.getFilteredPersonList().size();
+        Path script = writeScript("# nothing yet");
+        RunCommand command = new RunCommand(script, RunCommandParser.LINE_PARSER);
+
+        Files.write(script, List.of("delete 1"));
+        command.execute(model);
+
+        assertEquals(size - 1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path missing = testFolder.resolve("missing.txt");
+        CommandException e = Assertions.assertThrows(CommandException.class, ()
+                -> new RunCommand(missing, RunCommandParser.LINE_PARSER).execute(model));
+        assertTrue(e.getMessage().startsWith(String.format(RunCommand.MESSAGE_CANNOT_READ_SCRIPT, missing, "")));
+    }
+
+    @Test
+    public void equals() {
+        Path scriptPath = Paths.get("script.txt");
+        LineParser lineParser = (lineNumber, line) -> ScriptLine.failed(lineNumber, "bad line");
+        RunCommand command = new RunCommand(scriptPath, lineParser);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new RunCommand(Paths.get("script.txt"), lineParser)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different path -> returns false
+        assertFalse(command.equals(new RunCommand(Paths.get("other.txt"), lineParser)));
+
+        // different line parser -> returns false
+        assertFalse(command.equals(new RunCommand(scriptPath, RunCommandParser.LINE_PARSER)));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.tutorpal.logic.commands;
+
+import static seedu.tutorpal.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsZeroCounts() {
+        Model model = new ModelManager();
+        WeeklyAttendance week = WeeklyAttendance.at(LocalDate.now());
+        String expectedMessage = "0 persons (0 students, 0 tutors)\n"
+                + "Payment status: 0 paid, 0 unpaid, 0 overdue\n"
+                + "Attendance (students present / joined):\n"
+                + "  " + week + ": 0/0\n"
+                + "  " + week.minusWeeks(1) + ": 0/0\n"
+                + "  " + week.minusWeeks(2) + ": 0/0\n"
+                + "  " + week.minusWeeks(3) + ": 0/0";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_studentAndTutor_showsCountsByLevelAndClass() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        String today = JoinDate.now().toString();
+        for (Model m : List.of(model, expectedModel)) {
+            m.addPerson(new PersonBuilder().withName("Amy").withPhone("81111111").withRole("student")
+                    .withClasses("s4mon1600").withJoinDate(today).build());
+            m.addPerson(new PersonBuilder().withName("Bob").withPhone("82222222").withRole("tutor")
+                    .withClasses("s4mon1600", "s2wed1400").withJoinDate(today).build());
+        }
+        WeeklyAttendance week = WeeklyAttendance.at(LocalDate.now());
+        String expectedMessage = "2 persons (1 students, 1 tutors)\n"
+                + "Payment status: 0 paid, 2 unpaid, 0 overdue\n"
+                + "Attendance (students present / joined):\n"
+                + "  " + week + ": 0/1\n"
+                + "  " + week.minusWeeks(1) + ": 0/0\n"
+                + "  " + week.minusWeeks(2) + ": 0/0\n"
+                + "  " + week.minusWeeks(3) + ": 0/0\n"
+                + "By level:\n"
+                + "  s2: 0 students, 1 tutors\n"
+                + "  s4: 1 students, 1 tutors\n"
+                + "By class:\n"
+                + "  s2wed1400: 0 students, 1 tutors\n"
+                + "  s4mon1600: 1 students, 1 tutors";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nullModel_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StatsCommand().execute(null));
+    }
+}
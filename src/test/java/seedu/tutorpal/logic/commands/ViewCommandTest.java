@@ -0,0 +1,47 @@
+package seedu.tutorpal.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.CommandResult.PersonView;
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+
+public class ViewCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_table_switchesToTable() {
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ViewCommand.MESSAGE_SUCCESS, "table"), PersonView.TABLE);
+        assertCommandSuccess(new ViewCommand(PersonView.TABLE), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_cards_switchesToCards() {
+        CommandResult commandResult = new ViewCommand(PersonView.CARDS).execute(model);
+        assertEquals(String.format(ViewCommand.MESSAGE_SUCCESS, "cards"), commandResult.getFeedbackToUser());
+        assertEquals(PersonView.CARDS, commandResult.getPersonView().get());
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand viewTable = new ViewCommand(PersonView.TABLE);
+
+        assertTrue(viewTable.equals(viewTable));
+        assertTrue(viewTable.equals(new ViewCommand(PersonView.TABLE)));
+        assertFalse(viewTable.equals(null));
+        assertFalse(viewTable.equals(new ViewCommand(PersonView.CARDS)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ViewCommand.class.getCanonicalName() + "{personView=TABLE}";
+        assertEquals(expected, new ViewCommand(PersonView.TABLE).toString());
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.tutorpal.logic.livefilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+import static seedu.tutorpal.testutil.TypicalPersons.DANIEL;
+import static seedu.tutorpal.testutil.TypicalPersons.ELLE;
+import static seedu.tutorpal.testutil.TypicalPersons.GEORGE;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.Model;
+import seedu.tutorpal.model.ModelManager;
+import seedu.tutorpal.model.UserPrefs;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class LiveFilterTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void preview_typing_narrowsDisplayedList() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+
+        liveFilter.preview("find me", DIRECT).join();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+        assertTrue(liveFilter.isPreviewing());
+
+        liveFilter.preview("find mei", DIRECT).join();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        liveFilter.preview("find m", DIRECT).join();
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_fuzzyFind_previewEnded() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+        liveFilter.preview("find ben", DIRECT).join();
+
+        // A misspelt name that the fuzzy find matches is not previewed as an exact prefix
+        liveFilter.preview("find --fuzzy bensn", DIRECT).join();
+        assertFalse(liveFilter.isPreviewing());
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_listRefined_narrowsShownPersons() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+
+        liveFilter.preview("list c/s4", DIRECT).join();
+        assertEquals(List.of(ALICE, GEORGE), model.getFilteredPersonList());
+
+        liveFilter.preview("list c/s4mon", DIRECT).join();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_addressBookChanged_searchesAllPersons() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+        liveFilter.preview("find me", DIRECT).join();
+
+        Person meyers = new PersonBuilder().withName("Meyers Tan").withPhone("81234567")
+                .withEmail("meyers@example.com").build();
+        model.addPerson(meyers);
+        liveFilter.preview("find mey", DIRECT).join();
+        assertEquals(List.of(ELLE, meyers), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_newerPreview_earlierPreviewNotShown() {
+        Queue<Runnable> searches = new ArrayDeque<>();
+        LiveFilter liveFilter = new LiveFilter(model, searches::add);
+
+        CompletableFuture<Void> stale = liveFilter.preview("find carl", DIRECT);
+        CompletableFuture<Void> latest = liveFilter.preview("find ben", DIRECT);
+        while (!searches.isEmpty()) {
+            searches.remove().run();
+        }
+
+        assertTrue(stale.isCompletedExceptionally());
+        assertFalse(latest.isCompletedExceptionally());
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancelPending_previewNotShown() {
+        Queue<Runnable> searches = new ArrayDeque<>();
+        LiveFilter liveFilter = new LiveFilter(model, searches::add);
+
+        CompletableFuture<Void> pending = liveFilter.preview("find carl", DIRECT);
+        liveFilter.cancelPending();
+        searches.remove().run();
+
+        assertTrue(pending.isCompletedExceptionally());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void endPreview_restoresOriginalFilter() {
+        Predicate<Person> original = person -> person.equals(CARL) || person.equals(ALICE);
+        model.updateFilteredPersonList(original);
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+
+        liveFilter.preview("find ali", DIRECT).join();
+        liveFilter.preview("find alic", DIRECT).join();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        // no longer a previewable command
+        liveFilter.preview("fin", DIRECT).join();
+        assertFalse(liveFilter.isPreviewing());
+        assertEquals(original, model.getFilteredPersonListPredicate());
+        assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void forget_personReplacedWhilePreviewShown_personStillListed() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+        liveFilter.preview("find me", DIRECT).join();
+
+        // A command run before the preview ends replaces a shown person, as pay, mark and edit do
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        model.setPerson(BENSON, editedBenson);
+        liveFilter.forget();
+        assertEquals(List.of(editedBenson, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void forget_keepsDisplayedList() {
+        LiveFilter liveFilter = new LiveFilter(model, DIRECT);
+        liveFilter.preview("find ben", DIRECT).join();
+
+        liveFilter.forget();
+        liveFilter.endPreview();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+}
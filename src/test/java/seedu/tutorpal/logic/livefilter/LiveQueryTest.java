@@ -0,0 +1,82 @@
+package seedu.tutorpal.logic.livefilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.DANIEL;
+import static seedu.tutorpal.testutil.TypicalPersons.ELLE;
+import static seedu.tutorpal.testutil.TypicalPersons.GEORGE;
+import static seedu.tutorpal.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.Person;
+
+public class LiveQueryTest {
+
+    @Test
+    public void parse_notPreviewable_returnsEmpty() {
+        assertEquals(Optional.empty(), LiveQuery.parse(""));
+        assertEquals(Optional.empty(), LiveQuery.parse("find"));
+        assertEquals(Optional.empty(), LiveQuery.parse("find   "));
+        assertEquals(Optional.empty(), LiveQuery.parse("find --fuzzy bensn"));
+        assertEquals(Optional.empty(), LiveQuery.parse("find --FUZZY"));
+        assertEquals(Optional.empty(), LiveQuery.parse("delete 1"));
+        assertEquals(Optional.empty(), LiveQuery.parse("list everyone"));
+    }
+
+    @Test
+    public void parse_incompleteValues_leftOut() {
+        assertEquals(LiveQuery.parse("list"), LiveQuery.parse("list c/"));
+        assertEquals(LiveQuery.parse("list c/s4"), LiveQuery.parse("list c/s4 ps/pa"));
+        assertEquals(LiveQuery.parse("find al"), LiveQuery.parse("  find   AL "));
+    }
+
+    @Test
+    public void refines() {
+        LiveQuery findAl = LiveQuery.parse("find al").get();
+        LiveQuery listS4 = LiveQuery.parse("list c/s4").get();
+
+        assertTrue(LiveQuery.parse("find alex").get().refines(findAl));
+        assertTrue(findAl.refines(findAl));
+        assertFalse(LiveQuery.parse("find a").get().refines(findAl));
+        assertFalse(LiveQuery.parse("find al be").get().refines(findAl));
+
+        assertTrue(LiveQuery.parse("list c/s4mon").get().refines(listS4));
+        assertTrue(LiveQuery.parse("list c/s4 ps/paid").get().refines(listS4));
+        assertTrue(listS4.refines(LiveQuery.parse("list").get()));
+        assertFalse(LiveQuery.parse("list ps/paid").get().refines(listS4));
+        assertFalse(LiveQuery.parse("list").get().refines(listS4));
+        assertFalse(LiveQuery.parse("list c/s4 ps/paid").get()
+                .refines(LiveQuery.parse("list c/s4 ps/unpaid").get()));
+
+        // different commands
+        assertFalse(findAl.refines(listS4));
+    }
+
+    @Test
+    public void toPredicate_find_matchesStartOfNameWords() {
+        assertEquals(List.of(BENSON, DANIEL, ELLE), filter("find me"));
+        assertEquals(List.of(ALICE, BENSON), filter("find al ben"));
+        assertEquals(List.of(), filter("find lice"));
+    }
+
+    @Test
+    public void toPredicate_list_matchesAllClauses() {
+        assertEquals(List.of(ALICE, GEORGE), filter("list c/s4"));
+        assertEquals(getTypicalPersons(), filter("list"));
+    }
+
+    private static List<Person> filter(String commandText) {
+        List<Person> persons = getTypicalPersons();
+        Predicate<Person> predicate = LiveQuery.parse(commandText).get().toPredicate(persons);
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+}
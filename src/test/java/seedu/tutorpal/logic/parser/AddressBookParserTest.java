@@ -15,12 +15,23 @@ import org.junit.jupiter.api.Test;
 
 import seedu.tutorpal.logic.commands.ClearCommand;
 import seedu.tutorpal.logic.commands.DeleteCommand;
+import seedu.tutorpal.logic.commands.EditAllCommand;
 import seedu.tutorpal.logic.commands.EditCommand;
 import seedu.tutorpal.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.tutorpal.logic.commands.ExitCommand;
+import seedu.tutorpal.logic.commands.ExportCommand;
 import seedu.tutorpal.logic.commands.FindCommand;
+import seedu.tutorpal.logic.commands.FuzzyFindCommand;
 import seedu.tutorpal.logic.commands.HelpCommand;
+import seedu.tutorpal.logic.commands.ImportCommand;
 import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.MarkClassCommand;
+import seedu.tutorpal.logic.commands.MarkCommand;
+import seedu.tutorpal.logic.commands.PayAllCommand;
+import seedu.tutorpal.logic.commands.PaymentCommand;
+import seedu.tutorpal.logic.commands.RedoCommand;
+import seedu.tutorpal.logic.commands.RunCommand;
+import seedu.tutorpal.logic.commands.UndoCommand;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
 import seedu.tutorpal.model.person.Person;
@@ -61,6 +72,55 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_markClass() throws Exception {
+        assertTrue(parser.parseCommand(MarkCommand.COMMAND_WORD + " c/s4mon1600 w/W10-2025")
+                instanceof MarkClassCommand);
+        assertTrue(parser.parseCommand(MarkCommand.COMMAND_WORD + " 1 w/W10-2025") instanceof MarkCommand);
+    }
+
+    @Test
+    public void parseCommand_payAll() throws Exception {
+        assertTrue(parser.parseCommand(PaymentCommand.COMMAND_WORD + " all m/01-2025") instanceof PayAllCommand);
+        assertTrue(parser.parseCommand(PaymentCommand.COMMAND_WORD + " 1 m/01-2025") instanceof PaymentCommand);
+    }
+
+    @Test
+    public void parseCommand_editAll() throws Exception {
+        assertTrue(parser.parseCommand(EditCommand.COMMAND_WORD + " all c/s3mon1600 c/s4mon1600")
+                instanceof EditAllCommand);
+    }
+
+    @Test
+    public void parseCommand_run() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(RunCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_import() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertThrows(ParseException.class, expectedMessage, ()
+                -> parser.parseCommand(ImportCommand.COMMAND_WORD + " " + ImportCommand.DRY_RUN_FLAG));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertTrue(parser.parseCommand(ExportCommand.COMMAND_WORD + " all persons.csv") instanceof ExportCommand);
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -75,6 +135,13 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_fuzzyFind() throws Exception {
+        FuzzyFindCommand command = (FuzzyFindCommand) parser.parseCommand(
+                FindCommand.COMMAND_WORD + " " + FuzzyFindCommand.FUZZY_FLAG + " cristopher  alise");
+        assertEquals(new FuzzyFindCommand(Arrays.asList("cristopher", "alise")), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -0,0 +1,72 @@
+package seedu.tutorpal.logic.parser;
+
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOIN_DATE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ROLE;
+
+import java.util.function.BiFunction;
+
+/**
+ * Compares the time taken by {@link ArgumentTokenizer} and {@link LegacyArgumentTokenizer} to tokenize the arguments
+ * of a typical {@code add} command, and of a long {@code add} command with many classes.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the IDE, with assertions disabled.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE,
+        PREFIX_ADDRESS, PREFIX_CLASS, PREFIX_JOIN_DATE};
+    private static final String TYPICAL_ARGS = " r/student n/Kevin Lim p/98761234 e/kevin@gmail.com "
+            + "a/Kent Ridge Hall, Block 12 c/s4mon1600 d/06-10-2025";
+    private static final String LONG_ARGS = TYPICAL_ARGS + " c/s1mon1000".repeat(200);
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        for (String argsString : new String[] {TYPICAL_ARGS, LONG_ARGS}) {
+            int iterations = argsString == TYPICAL_ARGS ? MEASURED_ITERATIONS : MEASURED_ITERATIONS / 100;
+            long legacy = measure(LegacyArgumentTokenizer::tokenize, argsString, iterations);
+            long current = measure(ArgumentTokenizer::tokenize, argsString, iterations);
+            System.out.printf("%d chars: legacy %d ns/op, single pass %d ns/op%n",
+                    argsString.length(), legacy / iterations, current / iterations);
+        }
+    }
+
+    /**
+     * Returns the nanoseconds taken to tokenize {@code argsString} and read its values {@code iterations} times,
+     * after a warm-up.
+     */
+    private static long measure(BiFunction<String, Prefix[], ArgumentMultimap> tokenizer, String argsString,
+            int iterations) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += readAll(tokenizer.apply(argsString, ADD_PREFIXES));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += readAll(tokenizer.apply(argsString, ADD_PREFIXES));
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            // Keeps the results alive so the JIT cannot drop the work
+            System.out.println();
+        }
+        return elapsed;
+    }
+
+    /**
+     * Reads the values a parser would read, as the single pass tokenizer only creates strings on demand.
+     */
+    private static int readAll(ArgumentMultimap argMultimap) {
+        int length = argMultimap.getPreamble().length();
+        for (Prefix prefix : ADD_PREFIXES) {
+            length += argMultimap.getValue(prefix).map(String::length).orElse(0);
+        }
+        return length;
+    }
+}
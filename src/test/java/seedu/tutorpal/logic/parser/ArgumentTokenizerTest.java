@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +138,37 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixSharingCharacters_longestPrefixMatched() {
+        Prefix pS = new Prefix("ps/");
+        Prefix p = new Prefix("p");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" ps/paid p/9123 pend", pSlash, pS, p);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, pS, "paid");
+        assertArgumentPresent(argMultimap, pSlash, "9123");
+        assertArgumentPresent(argMultimap, p, "end");
+    }
+
+    @Test
+    public void tokenize_randomArguments_sameAsLegacyTokenizer() {
+        Prefix[] prefixes = {pSlash, dashT, hatQ, CliSyntax.PREFIX_PAYMENT_STATUS, CliSyntax.PREFIX_NAME};
+        char[] alphabet = {' ', ' ', '\t', 'p', 's', 'n', '/', '-', 't', '^', 'Q', 'x'};
+        Random random = new Random(35);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int length = random.nextInt(30);
+            for (int j = 0; j < length; j++) {
+                argsString.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            ArgumentMultimap expected = LegacyArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), argsString.toString());
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString.toString());
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
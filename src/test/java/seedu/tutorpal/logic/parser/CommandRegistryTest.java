@@ -0,0 +1,69 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.ClearCommand;
+import seedu.tutorpal.logic.commands.ExitCommand;
+import seedu.tutorpal.logic.commands.HelpCommand;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.MarkClassCommand;
+import seedu.tutorpal.logic.commands.MarkCommand;
+import seedu.tutorpal.logic.commands.PayAllCommand;
+import seedu.tutorpal.logic.commands.PaymentCommand;
+
+public class CommandRegistryTest {
+
+    private static final CommandRegistry.Entry CUSTOM_ENTRY = new CommandRegistry.Entry("custom",
+            args -> new ExitCommand(), "custom: usage", "custom:\t\tcustom");
+    private static final CommandRegistry.Entry CLASHING_ENTRY = new CommandRegistry.Entry(ListCommand.COMMAND_WORD,
+            args -> new ExitCommand(), "list: clashing usage", null);
+
+    @Test
+    public void getInstance_builtInCommands_registeredOnce() {
+        CommandRegistry registry = CommandRegistry.getInstance();
+        assertSame(registry, CommandRegistry.getInstance());
+
+        List<CommandRegistry.Entry> builtIns = CommandRegistry.getBuiltInEntries();
+        assertEquals(builtIns.size(), registry.getEntries().size());
+        for (CommandRegistry.Entry entry : builtIns) {
+            assertEquals(entry.getMessageUsage(), registry.get(entry.getCommandWord()).get().getMessageUsage());
+        }
+        assertEquals(PaymentCommand.MESSAGE_USAGE_SHORTENED,
+                registry.get(PaymentCommand.COMMAND_WORD).get().getMessageUsageShortened().get());
+        assertTrue(registry.get(HelpCommand.COMMAND_WORD).get().getMessageUsageShortened().isEmpty());
+        assertFalse(registry.contains("unknown"));
+    }
+
+    @Test
+    public void getParser_sharedWord_dispatchesToVariant() throws Exception {
+        CommandRegistry registry = CommandRegistry.getInstance();
+        Parser<?> payParser = registry.get(PaymentCommand.COMMAND_WORD).get().getParser();
+        assertTrue(payParser.parse(" 1 m/01-2025") instanceof PaymentCommand);
+        assertTrue(payParser.parse(" all m/01-2025") instanceof PayAllCommand);
+
+        Parser<?> markParser = registry.get(MarkCommand.COMMAND_WORD).get().getParser();
+        assertTrue(markParser.parse(" 1 w/W01-2025") instanceof MarkCommand);
+        assertTrue(markParser.parse(" c/s4mon1600 w/W01-2025") instanceof MarkClassCommand);
+
+        assertTrue(registry.get(ClearCommand.COMMAND_WORD).get().getParser().parse("") instanceof ClearCommand);
+    }
+
+    @Test
+    public void constructor_providers_addCommandsAfterBuiltIns() {
+        CommandProvider provider = () -> List.of(CUSTOM_ENTRY, CLASHING_ENTRY);
+        CommandRegistry registry = new CommandRegistry(CommandRegistry.getBuiltInEntries(), List.of(provider));
+
+        assertSame(CUSTOM_ENTRY, registry.get("custom").get());
+        assertSame(CUSTOM_ENTRY, registry.getEntries().get(registry.getEntries().size() - 1));
+        // built-in commands cannot be replaced
+        assertEquals(ListCommand.MESSAGE_USAGE, registry.get(ListCommand.COMMAND_WORD).get().getMessageUsage());
+        assertEquals(CommandRegistry.getBuiltInEntries().size() + 1, registry.getEntries().size());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.tutorpal.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * Measures the time {@link CommandValidator#validate(String)} takes per keystroke while a long {@code add} command
+ * is typed one character at a time, compared to validating every prefix of the text from scratch.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the IDE, with assertions disabled.
+ */
+public class CommandValidatorBenchmark {
+
+    private static final String COMMAND = "add r/student n/Kevin Lim p/98761234 e/kevin@gmail.com "
+            + "a/Kent Ridge Hall, Block 12 c/s4mon1600 d/06-10-2025" + " c/s1mon1000".repeat(20);
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 200;
+
+    public static void main(String[] args) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            typeIncrementally(null);
+            typeFromScratch(null);
+        }
+
+        long[] incremental = new long[MEASURED_ROUNDS * COMMAND.length()];
+        long[] fromScratch = new long[MEASURED_ROUNDS * COMMAND.length()];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long[] round = new long[COMMAND.length()];
+            typeIncrementally(round);
+            System.arraycopy(round, 0, incremental, i * COMMAND.length(), round.length);
+            typeFromScratch(round);
+            System.arraycopy(round, 0, fromScratch, i * COMMAND.length(), round.length);
+        }
+        report("incremental", incremental);
+        report("from scratch", fromScratch);
+    }
+
+    /**
+     * Types {@link #COMMAND} into one validator, recording the nanoseconds each keystroke takes into {@code times}
+     * if it is not null.
+     */
+    private static void typeIncrementally(long[] times) {
+        CommandValidator validator = new CommandValidator(new AddressBookParser());
+        for (int i = 1; i <= COMMAND.length(); i++) {
+            String text = COMMAND.substring(0, i);
+            long start = System.nanoTime();
+            validator.validate(text);
+            record(times, i - 1, System.nanoTime() - start);
+        }
+    }
+
+    private static void typeFromScratch(long[] times) {
+        for (int i = 1; i <= COMMAND.length(); i++) {
+            String text = COMMAND.substring(0, i);
+            long start = System.nanoTime();
+            new CommandValidator(new AddressBookParser()).validate(text);
+            record(times, i - 1, System.nanoTime() - start);
+        }
+    }
+
+    private static void record(long[] times, int index, long elapsed) {
+        if (times != null) {
+            times[index] = elapsed;
+        }
+    }
+
+    private static void report(String label, long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        long average = Arrays.stream(times).sum() / times.length;
+        System.out.printf("%s: %d ns average, %d ns p99 per keystroke (%d chars)%n", label, average,
+                sorted[sorted.length * 99 / 100], COMMAND.length());
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.Command;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.Payment;
+import seedu.tutorpal.model.person.Phone;
+import seedu.tutorpal.testutil.MutableClock;
+
+public class CommandValidatorTest {
+
+    private final CommandValidator validator = new CommandValidator(new AddressBookParser());
+
+    @Test
+    public void validate_unknownCommandWord_reportedOnceTyped() {
+        assertTrue(validator.validate("ad").isValid());
+        assertEquals(problems(new Validation.Problem(0, 2, MESSAGE_UNKNOWN_COMMAND)), validator.validate("ad "));
+        assertTrue(validator.validate("add ").isValid());
+    }
+
+    @Test
+    public void validate_invalidValue_reportedOnceTypedPast() {
+        String text = "add n/Alex p/123";
+        assertTrue(validator.validate(text).isValid());
+
+        text = "add n/Alex p/123 ";
+        int start = text.indexOf("123");
+        assertEquals(problems(new Validation.Problem(start, start + 3, Phone.MESSAGE_CONSTRAINTS)),
+                validator.validate(text));
+
+        text = "add n/Alex p/91234567 ";
+        assertTrue(validator.validate(text).isValid());
+    }
+
+    @Test
+    public void validate_emptyValue_notReported() {
+        assertTrue(validator.validate("add n/ p/ e/ ").isValid());
+    }
+
+    @Test
+    public void validate_commandSpecificChecks() {
+        // Classes are keywords of list, but must be valid classes for add
+        assertTrue(validator.validate("list c/s4 ").isValid());
+        assertEquals(1, validator.validate("add c/s4 ").getProblems().size());
+
+        String text = "list c/s4 ps/owing ";
+        int start = text.indexOf("owing");
+        assertEquals(problems(new Validation.Problem(start, start + 5, Payment.MESSAGE_CONSTRAINTS)),
+                validator.validate(text));
+
+        assertEquals(1, validator.validate("edit 1 r/tutor ").getProblems().size());
+        assertTrue(validator.validate("pay all m/01-2024:03-2024 ").isValid());
+        assertEquals(1, validator.validate("pay 1 m/2024-01 ").getProblems().size());
+        assertEquals(1, validator.validate("unpay 1 m/01-2024:03-2024 ").getProblems().size());
+        text = "pay all m/03-2024:01-2024 ";
+        start = text.indexOf("03");
+        assertEquals(problems(new Validation.Problem(start, text.length() - 1, ParserUtil.MESSAGE_INVALID_MONTH_RANGE)),
+                validator.validate(text));
+        assertTrue(validator.validate("mark c/s4mon1600 w/1 except 2 ").isValid());
+    }
+
+    @Test
+    public void validate_edits_sameAsValidatingFromScratch() {
+        String[] pieces = {" n/", " p/", " e/", " c/", "Alex", "9123", "4567", "x", "@a.co", "s4mon1600", " ", "a/"};
+        Random random = new Random(1);
+        for (int run = 0; run < 50; run++) {
+            StringBuilder text = new StringBuilder("add");
+            for (int edit = 0; edit < 30; edit++) {
+                int position = 3 + random.nextInt(text.length() - 2);
+                if (random.nextInt(4) == 0 && position < text.length()) {
+                    text.delete(position, Math.min(text.length(), position + 1 + random.nextInt(3)));
+                } else {
+                    text.insert(position, pieces[random.nextInt(pieces.length)]);
+                }
+                String commandText = text.toString();
+                assertEquals(new CommandValidator(new AddressBookParser()).validate(commandText),
+                        validator.validate(commandText), commandText);
+            }
+        }
+    }
+
+    @Test
+    public void takeParsed_parsedAhead_returnsCommandOnce() {
+        validator.parseAhead("list");
+        assertEquals(Optional.of(new ListCommand()), validator.takeParsed("list"));
+        assertEquals(Optional.empty(), validator.takeParsed("list"));
+
+        validator.parseAhead("list");
+        assertEquals(Optional.empty(), validator.takeParsed("list "));
+        assertEquals(Optional.empty(), validator.takeParsed("list"));
+    }
+
+    @Test
+    public void takeParsed_notParsable_returnsEmpty() {
+        validator.parseAhead("list ps/owing");
+        assertEquals(Optional.empty(), validator.takeParsed("list ps/owing"));
+
+        // Reads a file, so it is parsed when it is executed
+        validator.parseAhead("import persons.csv");
+        assertEquals(Optional.empty(), validator.takeParsed("import persons.csv"));
+    }
+
+    @Test
+    public void takeParsed_parsedOnEarlierDay_returnsEmpty() {
+        Clock originalClock = CurrentPeriod.getClock();
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-31T23:59:59Z"));
+        CurrentPeriod.setClock(clock);
+        try {
+            validator.parseAhead("list");
+            clock.advance(Duration.ofSeconds(2));
+            Optional<Command> command = validator.takeParsed("list");
+            assertEquals(Optional.empty(), command);
+        } finally {
+            CurrentPeriod.setClock(originalClock);
+        }
+    }
+
+    private static Validation problems(Validation.Problem... problems) {
+        return new Validation(List.of(problems));
+    }
+}
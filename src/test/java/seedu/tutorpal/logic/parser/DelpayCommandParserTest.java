@@ -140,7 +140,7 @@ public class DelpayCommandParserTest {
         // EP: invalid month (00)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "00-2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -148,7 +148,7 @@ public class DelpayCommandParserTest {
         // EP: invalid month (>12)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "13-2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -156,7 +156,7 @@ public class DelpayCommandParserTest {
         // EP: invalid format (missing leading zero in month)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "1-2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -164,7 +164,7 @@ public class DelpayCommandParserTest {
         // EP: invalid format (wrong year length)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "01-24";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -172,7 +172,7 @@ public class DelpayCommandParserTest {
         // EP: invalid format (missing dash, wrong separator)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "01/2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -180,7 +180,7 @@ public class DelpayCommandParserTest {
         // EP: invalid format (missing dash, wrong separator)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "01.2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -197,7 +197,7 @@ public class DelpayCommandParserTest {
         // EP: empty or missing month/year
         String input = "1 " + PREFIX_PAYMENT_MONTH;
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -205,7 +205,7 @@ public class DelpayCommandParserTest {
         // EP: empty or missing month/year (whitespace only)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "   ";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -220,7 +220,7 @@ public class DelpayCommandParserTest {
         // EP: alphabetic month (e.g., Jan)
         String input = "1 " + PREFIX_PAYMENT_MONTH + "Jan-2024";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 
     @Test
@@ -264,7 +264,7 @@ public class DelpayCommandParserTest {
         // EP: extra tokens after month value
         String input = "1 " + PREFIX_PAYMENT_MONTH + "01-2024 extra";
         ParseException ex = assertThrows(ParseException.class, () -> parser.parse(input));
-        assertEquals("Invalid month format. Use MM-yyyy, e.g., 01-2024", ex.getMessage());
+        assertEquals(ParserUtil.MESSAGE_INVALID_MONTH, ex.getMessage());
     }
 }
 
@@ -0,0 +1,61 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.commands.EditCommand.MESSAGE_INVALID_EDIT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.EditAllCommand;
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.EditCommand.EditPersonDescriptor;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.testutil.EditPersonDescriptorBuilder;
+
+public class EditAllCommandParserTest {
+
+    private final EditAllCommandParser parser = new EditAllCommandParser();
+
+    @Test
+    public void isEditAll() {
+        assertTrue(EditAllCommandParser.isEditAll(" all c/s3mon1600 c/s4mon1600"));
+        assertFalse(EditAllCommandParser.isEditAll(" 1 c/s3mon1600"));
+    }
+
+    @Test
+    public void parse_moveClass_success() {
+        assertParseSuccess(parser, " all c/s3mon1600 c/s4mon1600",
+                new EditAllCommand(new EditPersonDescriptor(), new Class("s3mon1600"), new Class("s4mon1600")));
+    }
+
+    @Test
+    public void parse_setFields_success() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withAddress("1 New Street")
+                .withClasses("s4mon1600").withJoinDate("01-03-2025").build();
+        assertParseSuccess(parser, " all a/1 New Street c/s4mon1600 d/01-03-2025", new EditAllCommand(descriptor));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // no field
+        assertParseFailure(parser, " all", EditCommand.MESSAGE_NOT_EDITED);
+
+        // personal fields
+        assertParseFailure(parser, " all n/Amy", EditAllCommandParser.MESSAGE_PERSONAL_FIELD);
+        assertParseFailure(parser, " all p/91234567", EditAllCommandParser.MESSAGE_PERSONAL_FIELD);
+
+        // role
+        assertParseFailure(parser, " all r/tutor", String.format(MESSAGE_INVALID_EDIT, PREFIX_ROLE));
+
+        // too many classes
+        assertParseFailure(parser, " all c/s3mon1600 c/s4mon1600 c/s5mon1600",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditAllCommand.MESSAGE_USAGE));
+
+        // invalid class
+        assertParseFailure(parser, " all c/s3mon1600 c/monday", Class.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.tutorpal.logic.parser;
+
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        YearMonth now = YearMonth.now();
+        assertParseSuccess(parser, " data/persons.csv",
+                new ExportCommand(Paths.get("data/persons.csv"), false, now, now));
+        assertParseSuccess(parser, " ALL data/persons.csv m/01-2025:03-2025",
+                new ExportCommand(Paths.get("data/persons.csv"), true, YearMonth.of(2025, 1), YearMonth.of(2025, 3)));
+        assertParseSuccess(parser, " all.csv m/02-2025",
+                new ExportCommand(Paths.get("all.csv"), false, YearMonth.of(2025, 2), YearMonth.of(2025, 2)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", usage);
+        assertParseFailure(parser, " all", usage);
+        assertParseFailure(parser, " data/persons.csv m/01-2025:02-2025:03-2025", usage);
+        assertParseFailure(parser, " data/persons.csv m/03-2025:01-2025",
+                ParserUtil.MESSAGE_INVALID_MONTH_RANGE);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.FuzzyFindCommand;
+
+public class FuzzyFindCommandParserTest {
+
+    private FuzzyFindCommandParser parser = new FuzzyFindCommandParser();
+
+    @Test
+    public void isFuzzy() {
+        assertTrue(FuzzyFindCommandParser.isFuzzy(" --fuzzy alice"));
+        assertTrue(FuzzyFindCommandParser.isFuzzy(" --FUZZY"));
+        assertFalse(FuzzyFindCommandParser.isFuzzy(" alice --fuzzy"));
+        assertFalse(FuzzyFindCommandParser.isFuzzy(" --fuzzyalice"));
+        assertFalse(FuzzyFindCommandParser.isFuzzy(""));
+    }
+
+    @Test
+    public void parse_noKeywords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " --fuzzy", expectedMessage);
+        assertParseFailure(parser, " --fuzzy   ", expectedMessage);
+        assertParseFailure(parser, " alice", expectedMessage);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedCommand = new FuzzyFindCommand(Arrays.asList("Cristopher", "Alise"));
+        assertParseSuccess(parser, " --fuzzy Cristopher Alise", expectedCommand);
+        assertParseSuccess(parser, " \n --fuzzy \n Cristopher \n \t Alise  \t", expectedCommand);
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.tutorpal.logic.commands.EditCommand;
+import seedu.tutorpal.logic.commands.ImportCommand;
+import seedu.tutorpal.logic.commands.ImportCommand.CsvRow;
+import seedu.tutorpal.logic.parser.exceptions.ParseException;
+import seedu.tutorpal.model.person.Address;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Email;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.Name;
+import seedu.tutorpal.model.person.Phone;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.Tutor;
+
+public class ImportCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_csv_validatesEachRow() throws Exception {
+        Path csv = testFolder.resolve("persons.csv");
+        Files.write(csv, List.of(
+                "Name,Role,Phone,Email,Class,Address,JoinDate",
+                "Amy Bee,student,91111111,amy@example.com,s4mon1600,\"Block 312, Amy Street 1\",01-02-2025",
+                "",
+                "Bob Choo,tutor,82222222,bob@example.com,s2wed1400 s4mon1600,,01-03-2025",
+                "Carl Kurz,student,91234567,carl@example.com,s1mon1000 s2mon1000,,01-03-2025",
+                "Dan Lee,student,123,dan@example.com,s1mon1000,,01-03-2025",
+                "Eve Tan,student,91234568",
+                "\"Fay Lim,student"));
+
+        Student amy = new Student(new Name("Amy Bee"), new Phone("91111111"), new Email("amy@example.com"),
+                new Address("Block 312, Amy Street 1"), Set.of(new Class("s4mon1600")), new JoinDate("01-02-2025"));
+        Tutor bob = new Tutor(new Name("Bob Choo"), new Phone("82222222"), new Email("bob@example.com"),
+                new Address("-"), Set.of(new Class("s2wed1400"), new Class("s4mon1600")), new JoinDate("01-03-2025"));
+        ImportCommand expected = new ImportCommand(csv, List.of(
+                CsvRow.parsed(2, amy),
+                CsvRow.parsed(4, bob),
+                CsvRow.failed(5, EditCommand.MESSAGE_STUDENT_MULTIPLE_CLASSES),
+                CsvRow.failed(6, Phone.MESSAGE_CONSTRAINTS),
+                CsvRow.failed(7, String.format(ImportCommandParser.MESSAGE_WRONG_FIELD_COUNT, 7, 3)),
+                CsvRow.failed(8, "A quoted field is not closed.")), false);
+        assertEquals(expected, parser.parse(" " + csv));
+    }
+
+    @Test
+    public void parse_headerWithByteOrderMark_markIgnored() throws Exception {
+        Path csv = testFolder.resolve("persons.csv");
+        Files.write(csv, List.of(
+                "\uFEFFrole,name,phone,email,class,joindate",
+                "student,Amy Bee,91111111,amy@example.com,s4mon1600,01-02-2025"));
+
+        Student amy = new Student(new Name("Amy Bee"), new Phone("91111111"), new Email("amy@example.com"),
+                new Address("-"), Set.of(new Class("s4mon1600")), new JoinDate("01-02-2025"));
+        assertEquals(new ImportCommand(csv, List.of(CsvRow.parsed(2, amy)), false), parser.parse(" " + csv));
+    }
+
+    @Test
+    public void parse_dryRunFlag_setsDryRun() throws Exception {
+        Path csv = testFolder.resolve("persons.csv");
+        Files.write(csv, List.of("role,name,phone,email,class"));
+        assertEquals(new ImportCommand(csv, List.of(), true),
+                parser.parse(" " + csv + " " + ImportCommand.DRY_RUN_FLAG));
+    }
+
+    @Test
+    public void parse_fileNameEndingInDryRunFlag_notDryRun() throws Exception {
+        Path csv = testFolder.resolve("persons" + ImportCommand.DRY_RUN_FLAG);
+        Files.write(csv, List.of("role,name,phone,email,class"));
+        assertEquals(new ImportCommand(csv, List.of(), false), parser.parse(" " + csv));
+        assertEquals(new ImportCommand(csv, List.of(), true),
+                parser.parse(" " + csv + " " + ImportCommand.DRY_RUN_FLAG));
+    }
+
+    @Test
+    public void parse_invalidHeader_throwsParseException() throws Exception {
+        Path csv = testFolder.resolve("persons.csv");
+        Files.write(csv, List.of("role,name,phone,email"));
+        assertParseFailure(parser, " " + csv, String.format(ImportCommandParser.MESSAGE_INVALID_HEADER, csv,
+                String.format(ImportCommandParser.MESSAGE_MISSING_COLUMN, ImportCommandParser.COLUMN_CLASS)));
+
+        Files.write(csv, List.of("role,name,phone,email,class,age"));
+        assertParseFailure(parser, " " + csv, String.format(ImportCommandParser.MESSAGE_INVALID_HEADER, csv,
+                String.format(ImportCommandParser.MESSAGE_UNKNOWN_COLUMN, "age")));
+
+        Files.write(csv, List.of());
+        assertParseFailure(parser, " " + csv, String.format(ImportCommandParser.MESSAGE_MISSING_HEADER, csv));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path missing = testFolder.resolve("missing.csv");
+        ParseException e = Assertions.assertThrows(ParseException.class, () -> parser.parse(" " + missing));
+        assertTrue(e.getMessage().startsWith(String.format(ImportCommandParser.MESSAGE_CANNOT_READ_CSV, missing, "")));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,17 +2,24 @@ package seedu.tutorpal.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_JOINED_FROM;
 import static seedu.tutorpal.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tutorpal.logic.Messages;
 import seedu.tutorpal.logic.commands.ListCommand;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.JoinDateInRangePredicate;
+import seedu.tutorpal.model.person.MonthsOverduePredicate;
 import seedu.tutorpal.model.person.Payment;
 import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Ranking;
 import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
 
 public class ListCommandParserTest {
@@ -293,6 +300,89 @@ public class ListCommandParserTest {
             null), command);
     }
 
+    // ========== JOIN DATE AND MONTHS OVERDUE FILTER TESTS ==========
+
+    @Test
+    public void parse_joinDateRange_returnsListCommand() throws ParseException {
+        // EP: both ends of the range given
+        ListCommand command = parser.parse(" jf/01-01-2025 jt/31-03-2025");
+        assertEquals(new ListCommand(null, null, null,
+            new JoinDateInRangePredicate(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)), null), command);
+
+        // EP: one end left open
+        command = parser.parse(" jf/01-01-2025");
+        assertEquals(new ListCommand(null, null, null,
+            new JoinDateInRangePredicate(LocalDate.of(2025, 1, 1), null), null), command);
+        command = parser.parse(" jt/31-03-2025");
+        assertEquals(new ListCommand(null, null, null,
+            new JoinDateInRangePredicate(null, LocalDate.of(2025, 3, 31)), null), command);
+    }
+
+    @Test
+    public void parse_joinDateRangeReversed_throwsParseException() {
+        // EP: from date after to date
+        assertThrows(ParseException.class, ListCommand.MESSAGE_INVALID_JOIN_DATE_RANGE, () ->
+            parser.parse(" jf/01-04-2025 jt/31-03-2025"));
+    }
+
+    @Test
+    public void parse_invalidJoinDate_throwsParseException() {
+        // EP: invalid date format
+        assertThrows(ParseException.class, JoinDate.MESSAGE_CONSTRAINTS, () -> parser.parse(" jf/2025-01-01"));
+        assertThrows(ParseException.class, JoinDate.MESSAGE_CONSTRAINTS, () -> parser.parse(" jt/"));
+    }
+
+    @Test
+    public void parse_duplicateJoinDatePrefix_throwsParseException() {
+        // EP: a range end given twice
+        assertThrows(ParseException.class, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_JOINED_FROM), () ->
+            parser.parse(" jf/01-01-2025 jf/01-02-2025"));
+    }
+
+    @Test
+    public void parse_monthsOverdue_returnsListCommand() throws ParseException {
+        // EP: positive months, combined with another filter
+        ListCommand command = parser.parse(" c/s4 mo/2");
+        assertEquals(new ListCommand(new ClassContainsKeywordsPredicate(Arrays.asList("s4")), null, null, null,
+            new MonthsOverduePredicate(2)), command);
+    }
+
+    @Test
+    public void parse_invalidMonthsOverdue_throwsParseException() {
+        // EP: zero, negative, non-numeric and empty months
+        for (String months : new String[] {"0", "-1", "two", ""}) {
+            assertThrows(ParseException.class, ListCommand.MESSAGE_INVALID_MONTHS_OVERDUE, () ->
+                parser.parse(" mo/" + months));
+        }
+    }
+
+    @Test
+    public void parse_ranking_returnsListCommand() throws ParseException {
+        // EP: a ranking alone, and a ranking combined with a filter
+        assertEquals(new ListCommand(null, null, null, null, null, Ranking.ABSENCES, 3),
+            parser.parse(" top/3 by/absences"));
+        assertEquals(new ListCommand(new ClassContainsKeywordsPredicate(Arrays.asList("s4")), null, null, null, null,
+            Ranking.MONTHS_OVERDUE, 10), parser.parse(" c/s4 by/OVERDUE top/10"));
+    }
+
+    @Test
+    public void parse_incompleteRanking_throwsParseException() {
+        // EP: only one of the count and what to rank by
+        assertThrows(ParseException.class, ListCommand.MESSAGE_INCOMPLETE_RANKING, () -> parser.parse(" top/3"));
+        assertThrows(ParseException.class, ListCommand.MESSAGE_INCOMPLETE_RANKING, () ->
+            parser.parse(" c/s4 by/absences"));
+    }
+
+    @Test
+    public void parse_invalidRanking_throwsParseException() {
+        // EP: zero, negative and non-numeric counts, and an unknown ranking
+        for (String count : new String[] {"0", "-1", "ten", ""}) {
+            assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_TOP_COUNT, () ->
+                parser.parse(" top/" + count + " by/absences"));
+        }
+        assertThrows(ParseException.class, Ranking.MESSAGE_CONSTRAINTS, () -> parser.parse(" top/3 by/payments"));
+    }
+
     @Test
     public void parse_invalidPrefixTu_throwsParseException() {
         // EP: invalid prefix type
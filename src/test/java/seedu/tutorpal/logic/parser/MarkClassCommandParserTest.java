@@ -0,0 +1,73 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.commons.core.index.Index;
+import seedu.tutorpal.logic.commands.MarkClassCommand;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+
+public class MarkClassCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkClassCommand.MESSAGE_USAGE);
+
+    private final MarkClassCommandParser parser = new MarkClassCommandParser();
+    private final Class targetClass = new Class("s4mon1600");
+    private final WeeklyAttendance week = new WeeklyAttendance("W10-2025");
+
+    @Test
+    public void isClassWide() {
+        assertTrue(MarkClassCommandParser.isClassWide(" c/s4mon1600 w/W10-2025"));
+        assertFalse(MarkClassCommandParser.isClassWide(" 1 w/W10-2025"));
+    }
+
+    @Test
+    public void parse_classAndWeek_success() {
+        assertParseSuccess(parser, " c/s4mon1600 w/W10-2025",
+                new MarkClassCommand(targetClass, List.of(), week));
+
+        // prefixes in any order
+        assertParseSuccess(parser, " w/W10-2025 c/s4mon1600",
+                new MarkClassCommand(targetClass, List.of(), week));
+    }
+
+    @Test
+    public void parse_exceptIndexes_success() {
+        List<Index> exceptIndexes = List.of(Index.fromOneBased(2), Index.fromOneBased(3), Index.fromOneBased(5));
+
+        // space separated
+        assertParseSuccess(parser, " c/s4mon1600 w/W10-2025 except 3 5 2",
+                new MarkClassCommand(targetClass, exceptIndexes, week));
+
+        // comma separated, with a range
+        assertParseSuccess(parser, " c/s4mon1600 w/W10-2025 except 2-3,5",
+                new MarkClassCommand(targetClass, exceptIndexes, week));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing week
+        assertParseFailure(parser, " c/s4mon1600", MESSAGE_INVALID_FORMAT);
+
+        // non-empty preamble
+        assertParseFailure(parser, " 1 c/s4mon1600 w/W10-2025", MESSAGE_INVALID_FORMAT);
+
+        // except without indexes
+        assertParseFailure(parser, " c/s4mon1600 w/W10-2025 except", MESSAGE_INVALID_FORMAT);
+
+        // invalid class
+        assertParseFailure(parser, " c/monday w/W10-2025", Class.MESSAGE_CONSTRAINTS);
+
+        // invalid except index
+        assertParseFailure(parser, " c/s4mon1600 w/W10-2025 except 0", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.tutorpal.logic.parser.CliSyntax.PREFIX_ATTENDANCE_WEEK;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.tutorpal.commons.core.index.Index;
@@ -36,6 +38,18 @@ public class MarkCommandParserTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void parse_indexRangeAndList_success() throws Exception {
+        // EP: index range and list
+        String input = "1-2,4 " + PREFIX_ATTENDANCE_WEEK + "W26-2025";
+        MarkCommand result = parser.parse(input);
+
+        MarkCommand expected = new MarkCommand(
+                List.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(4)),
+                new WeeklyAttendance("W26-2025"));
+        assertEquals(expected, result);
+    }
+
     @Test
     public void parse_missingWeekPrefix_failure() {
         // EP: missing week prefix
@@ -1,12 +1,23 @@
 package seedu.tutorpal.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.logic.parser.ParserUtil.MAX_INDEXES;
 import static seedu.tutorpal.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.tutorpal.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
+import static seedu.tutorpal.logic.parser.ParserUtil.MESSAGE_INVALID_MONTH;
+import static seedu.tutorpal.logic.parser.ParserUtil.MESSAGE_INVALID_MONTH_RANGE;
+import static seedu.tutorpal.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDEXES;
 import static seedu.tutorpal.testutil.Assert.assertThrows;
 import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.time.YearMonth;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.tutorpal.commons.core.index.Index;
 import seedu.tutorpal.logic.parser.exceptions.ParseException;
 import seedu.tutorpal.model.person.Address;
 import seedu.tutorpal.model.person.Email;
@@ -46,6 +57,42 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,,2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-2-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("a"));
+    }
+
+    @Test
+    public void parseIndexes_reversedRange_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "3-1"), ()
+            -> ParserUtil.parseIndexes("3-1"));
+    }
+
+    @Test
+    public void parseIndexes_tooManyIndexes_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES), ()
+            -> ParserUtil.parseIndexes("1-" + (MAX_INDEXES + 1)));
+        assertThrows(ParseException.class, String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES), ()
+            -> ParserUtil.parseIndexes("1-" + MAX_INDEXES + "," + (MAX_INDEXES + 5)));
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        // single index
+        assertEquals(List.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexes(" 1 "));
+
+        // ranges and lists are sorted and deduplicated
+        assertEquals(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON, INDEX_THIRD_PERSON, Index.fromOneBased(5)),
+                ParserUtil.parseIndexes("5, 2-3,1-2"));
+
+        // single-element range
+        assertEquals(List.of(INDEX_SECOND_PERSON), ParserUtil.parseIndexes("2-2"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -137,4 +184,32 @@ public class ParserUtilTest {
         Email expectedEmail = new Email(VALID_EMAIL);
         assertEquals(expectedEmail, ParserUtil.parseEmail(emailWithWhitespace));
     }
+
+    @Test
+    public void parseMonth_validValueWithWhitespace_returnsMonth() throws Exception {
+        assertEquals(YearMonth.of(2024, 1), ParserUtil.parseMonth(WHITESPACE + "01-2024" + WHITESPACE));
+    }
+
+    @Test
+    public void parseMonth_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("2024-01"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("13-2024"));
+    }
+
+    @Test
+    public void parseMonthRange_validRange_returnsFirstAndLastMonth() throws Exception {
+        assertEquals(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 3)),
+                ParserUtil.parseMonthRange("01-2024:03-2024", "usage"));
+        assertEquals(List.of(YearMonth.of(2024, 1), YearMonth.of(2024, 1)),
+                ParserUtil.parseMonthRange("01-2024", "usage"));
+    }
+
+    @Test
+    public void parseMonthRange_invalidRange_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_MONTH_RANGE, () ->
+                ParserUtil.parseMonthRange("03-2024:01-2024", "usage"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_MONTH, () ->
+                ParserUtil.parseMonthRange("01-2024:2024-03", "usage"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseMonthRange("01-2024:02-2024:03-2024", "usage"));
+    }
 }
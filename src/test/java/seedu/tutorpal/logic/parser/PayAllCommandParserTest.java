@@ -0,0 +1,56 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.PayAllCommand;
+
+public class PayAllCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, PayAllCommand.MESSAGE_USAGE);
+
+    private final PayAllCommandParser parser = new PayAllCommandParser();
+
+    @Test
+    public void isPayAll() {
+        assertTrue(PayAllCommandParser.isPayAll(" all m/01-2025"));
+        assertTrue(PayAllCommandParser.isPayAll(" ALL m/01-2025"));
+        assertFalse(PayAllCommandParser.isPayAll(" 1 m/01-2025"));
+    }
+
+    @Test
+    public void parse_singleMonth_success() {
+        YearMonth month = YearMonth.of(2025, 1);
+        assertParseSuccess(parser, " all m/01-2025", new PayAllCommand(month, month));
+    }
+
+    @Test
+    public void parse_monthRange_success() {
+        assertParseSuccess(parser, " all m/01-2025:03-2025",
+                new PayAllCommand(YearMonth.of(2025, 1), YearMonth.of(2025, 3)));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // missing month
+        assertParseFailure(parser, " all", MESSAGE_INVALID_FORMAT);
+
+        // too many bounds
+        assertParseFailure(parser, " all m/01-2025:02-2025:03-2025", MESSAGE_INVALID_FORMAT);
+
+        // reversed range
+        assertParseFailure(parser, " all m/03-2025:01-2025", ParserUtil.MESSAGE_INVALID_MONTH_RANGE);
+
+        // invalid month
+        assertParseFailure(parser, " all m/2025-01",
+                "Invalid month format. Please use MM-yyyy format (e.g., 01-2024)");
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.tutorpal.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.tutorpal.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.DeleteCommand;
+import seedu.tutorpal.logic.commands.ListCommand;
+import seedu.tutorpal.logic.commands.RunCommand;
+import seedu.tutorpal.logic.commands.RunCommand.ScriptLine;
+
+public class RunCommandParserTest {
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validPath_doesNotReadScript() {
+        // The script is read when the command is executed, so it need not exist yet
+        assertParseSuccess(parser, " data/missing.txt ",
+                new RunCommand(Paths.get("data/missing.txt"), RunCommandParser.LINE_PARSER));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void lineParser_commandLines_parsedOrReportedByLineNumber() {
+        assertEquals(ScriptLine.parsed(2, new DeleteCommand(INDEX_FIRST_PERSON)),
+                RunCommandParser.LINE_PARSER.parse(2, "delete 1"));
+        assertEquals(ScriptLine.parsed(4, new ListCommand()), RunCommandParser.LINE_PARSER.parse(4, "  list  "));
+        assertEquals(ScriptLine.failed(5, MESSAGE_UNKNOWN_COMMAND), RunCommandParser.LINE_PARSER.parse(5, "unknown"));
+        assertEquals(ScriptLine.failed(6, String.format(RunCommandParser.MESSAGE_UNSUPPORTED_IN_SCRIPT, "undo")),
+                RunCommandParser.LINE_PARSER.parse(6, "undo"));
+        assertEquals(ScriptLine.failed(7, String.format(RunCommandParser.MESSAGE_UNSUPPORTED_IN_SCRIPT, "export")),
+                RunCommandParser.LINE_PARSER.parse(7, "export data/out.csv"));
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.tutorpal.logic.parser;
+
+import static seedu.tutorpal.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.tutorpal.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.logic.commands.CommandResult.PersonView;
+import seedu.tutorpal.logic.commands.ViewCommand;
+
+public class ViewCommandParserTest {
+
+    private ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsViewCommand() {
+        assertParseSuccess(parser, " table", new ViewCommand(PersonView.TABLE));
+        assertParseSuccess(parser, " \t CARDS \n", new ViewCommand(PersonView.CARDS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " list", expectedMessage);
+        assertParseFailure(parser, " table cards", expectedMessage);
+    }
+}
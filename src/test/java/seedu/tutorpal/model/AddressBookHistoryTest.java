@@ -0,0 +1,69 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBookSnapshot initial = AddressBookSnapshot.empty();
+    private final AddressBookSnapshot withAlice = initial.withPerson(ALICE);
+    private final AddressBookSnapshot withBenson = withAlice.withPerson(BENSON);
+
+    @Test
+    public void record_unchangedVersion_notRecorded() {
+        AddressBookHistory history = new AddressBookHistory(initial, 10);
+        assertFalse(history.record(initial));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_movesBetweenVersions() {
+        AddressBookHistory history = new AddressBookHistory(initial, 10);
+        assertTrue(history.record(withAlice));
+        assertTrue(history.record(withBenson));
+
+        assertSame(withAlice, history.undo());
+        assertSame(initial, history.undo());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+
+        assertSame(withAlice, history.redo());
+        assertSame(withBenson, history.redo());
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void record_afterUndo_discardsRedoableVersions() {
+        AddressBookHistory history = new AddressBookHistory(initial, 10);
+        history.record(withAlice);
+        history.record(withBenson);
+        history.undo();
+
+        AddressBookSnapshot withCarl = withAlice.withPerson(CARL);
+        assertTrue(history.record(withCarl));
+        assertFalse(history.canRedo());
+        assertSame(withAlice, history.undo());
+    }
+
+    @Test
+    public void record_beyondCapacity_dropsOldestVersion() {
+        AddressBookHistory history = new AddressBookHistory(initial, 2);
+        history.record(withAlice);
+        history.record(withBenson);
+        history.record(withBenson.withoutPerson(ALICE));
+
+        history.undo();
+        assertSame(withAlice, history.undo());
+        assertFalse(history.canUndo());
+        assertEquals(withAlice, history.getCurrent());
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.exceptions.DuplicatePersonException;
+import seedu.tutorpal.model.person.exceptions.PersonNotFoundException;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private static final List<Class> CLASSES =
+            List.of(new Class("s1mon1600"), new Class("s2tue1700"), new Class("s3wed1800"));
+
+    private final AddressBookSnapshot snapshot = AddressBookSnapshot.empty().withPersons(List.of(ALICE, BENSON));
+
+    @Test
+    public void withPerson_sameIdentity_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        assertTrue(snapshot.hasPerson(editedAlice));
+        assertThrows(DuplicatePersonException.class, () -> snapshot.withPerson(editedAlice));
+        assertThrows(DuplicatePersonException.class, () -> snapshot.withPersons(List.of(CARL, CARL)));
+    }
+
+    @Test
+    public void withPersonReplaced_notInSnapshot_throwsPersonNotFoundException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        assertThrows(PersonNotFoundException.class, () -> snapshot.withPersonReplaced(CARL, CARL));
+        // A person with the same identity but other details is not the one in the snapshot
+        assertThrows(PersonNotFoundException.class, () -> snapshot.withPersonReplaced(editedAlice, ALICE));
+        assertThrows(PersonNotFoundException.class, () -> snapshot.withoutPerson(editedAlice));
+    }
+
+    @Test
+    public void withPersonReplaced_identityOfAnother_throwsDuplicatePersonException() {
+        Person bensonAsAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        assertThrows(DuplicatePersonException.class, () -> snapshot.withPersonReplaced(BENSON, bensonAsAlice));
+    }
+
+    @Test
+    public void withPersonsReplaced_identitiesSwapped_success() {
+        Person aliceAsBenson = new PersonBuilder(BENSON).withAddress("Alice's place").build();
+        Person bensonAsAlice = new PersonBuilder(ALICE).withAddress("Benson's place").build();
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        replacements.put(ALICE, aliceAsBenson);
+        replacements.put(BENSON, bensonAsAlice);
+
+        AddressBookSnapshot swapped = snapshot.withPersonsReplaced(replacements);
+        assertEquals(List.of(aliceAsBenson, bensonAsAlice), swapped.getPersons().asList());
+        assertEquals(List.of(aliceAsBenson), swapped.withoutPerson(bensonAsAlice).getPersons().asList());
+    }
+
+    @Test
+    public void updates_randomPersons_sameAsList() {
+        Random random = new Random(4);
+        List<Person> expected = new ArrayList<>();
+        AddressBookSnapshot current = AddressBookSnapshot.empty();
+        // Looked up before any update, so that the rosters are updated with the snapshot rather than built afresh
+        assertEquals(List.of(), current.getPersonsInClass(CLASSES.get(0)));
+        for (int i = 0; i < 500; i++) {
+            Person person = createPerson(random.nextInt(60), random.nextInt(3));
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                if (expected.stream().anyMatch(person::isSamePerson)) {
+                    assertTrue(current.hasPerson(person));
+                    continue;
+                }
+                assertFalse(current.hasPerson(person));
+                current = current.withPerson(person);
+                expected.add(person);
+            } else if (operation == 1) {
+                Person target = expected.get(random.nextInt(expected.size()));
+                if (expected.stream().anyMatch(other -> other != target && other.isSamePerson(person))) {
+                    continue;
+                }
+                current = current.withPersonReplaced(target, person);
+                expected.set(expected.indexOf(target), person);
+            } else {
+                Person target = expected.get(random.nextInt(expected.size()));
+                current = current.withoutPerson(target);
+                expected.remove(target);
+            }
+            assertEquals(expected, current.getPersons().asList());
+            for (Class personClass : CLASSES) {
+                assertEquals(expected.stream().filter(other -> other.getClasses().contains(personClass))
+                        .collect(Collectors.toList()), current.getPersonsInClass(personClass));
+            }
+        }
+        for (Person person : expected) {
+            assertTrue(current.hasPerson(person));
+        }
+    }
+
+    @Test
+    public void snapshot_unchangedAddressBook_sameSnapshot() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot taken = addressBook.snapshot();
+        assertSame(taken, addressBook.snapshot());
+
+        AddressBookSnapshot updated = taken.withPerson(BENSON);
+        addressBook.restore(updated);
+        assertSame(updated, addressBook.snapshot());
+
+        addressBook.addPerson(CARL);
+        assertEquals(List.of(ALICE, BENSON, CARL), addressBook.snapshot().getPersons().asList());
+    }
+
+    @Test
+    public void getPersonsInClass_derivedSnapshot_sameAsBuiltAfresh() {
+        Person first = createPerson(1, 0);
+        Person second = createPerson(2, 1);
+        AddressBookSnapshot derived = snapshot.withPersons(List.of(first, second));
+        AddressBookSnapshot builtAfresh = new AddressBookSnapshot(derived.getPersons());
+        for (Class personClass : CLASSES) {
+            assertEquals(builtAfresh.getPersonsInClass(personClass), derived.getPersonsInClass(personClass));
+        }
+        assertEquals(List.of(first), derived.getPersonsInClass(CLASSES.get(0)));
+        assertEquals(List.of(first, second), derived.getPersonsInClass(CLASSES.get(1)));
+    }
+
+    /**
+     * Returns a person whose identity is one of a few, so that updates often collide with existing persons.
+     * The person is a tutor taking two of a few classes, which depend on the version.
+     */
+    private static Person createPerson(int identity, int version) {
+        return new PersonBuilder()
+                .withName("Person " + identity)
+                .withPhone(String.valueOf(80000000 + identity))
+                .withAddress("Block " + version)
+                .withRole("tutor")
+                .withClasses(CLASSES.get(version % 3).value, CLASSES.get((version + 1) % 3).value)
+                .build();
+    }
+}
@@ -2,21 +2,38 @@ package seedu.tutorpal.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.tutorpal.testutil.Assert.assertThrows;
 import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
 import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+import static seedu.tutorpal.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.tutorpal.commons.core.GuiSettings;
+import seedu.tutorpal.model.person.CacheablePredicate;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.NameContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.exceptions.DuplicatePersonException;
 import seedu.tutorpal.testutil.AddressBookBuilder;
+import seedu.tutorpal.testutil.MutableClock;
+import seedu.tutorpal.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +110,256 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void commit_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commit());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollback());
+    }
+
+    @Test
+    public void commit_changesPublishedOnceOnOutermostCommit() {
+        AtomicInteger changes = new AtomicInteger();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) c -> {
+            changes.incrementAndGet();
+        });
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertTrue(modelManager.isInTransaction());
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(0, changes.get());
+
+        modelManager.commit();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(Arrays.asList(BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void getPersonStatistics_inTransaction_countsWorkingState() {
+        PersonStatistics statistics = modelManager.getPersonStatistics();
+        modelManager.addPerson(ALICE);
+        assertEquals(1, statistics.getPersonCount());
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        assertEquals(2, modelManager.getPersonStatistics().getPersonCount());
+        assertEquals(1, statistics.getPersonCount());
+        modelManager.commit();
+        assertEquals(2, statistics.getPersonCount());
+        assertSame(statistics, modelManager.getPersonStatistics());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameQueryAgain_resultsKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(1, modelManager.getFilterMissCount());
+
+        AtomicInteger changes = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) c -> changes.incrementAndGet());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(0, changes.get());
+        assertEquals(1, modelManager.getFilterHitCount());
+
+        // Edits since are already reflected in the kept results
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Alice").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        changes.set(0);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(0, changes.get());
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // Switching back to an earlier query reuses its remembered results
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Carl")));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+        assertEquals(3, modelManager.getFilterHitCount());
+        assertEquals(2, modelManager.getFilterMissCount());
+    }
+
+    @Test
+    public void filteredPersonList_monthChanges_filteredAgain() {
+        Clock originalClock = CurrentPeriod.getClock();
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-15T12:00:00Z"));
+        CurrentPeriod.setClock(clock);
+        try {
+            Person person = new PersonBuilder().withJoinDate("01-03-2025").build();
+            modelManager.addPerson(person);
+            modelManager.updateFilteredPersonList(new PaymentStatusMatchesPredicate(List.of("unpaid")));
+            assertEquals(List.of(person), modelManager.getFilteredPersonList());
+
+            // Unpaid for March, so overdue in April
+            clock.advance(Duration.ofDays(20));
+            CurrentPeriod.refresh();
+            assertEquals(List.of(), modelManager.getFilteredPersonList());
+        } finally {
+            CurrentPeriod.setClock(originalClock);
+        }
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameQueryInNewMonth_filteredAgain() {
+        Clock originalClock = CurrentPeriod.getClock();
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-15T12:00:00Z"));
+        CurrentPeriod.setClock(clock);
+        try {
+            Person person = new PersonBuilder().withJoinDate("01-03-2025").build();
+            modelManager.addPerson(person);
+            modelManager.updateFilteredPersonList(new PaymentStatusMatchesPredicate(List.of("unpaid")));
+            assertEquals(List.of(person), modelManager.getFilteredPersonList());
+
+            // The same query before the listeners are told of the new month
+            clock.advance(Duration.ofDays(20));
+            modelManager.updateFilteredPersonList(new PaymentStatusMatchesPredicate(List.of("unpaid")));
+            assertEquals(List.of(), modelManager.getFilteredPersonList());
+        } finally {
+            CurrentPeriod.setClock(originalClock);
+        }
+    }
+
+    @Test
+    public void rollback_outermostTransaction_discardsChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.setPerson(ALICE, BENSON);
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.rollback();
+
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rollback_savepoint_keepsChangesBeforeSavepoint() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.rollback();
+        modelManager.addPerson(CARL);
+        modelManager.commit();
+
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void rollback_personsFilteredInTransaction_resultsNotRemembered() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        int rememberedCount = modelManager.getRememberedResultCount();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withEmail("alice@example.com").build());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+        assertEquals(1, modelManager.getFilteredPersonList().size());
+        modelManager.rollback();
+
+        assertEquals(rememberedCount, modelManager.getRememberedResultCount());
+    }
+
+    @Test
+    public void getFilteredPersonList_changesInTransaction_updatedWithChanges() {
+        modelManager.addPersons(List.of(ALICE, BENSON, CARL));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Carl")));
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("pauline@example.com").build();
+        Person carlBenson = new PersonBuilder(BENSON).withName("Carl Benson").build();
+
+        modelManager.beginTransaction();
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setPerson(BENSON, carlBenson);
+        assertEquals(List.of(editedAlice, carlBenson, CARL), modelManager.getFilteredPersonList());
+        assertEquals(List.of(carlBenson), modelManager.getPersonsInClass(new Class("s3tue1400")));
+
+        modelManager.beginTransaction();
+        modelManager.deletePerson(CARL);
+        modelManager.setPerson(editedAlice, ALICE);
+        assertEquals(List.of(ALICE, carlBenson), modelManager.getFilteredPersonList());
+        assertEquals(List.of(), modelManager.getPersonsInClass(new Class("s1mon0900")));
+        modelManager.rollback();
+        assertEquals(List.of(editedAlice, carlBenson, CARL), modelManager.getFilteredPersonList());
+        assertEquals(List.of(CARL), modelManager.getPersonsInClass(new Class("s1mon0900")));
+
+        modelManager.addPerson(DANIEL);
+        assertEquals(List.of(editedAlice, carlBenson, CARL, DANIEL), modelManager.getFilteredPersonList());
+        modelManager.rollback();
+        assertEquals(List.of(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_duplicateInTransaction_throwsDuplicatePersonException() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> modelManager.addPerson(ALICE));
+        modelManager.rollback();
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_doNotAffectSnapshot() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE), snapshot.getPersonList());
+
+        modelManager.beginTransaction();
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(BENSON), modelManager.getAddressBookSnapshot().getPersonList());
+        modelManager.rollback();
+    }
+
+    @Test
+    public void findSimilarNameWords_inTransaction_usesStagedNames() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList("alice"), modelManager.findSimilarNameWords("Alise", 1));
+
+        modelManager.beginTransaction();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(), modelManager.findSimilarNameWords("Alise", 1));
+        assertEquals(Arrays.asList("benson"), modelManager.findSimilarNameWords("Bensen", 1));
+
+        modelManager.beginTransaction();
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Bensen Meier").build());
+        assertEquals(Arrays.asList("bensen"), modelManager.findSimilarNameWords("Bensen", 1));
+        modelManager.rollback();
+        assertEquals(Arrays.asList("benson"), modelManager.findSimilarNameWords("Bensen", 1));
+        modelManager.rollback();
+
+        assertEquals(Arrays.asList("alice"), modelManager.findSimilarNameWords("Alise", 1));
+    }
+
+    @Test
+    public void getFilteredPersonListPredicate_returnsCurrentPredicate() {
+        assertEquals(PREDICATE_SHOW_ALL_PERSONS, modelManager.getFilteredPersonListPredicate());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(predicate, modelManager.getFilteredPersonListPredicate());
+    }
+
+    @Test
+    public void updateFilteredPersonList_equalFilterAfterAdd_testsOnlyNewPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        AtomicInteger testedCount = new AtomicInteger();
+        modelManager.updateFilteredPersonList(new CountingNamePredicate("Alice", testedCount));
+        assertEquals(2, testedCount.get());
+
+        // adding a person shows all persons again
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new CountingNamePredicate("Alice", testedCount));
+        assertEquals(3, testedCount.get());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +396,28 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Tests whether a person's name contains a word, counting the persons tested.
+     */
+    private static class CountingNamePredicate implements CacheablePredicate {
+        private final String word;
+        private final AtomicInteger testedCount;
+
+        CountingNamePredicate(String word, AtomicInteger testedCount) {
+            this.word = word;
+            this.testedCount = testedCount;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testedCount.incrementAndGet();
+            return person.getName().getWords().contains(word);
+        }
+
+        @Override
+        public Object getCacheKey() {
+            return List.of(CountingNamePredicate.class, word);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.AttendanceHistory;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.PaymentHistory;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.Ranking;
+import seedu.tutorpal.model.person.Role;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.Tutor;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PersonRankerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 18);
+
+    private final AddressBook addressBook = new AddressBook();
+    private Clock originalClock;
+
+    @BeforeEach
+    public void setUp() {
+        originalClock = CurrentPeriod.getClock();
+        CurrentPeriod.setClock(Clock.fixed(Instant.parse("2025-06-18T12:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CurrentPeriod.setClock(originalClock);
+    }
+
+    @Test
+    public void top_randomPersons_sameAsSortingAll() {
+        addressBook.addPersons(createPersons(new Random(1), 80));
+        Function<Person, PersonSortKey> sortKeys = addressBook.getPersonSortKeys();
+        List<Person> persons = addressBook.getPersonList();
+        for (Ranking ranking : Ranking.values()) {
+            for (int limit : List.of(1, 3, 10, 100)) {
+                assertEquals(sortAll(persons, person -> true, ranking, limit),
+                        PersonRanker.top(persons, sortKeys, ranking, limit), ranking + " " + limit);
+            }
+        }
+    }
+
+    @Test
+    public void topOverdue_randomPersons_sameAsSortingAll() {
+        addressBook.addPersons(createPersons(new Random(2), 80));
+        Function<Person, PersonSortKey> sortKeys = addressBook.getPersonSortKeys();
+        List<Person> persons = addressBook.getPersonList();
+        List<Predicate<Person>> predicates = List.of(person -> true, person -> person.getRole() == Role.STUDENT,
+                person -> person.getName().fullName.endsWith("7"), person -> false);
+        for (Predicate<Person> predicate : predicates) {
+            for (int limit : List.of(1, 3, 10, 100)) {
+                List<Person> expected = sortAll(persons, predicate, Ranking.MONTHS_OVERDUE, limit);
+                assertEquals(expected, PersonRanker.topOverdue(
+                        addressBook.getPersonsOverdueSince(YearMonth.from(TODAY).minusMonths(1)), predicate,
+                        sortKeys, limit));
+            }
+        }
+    }
+
+    @Test
+    public void top_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersonRanker.top(List.of(), PersonSortKey::new,
+                Ranking.ABSENCES, 0));
+    }
+
+    private static List<Person> sortAll(List<Person> persons, Predicate<Person> predicate, Ranking ranking,
+            int limit) {
+        return persons.stream()
+                .filter(predicate)
+                .filter(person -> ranking.getValue(new PersonSortKey(person)) > 0)
+                .sorted((first, second) -> ranking.comparator()
+                        .compare(new PersonSortKey(first), new PersonSortKey(second)))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns persons who joined up to 40 weeks ago, each of whom paid for and attended each week since with a
+     * random chance of their own.
+     */
+    private static List<Person> createPersons(Random random, int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            JoinDate joinDate = new JoinDate(TODAY.minusWeeks(random.nextInt(40)).minusDays(random.nextInt(7)));
+            double chance = random.nextDouble();
+            PaymentHistory paymentHistory = new PaymentHistory(joinDate.toLocalDate());
+            for (YearMonth month = joinDate.toYearMonth(); !month.isAfter(YearMonth.from(TODAY));
+                    month = month.plusMonths(1)) {
+                if (random.nextDouble() < chance) {
+                    paymentHistory = paymentHistory.markMonthAsPaid(month);
+                }
+            }
+            Person person = new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withRole(random.nextInt(4) == 0 ? "tutor" : "student")
+                    .withJoinDate(joinDate.toString())
+                    .build();
+            if (person.getRole() == Role.TUTOR) {
+                persons.add(new Tutor(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                        person.getClasses(), joinDate, paymentHistory));
+                continue;
+            }
+            AttendanceHistory attendanceHistory = new AttendanceHistory(joinDate);
+            for (WeeklyAttendance week = WeeklyAttendance.at(TODAY); !week.isBefore(joinDate.getJoinWeek());
+                    week = week.minusWeeks(1)) {
+                if (random.nextDouble() < chance) {
+                    attendanceHistory = attendanceHistory.markAttendance(week);
+                }
+            }
+            persons.add(new Student(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getClasses(), joinDate, attendanceHistory, paymentHistory));
+        }
+        return persons;
+    }
+}
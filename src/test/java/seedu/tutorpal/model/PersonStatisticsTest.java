@@ -0,0 +1,202 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.AttendanceHistory;
+import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.PaymentHistory;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.Role;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.Tutor;
+import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.MutableClock;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PersonStatisticsTest {
+
+    private static final List<String> CLASSES = List.of("s1mon1600", "s1tue1000", "s3wed1400", "s4mon1800");
+
+    private final AddressBook addressBook = new AddressBook();
+    private final MutableClock clock = new MutableClock(Instant.now());
+    private Clock originalClock;
+    private PersonStatistics statistics;
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        originalClock = CurrentPeriod.getClock();
+        CurrentPeriod.setClock(clock);
+        statistics = new PersonStatistics(addressBook.getPersonList());
+        statistics.addListener(unused -> changeCount++);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CurrentPeriod.setClock(originalClock);
+    }
+
+    @Test
+    public void counts_randomUpdates_sameAsCountingAgain() {
+        Random random = new Random(1);
+        int nextId = 0;
+        for (int round = 0; round < 200; round++) {
+            List<Person> persons = addressBook.getPersonList();
+            switch (persons.isEmpty() ? 0 : random.nextInt(4)) {
+            case 0:
+                addressBook.addPerson(createPerson(nextId++, random));
+                break;
+            case 1:
+                addressBook.removePerson(persons.get(random.nextInt(persons.size())));
+                break;
+            case 2:
+                Person target = persons.get(random.nextInt(persons.size()));
+                addressBook.setPerson(target, withId(createPerson(nextId++, random), target));
+                break;
+            default:
+                List<Person> added = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    added.add(createPerson(nextId++, random));
+                }
+                addressBook.addPersons(added);
+                break;
+            }
+            assertSameCounts(PersonStatistics.of(addressBook.getPersonList()), statistics);
+        }
+        assertEquals(200, changeCount);
+    }
+
+    @Test
+    public void counts_classesAndLevels() {
+        Person student = new PersonBuilder().withName("Amy").withPhone("81111111").withRole("student")
+                .withClasses("s4mon1600").build();
+        Person tutor = new PersonBuilder().withName("Bob").withPhone("82222222").withRole("tutor")
+                .withClasses("s4mon1600", "s4tue1000", "s2wed1400").build();
+        addressBook.addPersons(List.of(student, tutor));
+
+        assertEquals(List.of(new Class("s2wed1400"), new Class("s4mon1600"), new Class("s4tue1000")),
+                statistics.getClasses());
+        assertEquals(1, statistics.getClassCount(new Class("s4mon1600"), Role.STUDENT));
+        assertEquals(1, statistics.getClassCount(new Class("s4mon1600"), Role.TUTOR));
+        assertEquals(List.of("s2", "s4"), statistics.getLevels());
+        // A tutor of several classes of a level is counted once for it
+        assertEquals(1, statistics.getLevelCount("s4", Role.TUTOR));
+
+        addressBook.removePerson(tutor);
+        assertEquals(List.of(new Class("s4mon1600")), statistics.getClasses());
+        assertEquals(List.of("s4"), statistics.getLevels());
+        assertEquals(0, statistics.getLevelCount("s2", Role.TUTOR));
+    }
+
+    @Test
+    public void counts_weekChanges_attendanceCountedForNewWeeks() {
+        WeeklyAttendance thisWeek = WeeklyAttendance.getCurrentWeek(clock);
+        Person student = new PersonBuilder().withRole("student").withJoinDate(new JoinDate(LocalDate.now(clock)
+                .minusWeeks(2)).toString()).build();
+        Person attended = new Student(student.getName(), student.getPhone(), student.getEmail(),
+                student.getAddress(), student.getClasses(), student.getJoinDate(),
+                student.getAttendanceHistory().markAttendance(thisWeek), student.getPaymentHistory());
+        addressBook.addPerson(attended);
+        assertEquals(thisWeek, statistics.getAttendanceWeek(0));
+        assertEquals(1, statistics.getAttendedCount(0));
+        assertEquals(1, statistics.getEnrolledCount(2));
+        assertEquals(0, statistics.getEnrolledCount(3));
+
+        clock.advance(Duration.ofDays(7));
+        CurrentPeriod.refresh();
+        assertEquals(2, changeCount);
+        assertEquals(thisWeek, statistics.getAttendanceWeek(1));
+        assertEquals(0, statistics.getAttendedCount(0));
+        assertEquals(1, statistics.getAttendedCount(1));
+        assertEquals(1, statistics.getEnrolledCount(3));
+        assertSameCounts(new PersonStatistics(addressBook.getPersonList()), statistics);
+    }
+
+    private static void assertSameCounts(PersonStatistics expected, PersonStatistics actual) {
+        assertEquals(expected.getPersonCount(), actual.getPersonCount());
+        for (Role role : Role.values()) {
+            assertEquals(expected.getCount(role), actual.getCount(role));
+            for (Class personClass : expected.getClasses()) {
+                assertEquals(expected.getClassCount(personClass, role), actual.getClassCount(personClass, role));
+            }
+            for (String level : expected.getLevels()) {
+                assertEquals(expected.getLevelCount(level, role), actual.getLevelCount(level, role));
+            }
+        }
+        assertEquals(expected.getClasses(), actual.getClasses());
+        assertEquals(expected.getLevels(), actual.getLevels());
+        for (String paymentStatus : PersonStatistics.getPaymentStatuses()) {
+            assertEquals(expected.getPaymentStatusCount(paymentStatus), actual.getPaymentStatusCount(paymentStatus));
+        }
+        for (int weeksAgo = 0; weeksAgo < PersonStatistics.ATTENDANCE_WEEKS; weeksAgo++) {
+            assertEquals(expected.getEnrolledCount(weeksAgo), actual.getEnrolledCount(weeksAgo));
+            assertEquals(expected.getAttendedCount(weeksAgo), actual.getAttendedCount(weeksAgo));
+        }
+        assertEquals(expected.getSummary(), actual.getSummary());
+    }
+
+    /**
+     * Returns a person with a random role, classes, join date, payments and attendance, whose name ends with
+     * {@code id}.
+     */
+    private static Person createPerson(int id, Random random) {
+        boolean isStudent = random.nextInt(4) != 0;
+        LocalDate joinDate = LocalDate.now().minusWeeks(random.nextInt(10));
+        Person person = new PersonBuilder()
+                .withName("Person " + id)
+                .withPhone(String.valueOf(80000000 + id))
+                .withEmail("person" + id + "@example.com")
+                .withRole(isStudent ? "student" : "tutor")
+                .withClasses(isStudent
+                        ? new String[] {CLASSES.get(random.nextInt(CLASSES.size()))}
+                        : new String[] {CLASSES.get(random.nextInt(CLASSES.size())),
+                            CLASSES.get(random.nextInt(CLASSES.size()))})
+                .withJoinDate(new JoinDate(joinDate).toString())
+                .build();
+        PaymentHistory paymentHistory = person.getPaymentHistory();
+        if (random.nextBoolean()) {
+            paymentHistory = paymentHistory.markMonthAsPaid(YearMonth.now());
+        }
+        if (!isStudent) {
+            return new Tutor(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getClasses(), person.getJoinDate(), paymentHistory);
+        }
+        AttendanceHistory attendanceHistory = person.getAttendanceHistory();
+        WeeklyAttendance week = WeeklyAttendance.at(LocalDate.now());
+        for (int i = 0; i < PersonStatistics.ATTENDANCE_WEEKS; i++) {
+            if (!week.minusWeeks(i).isBefore(person.getJoinDate().getJoinWeek()) && random.nextBoolean()) {
+                attendanceHistory = attendanceHistory.markAttendance(week.minusWeeks(i));
+            }
+        }
+        return new Student(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getClasses(), person.getJoinDate(), attendanceHistory, paymentHistory);
+    }
+
+    /**
+     * Returns {@code person} with the name, phone and email of {@code identity}, so that it can replace it.
+     */
+    private static Person withId(Person person, Person identity) {
+        if (person instanceof Student) {
+            return new Student(identity.getName(), identity.getPhone(), identity.getEmail(), person.getAddress(),
+                    person.getClasses(), person.getJoinDate(), person.getAttendanceHistory(),
+                    person.getPaymentHistory());
+        }
+        return new Tutor(identity.getName(), identity.getPhone(), identity.getEmail(), person.getAddress(),
+                person.getClasses(), person.getJoinDate(), person.getPaymentHistory());
+    }
+}
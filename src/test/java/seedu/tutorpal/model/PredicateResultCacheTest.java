@@ -0,0 +1,106 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
+import static seedu.tutorpal.testutil.TypicalPersons.BENSON;
+import static seedu.tutorpal.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.CacheablePredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PredicateResultCacheTest {
+
+    private final PredicateResultCache cache = new PredicateResultCache();
+
+    @Test
+    public void cache_predicateWithoutKey_returnsPredicate() {
+        assertSame(PREDICATE_SHOW_ALL_PERSONS, cache.cache(PREDICATE_SHOW_ALL_PERSONS));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void cache_equalPredicateAgain_testsOnlyNewPersons() {
+        CountingPredicate predicate = new CountingPredicate("Alice");
+        Predicate<Person> cached = cache.cache(predicate);
+        assertTrue(cached.test(ALICE));
+        assertFalse(cached.test(BENSON));
+        assertEquals(2, predicate.count);
+
+        CountingPredicate equalPredicate = new CountingPredicate("Alice");
+        Predicate<Person> cachedAgain = cache.cache(equalPredicate);
+        assertTrue(cachedAgain.test(ALICE));
+        assertFalse(cachedAgain.test(BENSON));
+        assertFalse(cachedAgain.test(CARL));
+        assertEquals(1, equalPredicate.count);
+
+        // an edited person is a new instance, so it is tested again
+        Person editedAlice = new PersonBuilder(ALICE).withName("Benson Alice").build();
+        assertTrue(cachedAgain.test(editedAlice));
+        assertEquals(2, equalPredicate.count);
+    }
+
+    @Test
+    public void cache_differentKey_testsAgain() {
+        cache.cache(new CountingPredicate("Alice")).test(ALICE);
+
+        CountingPredicate otherPredicate = new CountingPredicate("Benson");
+        assertFalse(cache.cache(otherPredicate).test(ALICE));
+        assertEquals(1, otherPredicate.count);
+    }
+
+    @Test
+    public void forget_removedPerson_testedAgain() {
+        cache.cache(new CountingPredicate("Alice")).test(ALICE);
+        cache.forget(List.of(ALICE));
+
+        CountingPredicate predicate = new CountingPredicate("Alice");
+        cache.cache(predicate).test(ALICE);
+        assertEquals(1, predicate.count);
+    }
+
+    @Test
+    public void cache_moreKeysThanCapacity_keepsMostRecent() {
+        for (int i = 0; i <= PredicateResultCache.CAPACITY; i++) {
+            cache.cache(new CountingPredicate("Name" + i)).test(ALICE);
+        }
+        assertEquals(PredicateResultCache.CAPACITY, cache.size());
+
+        // the least recently used key was dropped
+        CountingPredicate predicate = new CountingPredicate("Name0");
+        cache.cache(predicate).test(ALICE);
+        assertEquals(1, predicate.count);
+    }
+
+    /**
+     * Tests whether a person's name contains a word, counting the persons tested.
+     */
+    private static class CountingPredicate implements CacheablePredicate {
+        private final String word;
+        private int count;
+
+        CountingPredicate(String word) {
+            this.word = word;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            count++;
+            return person.getName().getWords().contains(word);
+        }
+
+        @Override
+        public Object getCacheKey() {
+            return List.of(CountingPredicate.class, word);
+        }
+    }
+}
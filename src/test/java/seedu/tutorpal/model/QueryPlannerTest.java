@@ -0,0 +1,147 @@
+package seedu.tutorpal.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.ClassContainsKeywordsPredicate;
+import seedu.tutorpal.model.person.JoinDate;
+import seedu.tutorpal.model.person.JoinDateInRangePredicate;
+import seedu.tutorpal.model.person.MonthsOverduePredicate;
+import seedu.tutorpal.model.person.PaymentHistory;
+import seedu.tutorpal.model.person.PaymentStatusMatchesPredicate;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonQuery;
+import seedu.tutorpal.model.person.Student;
+import seedu.tutorpal.model.person.StudentBelongsToTutorPredicate;
+import seedu.tutorpal.model.person.Tutor;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private static final List<String> CLASSES = List.of("s1mon1600", "s2tue1000", "s3wed1400", "s4mon1800");
+    private static final List<String> STATUSES = List.of("paid", "unpaid", "overdue");
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @Test
+    public void plan_mostSelectiveIndexedFilterDrives() {
+        addressBook.addPersons(List.of(
+                createPerson(0, "student", "overdue", "s1mon1600"),
+                createPerson(1, "student", "overdue", "s2tue1000"),
+                createPerson(2, "student", "overdue", "s2tue1000"),
+                createPerson(3, "student", "paid", "s2tue1000")));
+        QueryPlanner planner = new QueryPlanner(addressBook);
+
+        PersonQuery query = new PersonQuery(new ClassContainsKeywordsPredicate(List.of("s1")), null,
+                new PaymentStatusMatchesPredicate(List.of("overdue")), null, null);
+        assertEquals("class", planner.plan(query).getDriver());
+
+        query = new PersonQuery(new ClassContainsKeywordsPredicate(List.of("s2")), null,
+                new PaymentStatusMatchesPredicate(List.of("paid")), null, null);
+        assertEquals("payment status", planner.plan(query).getDriver());
+
+        // persons 1 and 2 are the ones overdue for more than a month
+        query = new PersonQuery(null, null, new PaymentStatusMatchesPredicate(List.of("overdue")), null,
+                new MonthsOverduePredicate(2));
+        assertEquals("months overdue", planner.plan(query).getDriver());
+
+        query = new PersonQuery(new ClassContainsKeywordsPredicate(List.of("s2")), null, null,
+                new JoinDateInRangePredicate(null, YearMonth.now().minusMonths(2).atEndOfMonth()), null);
+        assertEquals("join date", planner.plan(query).getDriver());
+
+        // matching all students is not answered by an index
+        query = new PersonQuery(new ClassContainsKeywordsPredicate(List.of("")), null, null, null, null);
+        assertEquals("all persons", planner.plan(query).getDriver());
+    }
+
+    @Test
+    public void execute_randomQueries_sameMatchesAsTestingEveryPerson() {
+        Random random = new Random(1);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            persons.add(createPerson(i, random.nextInt(4) == 0 ? "tutor" : "student",
+                    STATUSES.get(random.nextInt(STATUSES.size())),
+                    CLASSES.get(random.nextInt(CLASSES.size())), CLASSES.get(random.nextInt(CLASSES.size()))));
+        }
+        addressBook.addPersons(persons);
+        QueryPlanner planner = new QueryPlanner(addressBook);
+
+        List<List<String>> classKeywords = List.of(List.of("s1"), List.of("mon", "s3"), List.of(""), List.of(),
+                List.of("S2TUE1000"), List.of("x"));
+        List<List<String>> tutorNames = List.of(List.of("Person 1"), List.of("Person"), List.of("Nobody"));
+        List<List<String>> statuses = List.of(List.of("paid"), List.of("unpaid", "OVERDUE"), List.of("none"));
+        LocalDate today = LocalDate.now();
+        List<LocalDate> dates = List.of(today, today.minusDays(20), today.minusMonths(3), today.minusMonths(9),
+                today.minusYears(2));
+        for (int round = 0; round < 300; round++) {
+            ClassContainsKeywordsPredicate classPredicate = random.nextBoolean()
+                    ? new ClassContainsKeywordsPredicate(classKeywords.get(random.nextInt(classKeywords.size())))
+                    : null;
+            StudentBelongsToTutorPredicate tutorPredicate = null;
+            if (random.nextBoolean()) {
+                tutorPredicate = new StudentBelongsToTutorPredicate(tutorNames.get(random.nextInt(tutorNames.size())));
+                tutorPredicate.setTutorClassKeywords(tutorPredicate.findTutorClasses(persons));
+            }
+            PaymentStatusMatchesPredicate paymentStatusPredicate = random.nextBoolean()
+                    ? new PaymentStatusMatchesPredicate(statuses.get(random.nextInt(statuses.size())))
+                    : null;
+            JoinDateInRangePredicate joinDatePredicate = null;
+            if (random.nextBoolean()) {
+                LocalDate from = random.nextBoolean() ? dates.get(random.nextInt(dates.size())) : null;
+                LocalDate to = from == null || random.nextBoolean() ? dates.get(random.nextInt(dates.size())) : null;
+                joinDatePredicate = new JoinDateInRangePredicate(from, to);
+            }
+            MonthsOverduePredicate monthsOverduePredicate = random.nextBoolean()
+                    ? new MonthsOverduePredicate(1 + random.nextInt(14))
+                    : null;
+            PersonQuery query = new PersonQuery(classPredicate, tutorPredicate, paymentStatusPredicate,
+                    joinDatePredicate, monthsOverduePredicate);
+
+            Set<Person> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            persons.stream().filter(query).forEach(expected::add);
+            assertEquals(expected, planner.plan(query).execute(), query.toString());
+        }
+    }
+
+    /**
+     * Returns a person with the given role, payment status this month and classes, whose name ends with {@code i}.
+     * An overdue person joined {@code i % 12 + 1} months ago, and has paid for the month they joined in if
+     * {@code i} is a multiple of 3 and they joined more than a month ago.
+     */
+    private static Person createPerson(int i, String role, String paymentStatus, String... classes) {
+        int monthsAgo = i % 12 + 1;
+        JoinDate joinDate = paymentStatus.equals("overdue")
+                ? new JoinDate(YearMonth.now().minusMonths(monthsAgo).atDay(i % 28 + 1))
+                : JoinDate.now();
+        PaymentHistory paymentHistory = new PaymentHistory(joinDate.toLocalDate());
+        if (paymentStatus.equals("paid")) {
+            paymentHistory = paymentHistory.markMonthAsPaid(YearMonth.now());
+        } else if (paymentStatus.equals("overdue") && i % 3 == 0 && monthsAgo > 1) {
+            paymentHistory = paymentHistory.markMonthAsPaid(joinDate.toYearMonth());
+        }
+        Person person = new PersonBuilder()
+                .withName("Person " + i)
+                .withPhone(String.valueOf(80000000 + i))
+                .withEmail("person" + i + "@example.com")
+                .withRole(role)
+                .withClasses(role.equals("student") ? new String[] {classes[0]} : classes)
+                .withJoinDate(joinDate.toString())
+                .build();
+        if (person instanceof Student) {
+            return new Student(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getClasses(), joinDate, person.getAttendanceHistory(), paymentHistory);
+        }
+        return new Tutor(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getClasses(), joinDate, paymentHistory);
+    }
+}
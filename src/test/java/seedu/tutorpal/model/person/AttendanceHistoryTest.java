@@ -29,6 +29,53 @@ public class AttendanceHistoryTest {
         assertFalse(history.hasBeenMarked(week));
     }
 
+    @Test
+    public void getAbsenceStreak_weeksMissedSinceLastAttended() {
+        JoinDate joinDate = new JoinDate("01-01-2024"); // ISO week 1
+        AttendanceHistory history = new AttendanceHistory(joinDate, FIXED_CLOCK_2024_W10);
+        // Absent every week up to week 9 since joining
+        assertEquals(9, history.getAbsenceStreak());
+
+        history = history.markAttendance(new WeeklyAttendance(6, Year.of(2024)));
+        assertEquals(3, history.getAbsenceStreak());
+
+        history = history.markAttendance(new WeeklyAttendance(9, Year.of(2024)));
+        assertEquals(0, history.getAbsenceStreak());
+
+        history = history.markAttendance(new WeeklyAttendance(10, Year.of(2024)));
+        assertEquals(0, history.getAbsenceStreak());
+
+        // Joined this week
+        assertEquals(0, new AttendanceHistory(new JoinDate("04-03-2024"), FIXED_CLOCK_2024_W10).getAbsenceStreak());
+    }
+
+    @Test
+    public void getAbsenceStreak_longAbsence_capped() {
+        JoinDate joinDate = new JoinDate("01-01-2020");
+        AttendanceHistory history = new AttendanceHistory(joinDate, FIXED_CLOCK_2024_W10);
+        assertEquals(AttendanceHistory.MAX_ABSENCE_STREAK, history.getAbsenceStreak());
+
+        // Last attended in the last week of 2023, 10 weeks before week 10 of 2024
+        history = history.markAttendance(new WeeklyAttendance(52, Year.of(2023)));
+        assertEquals(9, history.getAbsenceStreak());
+    }
+
+    @Test
+    public void getAbsenceStreak_currentPeriodClockChanged_followsNewClock() {
+        JoinDate joinDate = new JoinDate("01-01-2020");
+        WeeklyAttendance lastAttended = new WeeklyAttendance(52, Year.of(2023));
+        AttendanceHistory builtBefore = new AttendanceHistory(joinDate).markAttendance(lastAttended);
+        Clock originalClock = CurrentPeriod.getClock();
+        CurrentPeriod.setClock(FIXED_CLOCK_2024_W10);
+        try {
+            AttendanceHistory builtAfter = new AttendanceHistory(joinDate).markAttendance(lastAttended);
+            assertEquals(9, builtAfter.getAbsenceStreak());
+            assertEquals(9, builtBefore.getAbsenceStreak());
+        } finally {
+            CurrentPeriod.setClock(originalClock);
+        }
+    }
+
     @Test
     public void markAttendance_validWeek_success() {
         JoinDate joinDate = new JoinDate("01-01-2024");
@@ -0,0 +1,111 @@
+package seedu.tutorpal.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.testutil.MutableClock;
+
+public class CurrentPeriodTest {
+
+    // A Saturday, two days before the last week of March 2025 starts
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-03-29T12:00:00Z"));
+    private Clock originalClock;
+    private int changeCount;
+    private final Runnable listener = () -> changeCount++;
+
+    @BeforeEach
+    public void setUp() {
+        originalClock = CurrentPeriod.getClock();
+        CurrentPeriod.setClock(clock);
+        CurrentPeriod.addListener(listener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CurrentPeriod.removeListener(listener);
+        CurrentPeriod.setClock(originalClock);
+    }
+
+    @Test
+    public void getPeriodNumber_newWeekOrMonth_incremented() {
+        assertEquals(LocalDate.of(2025, 3, 29), CurrentPeriod.getDate());
+        assertEquals(YearMonth.of(2025, 3), CurrentPeriod.getMonth());
+        assertEquals(WeeklyAttendance.at(LocalDate.of(2025, 3, 29)), CurrentPeriod.getWeek());
+        int periodNumber = CurrentPeriod.getPeriodNumber();
+
+        // Sunday of the same week
+        clock.advance(Duration.ofDays(1));
+        assertEquals(LocalDate.of(2025, 3, 30), CurrentPeriod.getDate());
+        assertEquals(periodNumber, CurrentPeriod.getPeriodNumber());
+
+        // Monday of a new week
+        clock.advance(Duration.ofDays(1));
+        assertEquals(WeeklyAttendance.at(LocalDate.of(2025, 3, 31)), CurrentPeriod.getWeek());
+        assertEquals(periodNumber + 1, CurrentPeriod.getPeriodNumber());
+
+        // New month in the same week
+        clock.advance(Duration.ofDays(1));
+        assertEquals(YearMonth.of(2025, 4), CurrentPeriod.getMonth());
+        assertEquals(periodNumber + 2, CurrentPeriod.getPeriodNumber());
+    }
+
+    @Test
+    public void refresh_periodChanged_listenersToldOnce() {
+        CurrentPeriod.refresh();
+        assertEquals(0, changeCount);
+
+        clock.advance(Duration.ofDays(3));
+        CurrentPeriod.getMonth();
+        assertEquals(0, changeCount);
+        CurrentPeriod.refresh();
+        assertEquals(1, changeCount);
+        CurrentPeriod.refresh();
+        assertEquals(1, changeCount);
+
+        CurrentPeriod.removeListener(listener);
+        clock.advance(Duration.ofDays(7));
+        CurrentPeriod.refresh();
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void setClock_newPeriod_listenersTold() {
+        CurrentPeriod.setClock(Clock.fixed(Instant.parse("2025-06-15T00:00:00Z"), ZoneOffset.UTC));
+        assertEquals(YearMonth.of(2025, 6), CurrentPeriod.getMonth());
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void getDate_otherClock_takenFromThatClock() {
+        Clock otherClock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        assertEquals(LocalDate.of(2024, 1, 1), CurrentPeriod.getDate(otherClock));
+        assertEquals(WeeklyAttendance.at(LocalDate.of(2024, 1, 1)), CurrentPeriod.getWeek(otherClock));
+        assertEquals(LocalDate.of(2025, 3, 29), CurrentPeriod.getDate(clock));
+    }
+
+    @Test
+    public void getOverallStatus_monthChanges_statusFollows() {
+        PaymentHistory paymentHistory = new PaymentHistory(LocalDate.of(2025, 3, 10))
+                .markMonthAsPaid(YearMonth.of(2025, 3));
+        assertEquals("paid", paymentHistory.getOverallStatus());
+        assertThrows(IllegalArgumentException.class, () -> paymentHistory.markMonthAsPaid(YearMonth.of(2025, 4)));
+
+        clock.advance(Duration.ofDays(3));
+        assertEquals("unpaid", paymentHistory.getOverallStatus());
+        paymentHistory.markMonthAsPaid(YearMonth.of(2025, 4));
+
+        clock.advance(Duration.ofDays(30));
+        assertEquals("overdue", paymentHistory.getOverallStatus());
+    }
+}
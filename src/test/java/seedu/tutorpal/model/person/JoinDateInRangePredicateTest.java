@@ -0,0 +1,89 @@
+package seedu.tutorpal.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class JoinDateInRangePredicateTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate MAR_31 = LocalDate.of(2025, 3, 31);
+
+    @Test
+    public void equals() {
+        JoinDateInRangePredicate firstPredicate = new JoinDateInRangePredicate(JAN_1, MAR_31);
+        JoinDateInRangePredicate secondPredicate = new JoinDateInRangePredicate(JAN_1, MAR_31);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(secondPredicate));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // open end -> returns false
+        assertFalse(firstPredicate.equals(new JoinDateInRangePredicate(JAN_1, null)));
+        assertFalse(firstPredicate.equals(new JoinDateInRangePredicate(null, MAR_31)));
+    }
+
+    @Test
+    public void getCacheKey() {
+        assertEquals(new JoinDateInRangePredicate(JAN_1, null).getCacheKey(),
+                new JoinDateInRangePredicate(JAN_1, null).getCacheKey());
+        assertNotEquals(new JoinDateInRangePredicate(JAN_1, null).getCacheKey(),
+                new JoinDateInRangePredicate(null, JAN_1).getCacheKey());
+    }
+
+    @Test
+    public void test_nullPerson_throwsNullPointerException() {
+        JoinDateInRangePredicate predicate = new JoinDateInRangePredicate(JAN_1, MAR_31);
+        assertThrows(NullPointerException.class, () -> predicate.test(null));
+    }
+
+    @Test
+    public void test_joinDateInRange_returnsTrue() {
+        JoinDateInRangePredicate predicate = new JoinDateInRangePredicate(JAN_1, MAR_31);
+        // Both ends are inclusive
+        assertTrue(predicate.test(new PersonBuilder().withJoinDate("01-01-2025").build()));
+        assertTrue(predicate.test(new PersonBuilder().withJoinDate("15-02-2025").build()));
+        assertTrue(predicate.test(new PersonBuilder().withJoinDate("31-03-2025").build()));
+
+        // Open ends
+        assertTrue(new JoinDateInRangePredicate(JAN_1, null).test(new PersonBuilder().withJoinDate("01-06-2025")
+                .build()));
+        assertTrue(new JoinDateInRangePredicate(null, MAR_31).test(new PersonBuilder().withJoinDate("01-06-2020")
+                .build()));
+    }
+
+    @Test
+    public void test_joinDateOutOfRange_returnsFalse() {
+        JoinDateInRangePredicate predicate = new JoinDateInRangePredicate(JAN_1, MAR_31);
+        assertFalse(predicate.test(new PersonBuilder().withJoinDate("31-12-2024").build()));
+        assertFalse(predicate.test(new PersonBuilder().withJoinDate("01-04-2025").build()));
+
+        assertFalse(new JoinDateInRangePredicate(JAN_1, null).test(new PersonBuilder().withJoinDate("31-12-2024")
+                .build()));
+        assertFalse(new JoinDateInRangePredicate(null, MAR_31).test(new PersonBuilder().withJoinDate("01-04-2025")
+                .build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        JoinDateInRangePredicate predicate = new JoinDateInRangePredicate(JAN_1, null);
+        String expected = JoinDateInRangePredicate.class.getCanonicalName() + "{from=" + JAN_1 + ", to=null}";
+        assertEquals(expected, predicate.toString());
+    }
+}
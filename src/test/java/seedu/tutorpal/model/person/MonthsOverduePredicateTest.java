@@ -0,0 +1,90 @@
+package seedu.tutorpal.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.tutorpal.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class MonthsOverduePredicateTest {
+
+    @Test
+    public void equals() {
+        MonthsOverduePredicate firstPredicate = new MonthsOverduePredicate(2);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new MonthsOverduePredicate(2)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different months -> returns false
+        assertFalse(firstPredicate.equals(new MonthsOverduePredicate(3)));
+    }
+
+    @Test
+    public void getOverdueSince() {
+        assertEquals(YearMonth.now().minusMonths(2), new MonthsOverduePredicate(2).getOverdueSince());
+    }
+
+    @Test
+    public void test_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MonthsOverduePredicate(1).test(null));
+    }
+
+    @Test
+    public void test_unpaidSinceJoining_matchesUpToMonthsSinceJoining() {
+        Person person = createPerson(3, 0);
+        assertTrue(new MonthsOverduePredicate(1).test(person));
+        assertTrue(new MonthsOverduePredicate(3).test(person));
+        assertFalse(new MonthsOverduePredicate(4).test(person));
+    }
+
+    @Test
+    public void test_earlyMonthsPaid_countsFromOldestUnpaidMonth() {
+        Person person = createPerson(3, 2);
+        assertTrue(new MonthsOverduePredicate(1).test(person));
+        assertFalse(new MonthsOverduePredicate(2).test(person));
+    }
+
+    @Test
+    public void test_notOverdue_returnsFalse() {
+        // Joined this month, so no month before this one is unpaid
+        assertFalse(new MonthsOverduePredicate(1).test(
+                new PersonBuilder().withJoinDate(JoinDate.now().toString()).build()));
+
+        // Paid for every month before this one
+        assertFalse(new MonthsOverduePredicate(1).test(createPerson(3, 3)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = MonthsOverduePredicate.class.getCanonicalName() + "{months=2}";
+        assertEquals(expected, new MonthsOverduePredicate(2).toString());
+    }
+
+    /**
+     * Returns a tutor who joined {@code monthsAgo} months ago and paid for the first {@code paidMonths} months.
+     */
+    private static Person createPerson(int monthsAgo, int paidMonths) {
+        JoinDate joinDate = new JoinDate(YearMonth.now().minusMonths(monthsAgo).atDay(1));
+        PaymentHistory paymentHistory = new PaymentHistory(joinDate.toLocalDate());
+        for (int i = 0; i < paidMonths; i++) {
+            paymentHistory = paymentHistory.markMonthAsPaid(joinDate.toYearMonth().plusMonths(i));
+        }
+        Person person = new PersonBuilder().withRole("tutor").build();
+        return new Tutor(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getClasses(), joinDate, paymentHistory);
+    }
+}
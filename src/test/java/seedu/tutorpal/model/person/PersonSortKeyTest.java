@@ -0,0 +1,79 @@
+package seedu.tutorpal.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PersonSortKeyTest {
+
+    @Test
+    public void constructor_student_keepsValuesOfPerson() {
+        JoinDate joinDate = new JoinDate("15-01-2025");
+        Person student = new Student(new Name("amy Bee"), new Phone("91111111"), new Email("amy@example.com"),
+                new Address("Block 312"), Set.of(new Class("s4mon1600")), joinDate,
+                new AttendanceHistory(joinDate).markAttendance(new WeeklyAttendance("W03-2025"))
+                        .markAttendance(new WeeklyAttendance("W04-2025")),
+                new PaymentHistory(joinDate.toLocalDate()));
+        PersonSortKey sortKey = new PersonSortKey(student);
+
+        assertEquals("amy Bee", sortKey.getName());
+        assertEquals(Role.STUDENT, sortKey.getRole());
+        assertEquals("s4mon1600", sortKey.getClasses());
+        assertEquals(joinDate.toLocalDate(), sortKey.getJoinDate());
+        assertEquals(student.getPaymentStatus().value, sortKey.getPaymentStatus());
+        assertEquals(2, sortKey.getAttendanceCount());
+    }
+
+    @Test
+    public void constructor_tutor_sortedClassesNoAttendanceCount() {
+        PersonSortKey sortKey = new PersonSortKey(new PersonBuilder().withRole("tutor")
+                .withClasses("s4mon1600", "s1tue1000").build());
+        assertEquals("s1tue1000, s4mon1600", sortKey.getClasses());
+        assertEquals(-1, sortKey.getAttendanceCount());
+    }
+
+    @Test
+    public void comparators() {
+        PersonSortKey alice = new PersonSortKey(new PersonBuilder().withName("alice").build());
+        PersonSortKey bob = new PersonSortKey(new PersonBuilder().withName("Bob").build());
+        // ignores case
+        assertTrue(PersonSortKey.BY_NAME.compare(alice, bob) < 0);
+
+        // settled before owing
+        JoinDate thisMonth = JoinDate.now();
+        PaymentHistory unpaidHistory = new PaymentHistory(thisMonth.toLocalDate());
+        PersonSortKey paid = createKey(thisMonth, unpaidHistory.markMonthAsPaid(YearMonth.now()));
+        PersonSortKey unpaid = createKey(thisMonth, unpaidHistory);
+        PersonSortKey overdue = new PersonSortKey(new PersonBuilder().withJoinDate("01-11-2024").build());
+        List<PersonSortKey> keys = new ArrayList<>(List.of(overdue, unpaid, paid));
+        keys.sort(PersonSortKey.BY_PAYMENT_STATUS);
+        assertEquals(List.of(paid, unpaid, overdue), keys);
+        assertEquals(List.of("paid", "unpaid", "overdue"),
+                keys.stream().map(PersonSortKey::getPaymentStatus).toList());
+    }
+
+    @Test
+    public void equals() {
+        Person person = new PersonBuilder().build();
+        PersonSortKey sortKey = new PersonSortKey(person);
+
+        assertEquals(sortKey, new PersonSortKey(new PersonBuilder(person).build()));
+        assertFalse(sortKey.equals(new PersonSortKey(new PersonBuilder(person).withClasses("s2wed1400").build())));
+        assertFalse(sortKey.equals(null));
+    }
+
+    private static PersonSortKey createKey(JoinDate joinDate, PaymentHistory paymentHistory) {
+        Person person = new PersonBuilder().withJoinDate(joinDate.toString()).build();
+        return new PersonSortKey(new Student(person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getClasses(), joinDate, new AttendanceHistory(joinDate), paymentHistory));
+    }
+}
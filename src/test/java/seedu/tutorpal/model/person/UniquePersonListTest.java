@@ -2,18 +2,29 @@ package seedu.tutorpal.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.tutorpal.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.tutorpal.logic.commands.CommandTestUtil.VALID_CLASS_BOB;
 import static seedu.tutorpal.testutil.Assert.assertThrows;
 import static seedu.tutorpal.testutil.TypicalPersons.ALICE;
 import static seedu.tutorpal.testutil.TypicalPersons.BOB;
+import static seedu.tutorpal.testutil.TypicalPersons.HOON;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.tutorpal.commons.util.PersistentList;
 import seedu.tutorpal.model.person.exceptions.DuplicatePersonException;
 import seedu.tutorpal.model.person.exceptions.PersonNotFoundException;
 import seedu.tutorpal.testutil.PersonBuilder;
@@ -161,6 +172,218 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonsInClass_afterUpdates_tracksClassMembers() {
+        Class aliceClass = new Class("s4mon1600");
+        Class bobClass = new Class("s2sat1000");
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE), uniquePersonList.getPersonsInClass(aliceClass));
+
+        Person editedAlice = new PersonBuilder(ALICE).withClasses("s2sat1000").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.getPersonsInClass(aliceClass).isEmpty());
+        assertEquals(Set.of(editedAlice), uniquePersonList.getPersonsInClass(bobClass));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.getPersonsInClass(bobClass).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithPaymentStatus_afterUpdates_tracksStatuses() {
+        JoinDate thisMonth = JoinDate.now();
+        Person unpaidAlice = new PersonBuilder(ALICE).withJoinDate(thisMonth.toString()).build();
+        uniquePersonList.addPersons(List.of(unpaidAlice, BOB));
+        assertEquals(Set.of("unpaid", "overdue"), uniquePersonList.getPaymentStatuses());
+        assertEquals(Set.of(unpaidAlice), uniquePersonList.getPersonsWithPaymentStatus("unpaid"));
+
+        Person paidAlice = new Student(unpaidAlice.getName(), unpaidAlice.getPhone(), unpaidAlice.getEmail(),
+                unpaidAlice.getAddress(), unpaidAlice.getClasses(), thisMonth, unpaidAlice.getAttendanceHistory(),
+                unpaidAlice.getPaymentHistory().markMonthAsPaid(YearMonth.now()));
+        uniquePersonList.setPerson(unpaidAlice, paidAlice);
+        assertEquals(Set.of(paidAlice), uniquePersonList.getPersonsWithPaymentStatus("paid"));
+        assertTrue(uniquePersonList.getPersonsWithPaymentStatus("unpaid").isEmpty());
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of("paid"), uniquePersonList.getPaymentStatuses());
+    }
+
+    @Test
+    public void getPersonsJoinedBetweenAndOverdueSince_afterUpdates_tracksRanges() {
+        // Both are overdue since the month they joined in
+        Person laterBob = new PersonBuilder(BOB).withJoinDate("15-02-2025").build();
+        uniquePersonList.addPersons(List.of(laterBob, ALICE));
+
+        assertEquals(List.of(Set.of(ALICE)), uniquePersonList.getPersonsJoinedBetween(
+                LocalDate.of(2024, 11, 1), LocalDate.of(2025, 2, 14)));
+        assertEquals(List.of(Set.of(ALICE), Set.of(laterBob)), uniquePersonList.getPersonsJoinedBetween(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertTrue(uniquePersonList.getPersonsJoinedBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2024, 1, 1))
+                .isEmpty());
+        assertEquals(List.of(Set.of(ALICE)), uniquePersonList.getPersonsOverdueSince(YearMonth.of(2024, 11)));
+        assertEquals(List.of(Set.of(ALICE), Set.of(laterBob)),
+                uniquePersonList.getPersonsOverdueSince(YearMonth.of(2025, 2)));
+
+        Person paidAlice = new Student(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getClasses(), ALICE.getJoinDate(), ALICE.getAttendanceHistory(),
+                ALICE.getPaymentHistory().markMonthAsPaid(YearMonth.of(2024, 11)));
+        uniquePersonList.setPerson(ALICE, paidAlice);
+        assertTrue(uniquePersonList.getPersonsOverdueSince(YearMonth.of(2024, 11)).isEmpty());
+        assertEquals(List.of(Set.of(paidAlice)), uniquePersonList.getPersonsOverdueSince(YearMonth.of(2024, 12)));
+
+        uniquePersonList.remove(laterBob);
+        assertEquals(List.of(Set.of(paidAlice)), uniquePersonList.getPersonsJoinedBetween(LocalDate.MIN,
+                LocalDate.MAX));
+    }
+
+    @Test
+    public void replacePersons_validReplacements_replacesInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withClasses("s2sat1000").build();
+        Person editedBob = new PersonBuilder(BOB).withAddress("new street").build();
+        uniquePersonList.replacePersons(Map.of(ALICE, editedAlice, BOB, editedBob));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedAlice);
+        expectedUniquePersonList.add(editedBob);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Set.of(editedAlice), uniquePersonList.getPersonsInClass(new Class("s2sat1000")));
+    }
+
+    @Test
+    public void replacePersons_targetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(Map.of(BOB, BOB)));
+    }
+
+    @Test
+    public void replacePersons_duplicateIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceAsBob = new PersonBuilder(BOB).withAddress("new street").build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(Map.of(ALICE, aliceAsBob)));
+    }
+
+    @Test
+    public void addPersons_newPersons_appendsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addPersons(List.of(BOB, HOON));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        expectedUniquePersonList.add(HOON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Set.of(HOON), uniquePersonList.getPersonsInClass(new Class("s2wed1000")));
+    }
+
+    @Test
+    public void addPersons_duplicateIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherAddress = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addPersons(List.of(aliceWithOtherAddress)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addPersons(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void findSimilarNameWords_listChanges_followsNames() {
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of("alice"), uniquePersonList.findSimilarNameWords("alise", 1));
+
+        // incremental updates once the index is built
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alyce Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of("alyce"), uniquePersonList.findSimilarNameWords("alise", 2));
+        uniquePersonList.add(HOON);
+        assertEquals(List.of("hoon"), uniquePersonList.findSimilarNameWords("hoom", 1));
+        uniquePersonList.remove(HOON);
+        assertEquals(List.of(), uniquePersonList.findSimilarNameWords("hoom", 1));
+
+        // rebuilt after the whole list is replaced
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(List.of(), uniquePersonList.findSimilarNameWords("alyce", 1));
+        assertEquals(List.of("bob"), uniquePersonList.findSimilarNameWords("bobb", 1));
+    }
+
+    @Test
+    public void getSortKeys_listChanges_keysReadyForListeners() {
+        // A key computed on demand is a new object on every lookup, while a kept one is the same object
+        List<Person> personsWithoutKeys = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            Function<Person, PersonSortKey> sortKeys = uniquePersonList.getSortKeys();
+            for (Person person : uniquePersonList) {
+                if (sortKeys.apply(person) != sortKeys.apply(person)) {
+                    personsWithoutKeys.add(person);
+                }
+            }
+        });
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addPersons(List.of(BOB));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alyce Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        Person editedBob = new PersonBuilder(BOB).withClasses("s2wed1400").build();
+        uniquePersonList.replacePersons(Map.of(BOB, editedBob));
+        assertEquals(List.of(), personsWithoutKeys);
+        assertEquals("Alyce Pauline", uniquePersonList.getSortKeys().apply(editedAlice).getName());
+        assertEquals("s2wed1400", uniquePersonList.getSortKeys().apply(editedBob).getClasses());
+
+        // kept when the list is restored to a snapshot holding the same persons
+        PersonSortKey aliceKey = uniquePersonList.getSortKeys().apply(editedAlice);
+        uniquePersonList.setPersons(uniquePersonList.asPersistentList());
+        assertSame(aliceKey, uniquePersonList.getSortKeys().apply(editedAlice));
+
+        uniquePersonList.setPersons(List.of(HOON));
+        uniquePersonList.remove(HOON);
+        assertEquals(List.of(), personsWithoutKeys);
+    }
+
+    @Test
+    public void batch_manyUpdates_oneListChange() {
+        uniquePersonList.addPersons(List.of(ALICE, BOB));
+        List<List<Person>> addedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            List<Person> added = new ArrayList<>();
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+            addedPersons.add(added);
+        });
+
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB + " 2").build();
+        uniquePersonList.batch(() -> {
+            uniquePersonList.add(HOON);
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.setPerson(BOB, editedBob);
+        });
+        assertEquals(List.of(List.of(editedBob, HOON)), addedPersons);
+        assertEquals(List.of(editedBob, HOON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_snapshotDiffersInOnePerson_changeCoversOnlyThatPerson() {
+        uniquePersonList.addPersons(List.of(ALICE, BOB, HOON));
+        PersistentList<Person> snapshot = uniquePersonList.asPersistentList();
+        Person editedBob = new PersonBuilder(BOB).withClasses("s3fri1800").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                removedPersons.addAll(change.getRemoved());
+                addedPersons.addAll(change.getAddedSubList());
+            }
+        });
+        uniquePersonList.setPersons(snapshot);
+        assertEquals(List.of(editedBob), removedPersons);
+        assertEquals(List.of(BOB), addedPersons);
+        assertEquals(List.of(ALICE, BOB, HOON), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.getPersonsInClass(new Class("s3fri1800")).isEmpty());
+        assertEquals(Set.of(BOB), uniquePersonList.getPersonsInClass(new Class(VALID_CLASS_BOB)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -4,17 +4,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.Set;
 
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import javafx.application.Platform;
+import javafx.scene.control.Label;
 import seedu.tutorpal.model.person.Address;
 import seedu.tutorpal.model.person.AttendanceHistory;
 import seedu.tutorpal.model.person.Class;
+import seedu.tutorpal.model.person.CurrentPeriod;
 import seedu.tutorpal.model.person.Email;
 import seedu.tutorpal.model.person.JoinDate;
 import seedu.tutorpal.model.person.Name;
@@ -24,9 +31,28 @@ import seedu.tutorpal.model.person.Role;
 import seedu.tutorpal.model.person.Student;
 import seedu.tutorpal.model.person.Tutor;
 import seedu.tutorpal.model.person.WeeklyAttendance;
+import seedu.tutorpal.testutil.MutableClock;
 
 public class PersonCardTest {
 
+    private static boolean isToolkitStarted;
+
+    /**
+     * Starts JavaFX, which cards need, if a display is available.
+     */
+    @BeforeAll
+    public static void startToolkit() {
+        try {
+            Platform.startup(() -> { });
+            isToolkitStarted = true;
+        } catch (IllegalStateException e) {
+            // Already started by another test
+            isToolkitStarted = true;
+        } catch (UnsupportedOperationException | UnsatisfiedLinkError e) {
+            isToolkitStarted = false;
+        }
+    }
+
     @Test
     public void formatIndex_singleDigit_correctFormat() {
         int index = 1;
@@ -105,6 +131,15 @@ public class PersonCardTest {
         assertEquals("#f48771", getAttendanceColor(4));
     }
 
+    @Test
+    public void getAttendanceStyleClass_boundaries() {
+        assertEquals(PersonCard.STYLE_CLASS_ATTENDANCE_HIGH, PersonCard.getAttendanceStyleClass(8));
+        assertEquals(PersonCard.STYLE_CLASS_ATTENDANCE_MEDIUM, PersonCard.getAttendanceStyleClass(7));
+        assertEquals(PersonCard.STYLE_CLASS_ATTENDANCE_MEDIUM, PersonCard.getAttendanceStyleClass(5));
+        assertEquals(PersonCard.STYLE_CLASS_ATTENDANCE_LOW, PersonCard.getAttendanceStyleClass(4));
+        assertEquals(PersonCard.STYLE_CLASS_ATTENDANCE_LOW, PersonCard.getAttendanceStyleClass(0));
+    }
+
     @Test
     public void getRoleColor_student_returnsOrangeRed() {
         String roleValue = "student";
@@ -188,6 +223,30 @@ public class PersonCardTest {
     }
 
     // Helper methods
+    @Test
+    public void setPerson_samePersonInNewMonth_paymentStatusShownAgain() {
+        assumeTrue(isToolkitStarted, "JavaFX cannot start without a display");
+        Clock originalClock = CurrentPeriod.getClock();
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-15T12:00:00Z"));
+        CurrentPeriod.setClock(clock);
+        try {
+            Person tutor = new Tutor(new Name("Alice"), new Phone("91234567"), new Email("alice@example.com"),
+                    new Address("Kent Ridge"), Set.of(new Class("s4mon1600")),
+                    new JoinDate(LocalDate.of(2025, 3, 1)));
+            PersonCard card = new PersonCard(tutor, 1);
+            Label paymentStatus = (Label) card.getRoot().lookup("#paymentStatus");
+            assertEquals("UNPAID", paymentStatus.getText());
+
+            // Unpaid for March, so overdue in April
+            clock.advance(Duration.ofDays(20));
+            CurrentPeriod.refresh();
+            card.setPerson(tutor, 1);
+            assertEquals("OVERDUE", paymentStatus.getText());
+        } finally {
+            CurrentPeriod.setClock(originalClock);
+        }
+    }
+
     private String getAttendanceColor(int attendedWeeks) {
         if (attendedWeeks >= 8) {
             return "#6a9955"; // Green
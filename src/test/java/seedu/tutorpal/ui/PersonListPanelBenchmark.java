@@ -0,0 +1,128 @@
+package seedu.tutorpal.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+/**
+ * Measures the time each frame spends on CSS and layout while the person list of 50,000 persons is scrolled, once
+ * with cells that reuse their {@link PersonCard}, and once with cells that load a new card on every update, as they
+ * used to.
+ * <p>
+ * This is not run as part of the tests, as it needs a display. Run its {@code main} method from the IDE, with
+ * assertions disabled.
+ */
+public class PersonListPanelBenchmark {
+
+    private static final int PERSON_COUNT = 50_000;
+    private static final int WARMUP_FRAMES = 300;
+    private static final int MEASURED_FRAMES = 1_000;
+    private static final int ROWS_PER_FRAME = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        ObservableList<Person> persons = FXCollections.observableArrayList(createPersons());
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        long[] reusedCards = scroll(persons, null);
+        long[] newCards = scroll(persons, LoadingCell::new);
+        report("reused cards", reusedCards);
+        report("new card per update", newCards);
+        Platform.exit();
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withClasses("s" + (i % 5 + 1) + "mon1600")
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Scrolls through {@code persons} in a new window and returns the nanoseconds each measured frame spent on CSS
+     * and layout. Uses {@code cellFactory} for the cells if it is not null, or the panel's own cells otherwise.
+     */
+    private static long[] scroll(ObservableList<Person> persons, Supplier<ListCell<Person>> cellFactory)
+            throws InterruptedException {
+        long[] frameTimes = new long[MEASURED_FRAMES];
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            PersonListPanel panel = new PersonListPanel(persons);
+            @SuppressWarnings("unchecked")
+            ListView<Person> listView = (ListView<Person>) panel.getRoot().lookup("#personListView");
+            if (cellFactory != null) {
+                listView.setCellFactory(unused -> cellFactory.get());
+            }
+            Scene scene = new Scene(panel.getRoot(), 1200, 800);
+            scene.getStylesheets().addAll(PersonListPanelBenchmark.class.getResource("/view/DarkTheme.css")
+                    .toExternalForm(), PersonListPanelBenchmark.class.getResource("/view/Extensions.css")
+                    .toExternalForm());
+            Stage stage = new Stage();
+            stage.setScene(scene);
+            stage.show();
+
+            long[] pulseStart = new long[1];
+            int[] frame = new int[1];
+            scene.addPreLayoutPulseListener(() -> pulseStart[0] = System.nanoTime());
+            scene.addPostLayoutPulseListener(() -> {
+                int measured = frame[0] - WARMUP_FRAMES;
+                if (measured >= 0 && measured < MEASURED_FRAMES) {
+                    frameTimes[measured] = System.nanoTime() - pulseStart[0];
+                }
+            });
+            new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    if (++frame[0] > WARMUP_FRAMES + MEASURED_FRAMES) {
+                        stop();
+                        stage.close();
+                        done.countDown();
+                        return;
+                    }
+                    listView.scrollTo(frame[0] * ROWS_PER_FRAME % persons.size());
+                }
+            }.start();
+        });
+        done.await();
+        return frameTimes;
+    }
+
+    private static void report(String label, long[] frameTimes) {
+        long[] sorted = frameTimes.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s: %d us average, %d us p99 of CSS and layout per frame%n", label,
+                Arrays.stream(frameTimes).sum() / frameTimes.length / 1000,
+                sorted[sorted.length * 99 / 100] / 1000);
+    }
+
+    /**
+     * A cell that loads a new {@code PersonCard} whenever it is updated, as the cells of the panel used to.
+     */
+    private static class LoadingCell extends ListCell<Person> {
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+            setGraphic(empty || person == null ? null : new PersonCard(person, getIndex() + 1).getRoot());
+        }
+    }
+}
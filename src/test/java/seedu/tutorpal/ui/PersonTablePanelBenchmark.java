@@ -0,0 +1,78 @@
+package seedu.tutorpal.ui;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import seedu.tutorpal.model.person.CurrentPeriod;
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.model.person.UniquePersonList;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+/**
+ * Measures the time sorting 100,000 persons by payment status and then name takes, once by the sort keys the person
+ * list keeps, as the person table sorts, and once by comparing the persons directly, which works out their payment
+ * statuses on every comparison.
+ * <p>
+ * This is not run as part of the tests. Run its {@code main} method from the IDE, with assertions disabled.
+ */
+public class PersonTablePanelBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+        // Payment statuses depend on the current month, so it is fixed for every run to sort the same persons
+        CurrentPeriod.setClock(Clock.fixed(Instant.parse("2025-06-15T00:00:00Z"), ZoneOffset.UTC));
+        UniquePersonList personList = new UniquePersonList();
+        personList.addPersons(createPersons());
+        Function<Person, PersonSortKey> sortKeys = personList.getSortKeys();
+
+        Comparator<Person> bySortKeys = PersonTablePanel.createComparator(sortKeys,
+                List.of(PersonSortKey.BY_PAYMENT_STATUS, PersonSortKey.BY_NAME));
+        Comparator<Person> byPersons = Comparator.<Person, String>comparing(person -> person.getPaymentStatus().value)
+                .thenComparing(person -> person.getName().fullName.toLowerCase());
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sort(personList, bySortKeys);
+            sort(personList, byPersons);
+        }
+        long bySortKeysTime = 0;
+        long byPersonsTime = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            bySortKeysTime += sort(personList, bySortKeys);
+            byPersonsTime += sort(personList, byPersons);
+        }
+        System.out.printf("sort keys: %d ms per sort%n", bySortKeysTime / MEASURED_ROUNDS / 1_000_000);
+        System.out.printf("persons: %d ms per sort%n", byPersonsTime / MEASURED_ROUNDS / 1_000_000);
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + (i * 7919 % PERSON_COUNT))
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withClasses("s" + (i % 5 + 1) + "mon1600")
+                    .build());
+        }
+        return persons;
+    }
+
+    /**
+     * Sorts a copy of {@code personList} with {@code comparator} and returns the nanoseconds it took.
+     */
+    private static long sort(UniquePersonList personList, Comparator<Person> comparator) {
+        List<Person> persons = new ArrayList<>(personList.asUnmodifiableObservableList());
+        long start = System.nanoTime();
+        persons.sort(comparator);
+        return System.nanoTime() - start;
+    }
+}
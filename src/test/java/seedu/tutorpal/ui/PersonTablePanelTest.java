@@ -0,0 +1,55 @@
+package seedu.tutorpal.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.tutorpal.model.person.Person;
+import seedu.tutorpal.model.person.PersonSortKey;
+import seedu.tutorpal.testutil.PersonBuilder;
+
+public class PersonTablePanelTest {
+
+    private final Person amy = new PersonBuilder().withName("Amy").withJoinDate("01-03-2025").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withJoinDate("01-03-2025").build();
+    private final Person carl = new PersonBuilder().withName("Carl").withJoinDate("01-01-2025").build();
+
+    @Test
+    public void createComparator_noColumns_returnsNull() {
+        assertNull(PersonTablePanel.createComparator(PersonSortKey::new, List.of()));
+    }
+
+    @Test
+    public void createComparator_columnsInTurn_comparesLookedUpKeys() {
+        Map<Person, PersonSortKey> sortKeys = new HashMap<>();
+        List.of(amy, bob, carl).forEach(person -> sortKeys.put(person, new PersonSortKey(person)));
+        List<Person> lookedUp = new ArrayList<>();
+        Function<Person, PersonSortKey> lookUp = person -> {
+            lookedUp.add(person);
+            return sortKeys.get(person);
+        };
+
+        Comparator<Person> comparator = PersonTablePanel.createComparator(lookUp,
+                List.of(PersonSortKey.BY_JOIN_DATE, PersonSortKey.BY_NAME.reversed()));
+        List<Person> persons = new ArrayList<>(List.of(amy, bob, carl));
+        persons.sort(comparator);
+        assertEquals(List.of(carl, bob, amy), persons);
+        assertEquals(sortKeys.keySet(), Set.copyOf(lookedUp));
+    }
+
+    @Test
+    public void formatAttendanceCount() {
+        assertEquals("0", PersonTablePanel.formatAttendanceCount(new PersonSortKey(amy)));
+        Person tutor = new PersonBuilder().withRole("tutor").build();
+        assertEquals("N/A", PersonTablePanel.formatAttendanceCount(new PersonSortKey(tutor)));
+    }
+}